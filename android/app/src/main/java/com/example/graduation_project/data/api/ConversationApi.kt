@@ -6,27 +6,48 @@ import com.example.graduation_project.data.model.ConversationStartResponse
 import com.example.graduation_project.data.model.ConversationStartRequest
 import com.example.graduation_project.data.model.TtsRetryResponse
 import okhttp3.MultipartBody
+import okhttp3.ResponseBody
 import retrofit2.http.Body
+import retrofit2.http.GET
+import retrofit2.http.Header
 import retrofit2.http.Multipart
 import retrofit2.http.POST
 import retrofit2.http.Part
+import retrofit2.http.Path
+import retrofit2.http.Query
+import retrofit2.http.Streaming
 
 interface ConversationApi {
 
+    // Idempotency-Key: 같은 키로 재전송하면 서버가 다시 처리하지 않고 처음 응답을 반환
     @POST("/api/conversations/start")
     suspend fun startConversation(
+        @Header("Idempotency-Key") idempotencyKey: String,
         @Body request: ConversationStartRequest
     ): ConversationStartResponse
 
     @Multipart
     @POST("/api/conversations/message")
     suspend fun sendMessage(
+        @Header("Idempotency-Key") idempotencyKey: String,
         @Part audio: MultipartBody.Part
     ): ConversationMessageResponse
 
     @POST("/api/conversations/end")
-    suspend fun endConversation(): ConversationEndResponse
+    suspend fun endConversation(
+        @Header("Idempotency-Key") idempotencyKey: String
+    ): ConversationEndResponse
 
     @POST("/api/conversations/tts-retry")
     suspend fun retryTts(): TtsRetryResponse
+
+    // 턴 음성 바이너리 (audio/wav | audio/mpeg), TTS 진행 중이면 서버가 완료까지 대기 후 응답
+    // rate/codec: 서버가 WAV를 이 형식으로 변환해 전송 (MP3는 원본 그대로)
+    @Streaming
+    @GET("/api/conversations/audio/{audioId}")
+    suspend fun getTurnAudio(
+        @Path("audioId") audioId: String,
+        @Query("rate") rate: Int,
+        @Query("codec") codec: String
+    ): ResponseBody
 }
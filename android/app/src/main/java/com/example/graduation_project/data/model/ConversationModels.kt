@@ -6,7 +6,8 @@ import kotlinx.serialization.Serializable
 @Serializable
 data class ConversationStartResponse(
     val message: String? = null,
-    val audioData: String? = null,
+    val audioId: String? = null,      // 음성은 /api/conversations/audio/{audioId}로 별도 다운로드
+    val audioUrl: String? = null,
     val timestamp: String? = null
 )
 
@@ -15,7 +16,8 @@ data class ConversationStartResponse(
 data class ConversationMessageResponse(
     val userMessage: String? = null,
     val aiResponse: String? = null,
-    val audioData: String? = null,
+    val audioId: String? = null,
+    val audioUrl: String? = null,
     val timestamp: String? = null
 )
 
@@ -28,7 +30,8 @@ data class ConversationEndResponse(
 // /api/conversations/tts-retry 응답 Model(DTO)
 @Serializable
 data class TtsRetryResponse(
-    val audioData: String? = null
+    val audioId: String? = null,
+    val audioUrl: String? = null
 )
 
 // /start 요청 body DTO — HealthData + 위치 데이터 묶음
@@ -11,30 +11,40 @@ import com.example.graduation_project.data.model.ConversationStartRequest
 import com.example.graduation_project.data.model.HealthData
 import com.example.graduation_project.data.model.RawLocationData
 import com.example.graduation_project.data.model.TtsRetryResponse
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.withContext
 import okhttp3.MultipartBody
+import java.util.UUID
 
 class ConversationRepository(
     private val conversationApi: ConversationApi = ApiClient.conversationApi
 ) {
 
+    // 요청마다 새 Idempotency-Key 발급 (같은 요청을 다시 보낼 때는 호출자가 같은 키 전달)
     suspend fun startConversation(
         healthData: HealthData,
-        locationData: RawLocationData?
+        locationData: RawLocationData?,
+        idempotencyKey: String = UUID.randomUUID().toString()
     ): ApiResult<ConversationStartResponse> {
         return safeApiCall {
-            conversationApi.startConversation(ConversationStartRequest(healthData, locationData))
+            conversationApi.startConversation(idempotencyKey, ConversationStartRequest(healthData, locationData))
         }
     }
 
-    suspend fun sendMessage(audio: MultipartBody.Part): ApiResult<ConversationMessageResponse> {
+    suspend fun sendMessage(
+        audio: MultipartBody.Part,
+        idempotencyKey: String = UUID.randomUUID().toString()
+    ): ApiResult<ConversationMessageResponse> {
         return safeApiCall {
-            conversationApi.sendMessage(audio)
+            conversationApi.sendMessage(idempotencyKey, audio)
         }
     }
 
-    suspend fun endConversation(): ApiResult<ConversationEndResponse> {
+    suspend fun endConversation(
+        idempotencyKey: String = UUID.randomUUID().toString()
+    ): ApiResult<ConversationEndResponse> {
         return safeApiCall {
-            conversationApi.endConversation()
+            conversationApi.endConversation(idempotencyKey)
         }
     }
 
@@ -43,4 +53,18 @@ class ConversationRepository(
             conversationApi.retryTts()
         }
     }
+
+    suspend fun fetchTurnAudio(audioId: String): ApiResult<ByteArray> {
+        return safeApiCall {
+            withContext(Dispatchers.IO) {
+                conversationApi.getTurnAudio(audioId, TURN_AUDIO_RATE, TURN_AUDIO_CODEC).use { it.bytes() }
+            }
+        }
+    }
+
+    companion object {
+        // 16kHz 모노 μ-law WAV: 원본(44.1kHz PCM)의 약 1/5, MediaPlayer가 바로 재생
+        private const val TURN_AUDIO_RATE = 16000
+        private const val TURN_AUDIO_CODEC = "mulaw"
+    }
 }
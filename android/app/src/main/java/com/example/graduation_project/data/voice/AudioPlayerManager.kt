@@ -28,6 +28,8 @@ import kotlinx.coroutines.launch
  *   → ByteArrayMediaDataSource(bytes)
  *   → MediaPlayer.setDataSource(dataSource) → prepare() → start()
  *   → onCompletion → Completed
+ *
+ * play(audioBytes) - 서버 audioUrl에서 받은 바이너리를 디코딩 없이 바로 재생
  */
 class AudioPlayerManager {
 
@@ -120,6 +122,41 @@ class AudioPlayerManager {
         }
     }
 
+    /**
+     * 서버에서 다운로드한 음성 바이너리(WAV/MP3)를 재생
+     *
+     * @param audioBytes GET /api/conversations/audio/{audioId} 응답 본문
+     *
+     * Base64 디코딩 단계가 없다는 점 외에는 play(base64AudioData)와 동일 (재시도 로직 포함)
+     * Main 스레드에서 호출해야 함
+     */
+    fun play(audioBytes: ByteArray) {
+        // 이전 재생 중이면 중지
+        if (_state.value is AudioPlayState.Preparing ||
+            _state.value is AudioPlayState.Playing
+        ) {
+            stop()
+        }
+
+        // 재시도 카운터 초기화
+        retryCount = 0
+
+        scope = CoroutineScope(SupervisorJob() + Dispatchers.Main)
+        _state.value = AudioPlayState.Preparing
+
+        // [TEST ONLY] 강제 DecodeError 발생
+        if (forceDecodeErrorForTest) {
+            handlePlaybackError(
+                AudioPlayException.DecodeError(message = "[테스트] 강제 DecodeError 발생"),
+                isRetry = false
+            )
+            return
+        }
+
+        cachedAudioBytes = audioBytes
+        attemptPlayback(audioBytes, isRetry = false)
+    }
+
     /**
      * 실제 재생 시도 (재시도 로직 포함)
      *
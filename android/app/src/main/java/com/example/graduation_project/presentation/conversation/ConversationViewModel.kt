@@ -253,9 +253,9 @@ class ConversationViewModel(
         viewModelScope.launch {
             when (val result = repository.retryTts()) {
                 is ApiResult.Success -> {
-                    val audioData = result.data.audioData
-                    if (audioData != null) {
-                        audioPlayerManager.play(audioData)
+                    val audioId = result.data.audioId
+                    if (audioId != null) {
+                        playTurnAudio(audioId)
                     } else {
                         isServerRetryInProgress = false
                         showTextFallback()
@@ -269,6 +269,32 @@ class ConversationViewModel(
         }
     }
 
+    /**
+     * 턴 음성을 다운로드하여 재생합니다.
+     * - 서버는 텍스트를 먼저 응답하고 TTS는 비동기로 생성 (생성 중이면 다운로드 요청이 완료까지 대기)
+     * - 다운로드 실패는 재생 실패와 동일하게 처리: 서버 TTS 재요청 → 텍스트 폴백
+     */
+    private fun playTurnAudio(audioId: String) {
+        viewModelScope.launch {
+            when (val result = repository.fetchTurnAudio(audioId)) {
+                is ApiResult.Success -> {
+                    audioPlayerManager.forceDecodeErrorForTest = forceDecodeErrorForTest
+                    audioPlayerManager.play(result.data)
+                }
+                is ApiResult.Error -> {
+                    Log.w(TAG, "턴 음성 다운로드 실패 - audioId: $audioId, ${result.exception.message}")
+                    if (!isServerRetryInProgress) {
+                        isServerRetryInProgress = true
+                        requestServerTtsRetry()
+                    } else {
+                        isServerRetryInProgress = false
+                        showTextFallback()
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * 텍스트 폴백을 표시합니다.
      * - 서버 TTS 재요청도 실패했을 때 최후 수단으로 호출
@@ -350,12 +376,11 @@ class ConversationViewModel(
                         )
                     }
 
-                    // AI 응답 음성 재생
-                    response.audioData?.let { audioData ->
-                        audioPlayerManager.forceDecodeErrorForTest = forceDecodeErrorForTest
-                        audioPlayerManager.play(audioData)
+                    // AI 응답 음성 다운로드 후 재생 (텍스트는 이미 표시됨)
+                    response.audioId?.let { audioId ->
+                        playTurnAudio(audioId)
                     } ?: run {
-                        // audioData가 없으면 바로 LISTENING으로 전환 + 녹음 시작
+                        // audioId가 없으면 바로 LISTENING으로 전환 + 녹음 시작
                         transitionTo(ConversationState.Listening)
                         _uiState.update {
                             it.copy(playbackStatus = PlaybackStatus.NONE, isSpeechDetected = false)
@@ -431,12 +456,11 @@ class ConversationViewModel(
                         )
                     }
 
-                    // AI 응답 음성 재생
-                    response.audioData?.let { audioData ->
-                        audioPlayerManager.forceDecodeErrorForTest = forceDecodeErrorForTest
-                        audioPlayerManager.play(audioData)
+                    // AI 응답 음성 다운로드 후 재생 (텍스트는 이미 표시됨)
+                    response.audioId?.let { audioId ->
+                        playTurnAudio(audioId)
                     } ?: run {
-                        // audioData가 없으면 바로 LISTENING으로 전환 + 녹음 시작
+                        // audioId가 없으면 바로 LISTENING으로 전환 + 녹음 시작
                         transitionTo(ConversationState.Listening)
                         _uiState.update {
                             it.copy(playbackStatus = PlaybackStatus.NONE, isSpeechDetected = false)
@@ -119,7 +119,7 @@ class ConversationViewModelTest {
     fun `startConversation 중복 호출 시 repository는 1번만 호출된다`() =
         runTest(mainDispatcherRule.testDispatcher) {
             // 진행 중(Sending) 상태가 유지되도록 delay로 첫 번째 호출을 지연
-            coEvery { mockRepository.startConversation(any(), any()) } coAnswers {
+            coEvery { mockRepository.startConversation(any(), any(), any()) } coAnswers {
                 delay(1_000)
                 ApiResult.Success(ConversationStartResponse(message = "안녕하세요"))
             }
@@ -128,7 +128,7 @@ class ConversationViewModelTest {
             viewModel.startConversation()  // Sending → Sending 전이 실패 → return@launch
             advanceUntilIdle()
 
-            coVerify(exactly = 1) { mockRepository.startConversation(any(), any()) }
+            coVerify(exactly = 1) { mockRepository.startConversation(any(), any(), any()) }
         }
 
     @Test
@@ -136,7 +136,7 @@ class ConversationViewModelTest {
         runTest(mainDispatcherRule.testDispatcher) {
             setupListeningState()
 
-            coEvery { mockRepository.sendMessage(any()) } coAnswers {
+            coEvery { mockRepository.sendMessage(any(), any()) } coAnswers {
                 delay(1_000)
                 ApiResult.Success(ConversationMessageResponse())
             }
@@ -146,7 +146,7 @@ class ConversationViewModelTest {
             viewModel.sendMessage(wavData)  // Sending → Sending 전이 실패 → return@launch
             advanceUntilIdle()
 
-            coVerify(exactly = 1) { mockRepository.sendMessage(any()) }
+            coVerify(exactly = 1) { mockRepository.sendMessage(any(), any()) }
         }
 
     @Test
@@ -154,7 +154,7 @@ class ConversationViewModelTest {
         runTest(mainDispatcherRule.testDispatcher) {
             setupListeningState()
 
-            coEvery { mockRepository.endConversation() } coAnswers {
+            coEvery { mockRepository.endConversation(any()) } coAnswers {
                 delay(1_000)
                 ApiResult.Success(ConversationEndResponse())
             }
@@ -163,7 +163,7 @@ class ConversationViewModelTest {
             viewModel.endConversation()  // Sending → Sending 전이 실패 → return@launch
             advanceUntilIdle()
 
-            coVerify(exactly = 1) { mockRepository.endConversation() }
+            coVerify(exactly = 1) { mockRepository.endConversation(any()) }
         }
 
     // ===== 에러 복구 테스트 =====
@@ -171,7 +171,7 @@ class ConversationViewModelTest {
     @Test
     fun `startConversation 실패 시 Idle로 복구된다`() =
         runTest(mainDispatcherRule.testDispatcher) {
-            coEvery { mockRepository.startConversation(any(), any()) } returns
+            coEvery { mockRepository.startConversation(any(), any(), any()) } returns
                 ApiResult.Error(ApiException.NetworkError())
 
             viewModel.startConversation()
@@ -184,7 +184,7 @@ class ConversationViewModelTest {
     fun `sendMessage 실패 시 Listening으로 복구된다`() =
         runTest(mainDispatcherRule.testDispatcher) {
             setupListeningState()
-            coEvery { mockRepository.sendMessage(any()) } returns
+            coEvery { mockRepository.sendMessage(any(), any()) } returns
                 ApiResult.Error(ApiException.NetworkError())
 
             viewModel.sendMessage(ByteArray(0))
@@ -197,7 +197,7 @@ class ConversationViewModelTest {
     fun `endConversation 실패 시 Listening으로 복구된다`() =
         runTest(mainDispatcherRule.testDispatcher) {
             setupListeningState()
-            coEvery { mockRepository.endConversation() } returns
+            coEvery { mockRepository.endConversation(any()) } returns
                 ApiResult.Error(ApiException.NetworkError())
 
             viewModel.endConversation()
@@ -213,7 +213,7 @@ class ConversationViewModelTest {
         runTest(mainDispatcherRule.testDispatcher) {
             setupListeningState()
 
-            coEvery { mockRepository.endConversation() } returns
+            coEvery { mockRepository.endConversation(any()) } returns
                 ApiResult.Success(ConversationEndResponse())
 
             viewModel.endConversation()
@@ -231,7 +231,7 @@ class ConversationViewModelTest {
      * advanceUntilIdle()은 TestScope의 확장 함수이므로 TestScope 수신자로 선언
      */
     private fun TestScope.setupListeningState() {
-        coEvery { mockRepository.startConversation(any(), any()) } returns
+        coEvery { mockRepository.startConversation(any(), any(), any()) } returns
             ApiResult.Success(ConversationStartResponse(message = "안녕하세요"))
 
         viewModel.startConversation()
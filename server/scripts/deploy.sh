@@ -7,7 +7,9 @@ ECR_REGISTRY="${ACCOUNT_ID}.dkr.ecr.${AWS_REGION}.amazonaws.com"
 ECR_REPOSITORY="echo-server"
 CONTAINER_NAME="echo-server"
 PORT="8080"
+MANAGEMENT_PORT="8081"                # actuator (호스트 루프백에만 공개, 외부 접근 불가)
 ENV_FILE="/home/ec2-user/app/.env"
+DATA_DIR="/home/ec2-user/app/data"    # 세션 저널 (컨테이너 재생성 후 진행 중인 대화 복원)
 
 IMAGE_TAG="${1:-latest}"
 IMAGE_URI="${ECR_REGISTRY}/${ECR_REPOSITORY}:${IMAGE_TAG}"
@@ -30,16 +32,19 @@ docker rm ${CONTAINER_NAME} 2>/dev/null || true
 
 # 4. 새 컨테이너 실행
 echo "[4/5] 새 컨테이너 실행..."
+mkdir -p ${DATA_DIR}
 docker run -d \
   --name ${CONTAINER_NAME} \
   -p ${PORT}:${PORT} \
+  -p 127.0.0.1:${MANAGEMENT_PORT}:${MANAGEMENT_PORT} \
   --env-file ${ENV_FILE} \
+  -v ${DATA_DIR}:/app/data \
   --restart unless-stopped \
   ${IMAGE_URI}
 
 # 5. 헬스체크 (최대 60초 대기)
 echo "[5/5] 헬스체크..."
-HEALTH_URL="http://localhost:${PORT}/actuator/health"
+HEALTH_URL="http://localhost:${MANAGEMENT_PORT}/actuator/health"
 for i in $(seq 1 12); do
   HTTP_STATUS=$(curl -s -o /dev/null -w "%{http_code}" ${HEALTH_URL} 2>/dev/null || echo "000")
   if [ "${HTTP_STATUS}" = "200" ]; then
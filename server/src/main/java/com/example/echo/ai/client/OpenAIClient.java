@@ -6,13 +6,16 @@
  * - OpenAIFeignConfig에서 API 키를 Authorization 헤더에 자동 부착
  *
  * 사용처: AIService에서 AI 응답 생성 시 호출
+ * - streamChatCompletion(): 스트리밍 응답 (SSE 본문을 직접 읽어야 하므로 feign.Response 반환)
  */
 package com.example.echo.ai.client;
 
 import com.example.echo.ai.dto.ChatCompletionRequest;
 import com.example.echo.ai.dto.ChatCompletionResponse;
 import com.example.echo.voice.config.OpenAIFeignConfig;
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
@@ -31,4 +34,16 @@ public interface OpenAIClient {
      */
     @PostMapping("/chat/completions")
     ChatCompletionResponse createChatCompletion(@RequestBody ChatCompletionRequest request);
+
+    /**
+     * OpenAI Chat Completion API 스트리밍 호출
+     *
+     * 응답 본문은 "data: {chunk}" 라인의 연속이며 "data: [DONE]"으로 끝남
+     * 호출자가 상태 코드 확인 및 Response close 책임을 가짐
+     *
+     * @param request stream=true가 설정된 요청
+     * @return 본문을 디코딩하지 않은 원본 응답
+     */
+    @PostMapping(value = "/chat/completions", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    Response streamChatCompletion(@RequestBody ChatCompletionRequest request);
 }
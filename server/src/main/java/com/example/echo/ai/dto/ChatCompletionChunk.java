@@ -0,0 +1,50 @@
+/*
+ * OpenAI Chat Completion 스트리밍 청크 DTO
+ *
+ * stream=true 요청 시 "data: {...}" 라인마다 하나씩 수신
+ * 증분 텍스트: choices[0].delta.content (첫/마지막 청크는 content가 없을 수 있음)
+ * API 문서: https://platform.openai.com/docs/api-reference/chat/streaming
+ */
+package com.example.echo.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ChatCompletionChunk {
+
+    /** 응답 고유 ID (모든 청크가 동일) */
+    private String id;
+
+    /** 증분 응답 목록 (보통 1개, usage 청크는 빈 목록) */
+    private List<Choice> choices;
+
+    /** 토큰 사용량 (stream_options.include_usage=true일 때 [DONE] 직전 청크에만 포함) */
+    private ChatCompletionResponse.Usage usage;
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Choice {
+        private Integer index;
+        private Delta delta;
+
+        @JsonProperty("finish_reason")
+        private String finishReason;  // 마지막 청크에서만 "stop", "length" 등
+    }
+
+    /** 증분 메시지 */
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Delta {
+        private String role;     // 첫 청크에서만 "assistant"
+        private String content;  // 이번 청크에서 추가된 텍스트
+    }
+}
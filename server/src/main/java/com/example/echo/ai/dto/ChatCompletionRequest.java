@@ -5,6 +5,7 @@
  */
 package com.example.echo.ai.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Getter;
@@ -28,6 +29,15 @@ public class ChatCompletionRequest {
     @JsonProperty("max_tokens")
     private Integer maxTokens;
 
+    /** 스트리밍 여부 (true면 SSE로 delta 청크 수신, null이면 필드 생략) */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean stream;
+
+    /** 스트리밍 옵션 (usage 수신용, 스트리밍이 아니면 필드 생략) */
+    @JsonProperty("stream_options")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private StreamOptions streamOptions;
+
     /**
      * 대화 메시지 단위
      *
@@ -42,4 +52,12 @@ public class ChatCompletionRequest {
         private String role;
         private String content;
     }
+
+    /** 스트리밍 옵션: include_usage=true면 마지막 청크로 토큰 사용량 수신 */
+    @Getter
+    @Builder
+    public static class StreamOptions {
+        @JsonProperty("include_usage")
+        private Boolean includeUsage;
+    }
 }
@@ -6,6 +6,8 @@
  */
 package com.example.echo.ai.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -50,12 +52,36 @@ public class ChatCompletionResponse {
         private String content;  // AI 생성 텍스트
     }
 
-    /** 토큰 사용량 (비용 추적용) */
+    /** 토큰 사용량 (비용 추적용, 스트리밍 응답은 마지막 청크에 포함) */
     @Getter
     @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)  // completion_tokens_details 등 (스트리밍 청크는 AIService 자체 ObjectMapper로 파싱)
     public static class Usage {
+        @JsonProperty("prompt_tokens")
         private Integer promptTokens;      // 입력 토큰
+
+        @JsonProperty("completion_tokens")
         private Integer completionTokens;  // 출력 토큰
+
+        @JsonProperty("total_tokens")
         private Integer totalTokens;       // 총 토큰
+
+        @JsonProperty("prompt_tokens_details")
+        private PromptTokensDetails promptTokensDetails;
+
+        /** 입력 토큰 중 프롬프트 캐시에서 읽은 토큰 (캐시 미적중/미지원이면 0) */
+        public int getCachedTokens() {
+            return promptTokensDetails != null && promptTokensDetails.getCachedTokens() != null
+                    ? promptTokensDetails.getCachedTokens() : 0;
+        }
+    }
+
+    /** 입력 토큰 상세 */
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)  // audio_tokens 등
+    public static class PromptTokensDetails {
+        @JsonProperty("cached_tokens")
+        private Integer cachedTokens;  // 앞부분이 이전 요청과 같아 캐시에서 읽은 토큰 (1024토큰 이상부터 128 단위)
     }
 }
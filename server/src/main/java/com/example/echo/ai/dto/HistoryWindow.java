@@ -0,0 +1,27 @@
+/*
+ * LLM에 전달할 대화 히스토리 구간
+ *
+ * ConversationHistoryManager가 토큰 예산에 맞춰 구성
+ * - summary: 오래된 턴을 압축한 요약 (없으면 null)
+ * - turns: 원문 그대로 전달할 최근 턴
+ */
+package com.example.echo.ai.dto;
+
+import com.example.echo.context.domain.ConversationTurn;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class HistoryWindow {
+
+    private final String summary;
+    private final List<ConversationTurn> turns;
+
+    /** 요약 없이 턴 전체를 그대로 전달 */
+    public static HistoryWindow of(List<ConversationTurn> turns) {
+        return new HistoryWindow(null, turns != null ? turns : List.of());
+    }
+}
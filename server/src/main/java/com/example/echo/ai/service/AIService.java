@@ -4,6 +4,17 @@
  * 역할: OpenAI API를 호출하여 AI 응답 생성
  * - generateGreeting(): 대화 시작 시 첫 인사 생성
  * - generateResponse(): 사용자 메시지에 대한 응답 생성
+ * - streamResponse(): 응답을 스트리밍으로 생성하며 delta마다 콜백 호출
+ * - complete(): 대화 히스토리 없는 단발성 생성 (일기 작성, 히스토리 압축 등)
+ *
+ * 응답 생성 히스토리는 ConversationHistoryManager가 토큰 예산에 맞춰 구성한 HistoryWindow를 받음
+ *
+ * 프롬프트 캐시 메트릭 (OpenAI는 앞부분이 같은 요청의 입력 토큰을 캐시에서 읽음):
+ *   - ai.prompt.tokens{operation} / ai.prompt.tokens.cached{operation}: 입력 토큰 / 캐시 적중 토큰 누적
+ *   - ai.prompt.cache.ratio{operation}: 요청별 캐시 적중 비율 (0~1)
+ *   - ai.response.latency{operation,cache}: 전체 응답 시간 (비스트리밍)
+ *   - ai.stream.first-token{cache}: 스트리밍 첫 토큰까지 시간
+ *   cache 태그: hit(캐시 토큰 > 0), miss, unknown(usage 없음)
  *
  * 데이터 흐름:
  *   PromptService에서 조합된 프롬프트(String) 수신
@@ -18,26 +29,44 @@
 package com.example.echo.ai.service;
 
 import com.example.echo.ai.client.OpenAIClient;
+import com.example.echo.ai.dto.ChatCompletionChunk;
 import com.example.echo.ai.dto.ChatCompletionRequest;
 import com.example.echo.ai.dto.ChatCompletionResponse;
+import com.example.echo.ai.dto.HistoryWindow;
 import com.example.echo.ai.exception.AIException;
 import com.example.echo.context.domain.ConversationTurn;
 import com.example.echo.context.domain.UserContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.FeignException;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AIService {
 
+    private static final String SSE_DATA_PREFIX = "data:";
+    private static final String SSE_DONE = "[DONE]";
+
     private final OpenAIClient openAIClient;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Value("${openai.chat.model}")
     private String model;
@@ -81,7 +110,7 @@ public class AIService {
                 .build();
 
         try {
-            ChatCompletionResponse response = openAIClient.createChatCompletion(request);
+            ChatCompletionResponse response = createChatCompletion("greeting", request);
             String greeting = extractContent(response);
 
             log.debug("Generated greeting: {}", greeting);
@@ -97,19 +126,174 @@ public class AIService {
      *
      * OpenAI 권장 방식: messages 배열에 role별로 분리하여 전송
      * - system: 시스템 프롬프트 (AI 페르소나, 규칙)
-     * - user/assistant: 대화 히스토리
+     * - system: 이전 대화 요약 (압축된 경우)
+     * - user/assistant: 최근 대화 히스토리
      * - user: 현재 사용자 메시지
      *
      * @param systemPrompt 시스템 프롬프트 (캐싱된 것 사용)
-     * @param history 대화 히스토리 (ConversationTurn 리스트)
+     * @param history 대화 히스토리 (ConversationHistoryManager.window()로 구성)
      * @param userMessage 현재 사용자 메시지
      * @return AI가 생성한 응답 메시지
      * @throws AIException API 호출 실패 시
      */
-    public String generateResponse(String systemPrompt, List<ConversationTurn> history, String userMessage) {
-        log.debug("Generating response - history size: {}, userMessage: {}",
-                history != null ? history.size() : 0, userMessage);
+    public String generateResponse(String systemPrompt, HistoryWindow history, String userMessage) {
+        log.debug("Generating response - history size: {}, summarized: {}, userMessage: {}",
+                history != null ? history.getTurns().size() : 0,
+                history != null && history.getSummary() != null, userMessage);
+
+        List<ChatCompletionRequest.Message> messages = buildMessages(systemPrompt, history, userMessage);
+
+        ChatCompletionRequest request = ChatCompletionRequest.builder()
+                .model(model)
+                .messages(messages)
+                .temperature(temperature)
+                .maxTokens(maxTokens)
+                .build();
+
+        try {
+            ChatCompletionResponse response = createChatCompletion("response", request);
+            String aiResponse = extractContent(response);
 
+            log.debug("Generated response: {}", aiResponse);
+            return aiResponse;
+        } catch (FeignException e) {
+            log.error("OpenAI API 호출 실패 - 상태코드: {}, 메시지: {}", e.status(), e.getMessage());
+            throw new AIException("AI 응답 생성 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 대화 응답 스트리밍 생성
+     *
+     * generateResponse()와 같은 messages 구성으로 stream=true 요청을 보내고,
+     * 텍스트 조각(delta)이 도착할 때마다 onDelta를 호출함
+     * onDelta는 응답 수신 스레드에서 순서대로 호출되므로 오래 블로킹하지 않아야 함
+     *
+     * @param systemPrompt 시스템 프롬프트 (캐싱된 것 사용)
+     * @param history 대화 히스토리 (ConversationHistoryManager.window()로 구성)
+     * @param userMessage 현재 사용자 메시지
+     * @param onDelta 텍스트 조각 수신 콜백
+     * @return 전체 응답 텍스트 (모든 delta를 이어붙인 값)
+     * @throws AIException API 호출 또는 스트림 수신 실패 시
+     */
+    public String streamResponse(String systemPrompt, HistoryWindow history, String userMessage,
+                                 Consumer<String> onDelta) {
+        log.debug("Streaming response - history size: {}, userMessage: {}",
+                history != null ? history.getTurns().size() : 0, userMessage);
+
+        ChatCompletionRequest request = ChatCompletionRequest.builder()
+                .model(model)
+                .messages(buildMessages(systemPrompt, history, userMessage))
+                .temperature(temperature)
+                .maxTokens(maxTokens)
+                .stream(true)
+                .streamOptions(ChatCompletionRequest.StreamOptions.builder().includeUsage(true).build())
+                .build();
+
+        long startedAt = System.nanoTime();
+        try (Response response = openAIClient.streamChatCompletion(request)) {
+            // 반환 타입이 Response면 ErrorDecoder를 거치지 않으므로 상태 코드를 직접 확인
+            if (response.status() < 200 || response.status() >= 300 || response.body() == null) {
+                log.error("OpenAI 스트리밍 호출 실패 - 상태코드: {}", response.status());
+                throw new AIException("AI 스트리밍 응답 생성 실패: HTTP " + response.status());
+            }
+
+            StringBuilder fullText = new StringBuilder();
+            long firstTokenNanos = -1;
+            ChatCompletionResponse.Usage usage = null;
+            try (InputStream body = response.body().asInputStream();
+                 BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.startsWith(SSE_DATA_PREFIX)) {
+                        continue;  // 빈 줄(이벤트 구분자), 주석 라인 무시
+                    }
+                    String data = line.substring(SSE_DATA_PREFIX.length()).trim();
+                    if (SSE_DONE.equals(data)) {
+                        break;
+                    }
+                    ChatCompletionChunk chunk = parseChunk(data);
+                    if (chunk == null) {
+                        continue;
+                    }
+                    if (chunk.getUsage() != null) {
+                        usage = chunk.getUsage();
+                    }
+                    String delta = extractDelta(chunk);
+                    if (!delta.isEmpty()) {
+                        if (firstTokenNanos < 0) {
+                            firstTokenNanos = System.nanoTime() - startedAt;
+                        }
+                        fullText.append(delta);
+                        onDelta.accept(delta);
+                    }
+                }
+            }
+
+            String cache = recordUsage("stream", usage);
+            if (firstTokenNanos >= 0) {
+                meterRegistry.timer("ai.stream.first-token", "cache", cache)
+                        .record(firstTokenNanos, TimeUnit.NANOSECONDS);
+            }
+
+            log.debug("Streamed response: {}", fullText);
+            return fullText.toString();
+        } catch (FeignException e) {
+            log.error("OpenAI API 호출 실패 - 상태코드: {}, 메시지: {}", e.status(), e.getMessage());
+            throw new AIException("AI 스트리밍 응답 생성 실패: " + e.getMessage(), e);
+        } catch (IOException e) {
+            log.error("OpenAI 스트림 수신 실패: {}", e.getMessage());
+            throw new AIException("AI 스트리밍 응답 수신 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 단발성 텍스트 생성 (대화 히스토리 없음)
+     *
+     * 대화 응답이 아닌 작업(일기 작성, 히스토리 압축 요약 등)에 사용
+     * (일기는 따로 요약하지 않고 히스토리 압축 요약을 입력으로 재사용)
+     * 출력 길이를 작업별로 제한할 수 있도록 maxTokens를 직접 받음
+     *
+     * @param systemPrompt 시스템 프롬프트 (null이면 생략)
+     * @param userPrompt 작업 지시 + 입력
+     * @param maxTokens 최대 출력 토큰
+     * @return 생성된 텍스트
+     * @throws AIException API 호출 실패 시
+     */
+    public String complete(String systemPrompt, String userPrompt, int maxTokens) {
+        List<ChatCompletionRequest.Message> messages = new ArrayList<>();
+        if (systemPrompt != null) {
+            messages.add(ChatCompletionRequest.Message.builder()
+                    .role("system")
+                    .content(systemPrompt)
+                    .build());
+        }
+        messages.add(ChatCompletionRequest.Message.builder()
+                .role("user")
+                .content(userPrompt)
+                .build());
+
+        ChatCompletionRequest request = ChatCompletionRequest.builder()
+                .model(model)
+                .messages(messages)
+                .temperature(temperature)
+                .maxTokens(maxTokens)
+                .build();
+
+        try {
+            return extractContent(createChatCompletion("complete", request));
+        } catch (FeignException e) {
+            log.error("OpenAI API 호출 실패 - 상태코드: {}, 메시지: {}", e.status(), e.getMessage());
+            throw new AIException("AI 텍스트 생성 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * messages 배열 구성 (OpenAI 권장 방식)
+     * system → 이전 대화 요약(system) → 히스토리(user/assistant) → 현재 user 메시지 순서
+     */
+    private List<ChatCompletionRequest.Message> buildMessages(String systemPrompt, HistoryWindow history,
+                                                             String userMessage) {
         List<ChatCompletionRequest.Message> messages = new ArrayList<>();
 
         // 1. 시스템 프롬프트
@@ -118,9 +302,17 @@ public class AIService {
                 .content(systemPrompt)
                 .build());
 
-        // 2. 대화 히스토리 (user/assistant role로 분리)
+        // 2. 압축된 이전 대화 요약
+        if (history != null && history.getSummary() != null) {
+            messages.add(ChatCompletionRequest.Message.builder()
+                    .role("system")
+                    .content("[이전 대화 요약]\n" + history.getSummary())
+                    .build());
+        }
+
+        // 3. 최근 대화 히스토리 (user/assistant role로 분리)
         if (history != null) {
-            for (ConversationTurn turn : history) {
+            for (ConversationTurn turn : history.getTurns()) {
                 // 사용자 메시지가 있으면 추가 (첫 인사는 userMessage가 null일 수 있음)
                 if (turn.getUserMessage() != null) {
                     messages.add(ChatCompletionRequest.Message.builder()
@@ -136,29 +328,68 @@ public class AIService {
             }
         }
 
-        // 3. 현재 사용자 메시지
+        // 4. 현재 사용자 메시지
         messages.add(ChatCompletionRequest.Message.builder()
                 .role("user")
                 .content(userMessage)
                 .build());
 
-        ChatCompletionRequest request = ChatCompletionRequest.builder()
-                .model(model)
-                .messages(messages)
-                .temperature(temperature)
-                .maxTokens(maxTokens)
-                .build();
+        return messages;
+    }
+
+    /**
+     * Chat Completion 호출 + 응답 시간/토큰 사용량 기록
+     */
+    private ChatCompletionResponse createChatCompletion(String operation, ChatCompletionRequest request) {
+        long startedAt = System.nanoTime();
+        ChatCompletionResponse response = openAIClient.createChatCompletion(request);
+        String cache = recordUsage(operation, response != null ? response.getUsage() : null);
+        meterRegistry.timer("ai.response.latency", "operation", operation, "cache", cache)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return response;
+    }
+
+    /**
+     * 입력 토큰/캐시 적중 토큰 기록
+     *
+     * @return 지연 시간 메트릭의 cache 태그 값 (hit, miss, unknown)
+     */
+    private String recordUsage(String operation, ChatCompletionResponse.Usage usage) {
+        if (usage == null || usage.getPromptTokens() == null || usage.getPromptTokens() == 0) {
+            return "unknown";
+        }
+        int promptTokens = usage.getPromptTokens();
+        int cachedTokens = usage.getCachedTokens();
+        meterRegistry.counter("ai.prompt.tokens", "operation", operation).increment(promptTokens);
+        meterRegistry.counter("ai.prompt.tokens.cached", "operation", operation).increment(cachedTokens);
+        meterRegistry.summary("ai.prompt.cache.ratio", "operation", operation)
+                .record((double) cachedTokens / promptTokens);
+        log.debug("OpenAI 토큰 사용량 - operation: {}, 입력: {}, 캐시: {}", operation, promptTokens, cachedTokens);
+        return cachedTokens > 0 ? "hit" : "miss";
+    }
 
+    /**
+     * 스트리밍 청크 파싱 (파싱 불가 청크는 null)
+     */
+    private ChatCompletionChunk parseChunk(String data) {
         try {
-            ChatCompletionResponse response = openAIClient.createChatCompletion(request);
-            String aiResponse = extractContent(response);
+            return objectMapper.readValue(data, ChatCompletionChunk.class);
+        } catch (JsonProcessingException e) {
+            log.warn("OpenAI 스트리밍 청크 파싱 실패 - data: {}", data);
+            return null;
+        }
+    }
 
-            log.debug("Generated response: {}", aiResponse);
-            return aiResponse;
-        } catch (FeignException e) {
-            log.error("OpenAI API 호출 실패 - 상태코드: {}, 메시지: {}", e.status(), e.getMessage());
-            throw new AIException("AI 응답 생성 실패: " + e.getMessage(), e);
+    /**
+     * 스트리밍 청크에서 증분 텍스트 추출
+     * 청크 구조: chunk.choices[0].delta.content (role/finish/usage 청크는 content 없음)
+     */
+    private String extractDelta(ChatCompletionChunk chunk) {
+        if (chunk.getChoices() == null || chunk.getChoices().isEmpty()) {
+            return "";
         }
+        ChatCompletionChunk.Delta delta = chunk.getChoices().get(0).getDelta();
+        return delta != null && delta.getContent() != null ? delta.getContent() : "";
     }
 
     /**
@@ -0,0 +1,233 @@
+/*
+ * 대화 히스토리 토큰 예산 관리
+ *
+ * 역할: 응답 생성 시 LLM에 보낼 히스토리를 토큰 예산 안으로 유지
+ * - 최근 턴은 원문 그대로, 오래된 턴은 요약 1개(system 메시지)로 압축
+ * - 압축은 백그라운드에서 수행하고 결과를 UserContext.historySummary에 저장
+ *   → 턴마다 프롬프트 크기와 응답 지연이 대화 길이와 관계없이 거의 일정
+ * - 같은 요약을 대화 종료 시 일기 생성 입력으로도 사용 (DiaryJobPayload, 일기용 요약을 따로 만들지 않음)
+ *
+ * 동작:
+ *   window() 호출 (턴마다, LLM 호출 직전)
+ *   → 요약 + 미요약 턴 추정 토큰이 예산의 3/4을 넘으면 압축 예약
+ *   → 예산을 넘는 오래된 턴은 이번 호출에서만 제외 (다음 턴부터 요약에 반영)
+ *   → 압축은 최근 턴이 예산의 1/2 안에 남도록 그 앞 턴을 요약에 합침 (매 턴 압축 방지)
+ *
+ * 메트릭:
+ *   - ai.history.tokens: 턴마다 전달한 히스토리 추정 토큰
+ *   - ai.history.truncated: 압축 대기 중 예산 초과로 제외한 턴 수
+ *   - ai.history.compaction{result}: 압축 실행 결과 (success, failure)
+ *   - ai.history.compaction.duration: 압축 LLM 호출 시간
+ *
+ * 설정값 (application.yaml):
+ *   - ai.history.budget-tokens: 히스토리 토큰 예산 (시스템 프롬프트/현재 메시지 제외)
+ *   - ai.history.keep-recent-turns: 예산과 관계없이 원문으로 유지할 최근 턴 수
+ *   - ai.history.summary-max-tokens: 요약 최대 출력 토큰
+ */
+package com.example.echo.ai.service;
+
+import com.example.echo.ai.dto.HistoryWindow;
+import com.example.echo.context.domain.ConversationTurn;
+import com.example.echo.context.domain.UserContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+@Slf4j
+@Service
+public class ConversationHistoryManager {
+
+    static final String COMPACTION_PROMPT = """
+            당신은 어르신과 AI의 대화를 이어가기 위한 메모를 작성하는 도우미입니다.
+            [기존 요약]에 [대화]의 내용을 합쳐 하나의 요약으로 다시 작성하세요.
+            - 어르신이 말한 사실(한 일, 사람, 장소, 기억, 감정)과 이미 나눈 질문을 빠짐없이 남깁니다.
+            - 같은 질문을 반복하지 않도록 AI가 물어본 주제도 짧게 적습니다.
+            - 요약문만 출력합니다.""";
+
+    /** 메시지 1개당 role/구분자 토큰 */
+    private static final int MESSAGE_OVERHEAD_TOKENS = 4;
+
+    private final AIService aiService;
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+    private final int budgetTokens;
+    private final int keepRecentTurns;
+    private final int summaryMaxTokens;
+
+    /** 압축이 진행 중인 사용자 */
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public ConversationHistoryManager(AIService aiService,
+                                      @Qualifier("historyCompactionExecutor") Executor executor,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${ai.history.budget-tokens:1500}") int budgetTokens,
+                                      @Value("${ai.history.keep-recent-turns:2}") int keepRecentTurns,
+                                      @Value("${ai.history.summary-max-tokens:300}") int summaryMaxTokens) {
+        this.aiService = aiService;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.budgetTokens = budgetTokens;
+        this.keepRecentTurns = keepRecentTurns;
+        this.summaryMaxTokens = summaryMaxTokens;
+    }
+
+    /**
+     * 이번 턴에 LLM으로 보낼 히스토리 구성
+     *
+     * @param context 사용자 컨텍스트 (conversationHistory, historySummary 사용)
+     * @return 요약 + 예산 안의 최근 턴
+     */
+    public HistoryWindow window(UserContext context) {
+        String summary;
+        List<ConversationTurn> pending;
+        List<ConversationTurn> history = context.getConversationHistory();
+        synchronized (history) {
+            summary = context.getHistorySummary();
+            pending = new ArrayList<>(history.subList(context.getHistorySummaryTurnCount(), history.size()));
+        }
+
+        int summaryTokens = summary != null ? estimateTokens(summary) + MESSAGE_OVERHEAD_TOKENS : 0;
+        int pendingTokens = estimateTokens(pending);
+
+        if (summaryTokens + pendingTokens > budgetTokens * 3 / 4) {
+            scheduleCompaction(context);
+        }
+
+        int start = 0;
+        if (summaryTokens + pendingTokens > budgetTokens) {
+            start = fitStart(pending, budgetTokens - summaryTokens);
+            meterRegistry.counter("ai.history.truncated").increment(start);
+            log.info("히스토리 토큰 예산 초과 - 압축 대기 중 오래된 턴 제외 - userId: {}, 제외 턴: {}",
+                    context.getUserId(), start);
+        }
+
+        List<ConversationTurn> turns = pending.subList(start, pending.size());
+        meterRegistry.summary("ai.history.tokens").record(summaryTokens + estimateTokens(turns));
+        return new HistoryWindow(summary, turns);
+    }
+
+    private void scheduleCompaction(UserContext context) {
+        if (!inFlight.add(context.getUserId())) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                compact(context);
+            } finally {
+                inFlight.remove(context.getUserId());
+            }
+        });
+    }
+
+    /**
+     * 최근 턴이 예산의 1/2 안에 남도록 그 앞 턴을 요약에 합침
+     */
+    void compact(UserContext context) {
+        String previousSummary;
+        List<ConversationTurn> toFold;
+        int upTo;
+
+        List<ConversationTurn> history = context.getConversationHistory();
+        synchronized (history) {
+            int from = context.getHistorySummaryTurnCount();
+            List<ConversationTurn> pending = history.subList(from, history.size());
+            int keepFrom = fitStart(pending, budgetTokens / 2);
+            if (keepFrom == 0) {
+                return;
+            }
+            previousSummary = context.getHistorySummary();
+            upTo = from + keepFrom;
+            toFold = new ArrayList<>(pending.subList(0, keepFrom));
+        }
+
+        StringBuilder prompt = new StringBuilder("[기존 요약]\n")
+                .append(previousSummary != null ? previousSummary : "(없음)")
+                .append("\n\n[대화]\n");
+        for (ConversationTurn turn : toFold) {
+            if (turn.getUserMessage() != null) {
+                prompt.append("사용자: ").append(turn.getUserMessage()).append('\n');
+            }
+            prompt.append("AI: ").append(turn.getAiResponse()).append('\n');
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String summary;
+        try {
+            summary = aiService.complete(COMPACTION_PROMPT, prompt.toString(), summaryMaxTokens);
+        } catch (Exception e) {
+            meterRegistry.counter("ai.history.compaction", "result", "failure").increment();
+            log.warn("히스토리 압축 실패 - userId: {}, 오류: {}", context.getUserId(), e.getMessage());
+            return;
+        } finally {
+            sample.stop(meterRegistry.timer("ai.history.compaction.duration"));
+        }
+
+        synchronized (history) {
+            context.setHistorySummary(summary);
+            context.setHistorySummaryTurnCount(upTo);
+        }
+        meterRegistry.counter("ai.history.compaction", "result", "success").increment();
+        log.info("히스토리 압축 완료 - userId: {}, 요약 반영 턴: {}, 원문 유지 턴: {}",
+                context.getUserId(), upTo, history.size() - upTo);
+    }
+
+    /**
+     * 예산 안에 들어오는 최근 턴의 시작 인덱스 (최소 keepRecentTurns개는 유지)
+     */
+    private int fitStart(List<ConversationTurn> turns, int budget) {
+        int minStart = Math.max(0, turns.size() - keepRecentTurns);
+        int used = 0;
+        for (int i = turns.size() - 1; i >= 0; i--) {
+            used += estimateTokens(turns.get(i));
+            if (used > budget && i < minStart) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    private static int estimateTokens(List<ConversationTurn> turns) {
+        int total = 0;
+        for (ConversationTurn turn : turns) {
+            total += estimateTokens(turn);
+        }
+        return total;
+    }
+
+    private static int estimateTokens(ConversationTurn turn) {
+        int tokens = estimateTokens(turn.getAiResponse()) + MESSAGE_OVERHEAD_TOKENS;
+        if (turn.getUserMessage() != null) {
+            tokens += estimateTokens(turn.getUserMessage()) + MESSAGE_OVERHEAD_TOKENS;
+        }
+        return tokens;
+    }
+
+    /**
+     * 추정 토큰 수 (토크나이저 없이 보수적으로 계산)
+     * 한글 등 비ASCII 문자는 1자 ≈ 1토큰, ASCII는 4자 ≈ 1토큰
+     */
+    static int estimateTokens(String text) {
+        if (text == null) {
+            return 0;
+        }
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 128) {
+                ascii++;
+            } else {
+                other++;
+            }
+        }
+        return other + (ascii + 3) / 4;
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.echo.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 실행기 설정
+ *
+ * - conversationStreamExecutor: 스트리밍 대화 턴 파이프라인 (LLM 스트림 수신 → 문장 분리 → SSE 전송)
+ *   요청 스레드(Tomcat)를 점유하지 않도록 턴 1건당 스레드 1개 사용
+ * - ttsExecutor: 문장 단위 TTS 호출
+ *   LLM이 다음 문장을 생성하는 동안 앞 문장의 TTS를 병렬로 진행
+ * - ttsChunkExecutor: 긴 텍스트를 문장 조각으로 나눈 TTS 병렬 합성
+ *   (ttsExecutor 작업 안에서 조각을 기다리므로 같은 풀을 쓰지 않음, 제공자별 동시 수는 TtsChunkSynthesizer에서 제한)
+ * - ttsHedgeExecutor: TTS 헤징 모드의 주/예비 제공자 동시 호출 (진 쪽을 인터럽트로 취소하므로 전용 풀)
+ * - sttChunkExecutor: 긴 녹음을 구간으로 나눈 Whisper 병렬 전사 (동시 호출 수는 SttChunkTranscriber에서 제한)
+ * - prewarmExecutor: 대화 시각 전 인사 사전 생성 (사용자 요청과 무관한 백그라운드 작업이므로 소수 스레드)
+ * - contextInitExecutor: 대화 시작 시 컨텍스트 초기화 단계(선호도/건강/위치/날씨/저장) 동시 실행
+ * - locationEnrichExecutor: 방문 장소별 역지오코딩/방문 날씨 API 호출
+ *   (제공자별 동시 호출 수는 LocationService에서 별도로 제한)
+ * - jobExecutor: 백그라운드 작업 큐 처리 (JobWorker가 빈 슬롯만큼만 점유하므로 큐는 거의 쓰이지 않음)
+ * - historyCompactionExecutor: 토큰 예산을 넘은 대화 히스토리 압축 (사용자당 동시 1건)
+ * - sessionEvictionExecutor: /end 없이 제거된 세션의 종료 처리 (일기 작업 등록)
+ *
+ * 큐가 가득 차면 호출 스레드에서 실행(CallerRunsPolicy)하여 요청을 버리지 않음
+ * 작업을 넘긴 요청의 endpoint를 실행기 스레드로 전달 (커넥션 점유 시간 메트릭, ConnectionHoldTimeConfig)
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Value("${conversation.stream.pool-size:8}")
+    private int streamPoolSize;
+
+    @Value("${conversation.stream.tts-pool-size:16}")
+    private int ttsPoolSize;
+
+    @Value("${tts.chunk.pool-size:16}")
+    private int ttsChunkPoolSize;
+
+    @Value("${tts.hedge.pool-size:16}")
+    private int ttsHedgePoolSize;
+
+    @Value("${stt.chunk.pool-size:8}")
+    private int sttChunkPoolSize;
+
+    @Value("${conversation.prewarm.pool-size:2}")
+    private int prewarmPoolSize;
+
+    @Value("${context.init.pool-size:16}")
+    private int contextInitPoolSize;
+
+    @Value("${location.enrich.pool-size:8}")
+    private int locationEnrichPoolSize;
+
+    @Value("${jobs.concurrency:2}")
+    private int jobConcurrency;
+
+    @Value("${ai.history.compaction-pool-size:2}")
+    private int historyCompactionPoolSize;
+
+    @Value("${context.session.eviction-pool-size:2}")
+    private int sessionEvictionPoolSize;
+
+    @Bean
+    public ThreadPoolTaskExecutor conversationStreamExecutor() {
+        return createExecutor("conv-stream-", streamPoolSize, 100);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor ttsExecutor() {
+        return createExecutor("tts-", ttsPoolSize, 200);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor ttsChunkExecutor() {
+        return createExecutor("tts-chunk-", ttsChunkPoolSize, 200);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor ttsHedgeExecutor() {
+        return createExecutor("tts-hedge-", ttsHedgePoolSize, 200);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor sttChunkExecutor() {
+        return createExecutor("stt-chunk-", sttChunkPoolSize, 100);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor prewarmExecutor() {
+        return createExecutor("prewarm-", prewarmPoolSize, 500);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor contextInitExecutor() {
+        return createExecutor("context-init-", contextInitPoolSize, 200);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor locationEnrichExecutor() {
+        return createExecutor("location-enrich-", locationEnrichPoolSize, 200);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor jobExecutor() {
+        return createExecutor("job-", jobConcurrency, 100);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor historyCompactionExecutor() {
+        return createExecutor("history-compact-", historyCompactionPoolSize, 200);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor sessionEvictionExecutor() {
+        return createExecutor("session-evict-", sessionEvictionPoolSize, 1000);
+    }
+
+    private ThreadPoolTaskExecutor createExecutor(String threadNamePrefix, int poolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(ConnectionHoldTimeConfig.endpointPropagation());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.echo.common.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDBC 커넥션 점유 시간 측정
+ *
+ * DataSource를 감싸 getConnection() ~ close() 구간을 엔드포인트별 Timer로 기록
+ * - 메트릭: db.connection.hold{endpoint="POST /api/conversations/start"}
+ * - 요청이 비동기 실행기(AsyncConfig)에 넘긴 작업에서 얻은 커넥션도 그 요청의 endpoint로 기록
+ *   (예: /start의 선호도/건강 데이터 조회·저장은 contextInitExecutor에서 실행, endpointPropagation)
+ * - 요청과 무관한 곳(스케줄러, 요청 없이 넘긴 작업)에서 얻은 커넥션은 endpoint="background"
+ *
+ * 트랜잭션/open-in-view 범위가 외부 API 호출(STT/LLM/TTS)까지 넓어지면
+ * 이 값이 수 초로 튀므로 회귀를 바로 확인할 수 있음
+ */
+@Slf4j
+@Configuration
+public class ConnectionHoldTimeConfig {
+
+    static final String METRIC_NAME = "db.connection.hold";
+    static final String BACKGROUND = "background";
+
+    /** 요청 스레드에서 넘겨받은 endpoint (비동기 실행기 스레드에서 작업 실행 중에만 설정) */
+    private static final ThreadLocal<String> PROPAGATED_ENDPOINT = new ThreadLocal<>();
+
+    /**
+     * 작업을 넘긴 요청의 endpoint를 실행기 스레드에서도 쓰도록 전달하는 TaskDecorator
+     *
+     * 응답 후 재사용되는 요청 객체(RequestAttributes)는 넘기지 않고 태그 문자열만 전달하므로
+     * 요청이 끝난 뒤 마저 실행되는 작업(시간 예산을 넘긴 단계 등)에서도 안전함
+     */
+    public static TaskDecorator endpointPropagation() {
+        return task -> {
+            String endpoint = ConnectionHoldTimeDataSource.currentEndpoint();
+            if (BACKGROUND.equals(endpoint)) {
+                return task;
+            }
+            return () -> {
+                String previous = PROPAGATED_ENDPOINT.get();
+                PROPAGATED_ENDPOINT.set(endpoint);
+                try {
+                    task.run();
+                } finally {
+                    if (previous == null) {
+                        PROPAGATED_ENDPOINT.remove();
+                    } else {
+                        PROPAGATED_ENDPOINT.set(previous);
+                    }
+                }
+            };
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor connectionHoldTimeDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionHoldTimeDataSource)) {
+                    log.info("커넥션 점유 시간 측정 적용 - dataSource: {}", beanName);
+                    return new ConnectionHoldTimeDataSource(dataSource, meterRegistry);
+                }
+                return bean;
+            }
+        };
+    }
+
+    static class ConnectionHoldTimeDataSource extends DelegatingDataSource {
+
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        ConnectionHoldTimeDataSource(DataSource target, ObjectProvider<MeterRegistry> meterRegistry) {
+            super(target);
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return track(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return track(super.getConnection(username, password));
+        }
+
+        private Connection track(Connection connection) {
+            String endpoint = currentEndpoint();
+            long acquiredAt = System.nanoTime();
+            boolean[] closed = {false};
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if ("close".equals(method.getName()) && !closed[0]) {
+                            closed[0] = true;
+                            record(endpoint, System.nanoTime() - acquiredAt);
+                        } else if ("unwrap".equals(method.getName()) || "isWrapperFor".equals(method.getName())) {
+                            if (((Class<?>) args[0]).isInstance(proxy)) {
+                                return "unwrap".equals(method.getName()) ? proxy : true;
+                            }
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+
+        private void record(String endpoint, long heldNanos) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return;
+            }
+            Timer.builder(METRIC_NAME)
+                    .description("JDBC 커넥션 점유 시간 (getConnection ~ close)")
+                    .tag("endpoint", endpoint)
+                    .register(registry)
+                    .record(heldNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * 현재 요청의 "METHOD 매핑패턴" (예: POST /api/conversations/message)
+         * 패턴을 써서 /audio/{audioId} 같은 경로 변수가 태그 수를 늘리지 않도록 함
+         * 실행기 스레드면 작업을 넘긴 요청의 값 (endpointPropagation)
+         */
+        static String currentEndpoint() {
+            String propagated = PROPAGATED_ENDPOINT.get();
+            if (propagated != null) {
+                return propagated;
+            }
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+                return BACKGROUND;
+            }
+            Object pattern = servletAttributes.getAttribute(
+                    HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            // 핸들러 매핑 전(필터 단계)에 얻은 커넥션은 패턴이 없음
+            String path = pattern != null ? pattern.toString() : "unmapped";
+            return servletAttributes.getRequest().getMethod() + " " + path;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.echo.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ *
+ * @Scheduled 작업 활성화 (대화 인사 사전 생성 등)
+ * 개별 작업은 각 서비스의 enabled 프로퍼티로 켜고 끔
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -3,6 +3,7 @@ package com.example.echo.common.config;
 import com.example.echo.auth.filter.JwtAuthFilter;
 import com.example.echo.common.exception.ErrorResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -39,6 +40,9 @@ public class SecurityConfig {
                 .formLogin(form -> form.disable())
                 .httpBasic(basic -> basic.disable())
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 스트리밍 완료 시 ASYNC 디스패치는 JwtAuthFilter를 다시 거치지 않으므로 허용
+                        // (최초 요청에서 이미 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/api/auth/signup",
                                 "/api/auth/login",
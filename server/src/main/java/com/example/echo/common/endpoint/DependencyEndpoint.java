@@ -0,0 +1,45 @@
+package com.example.echo.common.endpoint;
+
+import com.example.echo.common.resilience.DependencyGuard;
+import com.example.echo.common.resilience.DependencyGuards;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 외부 의존성 격벽/서킷 상태 엔드포인트
+ *
+ * - GET /actuator/dependencies        : 의존성별 서킷 상태, 최근 실패 비율, 남은 동시 호출 자리, 설정
+ * - GET /actuator/dependencies/{name} : 의존성 1곳 (@FeignClient name 또는 openai-whisper)
+ *
+ * 업스트림 장애 상태/부하가 드러나므로 앱 사용자에게 노출하지 않음
+ * → 관리 포트(management.server.port, 호스트 루프백에만 공개)에서만 제공 + 인증 필요 (SecurityConfig)
+ * 노출 여부는 management.endpoints.web.exposure.include로 제어
+ */
+@Component
+@Endpoint(id = "dependencies")
+@RequiredArgsConstructor
+public class DependencyEndpoint {
+
+    private final DependencyGuards dependencyGuards;
+
+    @ReadOperation
+    public List<DependencyGuard.Snapshot> dependencies() {
+        return dependencyGuards.all().stream()
+                .map(DependencyGuard::snapshot)
+                .toList();
+    }
+
+    @ReadOperation
+    public DependencyGuard.Snapshot dependency(@Selector String name) {
+        return dependencyGuards.all().stream()
+                .filter(guard -> guard.getName().equals(name))
+                .findFirst()
+                .map(DependencyGuard::snapshot)
+                .orElse(null);
+    }
+}
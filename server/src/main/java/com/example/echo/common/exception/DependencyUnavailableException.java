@@ -0,0 +1,19 @@
+package com.example.echo.common.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 외부 의존성 호출을 보내지 않고 바로 실패 (서킷 열림 또는 동시 호출 한도 초과)
+ * 스레드가 느린 외부 API에 묶이지 않도록 503으로 즉시 응답
+ */
+@Getter
+public class DependencyUnavailableException extends BaseException {
+
+    private final String dependency;
+
+    public DependencyUnavailableException(String dependency, String reason) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "외부 서비스를 일시적으로 이용할 수 없습니다. (" + dependency + ": " + reason + ")");
+        this.dependency = dependency;
+    }
+}
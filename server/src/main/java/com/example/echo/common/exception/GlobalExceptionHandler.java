@@ -1,5 +1,6 @@
 package com.example.echo.common.exception;
 
+import com.example.echo.voice.exception.NoSpeechDetectedException;
 import com.example.echo.voice.exception.SupertoneInsufficientCreditException;
 import com.example.echo.voice.exception.VoiceProcessingException;
 import lombok.extern.slf4j.Slf4j;
@@ -35,6 +36,18 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    @ExceptionHandler(NoSpeechDetectedException.class)
+    public ResponseEntity<ErrorResponse> handleNoSpeech(NoSpeechDetectedException e) {
+        log.info("음성 미감지: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(ErrorResponse.of(
+                        HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                        "NO_SPEECH_DETECTED",
+                        e.getMessage()
+                ));
+    }
+
     @ExceptionHandler(VoiceProcessingException.class)
     public ResponseEntity<ErrorResponse> handleVoiceProcessing(VoiceProcessingException e) {
         log.error("음성 처리 오류 발생: {}", e.getMessage(), e);
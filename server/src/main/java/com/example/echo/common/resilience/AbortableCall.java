@@ -0,0 +1,73 @@
+package com.example.echo.common.resilience;
+
+import java.io.InterruptedIOException;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 다른 스레드에서 중단할 수 있는 외부 HTTP 호출 묶음
+ *
+ * Feign 기본 클라이언트(HttpURLConnection)는 블로킹 소켓 읽기라 Thread.interrupt()로 멈추지 않아
+ * 헤징에서 진 요청이 제공자가 답하거나 read timeout(30s)이 날 때까지 스레드/격벽 자리/크레딧을 계속 씀
+ * → run() 안에서 AbortableFeignClient가 연 연결을 등록해 두고, abort()하면 연결을 끊어(disconnect)
+ *   응답 대기/본문 읽기 중인 호출이 IOException으로 바로 끝나게 함
+ *
+ * - abort() 이후 새로 여는 연결은 InterruptedIOException으로 거절 (재시도도 막음)
+ * - 호출 스레드도 함께 인터럽트해야 DependencyGuard/TtsProviderRouter가 실패로 기록하지 않음
+ */
+public class AbortableCall {
+
+    private static final ThreadLocal<AbortableCall> CURRENT = new ThreadLocal<>();
+
+    private final List<HttpURLConnection> connections = new ArrayList<>();
+    private boolean aborted;
+
+    /**
+     * 현재 스레드에서 여는 HTTP 연결을 이 호출에 묶어 실행
+     */
+    public <T> T run(Supplier<T> call) {
+        AbortableCall previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 진행 중인 연결을 모두 끊고 이후 연결을 거절
+     */
+    public void abort() {
+        List<HttpURLConnection> open;
+        synchronized (this) {
+            aborted = true;
+            open = List.copyOf(connections);
+            connections.clear();
+        }
+        open.forEach(HttpURLConnection::disconnect);
+    }
+
+    /**
+     * 현재 스레드가 run() 안이면 연결 등록 (AbortableFeignClient에서 호출)
+     */
+    static void register(HttpURLConnection connection) throws InterruptedIOException {
+        AbortableCall call = CURRENT.get();
+        if (call == null) {
+            return;
+        }
+        synchronized (call) {
+            if (!call.aborted) {
+                call.connections.add(connection);
+                return;
+            }
+        }
+        throw new InterruptedIOException("중단된 호출입니다.");
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.echo.common.resilience;
+
+import feign.Client;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+/**
+ * 연결을 AbortableCall에 등록하는 Feign 기본 클라이언트 (HttpURLConnection)
+ *
+ * 헤징처럼 호출을 도중에 포기하는 클라이언트의 Feign 설정 클래스에서 Client 빈으로 사용
+ * (AbortableCall.run() 밖에서는 기본 클라이언트와 동일)
+ */
+public class AbortableFeignClient extends Client.Default {
+
+    public AbortableFeignClient() {
+        super(null, null);
+    }
+
+    @Override
+    public HttpURLConnection getConnection(URL url) throws IOException {
+        HttpURLConnection connection = super.getConnection(url);
+        AbortableCall.register(connection);
+        return connection;
+    }
+}
@@ -0,0 +1,321 @@
+package com.example.echo.common.resilience;
+
+import com.example.echo.common.exception.DependencyUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * 외부 의존성 1곳의 격벽(bulkhead) + 서킷 브레이커
+ *
+ * 외부 API가 느려지면 호출 스레드(Tomcat 요청 스레드 포함)가 모두 응답 대기에 묶여
+ * 그 API와 관계없는 엔드포인트까지 멈추므로, 의존성마다 동시 호출 수를 제한하고 계속 실패하면 바로 실패시킴
+ *
+ * - 격벽: 동시 호출 max-concurrent-calls개, 자리가 없으면 max-wait-ms까지 기다린 뒤 거절
+ * - 서킷 (CLOSED → OPEN): 최근 window-size건 중 실패 비율이 failure-rate-threshold 이상이면 열림 (minimum-calls건 이상일 때만)
+ *   실패 = 예외, 판정 함수가 실패로 본 응답(5xx/429 등), slow-call-ms보다 느린 응답
+ * - 서킷 (OPEN → HALF_OPEN): open-ms 동안 호출 없이 바로 실패, 이후 half-open-calls건만 시험 호출 허용
+ * - 서킷 (HALF_OPEN): 시험 호출이 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * - 거절/차단은 DependencyUnavailableException (503)
+ * - 헤징에서 져서 인터럽트로 취소된 호출은 실패로 세지 않음
+ * - 반환 후에도 본문을 읽는 호출(스트리밍 응답)은 완료 통지까지 격벽 자리를 유지하고 그때 결과/slow-call을 판정
+ *
+ * 메트릭: dependency.calls{dependency,outcome=success|failure|slow|rejected|short_circuited},
+ *         dependency.circuit.state{dependency} (0: CLOSED, 1: HALF_OPEN, 2: OPEN),
+ *         dependency.failure.rate{dependency}, dependency.bulkhead.available{dependency}
+ */
+@Slf4j
+public class DependencyGuard {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    /** 외부 호출 1건 (Feign Client.execute와 같은 형태) */
+    @FunctionalInterface
+    public interface Call<T> {
+        T call() throws IOException;
+    }
+
+    /** 반환 후에도 이어지는 호출의 완료 통지 (처음 한 번만 반영) */
+    public interface Completion {
+
+        /** 끝까지 처리됨 (failure면 실패로 셈) */
+        void complete(boolean failure);
+
+        /** 호출자가 취소함 (의존성 상태와 무관, 결과에 반영하지 않음) */
+        void cancel();
+    }
+
+    /**
+     * @param maxConcurrentCalls   동시 호출 수
+     * @param maxWaitMillis        격벽 자리 대기 시간 (0이면 바로 거절)
+     * @param windowSize           실패 비율 계산에 쓰는 최근 호출 수
+     * @param minimumCalls         실패 비율을 판단할 최소 호출 수
+     * @param failureRateThreshold 서킷을 여는 실패 비율 (0~1)
+     * @param slowCallMillis       이보다 느린 응답은 실패로 셈 (0이면 사용 안 함)
+     * @param openMillis           서킷이 열린 뒤 시험 호출까지 대기
+     * @param halfOpenCalls        HALF_OPEN 시험 호출 수
+     */
+    public record Settings(int maxConcurrentCalls, long maxWaitMillis, int windowSize, int minimumCalls,
+                           double failureRateThreshold, long slowCallMillis, long openMillis, int halfOpenCalls) {
+    }
+
+    /**
+     * @param state                    서킷 상태
+     * @param failureRate              최근 실패 비율 (CLOSED 기준)
+     * @param bufferedCalls            실패 비율 계산에 들어간 호출 수
+     * @param availableConcurrentCalls 남은 격벽 자리
+     * @param retryAfterMillis         OPEN일 때 시험 호출까지 남은 시간
+     */
+    public record Snapshot(String name, State state, double failureRate, int bufferedCalls,
+                           int availableConcurrentCalls, Settings settings, long retryAfterMillis) {
+    }
+
+    private final String name;
+    private final Settings settings;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final Semaphore bulkhead;
+
+    /** 최근 호출 결과 (true: 실패, 링 버퍼) */
+    private final boolean[] outcomes;
+    private int recorded;
+    private int next;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesStarted;
+    private int probesSucceeded;
+
+    public DependencyGuard(String name, Settings settings, MeterRegistry meterRegistry) {
+        this(name, settings, meterRegistry, System::nanoTime);
+    }
+
+    DependencyGuard(String name, Settings settings, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.name = name;
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+        this.bulkhead = new Semaphore(settings.maxConcurrentCalls());
+        this.outcomes = new boolean[Math.max(1, settings.windowSize())];
+
+        Tags tags = Tags.of("dependency", name);
+        meterRegistry.gauge("dependency.circuit.state", tags, this, guard -> guard.state().ordinal());
+        meterRegistry.gauge("dependency.failure.rate", tags, this, DependencyGuard::failureRate);
+        meterRegistry.gauge("dependency.bulkhead.available", tags, bulkhead, Semaphore::availablePermits);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 격벽/서킷을 거쳐 호출
+     *
+     * @param failed 정상 반환됐지만 의존성 실패로 볼 응답 (예: 5xx)
+     * @throws DependencyUnavailableException 서킷이 열려 있거나 격벽 자리가 없을 때 (호출하지 않음)
+     */
+    public <T> T execute(Call<T> call, Predicate<T> failed) throws IOException {
+        return execute(call, failed, null);
+    }
+
+    /**
+     * 격벽/서킷을 거쳐 호출하고, 반환값을 다 쓸 때까지 격벽 자리를 유지
+     *
+     * 스트리밍 응답처럼 반환 후에도 본문을 읽는 호출용: hold가 돌려준 값이 Completion을 알릴 때
+     * 격벽 자리를 반납하고 결과/slow-call-ms를 판정 (실패로 판정된 응답은 바로 반납)
+     *
+     * @param hold 반환값을 완료 통지와 묶은 값으로 바꿈 (null이면 반환 즉시 완료)
+     */
+    public <T> T execute(Call<T> call, Predicate<T> failed, BiFunction<T, Completion, T> hold) throws IOException {
+        boolean probe = acquirePermission();
+        if (!acquireBulkhead()) {
+            if (probe) {
+                releaseProbe();
+            }
+            count("rejected");
+            throw new DependencyUnavailableException(name, "동시 호출 한도 초과");
+        }
+
+        Attempt attempt = new Attempt(probe, nanoClock.getAsLong());
+        try {
+            T result = call.call();
+            boolean failure = failed.test(result);
+            if (hold == null || failure) {
+                attempt.complete(failure);
+                return result;
+            }
+            return hold.apply(result, attempt);
+        } catch (IOException | RuntimeException e) {
+            if (e instanceof InterruptedIOException || Thread.currentThread().isInterrupted()) {
+                // 헤징 등에서 호출자가 취소한 경우 (의존성 상태와 무관)
+                attempt.cancel();
+            } else {
+                attempt.complete(true);
+            }
+            throw e;
+        } catch (Error e) {
+            attempt.cancel();
+            throw e;
+        }
+    }
+
+    public synchronized State state() {
+        transitionIfOpenElapsed();
+        return state;
+    }
+
+    public synchronized double failureRate() {
+        return recorded == 0 ? 0 : (double) failures / recorded;
+    }
+
+    public synchronized Snapshot snapshot() {
+        transitionIfOpenElapsed();
+        long retryAfter = state == State.OPEN
+                ? Math.max(0, settings.openMillis() - TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - openedAt))
+                : 0;
+        return new Snapshot(name, state, failureRate(), recorded, bulkhead.availablePermits(), settings, retryAfter);
+    }
+
+    /**
+     * 서킷 확인 (OPEN이면 바로 실패)
+     *
+     * @return HALF_OPEN 시험 호출이면 true
+     */
+    private synchronized boolean acquirePermission() {
+        transitionIfOpenElapsed();
+        if (state == State.CLOSED) {
+            return false;
+        }
+        if (state == State.HALF_OPEN && probesStarted < settings.halfOpenCalls()) {
+            probesStarted++;
+            return true;
+        }
+        count("short_circuited");
+        throw new DependencyUnavailableException(name, "서킷 열림");
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(settings.maxWaitMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private synchronized void releaseProbe() {
+        if (state == State.HALF_OPEN && probesStarted > 0) {
+            probesStarted--;
+        }
+    }
+
+    private synchronized void onResult(boolean probe, boolean failure) {
+        if (probe) {
+            if (state != State.HALF_OPEN) {
+                return;
+            }
+            if (failure) {
+                open("시험 호출 실패");
+            } else if (++probesSucceeded >= settings.halfOpenCalls()) {
+                log.info("외부 의존성 서킷 닫힘 - {}", name);
+                state = State.CLOSED;
+                resetWindow();
+            }
+            return;
+        }
+        // 서킷이 열리기 전에 시작된 호출의 늦은 결과는 반영하지 않음
+        if (state != State.CLOSED) {
+            return;
+        }
+        if (recorded == outcomes.length) {
+            failures -= outcomes[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failure;
+        failures += failure ? 1 : 0;
+        next = (next + 1) % outcomes.length;
+
+        if (recorded >= settings.minimumCalls() && failureRate() >= settings.failureRateThreshold()) {
+            open(String.format("실패 비율 %.0f%% (%d/%d)", failureRate() * 100, failures, recorded));
+        }
+    }
+
+    private void open(String reason) {
+        log.warn("외부 의존성 서킷 열림 - {}: {}, {}ms 동안 바로 실패", name, reason, settings.openMillis());
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+        resetWindow();
+    }
+
+    private void transitionIfOpenElapsed() {
+        if (state == State.OPEN
+                && TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - openedAt) >= settings.openMillis()) {
+            log.info("외부 의존성 서킷 시험 호출 시작 - {}", name);
+            state = State.HALF_OPEN;
+            probesStarted = 0;
+            probesSucceeded = 0;
+        }
+    }
+
+    private void resetWindow() {
+        recorded = 0;
+        next = 0;
+        failures = 0;
+    }
+
+    /** 격벽 자리를 잡은 호출 1건 */
+    private final class Attempt implements Completion {
+
+        private final boolean probe;
+        private final long startedAt;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Attempt(boolean probe, long startedAt) {
+            this.probe = probe;
+            this.startedAt = startedAt;
+        }
+
+        @Override
+        public void complete(boolean failure) {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                boolean slow = settings.slowCallMillis() > 0
+                        && TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - startedAt) > settings.slowCallMillis();
+                count(failure ? "failure" : slow ? "slow" : "success");
+                onResult(probe, failure || slow);
+            } finally {
+                bulkhead.release();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            if (probe) {
+                releaseProbe();
+            }
+            bulkhead.release();
+        }
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("dependency.calls", "dependency", name, "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.echo.common.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 외부 의존성별 DependencyGuard 보관
+ *
+ * 이름은 @FeignClient name (openai-chat-client, supertone-tts-client, tts-client, kakao-geocoding,
+ * weather-api-client)과 Feign을 쓰지 않는 Whisper 업로드(openai-whisper)
+ * 설정은 resilience.dependencies.{이름}.* → resilience.default.* → 코드 기본값 순으로 찾음
+ * 처음 호출될 때 만들어지므로 actuator dependencies에는 한 번 이상 호출된 의존성만 보임
+ */
+@Component
+public class DependencyGuards {
+
+    private static final String DEFAULT_PREFIX = "resilience.default.";
+    private static final String DEPENDENCY_PREFIX = "resilience.dependencies.";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, DependencyGuard> guards = new ConcurrentHashMap<>();
+
+    public DependencyGuards(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public DependencyGuard get(String name) {
+        return guards.computeIfAbsent(name, key -> new DependencyGuard(key, settings(key), meterRegistry));
+    }
+
+    public List<DependencyGuard> all() {
+        return guards.values().stream()
+                .sorted((a, b) -> a.getName().compareTo(b.getName()))
+                .toList();
+    }
+
+    DependencyGuard.Settings settings(String name) {
+        return new DependencyGuard.Settings(
+                property(name, "max-concurrent-calls", Integer.class, 20),
+                property(name, "max-wait-ms", Long.class, 500L),
+                property(name, "window-size", Integer.class, 20),
+                property(name, "minimum-calls", Integer.class, 10),
+                property(name, "failure-rate-threshold", Double.class, 0.5),
+                property(name, "slow-call-ms", Long.class, 0L),
+                property(name, "open-ms", Long.class, 30_000L),
+                property(name, "half-open-calls", Integer.class, 3));
+    }
+
+    private <T> T property(String name, String key, Class<T> type, T defaultValue) {
+        T fallback = environment.getProperty(DEFAULT_PREFIX + key, type, defaultValue);
+        return environment.getProperty(DEPENDENCY_PREFIX + name + "." + key, type, fallback);
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.echo.common.resilience;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+
+/**
+ * 모든 Feign 클라이언트 호출에 격벽 + 서킷 브레이커 적용
+ *
+ * Spring Cloud OpenFeign은 컨텍스트의 Capability 빈을 모든 @FeignClient에 적용하므로
+ * 클라이언트마다 설정 클래스를 고치지 않아도 HTTP 호출(Client.execute) 단위로 DependencyGuard를 거침
+ * - 의존성 이름: @FeignClient name
+ * - 실패로 보는 응답: 5xx, 429 (4xx는 요청 문제라 서킷에 반영하지 않음)
+ * - 격벽 자리는 응답 본문을 닫을 때 반납 (스트리밍 응답도 본문을 다 읽을 때까지 격벽 안, slow-call-ms도 본문까지 포함)
+ *   본문 읽기 중 IOException은 실패로 셈, 본문이 없거나 실패 응답이면 바로 반납
+ */
+@Component
+@RequiredArgsConstructor
+public class ResilienceFeignCapability implements Capability {
+
+    static final String UNKNOWN = "unknown";
+
+    private final DependencyGuards dependencyGuards;
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> dependencyGuards.get(dependencyName(request))
+                .execute(() -> client.execute(request, options), ResilienceFeignCapability::isFailure,
+                        ResilienceFeignCapability::holdUntilClosed);
+    }
+
+    /**
+     * 본문을 닫을 때 완료를 알리는 응답으로 바꿈 (Feign 디코더/Response를 받은 호출자가 본문을 닫음)
+     */
+    static Response holdUntilClosed(Response response, DependencyGuard.Completion completion) {
+        if (response.body() == null) {
+            completion.complete(false);
+            return response;
+        }
+        return response.toBuilder().body(new GuardedBody(response.body(), completion)).build();
+    }
+
+    static boolean isFailure(Response response) {
+        return response.status() >= 500 || response.status() == 429;
+    }
+
+    private static String dependencyName(Request request) {
+        RequestTemplate template = request.requestTemplate();
+        if (template == null || template.feignTarget() == null) {
+            return UNKNOWN;
+        }
+        return template.feignTarget().name();
+    }
+
+    /** 닫힐 때 DependencyGuard에 완료를 알리는 응답 본문 */
+    private static final class GuardedBody implements Response.Body {
+
+        private final Response.Body body;
+        private final DependencyGuard.Completion completion;
+        private volatile boolean failed;
+        private volatile boolean cancelled;
+
+        private GuardedBody(Response.Body body, DependencyGuard.Completion completion) {
+            this.body = body;
+            this.completion = completion;
+        }
+
+        @Override
+        public Integer length() {
+            return body.length();
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return body.isRepeatable();
+        }
+
+        @Override
+        public InputStream asInputStream() throws IOException {
+            return new FilterInputStream(body.asInputStream()) {
+                @Override
+                public int read() throws IOException {
+                    try {
+                        return super.read();
+                    } catch (IOException e) {
+                        throw onReadFailure(e);
+                    }
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    try {
+                        return super.read(buffer, offset, length);
+                    } catch (IOException e) {
+                        throw onReadFailure(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public Reader asReader(Charset charset) throws IOException {
+            return new InputStreamReader(asInputStream(), charset);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                body.close();
+            } finally {
+                if (cancelled) {
+                    completion.cancel();
+                } else {
+                    completion.complete(failed);
+                }
+            }
+        }
+
+        private IOException onReadFailure(IOException e) {
+            // 헤징 등에서 호출자가 연결을 끊은 경우는 의존성 상태와 무관
+            if (e instanceof InterruptedIOException || Thread.currentThread().isInterrupted()) {
+                cancelled = true;
+            } else {
+                failed = true;
+            }
+            return e;
+        }
+    }
+}
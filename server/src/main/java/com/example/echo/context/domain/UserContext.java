@@ -36,6 +36,13 @@ public class UserContext {
      */
     private String systemPrompt;
 
+    /**
+     * 히스토리 압축 요약 (ConversationHistoryManager가 토큰 예산 초과 시 갱신, 응답 생성과 일기 생성에 함께 사용)
+     * conversationHistory의 앞 historySummaryTurnCount개 턴이 반영되어 있음
+     */
+    private String historySummary;
+    private int historySummaryTurnCount;
+
     private LocalDateTime lastAccessTime;
     private boolean isActive;
 }
\ No newline at end of file
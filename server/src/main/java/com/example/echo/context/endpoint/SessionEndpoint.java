@@ -0,0 +1,52 @@
+package com.example.echo.context.endpoint;
+
+import com.example.echo.context.service.SessionStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 대화 세션 운영 엔드포인트
+ *
+ * - GET    /actuator/sessions          : 활성 세션 수, 전체 추정 크기, 제거 기준
+ * - DELETE /actuator/sessions/{userId} : 세션 수동 제거 (/end와 같은 종료 처리 후 제거)
+ *
+ * 관리 포트(management.server.port)에서만 제공, 노출 여부는 management.endpoints.web.exposure.include로 제어
+ * 관리 포트는 호스트 루프백에만 공개되므로 앱 사용자는 쓰기 작업에 접근할 수 없음 (운영자 전용)
+ */
+@Component
+@Endpoint(id = "sessions")
+@RequiredArgsConstructor
+public class SessionEndpoint {
+
+    private final SessionStore sessionStore;
+
+    @ReadOperation
+    public SessionStats sessions() {
+        return new SessionStats(
+                sessionStore.size(),
+                sessionStore.totalEstimatedBytes(),
+                sessionStore.getMaxBytes(),
+                sessionStore.getIdleTimeout().toMinutes()
+        );
+    }
+
+    @DeleteOperation
+    public Map<String, Object> evict(@Selector Long userId) {
+        return Map.of("userId", userId, "evicted", sessionStore.evict(userId));
+    }
+
+    /**
+     * @param activeSessions     보관 중인 세션 수
+     * @param estimatedBytes     전체 세션 추정 크기
+     * @param maxBytes           추정 크기 상한 (초과 시 오래된 세션부터 제거)
+     * @param idleTimeoutMinutes 유휴 세션 제거 기준
+     */
+    public record SessionStats(int activeSessions, long estimatedBytes, long maxBytes, long idleTimeoutMinutes) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.echo.context.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대화 세션 엔티티 (JdbcContextStore)
+ *
+ * UserContext를 gzip 압축 JSON으로 저장하여 어느 서버든 같은 세션으로 다음 턴을 처리
+ * - version: 저장할 때마다 1 증가, 서버별 near-cache가 최신인지 확인하는 데 사용
+ * - lastAccessTime: 유휴 세션 제거 기준 (SessionStore.sweep)
+ */
+@Entity
+@Table(name = "conversation_sessions",
+        indexes = {
+                @Index(name = "idx_conversation_sessions_last_access", columnList = "last_access_time")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ConversationSession {
+
+    /** 사용자당 세션 1개 */
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    /** gzip 압축한 UserContext JSON */
+    @Lob
+    @Column(name = "payload", nullable = false, length = 16 * 1024 * 1024)
+    private byte[] payload;
+
+    @Column(name = "last_access_time", nullable = false)
+    private LocalDateTime lastAccessTime;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public ConversationSession(Long userId, long version, byte[] payload, LocalDateTime lastAccessTime) {
+        this.userId = userId;
+        this.version = version;
+        this.payload = payload;
+        this.lastAccessTime = lastAccessTime;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.echo.context.event;
+
+import com.example.echo.context.domain.UserContext;
+
+/**
+ * /end 없이 세션이 제거됨 (유휴 시간 초과, 용량 초과, 수동 제거)
+ *
+ * @param context 제거된 세션 (저장소에서 이미 빠진 상태)
+ * @param reason  제거 사유 (SessionStore.REASON_*)
+ */
+public record SessionEvictedEvent(UserContext context, String reason) {
+}
@@ -0,0 +1,488 @@
+/*
+ * 진행 중인 대화 세션 저널 (append-only 파일)
+ *
+ * 역할: memory 세션 저장소를 쓸 때 재배포(컨테이너 재생성)로 진행 중인 대화가 사라지지 않도록
+ *       세션 등록/턴 추가/종료를 로컬 파일에 기록하고, 시작 시 다시 읽어 세션을 복원
+ *
+ * 쓰기:
+ *   append*() 는 메모리 버퍼에 레코드를 붙이기만 하고 바로 반환 (요청 스레드는 파일 I/O를 기다리지 않음)
+ *   → flush()가 fsync-interval-ms마다 모아서 write + fsync 1회 (group commit)
+ *   → 종료 시(@PreDestroy)에도 flush하므로 정상 재배포에서는 유실 없음, 비정상 종료 시 최대 1주기분 유실
+ *
+ * 레코드 형식 (빅엔디언):
+ *   [int 본문 길이][int CRC32(본문)][본문]
+ *   본문 = [byte 타입][long userId] + 타입별 데이터
+ *     - SNAPSHOT: UserContext JSON (세션 등록, 첫 턴 = 시스템 프롬프트 확정 후)
+ *     - TURN:     [int 턴 위치][long epochMillis][int 길이+UTF-8 사용자 발화(-1이면 null)][int 길이+UTF-8 AI 응답]
+ *     - REMOVE:   없음 (대화 종료/세션 제거)
+ *
+ * 복원:
+ *   replay()는 처음부터 읽어 세션을 다시 만들고, 길이/CRC가 맞지 않는 레코드(기록 중 종료된 꼬리)에서 멈춤
+ *   TURN은 턴 위치가 이미 복원된 히스토리 안이면 건너뜀 (압축 중 스냅샷과 겹친 레코드 중복 방지)
+ *
+ * 압축:
+ *   파일이 compact-threshold-bytes를 넘으면 살아 있는 세션의 SNAPSHOT만으로 새 파일을 쓰고 교체
+ *   (임시 파일 fsync 후 원자적 이동, 압축 중 추가된 레코드는 새 파일 뒤에 이어서 기록)
+ *
+ * 메트릭:
+ *   - context.journal.fsync: write + fsync 1회 시간
+ *   - context.journal.batch.records: fsync 1회에 기록한 레코드 수
+ *   - context.journal.file.bytes: 저널 파일 크기
+ *
+ * 설정값 (application.yaml):
+ *   - context.journal.enabled: 저널 사용 여부 (jdbc 세션 저장소는 DB에 남으므로 사용하지 않음)
+ *   - context.journal.path: 저널 파일 경로 (컨테이너 재생성에도 남도록 볼륨에 둠)
+ *   - context.journal.fsync-interval-ms: 버퍼를 파일에 쓰고 fsync하는 주기
+ *   - context.journal.compact-threshold-bytes: 압축을 시작하는 파일 크기
+ */
+package com.example.echo.context.journal;
+
+import com.example.echo.context.domain.ConversationTurn;
+import com.example.echo.context.domain.UserContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+@Slf4j
+@Component
+public class SessionJournal {
+
+    static final byte SNAPSHOT = 1;
+    static final byte TURN = 2;
+    static final byte REMOVE = 3;
+
+    /** 레코드 헤더 (본문 길이 + CRC32) */
+    private static final int HEADER_BYTES = 8;
+    /** 손상된 길이 값으로 큰 배열을 만들지 않도록 레코드 크기 상한 */
+    private static final int MAX_RECORD_BYTES = 16 * 1024 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Path path;
+    private final long compactThresholdBytes;
+
+    /** 아직 파일에 쓰지 않은 레코드 (append 시 짧게 잡는 락) */
+    private final Object bufferLock = new Object();
+    private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private int bufferedRecords;
+
+    /** 파일 쓰기/교체 (flush, compact, close) */
+    private final Object fileLock = new Object();
+    private FileChannel channel;
+
+    private final AtomicLong fileBytes = new AtomicLong();
+
+    public SessionJournal(ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${context.journal.enabled:true}") boolean enabled,
+                          @Value("${context.journal.path:./data/session.journal}") Path path,
+                          @Value("${context.journal.compact-threshold-bytes:67108864}") long compactThresholdBytes) {
+        this.objectMapper = objectMapper.copy()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.path = path;
+        this.compactThresholdBytes = compactThresholdBytes;
+
+        meterRegistry.gauge("context.journal.file.bytes", fileBytes);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 세션 전체 기록 (등록, 첫 턴)
+     */
+    public void appendSnapshot(UserContext context) {
+        byte[] json;
+        List<ConversationTurn> history = context.getConversationHistory();
+        synchronized (history) {
+            try {
+                json = objectMapper.writeValueAsBytes(context);
+            } catch (IOException e) {
+                log.warn("[저널] 세션 스냅샷 직렬화 실패 - userId: {}, 오류: {}", context.getUserId(), e.getMessage());
+                return;
+            }
+        }
+        append(SNAPSHOT, context.getUserId(), out -> out.write(json));
+    }
+
+    /**
+     * 대화 턴 추가 기록
+     *
+     * @param index 히스토리에서 턴 위치 (복원 시 중복 판단)
+     */
+    public void appendTurn(Long userId, int index, ConversationTurn turn) {
+        append(TURN, userId, out -> {
+            out.writeInt(index);
+            LocalDateTime timestamp = turn.getTimestamp() != null ? turn.getTimestamp() : LocalDateTime.now();
+            out.writeLong(timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            writeString(out, turn.getUserMessage());
+            writeString(out, turn.getAiResponse());
+        });
+    }
+
+    /**
+     * 세션 종료 기록 (대화 종료, 유휴/용량/수동 제거)
+     */
+    public void appendRemove(Long userId) {
+        append(REMOVE, userId, out -> { });
+    }
+
+    private void append(byte type, Long userId, RecordWriter writer) {
+        if (!enabled) {
+            return;
+        }
+        byte[] record;
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream(64);
+            DataOutputStream out = new DataOutputStream(body);
+            out.writeByte(type);
+            out.writeLong(userId);
+            writer.write(out);
+            record = frame(body.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        synchronized (bufferLock) {
+            buffer.writeBytes(record);
+            bufferedRecords++;
+        }
+    }
+
+    /**
+     * 버퍼에 모인 레코드를 파일에 쓰고 fsync (주기 실행, 종료 시)
+     */
+    @Scheduled(fixedDelayString = "${context.journal.fsync-interval-ms:100}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (fileLock) {
+            byte[] pending;
+            int records;
+            synchronized (bufferLock) {
+                if (bufferedRecords == 0) {
+                    return;
+                }
+                pending = buffer.toByteArray();
+                records = bufferedRecords;
+                buffer = new ByteArrayOutputStream(Math.max(256, pending.length));
+                bufferedRecords = 0;
+            }
+
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                FileChannel file = openChannel();
+                writeFully(file, pending);
+                file.force(false);
+                fileBytes.addAndGet(pending.length);
+            } catch (IOException e) {
+                // 다음 주기에 다시 쓰도록 버퍼 앞쪽에 되돌림
+                synchronized (bufferLock) {
+                    byte[] newer = buffer.toByteArray();
+                    buffer = new ByteArrayOutputStream(pending.length + newer.length);
+                    buffer.writeBytes(pending);
+                    buffer.writeBytes(newer);
+                    bufferedRecords += records;
+                }
+                closeQuietly();
+                log.error("[저널] 파일 기록 실패 - path: {}, 대기 레코드: {}", path, records, e);
+                return;
+            } finally {
+                sample.stop(meterRegistry.timer("context.journal.fsync"));
+            }
+            meterRegistry.summary("context.journal.batch.records").record(records);
+        }
+    }
+
+    /**
+     * 파일이 기준 크기를 넘었으면 압축
+     */
+    public void compactIfNeeded(Collection<UserContext> liveSessions) {
+        if (enabled && fileBytes.get() > compactThresholdBytes) {
+            compact(liveSessions);
+        }
+    }
+
+    /**
+     * 살아 있는 세션의 스냅샷만으로 저널 파일 재작성
+     * 스냅샷을 만드는 동안 추가된 레코드는 버퍼에 남아 새 파일 뒤에 기록됨
+     */
+    public void compact(Collection<UserContext> liveSessions) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (fileLock) {
+            // 압축 시작 전까지의 레코드는 기존 파일에 반영 (실패해도 기존 파일로 복원 가능)
+            flush();
+
+            Path tmp = path.resolveSibling(path.getFileName() + ".compact");
+            long written = 0;
+            try {
+                createParentDirectories();
+            } catch (IOException e) {
+                log.error("[저널] 압축 실패 (디렉터리 생성) - path: {}", path, e);
+                return;
+            }
+            try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                for (UserContext context : liveSessions) {
+                    byte[] record = snapshotRecord(context);
+                    if (record != null) {
+                        writeFully(out, record);
+                        written += record.length;
+                    }
+                }
+                out.force(true);
+            } catch (IOException e) {
+                log.error("[저널] 압축 실패 (기존 파일 유지) - path: {}", path, e);
+                return;
+            }
+
+            try {
+                closeQuietly();
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                fileBytes.set(written);
+            } catch (IOException e) {
+                log.error("[저널] 압축 파일 교체 실패 (기존 파일 유지) - path: {}", path, e);
+                return;
+            }
+            log.info("[저널] 압축 완료 - 세션: {}, 크기: {}B", liveSessions.size(), written);
+        }
+    }
+
+    /**
+     * 저널을 처음부터 읽어 세션 복원 (서버 시작 시 1회)
+     *
+     * @return userId → 복원된 세션 (종료 기록이 있는 세션 제외)
+     */
+    public Map<Long, UserContext> replay() {
+        Map<Long, UserContext> sessions = new LinkedHashMap<>();
+        if (!enabled || !Files.exists(path)) {
+            return sessions;
+        }
+
+        int records = 0;
+        long validBytes = 0;
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(path))) {
+            while (true) {
+                byte[] body = readRecord(in);
+                if (body == null) {
+                    break;
+                }
+                apply(sessions, body);
+                records++;
+                validBytes += HEADER_BYTES + body.length;
+            }
+        } catch (IOException e) {
+            log.warn("[저널] 복원 중 읽기 실패 - 읽은 레코드까지만 복원 - path: {}, 오류: {}", path, e.getMessage());
+        }
+
+        long size = sizeOf(path);
+        if (validBytes < size) {
+            log.warn("[저널] 손상되었거나 기록 중 끊긴 꼬리 무시 - 유효: {}B, 파일: {}B", validBytes, size);
+        }
+        fileBytes.set(size);
+        log.info("[저널] 복원 완료 - 레코드: {}, 세션: {}", records, sessions.size());
+        return sessions;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (!enabled) {
+            return;
+        }
+        flush();
+        synchronized (fileLock) {
+            closeQuietly();
+        }
+    }
+
+    /**
+     * @return 레코드 본문, 파일 끝이거나 손상된 레코드면 null
+     */
+    private byte[] readRecord(DataInputStream in) throws IOException {
+        int length;
+        int crc;
+        try {
+            length = in.readInt();
+            crc = in.readInt();
+        } catch (EOFException e) {
+            return null;
+        }
+        if (length <= 0 || length > MAX_RECORD_BYTES) {
+            return null;
+        }
+        byte[] body = new byte[length];
+        try {
+            in.readFully(body);
+        } catch (EOFException e) {
+            return null;
+        }
+        return crc32(body) == crc ? body : null;
+    }
+
+    private void apply(Map<Long, UserContext> sessions, byte[] body) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+        byte type = in.readByte();
+        long userId = in.readLong();
+
+        switch (type) {
+            case SNAPSHOT -> sessions.put(userId,
+                    objectMapper.readValue(body, 9, body.length - 9, UserContext.class));
+            case TURN -> {
+                int index = in.readInt();
+                LocalDateTime timestamp = LocalDateTime.ofInstant(Instant.ofEpochMilli(in.readLong()),
+                        ZoneId.systemDefault());
+                ConversationTurn turn = ConversationTurn.builder()
+                        .userMessage(readString(in))
+                        .aiResponse(readString(in))
+                        .timestamp(timestamp)
+                        .build();
+                UserContext context = sessions.get(userId);
+                if (context == null) {
+                    return;
+                }
+                List<ConversationTurn> history = context.getConversationHistory();
+                if (index >= history.size()) {
+                    history.add(turn);
+                    context.setLastAccessTime(timestamp);
+                }
+            }
+            case REMOVE -> sessions.remove(userId);
+            default -> log.warn("[저널] 알 수 없는 레코드 타입 무시 - type: {}", type);
+        }
+    }
+
+    private byte[] snapshotRecord(UserContext context) {
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+            DataOutputStream out = new DataOutputStream(body);
+            out.writeByte(SNAPSHOT);
+            out.writeLong(context.getUserId());
+            List<ConversationTurn> history = context.getConversationHistory();
+            synchronized (history) {
+                out.write(objectMapper.writeValueAsBytes(context));
+            }
+            return frame(body.toByteArray());
+        } catch (IOException e) {
+            log.warn("[저널] 압축 중 세션 직렬화 실패 - userId: {}, 오류: {}", context.getUserId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static byte[] frame(byte[] body) {
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + body.length);
+        record.putInt(body.length);
+        record.putInt(crc32(body));
+        record.put(body);
+        return record.array();
+    }
+
+    private static int crc32(byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private FileChannel openChannel() throws IOException {
+        if (channel == null || !channel.isOpen()) {
+            createParentDirectories();
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        }
+        return channel;
+    }
+
+    private void createParentDirectories() throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+    }
+
+    private static void writeFully(FileChannel file, byte[] bytes) throws IOException {
+        ByteBuffer data = ByteBuffer.wrap(bytes);
+        while (data.hasRemaining()) {
+            file.write(data);
+        }
+    }
+
+    private void closeQuietly() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("[저널] 파일 닫기 실패 - path: {}, 오류: {}", path, e.getMessage());
+        }
+        channel = null;
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.echo.context.repository;
+
+import com.example.echo.context.entity.ConversationSession;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ConversationSessionRepository extends JpaRepository<ConversationSession, Long> {
+
+    /**
+     * 세션 버전만 조회 (near-cache가 최신인지 확인, payload는 읽지 않음)
+     */
+    @Query("select s.version from ConversationSession s where s.userId = :userId")
+    Optional<Long> findVersion(@Param("userId") Long userId);
+
+    /**
+     * 세션 갱신 (조건부 UPDATE)
+     *
+     * 읽은 이후 다른 서버가 먼저 갱신했으면 버전이 달라 0을 반환
+     *
+     * @return 갱신 성공 시 1, 버전 불일치 또는 세션 없음이면 0
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            update ConversationSession s
+            set s.payload = :payload,
+                s.version = s.version + 1,
+                s.lastAccessTime = :lastAccessTime,
+                s.updatedAt = :now
+            where s.userId = :userId and s.version = :expectedVersion
+            """)
+    int updateIfVersion(@Param("userId") Long userId,
+                        @Param("expectedVersion") long expectedVersion,
+                        @Param("payload") byte[] payload,
+                        @Param("lastAccessTime") LocalDateTime lastAccessTime,
+                        @Param("now") LocalDateTime now);
+
+    /**
+     * 세션 덮어쓰기 (버전 조건 없음, 등록/교체는 마지막 저장 우선)
+     *
+     * @return 갱신 성공 시 1, 세션 없음이면 0
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            update ConversationSession s
+            set s.payload = :payload,
+                s.version = s.version + 1,
+                s.lastAccessTime = :lastAccessTime,
+                s.updatedAt = :now
+            where s.userId = :userId
+            """)
+    int overwrite(@Param("userId") Long userId,
+                  @Param("payload") byte[] payload,
+                  @Param("lastAccessTime") LocalDateTime lastAccessTime,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * 세션 등록 (이미 있으면 무시, MySQL INSERT IGNORE)
+     * 여러 서버가 같은 사용자의 세션을 동시에 등록해도 PK 중복 예외 없이 한 서버만 1을 받음
+     *
+     * @return 등록 성공 시 1, 이미 있으면 0
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+            insert ignore into conversation_sessions (user_id, version, payload, last_access_time, updated_at)
+            values (:userId, 0, :payload, :lastAccessTime, :now)
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId,
+                       @Param("payload") byte[] payload,
+                       @Param("lastAccessTime") LocalDateTime lastAccessTime,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 세션 제거 (조건부 DELETE)
+     * 여러 서버가 같은 유휴 세션을 동시에 제거하려 해도 한 서버만 1을 받음
+     *
+     * @return 제거 성공 시 1, 그 사이 갱신되었거나 이미 제거되었으면 0
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("delete from ConversationSession s where s.userId = :userId and s.version = :expectedVersion")
+    int deleteIfVersion(@Param("userId") Long userId, @Param("expectedVersion") long expectedVersion);
+
+    /**
+     * 마지막 접근이 기준 시각 이전인 세션의 사용자 ID (오래된 순)
+     */
+    @Query("""
+            select s.userId from ConversationSession s
+            where s.lastAccessTime < :threshold
+            order by s.lastAccessTime asc
+            """)
+    List<Long> findIdleUserIds(@Param("threshold") LocalDateTime threshold, Pageable pageable);
+}
@@ -12,35 +12,76 @@ import com.example.echo.location.dto.RawLocationData;
 import com.example.echo.location.service.LocationService;
 import com.example.echo.user.dto.UserPreferences;
 import com.example.echo.user.service.UserService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ContextService {
 
-    private final ConcurrentHashMap<Long, UserContext> contextStore = new ConcurrentHashMap<>();
+    private static final String INIT_METRIC = "context.init";
+    private static final String STEP_METRIC = "context.init.step";
+    private static final String DEGRADED_METRIC = "context.init.degraded";
 
+    private final SessionStore sessionStore;
     private final UserService userService;
     private final HealthDataService healthDataService;
     private final WeatherClient weatherClient;
     private final LocationService locationService;
+    private final Executor contextInitExecutor;
+    private final MeterRegistry meterRegistry;
+
+    /** 보강 단계(건강/위치/날씨/저장) 전체 시간 예산 */
+    private final long budgetMs;
+
+    public ContextService(SessionStore sessionStore,
+                          UserService userService,
+                          HealthDataService healthDataService,
+                          WeatherClient weatherClient,
+                          LocationService locationService,
+                          @Qualifier("contextInitExecutor") Executor contextInitExecutor,
+                          MeterRegistry meterRegistry,
+                          @Value("${context.init.budget-ms:2500}") long budgetMs) {
+        this.sessionStore = sessionStore;
+        this.userService = userService;
+        this.healthDataService = healthDataService;
+        this.weatherClient = weatherClient;
+        this.locationService = locationService;
+        this.contextInitExecutor = contextInitExecutor;
+        this.meterRegistry = meterRegistry;
+        this.budgetMs = budgetMs;
+    }
 
     /**
      * 컨텍스트 초기화 (위치 데이터 포함)
      *
-     * HealthConnect 데이터 캐싱 패턴과 동일하게:
-     * 1. 사용자 선호도 조회
-     * 2. EnrichedHealthData 생성
-     * 3. RawLocationData → LocationService → LocationData 변환
-     * 4. UserContext 생성 후 contextStore에 저장 (세션 동안 재사용)
+     * 아래 단계를 contextInitExecutor에서 동시에 실행한 뒤 UserContext를 생성해 SessionStore에 저장
+     * (세션 동안 재사용):
+     * - 사용자 선호도 조회 → EnrichedHealthData 생성 (선호 수면 시간 필요)
+     * - RawLocationData → LocationService → LocationData 변환 (카카오 API)
+     * - 날씨 조회 (per-user 캐시 미스 시 OpenWeather API)
+     * - 앱에서 전송한 건강 데이터 저장 (UPSERT)
+     *
+     * 보강 단계는 budgetMs 안에 끝나지 않으면 null로 두고 진행하여
+     * 외부 API 지연이 첫 인사를 붙잡지 않도록 함 (늦게 끝난 작업은 백그라운드에서 마저 완료)
      *
      * @param userId          사용자 ID
      * @param healthData      오늘 건강 데이터 (null이면 DB에서 조회)
@@ -50,36 +91,97 @@ public class ContextService {
     public UserContext initializeContext(Long userId, HealthData healthData, RawLocationData rawLocationData) {
         log.info("컨텍스트 초기화 시작 - userId: {}", userId);
 
+        UserContext context = assembleContext(userId, healthData, rawLocationData, true);
+        sessionStore.put(context);
+
+        LocationData locationData = context.getLocationData();
+        log.info("[컨텍스트] 저장 완료 - userId: {}, currentCity: {}, 방문장소 수: {}",
+                userId,
+                locationData != null ? locationData.getCurrentCity() : "null",
+                locationData != null && locationData.getVisitedPlaces() != null
+                        ? locationData.getVisitedPlaces().size() : 0);
+        // 방문 장소 상세 로그
+        if (locationData != null && locationData.getVisitedPlaces() != null) {
+            locationData.getVisitedPlaces().forEach(place ->
+                log.debug("[컨텍스트] 방문장소 - placeName: {}, address: {}, 체류: {}분, 날씨: {}",
+                        place.getPlaceName(), place.getAddress(), place.getStayDurationMinutes(),
+                        place.getWeather() != null ? place.getWeather().getDescription() : "null"));
+        }
+        log.info("컨텍스트 초기화 완료 - userId: {}", userId);
+        return context;
+    }
+
+    /**
+     * 컨텍스트 생성 (SessionStore에 저장하지 않음)
+     *
+     * 대화 시작 전 미리 준비(GreetingPrewarmService)할 때 사용하며,
+     * 실제 대화 시작 시 registerContext()로 등록
+     * (DB에서 읽은 건강 데이터로 만들므로 건강 데이터 저장은 하지 않음)
+     */
+    public UserContext buildContext(Long userId, HealthData healthData, RawLocationData rawLocationData) {
+        return assembleContext(userId, healthData, rawLocationData, false);
+    }
+
+    private UserContext assembleContext(Long userId, HealthData healthData, RawLocationData rawLocationData,
+                                        boolean persistHealthData) {
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(budgetMs);
+        Map<String, Long> stepMillis = new ConcurrentHashMap<>();
+
         // 1. 사용자 선호도 조회
-        UserPreferences preferences = userService.getPreferences(userId);
-        Integer preferredSleepHours = preferences != null ? preferences.getPreferredSleepHours() : null;
+        CompletableFuture<UserPreferences> preferencesFuture =
+                runStep("preferences", stepMillis, () -> userService.getPreferences(userId));
 
-        // 2. healthData가 null이면 DB에서 조회
-        HealthData effectiveHealthData = healthData;
-        if (effectiveHealthData == null) {
+        // 2. healthData가 null이면 DB에서 조회 → 선호도와 합쳐 EnrichedHealthData 생성
+        CompletableFuture<HealthData> todayHealthFuture;
+        if (healthData != null) {
+            todayHealthFuture = CompletableFuture.completedFuture(healthData);
+        } else {
             log.debug("healthData가 null이므로 DB에서 조회 - userId: {}", userId);
-            effectiveHealthData = healthDataService.getTodayHealthData(userId);
+            todayHealthFuture = runStep("health-today", stepMillis, () -> healthDataService.getTodayHealthData(userId));
         }
+        CompletableFuture<EnrichedHealthData> enrichedHealthFuture = todayHealthFuture.thenCombineAsync(
+                preferencesFuture,
+                (today, preferences) -> timed("health", stepMillis, () -> healthDataService.buildEnrichedHealthData(
+                        today, userId, preferences != null ? preferences.getPreferredSleepHours() : null)),
+                contextInitExecutor);
 
-        // 3. EnrichedHealthData 생성
-        EnrichedHealthData enrichedHealthData = healthDataService.buildEnrichedHealthData(
-                effectiveHealthData, userId, preferredSleepHours);
-
-        // 4. 위치 데이터 변환: RawLocationData → LocationService → LocationData
-        //    변환 결과는 contextStore에 저장되어 세션 동안 재사용 (API 재호출 없음)
-        LocationData locationData = locationService.enrichLocationData(rawLocationData);
+        // 3. 위치 데이터 변환: RawLocationData → LocationService → LocationData
+        //    변환 결과는 SessionStore에 저장되어 세션 동안 재사용 (API 재호출 없음)
+        CompletableFuture<LocationData> locationFuture =
+                runStep("location", stepMillis, () -> locationService.enrichLocationData(rawLocationData));
 
-        // 5. 컨텍스트 생성 및 저장
-        WeatherData weather = weatherClient.getCachedUserWeather(userId);
-        if (weather == null) {
+        // 4. 날씨: per-user 캐시는 메모리 조회이므로 바로 사용, 미스일 때만 좌표로 조회
+        CompletableFuture<WeatherData> weatherFuture;
+        WeatherData cachedWeather = weatherClient.getCachedUserWeather(userId);
+        if (cachedWeather != null) {
+            log.info("[컨텍스트] per-user 캐시 hit (userId={})", userId);
+            weatherFuture = CompletableFuture.completedFuture(cachedWeather);
+        } else {
             Double lat = rawLocationData != null ? rawLocationData.getCurrentLatitude() : null;
             Double lon = rawLocationData != null ? rawLocationData.getCurrentLongitude() : null;
-            weather = weatherClient.getCurrentWeather(lat, lon);
             log.info("[컨텍스트] per-user 캐시 미스 → 좌표 fallback fetch (userId={})", userId);
-        } else {
-            log.info("[컨텍스트] per-user 캐시 hit (userId={})", userId);
+            weatherFuture = runStep("weather", stepMillis, () -> weatherClient.getCurrentWeather(lat, lon));
         }
-        UserContext context = UserContext.builder()
+
+        // 5. 건강 데이터 저장 (Android에서 수신한 경우)
+        CompletableFuture<?> saveFuture = persistHealthData && healthData != null
+                ? runStep("health-save", stepMillis, () -> healthDataService.saveHealthData(userId, healthData))
+                : CompletableFuture.completedFuture(null);
+
+        // 선호도는 필수 (사용자 없음 등의 예외는 그대로 전달), 나머지는 남은 예산만큼만 대기
+        UserPreferences preferences = joinRequired(preferencesFuture);
+        EnrichedHealthData enrichedHealthData = awaitWithinBudget("health", enrichedHealthFuture, deadlineNanos, userId);
+        LocationData locationData = awaitWithinBudget("location", locationFuture, deadlineNanos, userId);
+        WeatherData weather = awaitWithinBudget("weather", weatherFuture, deadlineNanos, userId);
+        awaitWithinBudget("health-save", saveFuture, deadlineNanos, userId);
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        meterRegistry.timer(INIT_METRIC).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.info("[컨텍스트] 단계별 소요(ms) - userId: {}, 전체: {}, {}",
+                userId, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), new TreeMap<>(stepMillis));
+
+        return UserContext.builder()
                 .userId(userId)
                 .date(LocalDate.now())
                 .conversationHistory(new ArrayList<>())
@@ -90,22 +192,68 @@ public class ContextService {
                 .lastAccessTime(LocalDateTime.now())
                 .isActive(true)
                 .build();
+    }
 
-        contextStore.put(userId, context);
-        log.info("[컨텍스트] 저장 완료 - userId: {}, currentCity: {}, 방문장소 수: {}",
-                userId,
-                locationData != null ? locationData.getCurrentCity() : "null",
-                locationData != null && locationData.getVisitedPlaces() != null
-                        ? locationData.getVisitedPlaces().size() : 0);
-        // 방문 장소 상세 로그
-        if (locationData != null && locationData.getVisitedPlaces() != null) {
-            locationData.getVisitedPlaces().forEach(place ->
-                log.debug("[컨텍스트] 방문장소 - placeName: {}, address: {}, 체류: {}분, 날씨: {}",
-                        place.getPlaceName(), place.getAddress(), place.getStayDurationMinutes(),
-                        place.getWeather() != null ? place.getWeather().getDescription() : "null"));
+    private <T> CompletableFuture<T> runStep(String step, Map<String, Long> stepMillis, Supplier<T> task) {
+        return CompletableFuture.supplyAsync(() -> timed(step, stepMillis, task), contextInitExecutor);
+    }
+
+    /** 단계 실행 시간 기록 (예산 초과로 버려진 단계도 실제 소요 시간을 남김) */
+    private <T> T timed(String step, Map<String, Long> stepMillis, Supplier<T> task) {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            return task.get();
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            stepMillis.put(step, TimeUnit.NANOSECONDS.toMillis(elapsed));
+            meterRegistry.timer(STEP_METRIC, "step", step, "outcome", outcome)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private <T> T joinRequired(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /** 남은 예산 안에 끝나지 않거나 실패한 단계는 null로 대체 */
+    private <T> T awaitWithinBudget(String step, CompletableFuture<T> future, long deadlineNanos, Long userId) {
+        try {
+            return future.get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            meterRegistry.counter(DEGRADED_METRIC, "step", step, "reason", "timeout").increment();
+            log.warn("[컨텍스트] {} 단계 시간 예산({}ms) 초과 → 없이 진행 - userId: {}", step, budgetMs, userId);
+            return null;
+        } catch (ExecutionException e) {
+            meterRegistry.counter(DEGRADED_METRIC, "step", step, "reason", "error").increment();
+            log.warn("[컨텍스트] {} 단계 실패 → 없이 진행 - userId: {}, error: {}",
+                    step, userId, e.getCause().getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
         }
-        log.info("컨텍스트 초기화 완료 - userId: {}", userId);
-        return context;
+    }
+
+    /**
+     * 미리 생성해 둔 컨텍스트를 대화 세션으로 등록
+     * (기존 세션이 있으면 교체)
+     */
+    public void registerContext(UserContext context) {
+        context.setLastAccessTime(LocalDateTime.now());
+        context.setActive(true);
+        sessionStore.put(context);
+        log.info("[컨텍스트] 사전 준비된 컨텍스트 등록 - userId: {}", context.getUserId());
     }
 
     /**
@@ -123,7 +271,7 @@ public class ContextService {
     }
 
     public UserContext getContext(Long userId) {
-        UserContext context = contextStore.get(userId);
+        UserContext context = sessionStore.get(userId);
         if (context == null) {
             throw new IllegalStateException("Context not found for userId: " + userId);
         }
@@ -140,13 +288,30 @@ public class ContextService {
                 .timestamp(LocalDateTime.now())
                 .build();
 
-        context.getConversationHistory().add(turn);
+        // ConversationHistoryManager가 압축 스레드에서 history를 읽으므로 같은 모니터로 추가
+        List<ConversationTurn> history = context.getConversationHistory();
+        int index;
+        synchronized (history) {
+            history.add(turn);
+            index = history.size() - 1;
+        }
+        // 공유 저장소(jdbc)는 다른 서버가 다음 턴을 처리할 수 있도록 저장, memory 저장소는 저널에 기록
+        sessionStore.turnAdded(context, turn, index);
+    }
+
+    /**
+     * 종료 처리(일기 작업 등록)에 실패한 제거 세션을 되돌림
+     *
+     * @return 되돌렸으면 true (그사이 새 세션이 시작되었으면 false)
+     */
+    public boolean restoreContext(UserContext context) {
+        return sessionStore.restore(context);
     }
 
     public void finalizeContext(Long userId) {
         log.info("컨텍스트 정리 시작 - userId: {}", userId);
 
-        UserContext removed = contextStore.remove(userId);
+        UserContext removed = sessionStore.remove(userId);
         if (removed != null) {
             log.info("컨텍스트 정리 완료 - userId: {}, 총 대화 턴: {}",
                     userId, removed.getConversationHistory().size());
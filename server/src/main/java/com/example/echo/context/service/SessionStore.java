@@ -0,0 +1,304 @@
+/*
+ * 대화 세션(UserContext) 저장소
+ *
+ * 역할: 진행 중인 대화의 UserContext 보관(ContextStore에 위임)과 끝나지 않은 세션 제거
+ * - 유휴 제거: lastAccessTime 이후 idle-timeout이 지난 세션 (앱 종료/네트워크 끊김으로 /end가 오지 않은 경우)
+ * - 용량 제한: 이 서버 메모리에만 있는 세션의 추정 크기가 max-bytes를 넘으면 가장 오래 접근하지 않은 세션부터 제거
+ *   (jdbc 저장소는 near-cache만 자체 상한으로 비우고 세션은 유지)
+ *
+ * 제거된 세션은 SessionEvictedEvent로 알리며, /end와 같은 종료 처리(일기 작업 등록)는
+ * 이벤트 수신 측(ConversationService)에서 sessionEvictionExecutor 스레드로 비동기 수행
+ * (/end로 정상 종료한 세션은 remove()로 빼므로 이벤트가 발생하지 않음)
+ *
+ * 제거 판단과 삭제는 ContextStore.removeIf로 원자적으로 수행하여
+ * 판단 직후 갱신/교체된 세션을 잘못 제거하지 않음 (jdbc 저장소는 여러 서버 중 한 곳만 제거에 성공)
+ *
+ * 재시작 후 복원:
+ *   memory 저장소는 등록/턴 추가/종료를 SessionJournal에 기록하고, 서버 시작 시 저널을 읽어 세션을 다시 등록
+ *   (복원된 세션도 lastAccessTime 기준으로 유휴 제거 대상 → 재배포 중 끊긴 대화는 일기 작업이 등록됨)
+ *
+ * 메트릭:
+ *   - context.sessions.active: 보관 중인 세션 수
+ *   - context.sessions.bytes: 마지막 계산한 이 서버 메모리 세션 추정 크기
+ *   - context.sessions.evicted{reason}: 제거 건수 (idle, capacity, manual)
+ *
+ * 설정값 (application.yaml):
+ *   - context.session.idle-timeout-minutes: 유휴 세션 제거 기준
+ *   - context.session.max-bytes: 전체 세션 추정 크기 상한
+ *   - context.session.sweep-interval-ms: 유휴/용량 점검 주기
+ */
+package com.example.echo.context.service;
+
+import com.example.echo.context.domain.ConversationTurn;
+import com.example.echo.context.domain.UserContext;
+import com.example.echo.context.event.SessionEvictedEvent;
+import com.example.echo.context.journal.SessionJournal;
+import com.example.echo.context.store.ContextSizeEstimator;
+import com.example.echo.context.store.ContextStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+@Slf4j
+@Service
+public class SessionStore {
+
+    public static final String REASON_IDLE = "idle";
+    public static final String REASON_CAPACITY = "capacity";
+    public static final String REASON_MANUAL = "manual";
+
+    private final ContextStore contextStore;
+    private final SessionJournal journal;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor evictionExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Duration idleTimeout;
+    private final long maxBytes;
+
+    /** 저널 기록 여부 (저널 사용 + 재시작하면 사라지는 저장소) */
+    private final boolean journaling;
+
+    /** 마지막으로 계산한 전체 추정 크기 (메트릭/조회용) */
+    private final AtomicLong estimatedBytes = new AtomicLong();
+
+    public SessionStore(ContextStore contextStore,
+                        SessionJournal journal,
+                        ApplicationEventPublisher eventPublisher,
+                        @Qualifier("sessionEvictionExecutor") Executor evictionExecutor,
+                        MeterRegistry meterRegistry,
+                        @Value("${context.session.idle-timeout-minutes:30}") long idleTimeoutMinutes,
+                        @Value("${context.session.max-bytes:268435456}") long maxBytes) {
+        this.contextStore = contextStore;
+        this.journal = journal;
+        this.journaling = journal.isEnabled() && !contextStore.isDurable();
+        this.eventPublisher = eventPublisher;
+        this.evictionExecutor = evictionExecutor;
+        this.meterRegistry = meterRegistry;
+        this.idleTimeout = Duration.ofMinutes(idleTimeoutMinutes);
+        this.maxBytes = maxBytes;
+
+        meterRegistry.gauge("context.sessions.active", contextStore, ContextStore::size);
+        meterRegistry.gauge("context.sessions.bytes", estimatedBytes);
+    }
+
+    /**
+     * 저널에서 세션 복원 후 살아 있는 세션만으로 저널 재작성 (서버 시작 시 1회)
+     */
+    @PostConstruct
+    public void recover() {
+        if (!journaling) {
+            return;
+        }
+        Map<Long, UserContext> recovered = journal.replay();
+        recovered.values().forEach(contextStore::put);
+        journal.compact(contextStore.localSessions());
+        if (!recovered.isEmpty()) {
+            log.info("[세션] 저널에서 세션 복원 - 세션: {}", recovered.size());
+        }
+    }
+
+    /**
+     * 세션 등록 (기존 세션이 있으면 교체)
+     * 등록 후 용량을 넘으면 방금 등록한 세션을 제외하고 오래된 세션부터 제거
+     */
+    public void put(UserContext context) {
+        contextStore.put(context);
+        if (journaling) {
+            journal.appendSnapshot(context);
+        }
+        enforceCapacity(context.getUserId());
+    }
+
+    /**
+     * 세션 조회 (없으면 null)
+     */
+    public UserContext get(Long userId) {
+        return contextStore.get(userId);
+    }
+
+    /**
+     * 대화 턴 추가 반영 (공유 저장소는 다른 서버가 다음 턴을 처리할 수 있도록 저장, memory 저장소는 저널에 기록)
+     * 첫 턴(인사)은 시스템 프롬프트가 정해진 뒤이므로 세션 전체를 기록
+     *
+     * @param index 히스토리에서 추가된 턴의 위치
+     */
+    public void turnAdded(UserContext context, ConversationTurn turn, int index) {
+        contextStore.save(context);
+        if (!journaling) {
+            return;
+        }
+        if (index == 0) {
+            journal.appendSnapshot(context);
+        } else {
+            journal.appendTurn(context.getUserId(), index, turn);
+        }
+    }
+
+    /**
+     * 정상 종료된 세션 제거 (종료 처리는 호출 측에서 수행하므로 이벤트를 발생시키지 않음)
+     */
+    public UserContext remove(Long userId) {
+        UserContext removed = contextStore.remove(userId);
+        if (journaling && removed != null) {
+            journal.appendRemove(userId);
+        }
+        return removed;
+    }
+
+    /**
+     * 제거된 세션 되돌리기 (종료 처리 실패 시 다음 정리 주기나 사용자의 /end에서 다시 처리하도록)
+     * 그사이 같은 사용자의 새 세션이 등록되었으면 덮어쓰지 않음
+     *
+     * @return 되돌렸으면 true
+     */
+    public boolean restore(UserContext context) {
+        Long userId = context.getUserId();
+        if (contextStore.get(userId) != null) {
+            return false;
+        }
+        context.setActive(true);
+        contextStore.put(context);
+        if (journaling) {
+            journal.appendSnapshot(context);
+        }
+        log.info("[세션] 제거된 세션 되돌림 - userId: {}, 대화 턴: {}",
+                userId, context.getConversationHistory().size());
+        return true;
+    }
+
+    public int size() {
+        return contextStore.size();
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * 이 서버 메모리에 올라와 있는 세션 추정 크기 (호출 시점에 다시 계산)
+     */
+    public long totalEstimatedBytes() {
+        long total = contextStore.residentBytes();
+        estimatedBytes.set(total);
+        return total;
+    }
+
+    /**
+     * 유휴/용량 점검 (주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${context.session.sweep-interval-ms:60000}",
+            initialDelayString = "${context.session.sweep-interval-ms:60000}")
+    public void sweep() {
+        LocalDateTime threshold = LocalDateTime.now().minus(idleTimeout);
+        int evicted = 0;
+        for (Long userId : contextStore.findIdleUserIds(threshold)) {
+            if (evictIf(userId, context -> isIdleSince(context, threshold), REASON_IDLE)) {
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            log.info("[세션] 유휴 세션 제거 - 제거: {}, 남은 세션: {}", evicted, contextStore.size());
+        }
+        enforceCapacity(null);
+    }
+
+    /**
+     * 세션 저널 압축 점검 (주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${context.journal.compact-check-interval-ms:60000}",
+            initialDelayString = "${context.journal.compact-check-interval-ms:60000}")
+    public void compactJournal() {
+        if (journaling) {
+            journal.compactIfNeeded(contextStore.localSessions());
+        }
+    }
+
+    /**
+     * 수동 제거 (actuator sessions 엔드포인트)
+     *
+     * @return 제거한 세션이 있으면 true
+     */
+    public boolean evict(Long userId) {
+        return evictIf(userId, context -> true, REASON_MANUAL);
+    }
+
+    /**
+     * 전체 추정 크기가 상한 안에 들어올 때까지 가장 오래 접근하지 않은 세션부터 제거
+     *
+     * @param protectedUserId 제거 대상에서 제외할 사용자 (방금 등록한 세션, 없으면 null)
+     */
+    private void enforceCapacity(Long protectedUserId) {
+        long total = totalEstimatedBytes();
+        if (total <= maxBytes) {
+            return;
+        }
+
+        List<UserContext> candidates = new ArrayList<>(contextStore.localSessions());
+        if (candidates.isEmpty()) {
+            return;
+        }
+        candidates.sort(Comparator.comparing(UserContext::getLastAccessTime,
+                Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        int evicted = 0;
+        for (UserContext candidate : candidates) {
+            if (total <= maxBytes) {
+                break;
+            }
+            if (candidate.getUserId().equals(protectedUserId)) {
+                continue;
+            }
+            long bytes = ContextSizeEstimator.estimateBytes(candidate);
+            // 판단 이후 같은 사용자의 새 세션으로 교체되었으면 건너뜀
+            if (evictIf(candidate.getUserId(), context -> context == candidate, REASON_CAPACITY)) {
+                total -= bytes;
+                evicted++;
+            }
+        }
+        estimatedBytes.set(total);
+        log.warn("[세션] 용량 상한 초과로 세션 제거 - 제거: {}, 추정 크기: {}B, 상한: {}B",
+                evicted, total, maxBytes);
+    }
+
+    private boolean evictIf(Long userId, Predicate<UserContext> condition, String reason) {
+        UserContext context = contextStore.removeIf(userId, condition);
+        if (context == null) {
+            return false;
+        }
+
+        if (journaling) {
+            journal.appendRemove(userId);
+        }
+        context.setActive(false);
+        meterRegistry.counter("context.sessions.evicted", "reason", reason).increment();
+        log.info("[세션] 세션 제거 - userId: {}, 사유: {}, 마지막 접근: {}, 대화 턴: {}",
+                userId, reason, context.getLastAccessTime(), context.getConversationHistory().size());
+
+        evictionExecutor.execute(() -> eventPublisher.publishEvent(new SessionEvictedEvent(context, reason)));
+        return true;
+    }
+
+    private static boolean isIdleSince(UserContext context, LocalDateTime threshold) {
+        LocalDateTime lastAccess = context.getLastAccessTime();
+        return lastAccess == null || lastAccess.isBefore(threshold);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.echo.context.store;
+
+import com.example.echo.context.domain.ConversationTurn;
+import com.example.echo.context.domain.UserContext;
+import com.example.echo.location.dto.LocationData;
+
+import java.util.List;
+
+/**
+ * UserContext 추정 메모리 크기 (세션 용량 상한, near-cache 가중치에 사용)
+ * 문자열은 한글(UTF-16) 기준 1자 2바이트로 보수적으로 계산
+ */
+public final class ContextSizeEstimator {
+
+    /** 건강/선호도/날씨 등 고정 크기 객체 추정치 */
+    private static final long BASE_BYTES = 4 * 1024;
+    /** 대화 턴 1개의 객체/타임스탬프 추정치 (문자열 제외) */
+    private static final long TURN_OVERHEAD_BYTES = 96;
+    /** 방문 장소 1개 추정치 */
+    private static final long PLACE_BYTES = 512;
+
+    private ContextSizeEstimator() {
+    }
+
+    public static long estimateBytes(UserContext context) {
+        long bytes = BASE_BYTES
+                + stringBytes(context.getSystemPrompt())
+                + stringBytes(context.getHistorySummary());
+
+        List<ConversationTurn> history = context.getConversationHistory();
+        synchronized (history) {
+            for (ConversationTurn turn : history) {
+                bytes += TURN_OVERHEAD_BYTES + stringBytes(turn.getUserMessage()) + stringBytes(turn.getAiResponse());
+            }
+        }
+
+        LocationData locationData = context.getLocationData();
+        if (locationData != null && locationData.getVisitedPlaces() != null) {
+            bytes += PLACE_BYTES * locationData.getVisitedPlaces().size();
+        }
+        return bytes;
+    }
+
+    private static long stringBytes(String text) {
+        return text != null ? 40L + 2L * text.length() : 0L;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.echo.context.store;
+
+import com.example.echo.context.domain.UserContext;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 대화 세션(UserContext) 저장소 SPI
+ *
+ * SessionStore가 제거 정책(유휴/용량/수동)과 이벤트 발행을 맡고, 구현체는 보관 위치만 담당
+ * - memory: 이 서버 메모리에만 보관 (단일 인스턴스, 기본값)
+ * - jdbc: DB에 직렬화해 보관하고 서버별 near-cache로 읽기 (여러 인스턴스가 같은 세션을 처리)
+ *
+ * 설정: context.store.type (memory | jdbc)
+ */
+public interface ContextStore {
+
+    /**
+     * 세션 조회 (없으면 null)
+     */
+    UserContext get(Long userId);
+
+    /**
+     * 새 세션 등록 (기존 세션이 있으면 교체)
+     */
+    void put(UserContext context);
+
+    /**
+     * 조회한 세션의 변경 내용 반영 (대화 턴 추가 등)
+     * 메모리 저장소는 같은 객체를 수정하므로 할 일이 없음
+     */
+    void save(UserContext context);
+
+    /**
+     * 세션 제거
+     *
+     * @return 제거된 세션 (없으면 null)
+     */
+    UserContext remove(Long userId);
+
+    /**
+     * 조건을 만족할 때만 세션 제거 (판단과 제거 사이에 갱신/교체된 세션은 제거하지 않음)
+     *
+     * @return 제거된 세션 (조건 불만족 또는 없으면 null)
+     */
+    UserContext removeIf(Long userId, Predicate<UserContext> condition);
+
+    /**
+     * 마지막 접근이 기준 시각 이전인 세션의 사용자 ID
+     */
+    List<Long> findIdleUserIds(LocalDateTime threshold);
+
+    /**
+     * 이 서버 메모리에만 있는 세션 (용량 상한을 넘으면 SessionStore가 종료 처리 후 제거)
+     * 다른 서버에서 다시 읽을 수 있는 저장소는 near-cache를 자체 상한으로 관리하므로 빈 목록
+     */
+    Collection<UserContext> localSessions();
+
+    /**
+     * 이 서버 메모리에 올라와 있는 세션 추정 크기
+     */
+    long residentBytes();
+
+    /**
+     * 전체 세션 수
+     */
+    int size();
+
+    /**
+     * 서버를 재시작해도 세션이 남는 저장소인지 (false면 SessionStore가 세션 저널로 복원)
+     */
+    default boolean isDurable() {
+        return false;
+    }
+}
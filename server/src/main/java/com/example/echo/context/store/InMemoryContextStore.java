@@ -0,0 +1,84 @@
+package com.example.echo.context.store;
+
+import com.example.echo.context.domain.UserContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 서버 메모리 세션 저장소 (기본값)
+ *
+ * 요청 스레드가 같은 UserContext 객체를 직접 수정하므로 save()는 할 일이 없음
+ * 서버를 여러 대 띄우면 다른 서버로 라우팅된 요청은 세션을 찾지 못하므로 단일 인스턴스 전용
+ */
+@Component
+@ConditionalOnProperty(name = "context.store.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryContextStore implements ContextStore {
+
+    private final Map<Long, UserContext> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public UserContext get(Long userId) {
+        return sessions.get(userId);
+    }
+
+    @Override
+    public void put(UserContext context) {
+        sessions.put(context.getUserId(), context);
+    }
+
+    @Override
+    public void save(UserContext context) {
+    }
+
+    @Override
+    public UserContext remove(Long userId) {
+        return sessions.remove(userId);
+    }
+
+    @Override
+    public UserContext removeIf(Long userId, Predicate<UserContext> condition) {
+        UserContext[] removed = new UserContext[1];
+        sessions.computeIfPresent(userId, (id, context) -> {
+            if (!condition.test(context)) {
+                return context;
+            }
+            removed[0] = context;
+            return null;
+        });
+        return removed[0];
+    }
+
+    @Override
+    public List<Long> findIdleUserIds(LocalDateTime threshold) {
+        return sessions.values().stream()
+                .filter(context -> context.getLastAccessTime() == null || context.getLastAccessTime().isBefore(threshold))
+                .map(UserContext::getUserId)
+                .toList();
+    }
+
+    @Override
+    public Collection<UserContext> localSessions() {
+        return sessions.values();
+    }
+
+    @Override
+    public long residentBytes() {
+        long total = 0;
+        for (UserContext context : sessions.values()) {
+            total += ContextSizeEstimator.estimateBytes(context);
+        }
+        return total;
+    }
+
+    @Override
+    public int size() {
+        return sessions.size();
+    }
+}
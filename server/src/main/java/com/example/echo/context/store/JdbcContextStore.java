@@ -0,0 +1,255 @@
+/*
+ * DB 공유 세션 저장소
+ *
+ * 역할: 여러 서버 인스턴스가 같은 대화 세션을 처리할 수 있도록 UserContext를 DB에 보관
+ * - 저장 형식: UserContext JSON(null 필드 생략)을 gzip 압축 (대화 10턴 기준 수 KB)
+ * - near-cache: 서버별로 (version, UserContext)를 보관하고, 조회 시 버전 컬럼만 읽어 같으면 그대로 사용
+ *   → 같은 서버로 이어지는 턴은 payload를 다시 읽거나 역직렬화하지 않음
+ * - 버전이 다르면(다른 서버가 턴을 추가함) payload를 다시 읽어 near-cache 교체
+ *
+ * 동시 갱신:
+ *   save()는 near-cache 버전을 조건으로 UPDATE하고, 그 사이 다른 서버가 갱신했으면
+ *   마지막 저장을 우선(last-writer-wins)으로 덮어쓰고 context.store.conflict 카운터 증가
+ *   (사용자 1명은 기기 1대로 대화하므로 같은 세션의 동시 턴은 드묾)
+ *   put()은 버전 조건 없이 덮어쓰고 없으면 INSERT IGNORE로 등록 → 동시 등록도 PK 중복 예외 없이 한쪽이 덮어씀
+ *   near-cache 버전은 실제로 기록된 행에서 읽음 (0건 갱신을 성공으로 보지 않음)
+ *
+ * 턴 사이 백그라운드 갱신(히스토리 압축)은 같은 객체에 반영되어 다음 턴 저장 시 함께 저장
+ * (다음 턴이 다른 서버로 가면 그 서버에서 다시 계산)
+ * 일기는 별도 요약 없이 종료 시 이 압축 요약(historySummary)을 입력으로 재사용
+ *
+ * 공유되는 것은 세션(UserContext)뿐: 턴 음성(TurnAudioStore), Idempotency-Key 응답(IdempotencyCache),
+ * 사용자별 턴 레인(UserTurnLanes)은 서버 메모리에 있으므로 로드밸런서는 사용자 기준 sticky session으로 라우팅
+ * (서버 장애로 다른 서버로 넘어가면 대화는 이어지지만 진행 중이던 음성 다운로드/재시도 응답 재사용은 실패할 수 있음)
+ *
+ * 메트릭:
+ *   - context.store.load{source}: 조회 시 near-cache 사용(near-cache) / DB 재조회(db)
+ *   - context.store.conflict: 저장 시 버전 충돌
+ *   - context.store.payload.bytes: 저장한 압축 payload 크기
+ *
+ * 설정값 (application.yaml):
+ *   - context.store.type: jdbc 일 때 활성화
+ *   - context.store.jdbc.near-cache-max-bytes: 서버별 near-cache 추정 크기 상한 (초과 시 캐시만 비움, 세션은 유지)
+ */
+package com.example.echo.context.store;
+
+import com.example.echo.context.domain.ConversationTurn;
+import com.example.echo.context.domain.UserContext;
+import com.example.echo.context.repository.ConversationSessionRepository;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "context.store.type", havingValue = "jdbc")
+public class JdbcContextStore implements ContextStore {
+
+    /** 유휴 세션 한 번에 조회할 최대 수 (나머지는 다음 점검 주기에 처리) */
+    private static final int IDLE_BATCH_SIZE = 500;
+
+    private final ConversationSessionRepository sessionRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /** userId → 마지막으로 읽거나 저장한 버전의 세션 */
+    private final Cache<Long, CachedContext> nearCache;
+
+    public JdbcContextStore(ConversationSessionRepository sessionRepository,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${context.store.jdbc.near-cache-max-bytes:67108864}") long nearCacheMaxBytes) {
+        this.sessionRepository = sessionRepository;
+        // 배포 중 구버전/신버전 서버가 같은 세션을 읽을 수 있도록 모르는 필드는 무시
+        this.objectMapper = objectMapper.copy()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.meterRegistry = meterRegistry;
+        this.nearCache = Caffeine.newBuilder()
+                .maximumWeight(nearCacheMaxBytes)
+                .weigher((Long userId, CachedContext cached) ->
+                        (int) Math.min(Integer.MAX_VALUE, ContextSizeEstimator.estimateBytes(cached.context())))
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserContext get(Long userId) {
+        Optional<Long> version = sessionRepository.findVersion(userId);
+        if (version.isEmpty()) {
+            nearCache.invalidate(userId);
+            return null;
+        }
+
+        CachedContext cached = nearCache.getIfPresent(userId);
+        if (cached != null && cached.version() == version.get()) {
+            meterRegistry.counter("context.store.load", "source", "near-cache").increment();
+            return cached.context();
+        }
+
+        meterRegistry.counter("context.store.load", "source", "db").increment();
+        return sessionRepository.findById(userId)
+                .map(session -> {
+                    UserContext context = deserialize(session.getPayload());
+                    nearCache.put(userId, new CachedContext(session.getVersion(), context));
+                    return context;
+                })
+                .orElse(null);
+    }
+
+    @Override
+    @Transactional
+    public void put(UserContext context) {
+        Long userId = context.getUserId();
+        byte[] payload = serialize(context);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lastAccessTime = lastAccessTime(context, now);
+
+        if (sessionRepository.overwrite(userId, payload, lastAccessTime, now) == 0) {
+            if (sessionRepository.insertIfAbsent(userId, payload, lastAccessTime, now) == 1) {
+                nearCache.put(userId, new CachedContext(0L, context));
+                return;
+            }
+            // 그 사이 다른 서버가 먼저 등록함 → 마지막 저장 우선으로 덮어씀
+            meterRegistry.counter("context.store.conflict").increment();
+            if (sessionRepository.overwrite(userId, payload, lastAccessTime, now) == 0) {
+                nearCache.invalidate(userId);
+                throw new IllegalStateException("세션 저장 실패 (등록 직후 제거됨) - userId: " + userId);
+            }
+        }
+        // 이 트랜잭션이 갱신한 행은 커밋 전까지 잠겨 있으므로 읽은 버전이 방금 기록한 버전
+        nearCache.put(userId, new CachedContext(sessionRepository.findVersion(userId).orElseThrow(), context));
+    }
+
+    @Override
+    @Transactional
+    public void save(UserContext context) {
+        Long userId = context.getUserId();
+        CachedContext cached = nearCache.getIfPresent(userId);
+        if (cached == null || cached.context() != context) {
+            // near-cache에서 밀려났거나 다른 서버에서 교체된 세션 → 등록과 같이 처리
+            put(context);
+            return;
+        }
+
+        byte[] payload = serialize(context);
+        LocalDateTime now = LocalDateTime.now();
+        if (sessionRepository.updateIfVersion(userId, cached.version(), payload, lastAccessTime(context, now), now) == 1) {
+            nearCache.put(userId, new CachedContext(cached.version() + 1, context));
+            return;
+        }
+
+        meterRegistry.counter("context.store.conflict").increment();
+        log.warn("[세션] 다른 서버가 먼저 갱신한 세션을 덮어씀 - userId: {}, 읽은 버전: {}", userId, cached.version());
+        put(context);
+    }
+
+    @Override
+    @Transactional
+    public UserContext remove(Long userId) {
+        UserContext context = get(userId);
+        nearCache.invalidate(userId);
+        if (context != null) {
+            sessionRepository.deleteById(userId);
+        }
+        return context;
+    }
+
+    @Override
+    @Transactional
+    public UserContext removeIf(Long userId, Predicate<UserContext> condition) {
+        UserContext context = get(userId);
+        CachedContext cached = nearCache.getIfPresent(userId);
+        if (context == null || cached == null || !condition.test(context)) {
+            return null;
+        }
+        if (sessionRepository.deleteIfVersion(userId, cached.version()) == 0) {
+            return null;
+        }
+        nearCache.invalidate(userId);
+        return context;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findIdleUserIds(LocalDateTime threshold) {
+        return sessionRepository.findIdleUserIds(threshold, PageRequest.of(0, IDLE_BATCH_SIZE));
+    }
+
+    @Override
+    public Collection<UserContext> localSessions() {
+        return List.of();
+    }
+
+    @Override
+    public long residentBytes() {
+        return nearCache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int size() {
+        return (int) sessionRepository.count();
+    }
+
+    @Override
+    public boolean isDurable() {
+        return true;
+    }
+
+    private static LocalDateTime lastAccessTime(UserContext context, LocalDateTime now) {
+        return context.getLastAccessTime() != null ? context.getLastAccessTime() : now;
+    }
+
+    byte[] serialize(UserContext context) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        List<ConversationTurn> history = context.getConversationHistory();
+        // 요청/요약 스레드가 history를 함께 다루므로 같은 모니터로 직렬화
+        synchronized (history) {
+            try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+                objectMapper.writeValue(gzip, context);
+            } catch (IOException e) {
+                throw new UncheckedIOException("세션 직렬화 실패 - userId: " + context.getUserId(), e);
+            }
+        }
+        byte[] payload = bytes.toByteArray();
+        meterRegistry.summary("context.store.payload.bytes").record(payload.length);
+        return payload;
+    }
+
+    UserContext deserialize(byte[] payload) {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(gzip, UserContext.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("세션 역직렬화 실패", e);
+        }
+    }
+
+    private record CachedContext(long version, UserContext context) {
+    }
+}
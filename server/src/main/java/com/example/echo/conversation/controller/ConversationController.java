@@ -5,8 +5,12 @@ import com.example.echo.conversation.dto.ConversationEndResponse;
 import com.example.echo.conversation.dto.ConversationResponse;
 import com.example.echo.conversation.dto.ConversationStartRequest;
 import com.example.echo.conversation.dto.ConversationStartResponse;
+import com.example.echo.conversation.dto.ConversationStreamEvent;
 import com.example.echo.conversation.dto.TtsRetryResponse;
 import com.example.echo.conversation.service.ConversationService;
+import com.example.echo.conversation.service.ConversationStreamService;
+import com.example.echo.conversation.service.TurnAudioStore;
+import com.example.echo.voice.dto.AudioOutputFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,10 +20,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 
@@ -33,7 +42,13 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class ConversationController {
 
+    /** 재시도 식별 헤더 (같은 키의 재요청은 처음 응답을 그대로 반환) */
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENCY_KEY_DESCRIPTION =
+            "요청마다 새로 만든 고유 키 (UUID 등). 타임아웃 후 같은 키로 재시도하면 다시 처리하지 않고 처음 응답을 반환";
+
     private final ConversationService conversationService;
+    private final ConversationStreamService conversationStreamService;
 
     @Operation(
             summary = "대화 시작",
@@ -45,11 +60,14 @@ public class ConversationController {
                     description = "대화 시작 성공",
                     content = @Content(schema = @Schema(implementation = ConversationStartResponse.class))
             ),
+            @ApiResponse(responseCode = "409", description = "같은 사용자의 이전 요청 처리 중 (대기 시간 초과)"),
             @ApiResponse(responseCode = "500", description = "AI 응답 생성 실패")
     })
     @PostMapping("/start")
     public ResponseEntity<ConversationStartResponse> startConversation(
             @Parameter(hidden = true) @CurrentUser Long userId,
+            @Parameter(description = IDEMPOTENCY_KEY_DESCRIPTION)
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @RequestBody(required = false) ConversationStartRequest request
     ) {
         // 입력 데이터 상세 로그
@@ -73,14 +91,16 @@ public class ConversationController {
         ConversationStartResponse response = conversationService.startConversation(
                 userId,
                 request != null ? request.getHealthData() : null,
-                request != null ? request.getLocationData() : null
+                request != null ? request.getLocationData() : null,
+                idempotencyKey
         );
         return ResponseEntity.ok(response);
     }
 
     @Operation(
             summary = "음성 메시지 전송",
-            description = "사용자 음성 파일을 전송하면 STT → AI 응답 → TTS 처리 후 응답합니다."
+            description = "사용자 음성 파일을 전송하면 STT → AI 응답 후 텍스트를 바로 응답합니다. "
+                    + "TTS 음성은 비동기로 생성되며 audioUrl로 다운로드합니다."
     )
     @ApiResponses({
             @ApiResponse(
@@ -89,18 +109,51 @@ public class ConversationController {
                     content = @Content(schema = @Schema(implementation = ConversationResponse.class))
             ),
             @ApiResponse(responseCode = "400", description = "음성 파일 형식 오류"),
-            @ApiResponse(responseCode = "500", description = "STT/AI/TTS 처리 실패")
+            @ApiResponse(responseCode = "409", description = "같은 사용자의 이전 요청 처리 중 (대기 시간 초과)"),
+            @ApiResponse(responseCode = "422", description = "말소리가 감지되지 않음 (NO_SPEECH_DETECTED, 다시 녹음)"),
+            @ApiResponse(responseCode = "500", description = "STT/AI 처리 실패")
     })
     @PostMapping(value = "/message", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ConversationResponse> processMessage(
             @Parameter(hidden = true) @CurrentUser Long userId,
+            @Parameter(description = IDEMPOTENCY_KEY_DESCRIPTION)
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Parameter(description = "음성 파일 (WAV, MP3, M4A 지원)", required = true)
             @RequestPart("audio") MultipartFile audioFile
     ) {
-        ConversationResponse response = conversationService.processUserMessage(userId, audioFile);
+        ConversationResponse response = conversationService.processUserMessage(userId, audioFile, idempotencyKey);
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "음성 메시지 전송 (스트리밍)",
+            description = "사용자 음성 파일을 전송하면 AI 응답을 문장 단위로 SSE(text/event-stream) 스트리밍합니다. "
+                    + "이벤트 순서: transcript → sentence/audio (seq 순) → done. 실패 시 error 이벤트 후 종료됩니다. "
+                    + "audio 이벤트를 seq 순서대로 재생하면 전체 응답 음성이 됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "스트리밍 시작 (이벤트 데이터 형식)",
+                    content = @Content(
+                            mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = ConversationStreamEvent.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "음성 파일 형식 오류"),
+            @ApiResponse(responseCode = "409", description = "같은 사용자의 이전 요청 처리 중 (대기 시간 초과)"),
+            @ApiResponse(responseCode = "422", description = "말소리가 감지되지 않음 (NO_SPEECH_DETECTED, 다시 녹음)"),
+            @ApiResponse(responseCode = "500", description = "STT 처리 실패")
+    })
+    @PostMapping(value = "/message/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public SseEmitter processMessageStream(
+            @Parameter(hidden = true) @CurrentUser Long userId,
+            @Parameter(description = "음성 파일 (WAV, MP3, M4A 지원)", required = true)
+            @RequestPart("audio") MultipartFile audioFile
+    ) {
+        return conversationStreamService.streamUserMessage(userId, audioFile);
+    }
+
     @Operation(
             summary = "대화 종료",
             description = "대화를 종료하고 일기를 생성합니다. 컨텍스트가 정리됩니다."
@@ -114,9 +167,11 @@ public class ConversationController {
     })
     @PostMapping("/end")
     public ResponseEntity<ConversationEndResponse> endConversation(
-            @Parameter(hidden = true) @CurrentUser Long userId
+            @Parameter(hidden = true) @CurrentUser Long userId,
+            @Parameter(description = IDEMPOTENCY_KEY_DESCRIPTION)
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
     ) {
-        conversationService.endConversation(userId);
+        conversationService.endConversation(userId, idempotencyKey);
         ConversationEndResponse response = ConversationEndResponse.builder()
                 .endedAt(LocalDateTime.now())
                 .build();
@@ -125,7 +180,8 @@ public class ConversationController {
 
     @Operation(
             summary = "TTS 재시도",
-            description = "마지막 AI 응답의 TTS를 재생성합니다. 네트워크 오류 등으로 음성을 받지 못한 경우 사용합니다."
+            description = "마지막 AI 응답의 TTS를 재생성합니다. 네트워크 오류 등으로 음성을 받지 못한 경우 사용합니다. "
+                    + "새 audioUrl로 다운로드합니다."
     )
     @ApiResponses({
             @ApiResponse(
@@ -142,4 +198,42 @@ public class ConversationController {
         TtsRetryResponse response = conversationService.retryTts(userId);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(
+            summary = "턴 음성 다운로드",
+            description = "대화 응답의 audioUrl로 TTS 음성 바이너리를 받습니다. "
+                    + "음성 생성이 아직 진행 중이면 완료될 때까지 대기 후 응답합니다. Range 요청(206)을 지원합니다. "
+                    + "rate/codec을 지정하면 앞뒤 무음을 제거하고 모노로 변환해 용량을 줄입니다 (WAV 음성만, 예: ?rate=16000&codec=mulaw)."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "음성 다운로드 성공 (audio/wav 또는 audio/mpeg)",
+                    content = @Content(mediaType = "audio/*")
+            ),
+            @ApiResponse(responseCode = "206", description = "Range 요청 부분 응답"),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 rate/codec"),
+            @ApiResponse(responseCode = "404", description = "음성이 없거나 만료됨"),
+            @ApiResponse(responseCode = "500", description = "TTS 처리 실패")
+    })
+    @GetMapping("/audio/{audioId}")
+    public ResponseEntity<Resource> getTurnAudio(
+            @Parameter(hidden = true) @CurrentUser Long userId,
+            @Parameter(description = "대화 응답의 audioId", required = true)
+            @PathVariable String audioId,
+            @Parameter(description = "출력 샘플레이트 (8000~48000, 없으면 원본)", example = "16000")
+            @RequestParam(required = false) Integer rate,
+            @Parameter(description = "출력 코덱 (pcm, mulaw, ima-adpcm, 없으면 pcm)", example = "mulaw")
+            @RequestParam(required = false) String codec
+    ) {
+        TurnAudioStore.TurnAudio audio = conversationService.getTurnAudio(userId, audioId,
+                AudioOutputFormat.of(rate, codec));
+
+        // Resource 본문은 Spring이 Content-Length 설정 및 Range(206) 처리
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(audio.getContentType()))
+                .cacheControl(CacheControl.noStore())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "inline")
+                .body(new ByteArrayResource(audio.getData()));
+    }
 }
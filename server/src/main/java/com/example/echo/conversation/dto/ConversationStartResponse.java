@@ -14,8 +14,11 @@ public class ConversationStartResponse {
     @Schema(description = "AI 첫 인사 메시지", example = "안녕하세요, 홍길동님! 오늘 날씨가 맑네요.")
     private String message;
 
-    @Schema(description = "TTS 음성 데이터 (Base64 인코딩 또는 바이너리)")
-    private byte[] audioData;
+    @Schema(description = "TTS 음성 ID (음성 생성은 비동기로 진행)", example = "3f1c2b9e-7a4d-4c1e-9b2a-5d6e7f8a9b0c")
+    private String audioId;
+
+    @Schema(description = "음성 다운로드 경로 (GET, Range 지원)", example = "/api/conversations/audio/3f1c2b9e-7a4d-4c1e-9b2a-5d6e7f8a9b0c")
+    private String audioUrl;
 
     @Schema(description = "응답 시간", example = "2026-03-07T10:30:00")
     private LocalDateTime timestamp;
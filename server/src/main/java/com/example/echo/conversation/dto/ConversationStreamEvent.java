@@ -0,0 +1,46 @@
+package com.example.echo.conversation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스트리밍 대화 SSE 이벤트 데이터
+ *
+ * 이벤트 이름별로 채워지는 필드가 다름 (null 필드는 직렬화에서 제외)
+ * - transcript: userMessage
+ * - sentence:   seq, text (문장이 완성되는 즉시 전송, 자막용)
+ * - audio:      seq, audioData (seq 순서대로 전송, 순서대로 재생하면 됨)
+ * - done:       userMessage, aiResponse, timestamp
+ * - error:      message, audioData (오류 안내 음성, 생성하지 못하면 없음)
+ */
+@Schema(description = "스트리밍 대화 이벤트")
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ConversationStreamEvent {
+
+    @Schema(description = "문장 순번 (0부터 시작, sentence/audio 이벤트 연결용)", example = "0")
+    private Integer seq;
+
+    @Schema(description = "AI 응답 문장", example = "네, 정말 좋은 날씨예요.")
+    private String text;
+
+    @Schema(description = "문장 TTS 음성 데이터 (Base64 인코딩)")
+    private byte[] audioData;
+
+    @Schema(description = "STT로 변환된 사용자 메시지", example = "오늘 날씨가 좋네요")
+    private String userMessage;
+
+    @Schema(description = "전체 AI 응답 메시지", example = "네, 정말 좋은 날씨예요. 산책하기 딱 좋겠어요!")
+    private String aiResponse;
+
+    @Schema(description = "오류 메시지", example = "AI 응답 생성에 실패했습니다.")
+    private String message;
+
+    @Schema(description = "응답 시간", example = "2026-03-07T10:31:00")
+    private LocalDateTime timestamp;
+}
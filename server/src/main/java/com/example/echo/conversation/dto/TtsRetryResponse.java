@@ -9,6 +9,9 @@ import lombok.Getter;
 @Builder
 public class TtsRetryResponse {
 
-    @Schema(description = "TTS 음성 데이터 (Base64 인코딩 또는 바이너리)")
-    private byte[] audioData;
+    @Schema(description = "TTS 음성 ID (음성 생성은 비동기로 진행)", example = "3f1c2b9e-7a4d-4c1e-9b2a-5d6e7f8a9b0c")
+    private String audioId;
+
+    @Schema(description = "음성 다운로드 경로 (GET, Range 지원)", example = "/api/conversations/audio/3f1c2b9e-7a4d-4c1e-9b2a-5d6e7f8a9b0c")
+    private String audioUrl;
 }
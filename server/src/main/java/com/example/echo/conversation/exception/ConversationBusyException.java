@@ -0,0 +1,10 @@
+package com.example.echo.conversation.exception;
+
+import com.example.echo.common.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class ConversationBusyException extends BaseException {
+    public ConversationBusyException(String message) {
+        super(HttpStatus.CONFLICT, message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.echo.conversation.exception;
+
+import com.example.echo.common.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class TurnAudioNotFoundException extends BaseException {
+    public TurnAudioNotFoundException(String message) {
+        super(HttpStatus.NOT_FOUND, message);
+    }
+}
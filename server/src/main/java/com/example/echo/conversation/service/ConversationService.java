@@ -1,84 +1,167 @@
 package com.example.echo.conversation.service;
 
 import com.example.echo.ai.service.AIService;
+import com.example.echo.ai.service.ConversationHistoryManager;
 import com.example.echo.context.domain.UserContext;
+import com.example.echo.context.event.SessionEvictedEvent;
 import com.example.echo.context.service.ContextService;
 import com.example.echo.conversation.dto.ConversationResponse;
 import com.example.echo.conversation.dto.ConversationStartResponse;
 import com.example.echo.context.domain.ConversationTurn;
 import com.example.echo.conversation.dto.TtsRetryResponse;
 import com.example.echo.conversation.exception.ConversationNotFoundException;
-import com.example.echo.diary.service.DiaryService;
+import com.example.echo.diary.dto.DiaryJobPayload;
+import com.example.echo.diary.service.DiaryJobHandler;
 import com.example.echo.health.dto.HealthData;
+import com.example.echo.job.service.JobQueueService;
 import com.example.echo.location.dto.RawLocationData;
-import com.example.echo.health.service.HealthDataService;
 import com.example.echo.prompt.service.PromptService;
+import com.example.echo.user.dto.VoiceSettings;
+import com.example.echo.voice.dto.AudioOutputFormat;
 import com.example.echo.voice.service.VoiceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Optional;
+
+/**
+ * 대화 흐름 조율 서비스 (STT → LLM → TTS)
+ *
+ * 외부 API 응답을 기다리는 동안 DB 커넥션을 붙잡지 않도록 이 클래스에는 트랜잭션을 두지 않음
+ * DB 읽기/쓰기는 각 서비스(UserService, HealthDataService 등)의 짧은 트랜잭션에서 처리
+ *
+ * 같은 사용자의 시작/메시지/종료는 UserTurnLanes에서 한 번에 하나씩 실행
+ * (처리 중 같은 요청이 다시 오면 새로 실행하지 않고 먼저 온 요청의 응답을 함께 반환)
+ * Idempotency-Key가 있으면 완료된 요청의 응답도 IdempotencyCache에서 그대로 반환 (타임아웃 후 재시도)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ConversationService {
 
+    /** 턴 음성 다운로드 경로 (ConversationController.getTurnAudio) */
+    private static final String AUDIO_URL_PREFIX = "/api/conversations/audio/";
+
+    private static final int FINGERPRINT_BUFFER_BYTES = 16 * 1024;
+
     private final VoiceService voiceService;
     private final PromptService promptService;
     private final AIService aiService;
+    private final ConversationHistoryManager historyManager;
     private final ContextService contextService;
-    private final DiaryService diaryService;
-    private final HealthDataService healthDataService;
+    private final JobQueueService jobQueueService;
+    private final TurnAudioStore turnAudioStore;
+    private final GreetingPrewarmService greetingPrewarmService;
+    private final UserTurnLanes turnLanes;
+    private final IdempotencyCache idempotencyCache;
+
+    /**
+     * 대화 시작 (Idempotency-Key가 같은 재시도는 처음 응답 반환)
+     */
+    public ConversationStartResponse startConversation(Long userId, HealthData healthData,
+                                                       RawLocationData rawLocationData, String idempotencyKey) {
+        return idempotencyCache.execute(userId, "start", idempotencyKey,
+                () -> startConversation(userId, healthData, rawLocationData));
+    }
 
-    @Transactional
     public ConversationStartResponse startConversation(Long userId, HealthData healthData, RawLocationData rawLocationData) {
-        // 0. 건강 데이터 저장 (Android에서 수신한 경우)
-        if (healthData != null) {
-            healthDataService.saveHealthData(userId, healthData);
+        return turnLanes.execute(userId, "start", Arrays.asList(healthData, rawLocationData),
+                () -> doStartConversation(userId, healthData, rawLocationData));
+    }
+
+    private ConversationStartResponse doStartConversation(Long userId, HealthData healthData,
+                                                          RawLocationData rawLocationData) {
+        // 1. 사전 생성된 인사가 있으면 그대로 사용 (인사 LLM/TTS 생략)
+        Optional<GreetingPrewarmService.PreparedGreeting> prepared =
+                greetingPrewarmService.take(userId, healthData, rawLocationData);
+        if (prepared.isPresent()) {
+            return startWithPreparedGreeting(userId, healthData, rawLocationData, prepared.get());
         }
 
-        // 1. 컨텍스트 초기화 (healthData, locationData 전달)
+        // 2. 컨텍스트 초기화 (healthData, locationData 전달, 건강 데이터 저장도 함께 동시 실행)
         UserContext context = contextService.initializeContext(userId, healthData, rawLocationData);
 
-        // 2. 시스템 프롬프트 생성 및 컨텍스트에 캐싱 (processUserMessage에서 재사용)
+        // 3. 시스템 프롬프트 생성 및 컨텍스트에 캐싱 (processUserMessage에서 재사용)
         String systemPrompt = promptService.buildSystemPrompt(context);
         context.setSystemPrompt(systemPrompt);
 
-        // 3. 첫 인사 생성
+        // 4. 첫 인사 생성
         String firstMessage = aiService.generateGreeting(systemPrompt, context);
 
-        // 4. TTS 변환
-        byte[] audioData = voiceService.textToSpeech(firstMessage, context.getPreferences().getVoiceSettings());
+        // 5. TTS 변환 (비동기 - 텍스트 먼저 응답, 음성은 audioUrl로 다운로드)
+        String audioId = submitTts(userId, firstMessage, context);
 
-        // 5. 히스토리 추가 (동기 - tts-retry에서 히스토리 조회 보장)
+        // 6. 히스토리 추가 (동기 - tts-retry에서 히스토리 조회 보장)
         contextService.addConversationTurn(userId, null, firstMessage);
 
         return ConversationStartResponse.builder()
                 .message(firstMessage)
-                .audioData(audioData)
+                .audioId(audioId)
+                .audioUrl(AUDIO_URL_PREFIX + audioId)
                 .timestamp(LocalDateTime.now())
                 .build();
     }
 
-    @Transactional
+    private ConversationStartResponse startWithPreparedGreeting(Long userId, HealthData healthData,
+                                                                RawLocationData rawLocationData,
+                                                                GreetingPrewarmService.PreparedGreeting prepared) {
+        log.info("사전 생성된 인사 사용 - userId: {}, 준비 시각: {}", userId, prepared.getPreparedAt());
+
+        if (prepared.isContextCurrent(healthData, rawLocationData)) {
+            contextService.registerContext(prepared.getContext());
+        } else {
+            // 앱이 보낸 최신 건강/위치 데이터로 컨텍스트만 다시 초기화 (이후 턴의 시스템 프롬프트에 반영)
+            UserContext context = contextService.initializeContext(userId, healthData, rawLocationData);
+            context.setSystemPrompt(promptService.buildSystemPrompt(context));
+        }
+        String audioId = turnAudioStore.put(userId, prepared.getAudio());
+        contextService.addConversationTurn(userId, null, prepared.getGreeting());
+
+        return ConversationStartResponse.builder()
+                .message(prepared.getGreeting())
+                .audioId(audioId)
+                .audioUrl(AUDIO_URL_PREFIX + audioId)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 음성 메시지 처리 (Idempotency-Key가 같은 재시도는 처음 응답 반환, 턴 중복 추가 없음)
+     */
+    public ConversationResponse processUserMessage(Long userId, MultipartFile audioFile, String idempotencyKey) {
+        return idempotencyCache.execute(userId, "message", idempotencyKey,
+                () -> processUserMessage(userId, audioFile));
+    }
+
     public ConversationResponse processUserMessage(Long userId, MultipartFile audioFile) {
+        return turnLanes.execute(userId, "message", audioFingerprint(audioFile),
+                () -> doProcessUserMessage(userId, audioFile));
+    }
+
+    private ConversationResponse doProcessUserMessage(Long userId, MultipartFile audioFile) {
         // 1. 컨텍스트 조회
         UserContext context = contextService.getContext(userId);
 
         // 2. STT 변환
         String userMessage = voiceService.speechToText(audioFile);
 
-        // 3. AI 응답 생성 (OpenAI 권장 방식: messages 배열)
+        // 3. AI 응답 생성 (OpenAI 권장 방식: messages 배열, 히스토리는 토큰 예산 안으로 압축)
         String systemPrompt = context.getSystemPrompt();
-        List<ConversationTurn> history = context.getConversationHistory();
-        String aiResponse = aiService.generateResponse(systemPrompt, history, userMessage);
+        String aiResponse = aiService.generateResponse(systemPrompt, historyManager.window(context), userMessage);
 
-        // 4. TTS 변환
-        byte[] audioData = voiceService.textToSpeech(aiResponse, context.getPreferences().getVoiceSettings());
+        // 4. TTS 변환 (비동기)
+        String audioId = submitTts(userId, aiResponse, context);
 
         // 5. 히스토리 업데이트 (동기)
         contextService.addConversationTurn(userId, userMessage, aiResponse);
@@ -86,7 +169,8 @@ public class ConversationService {
         return ConversationResponse.builder()
                 .userMessage(userMessage)
                 .aiResponse(aiResponse)
-                .audioData(audioData)
+                .audioId(audioId)
+                .audioUrl(AUDIO_URL_PREFIX + audioId)
                 .timestamp(LocalDateTime.now())
                 .build();
     }
@@ -100,32 +184,121 @@ public class ConversationService {
         }
 
         String lastAiResponse = history.get(history.size() - 1).getAiResponse();
-        byte[] audioData = voiceService.textToSpeech(lastAiResponse, context.getPreferences().getVoiceSettings());
+        String audioId = submitTts(userId, lastAiResponse, context);
 
         return TtsRetryResponse.builder()
-                .audioData(audioData)
+                .audioId(audioId)
+                .audioUrl(AUDIO_URL_PREFIX + audioId)
                 .build();
     }
 
-    @Transactional
+    /**
+     * 턴 음성 조회 (TTS 진행 중이면 완료까지 대기)
+     */
+    public TurnAudioStore.TurnAudio getTurnAudio(Long userId, String audioId) {
+        return turnAudioStore.get(userId, audioId);
+    }
+
+    /**
+     * 턴 음성 조회 후 요청 형식으로 변환 (모바일 데이터 절약용 저샘플레이트/압축 코덱)
+     */
+    public TurnAudioStore.TurnAudio getTurnAudio(Long userId, String audioId, AudioOutputFormat format) {
+        TurnAudioStore.TurnAudio audio = getTurnAudio(userId, audioId);
+        if (format.isOriginal()) {
+            return audio;
+        }
+        return new TurnAudioStore.TurnAudio(voiceService.convertAudio(audio.getData(), format), audio.getContentType());
+    }
+
+    private String submitTts(Long userId, String text, UserContext context) {
+        VoiceSettings voiceSettings = context.getPreferences().getVoiceSettings();
+        return turnAudioStore.submit(userId, () -> voiceService.textToSpeech(text, voiceSettings));
+    }
+
+    /**
+     * 대화 종료 (Idempotency-Key가 같은 재시도는 이미 종료된 세션이어도 성공으로 응답)
+     */
+    public void endConversation(Long userId, String idempotencyKey) {
+        idempotencyCache.execute(userId, "end", idempotencyKey, () -> {
+            endConversation(userId);
+            return null;
+        });
+    }
+
     public void endConversation(Long userId) {
+        turnLanes.execute(userId, "end", Boolean.TRUE, () -> {
+            doEndConversation(userId);
+            return null;
+        });
+    }
+
+    private void doEndConversation(Long userId) {
         log.info("대화 종료 시작 - userId: {}", userId);
 
         //1. 컨텍스트 조회
         UserContext context = contextService.getContext(userId);
         log.info("컨텍스트 조회 완료 - 대화 턴 수: {}", context.getConversationHistory().size());
 
-        // 2. 일기 생성 (동기)
-        log.info("일기 생성 시작 - userId: {}", userId);
-        try {
-            diaryService.generateAndSaveDiary(context);
-            log.info("일기 생성 완료 - userId: {}", userId);
-        } catch (Exception e) {
-            log.error("일기 생성 실패 - userId: {}", userId, e);
-        }
+        // 2. 일기 생성 작업 등록 (대화 기록 스냅샷 저장 → JobWorker가 비동기로 생성, 재시작에도 유실되지 않음)
+        // 등록에 실패하면 예외를 그대로 던져 컨텍스트를 남겨둠 → 클라이언트가 /end를 다시 호출해 재시도
+        enqueueDiaryJob(context);
 
         // 3. 컨텍스트 정리
         contextService.finalizeContext(userId);
         log.info("=== 대화 종료 완료 - userId: {} ===", userId);
     }
+
+    /**
+     * 병합 판단용 음성 파일 지문 (같은 녹음을 다시 보낸 재시도/더블탭 식별)
+     * 큰 녹음도 힙에 통째로 올리지 않도록 고정 크기 버퍼로 읽으며 해시 계산
+     *
+     * @return SHA-256 hex, 파일을 읽지 못하면 null (병합하지 않음)
+     */
+    private static String audioFingerprint(MultipartFile audioFile) {
+        if (audioFile == null) {
+            return null;
+        }
+        try (InputStream in = audioFile.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[FINGERPRINT_BUFFER_BYTES];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    /**
+     * /end 없이 제거된 세션의 종료 처리 (SessionStore가 sessionEvictionExecutor 스레드에서 발행)
+     * 세션은 이미 저장소에서 빠졌으므로 일기 작업 등록만 수행
+     * 등록에 실패하면 세션을 저장소에 되돌려 다음 정리 주기(또는 사용자의 /end)에서 다시 시도
+     */
+    @EventListener
+    public void onSessionEvicted(SessionEvictedEvent event) {
+        UserContext context = event.context();
+        log.info("제거된 세션 종료 처리 - userId: {}, 사유: {}", context.getUserId(), event.reason());
+        try {
+            enqueueDiaryJob(context);
+        } catch (RuntimeException e) {
+            if (contextService.restoreContext(context)) {
+                log.warn("제거된 세션 되돌림 - 다음 정리 주기에 재시도 - userId: {}", context.getUserId());
+            } else {
+                log.error("제거된 세션 되돌리기 실패 - 새 세션이 이미 시작됨, 일기 유실 - userId: {}",
+                        context.getUserId());
+            }
+        }
+    }
+
+    private void enqueueDiaryJob(UserContext context) {
+        try {
+            Long jobId = jobQueueService.enqueue(DiaryJobHandler.JOB_TYPE, DiaryJobPayload.from(context));
+            log.info("일기 생성 작업 등록 완료 - userId: {}, jobId: {}", context.getUserId(), jobId);
+        } catch (RuntimeException e) {
+            log.error("일기 생성 작업 등록 실패 - userId: {}", context.getUserId(), e);
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,271 @@
+package com.example.echo.conversation.service;
+
+import com.example.echo.ai.service.AIService;
+import com.example.echo.ai.service.ConversationHistoryManager;
+import com.example.echo.context.domain.UserContext;
+import com.example.echo.context.service.ContextService;
+import com.example.echo.conversation.dto.ConversationStreamEvent;
+import com.example.echo.user.dto.VoiceSettings;
+import com.example.echo.voice.cache.FixedPhrase;
+import com.example.echo.voice.service.VoiceService;
+import com.example.echo.voice.util.FailFastCalls;
+import com.example.echo.voice.util.KoreanSentenceSplitter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 스트리밍 대화 턴 처리 서비스
+ *
+ * processUserMessage()는 LLM 전체 응답 → TTS 전체 변환을 기다린 뒤 한 번에 응답하므로
+ * 턴마다 수 초의 무음 구간이 생김. 이 서비스는 이를 문장 단위 파이프라인으로 처리:
+ *
+ *   STT (요청 스레드)
+ *   → LLM 스트리밍 수신 (conversationStreamExecutor)
+ *   → 문장 완성 즉시 sentence 이벤트 전송 + TTS 비동기 요청 (ttsExecutor)
+ *   → TTS 완료 시 seq 순서를 지켜 audio 이벤트 전송
+ *   → 히스토리 저장 후 done 이벤트 전송
+ *
+ * 첫 음성까지의 지연 = 첫 문장 생성 시간 + 짧은 TTS 1회
+ *
+ * 같은 사용자의 다른 턴과 겹치지 않도록 STT 전에 UserTurnLanes 레인을 얻고 done/error 전송 후 반납
+ * (SSE 응답은 요청마다 연결이 따로라 결과를 공유할 수 없으므로 병합하지 않고 순서만 보장)
+ *
+ * error 이벤트에는 오류 안내 고정 발화(FixedPhrase.ERROR_FALLBACK) 음성을 함께 실어
+ * 앱이 무음 대신 바로 안내를 재생할 수 있게 함 (PhraseBank에 미리 합성되어 TTS 장애와 무관)
+ */
+@Slf4j
+@Service
+public class ConversationStreamService {
+
+    /** SSE 연결 최대 유지 시간 (LLM 스트림 + 마지막 TTS까지) */
+    private static final long STREAM_TIMEOUT_MS = 120_000L;
+
+    private final VoiceService voiceService;
+    private final AIService aiService;
+    private final ConversationHistoryManager historyManager;
+    private final ContextService contextService;
+    private final Executor streamExecutor;
+    private final Executor ttsExecutor;
+    private final UserTurnLanes turnLanes;
+
+    public ConversationStreamService(VoiceService voiceService,
+                                     AIService aiService,
+                                     ConversationHistoryManager historyManager,
+                                     ContextService contextService,
+                                     @Qualifier("conversationStreamExecutor") Executor streamExecutor,
+                                     @Qualifier("ttsExecutor") Executor ttsExecutor,
+                                     UserTurnLanes turnLanes) {
+        this.voiceService = voiceService;
+        this.aiService = aiService;
+        this.historyManager = historyManager;
+        this.contextService = contextService;
+        this.streamExecutor = streamExecutor;
+        this.ttsExecutor = ttsExecutor;
+        this.turnLanes = turnLanes;
+    }
+
+    /**
+     * 사용자 음성 메시지를 스트리밍으로 처리
+     *
+     * 컨텍스트 조회와 STT는 요청 스레드에서 수행하므로
+     * 대화 미시작/음성 파일 오류는 기존 /message와 같은 JSON 에러 응답으로 처리됨
+     * (MultipartFile은 요청이 끝나면 정리되므로 비동기 스레드로 넘기지 않음)
+     *
+     * @return 이벤트를 전송할 SseEmitter (파이프라인은 별도 스레드에서 진행)
+     */
+    public SseEmitter streamUserMessage(Long userId, MultipartFile audioFile) {
+        // 레인은 파이프라인이 끝날 때 반납 (요청 스레드에서 실패하면 바로 반납)
+        UserTurnLanes.Permit permit = turnLanes.acquire(userId);
+        try {
+            // 1. 컨텍스트 조회
+            UserContext context = contextService.getContext(userId);
+
+            // 2. STT 변환
+            String userMessage = voiceService.speechToText(audioFile);
+
+            // 3. LLM → TTS 파이프라인은 비동기로 진행
+            SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+            TurnStream stream = new TurnStream(emitter, context.getPreferences().getVoiceSettings());
+            emitter.onTimeout(() -> {
+                log.warn("스트리밍 응답 시간 초과 - userId: {}", userId);
+                stream.cancel();
+                emitter.complete();
+            });
+            emitter.onError(e -> stream.cancel());
+
+            streamExecutor.execute(() -> runPipeline(userId, context, userMessage, stream, permit));
+            return emitter;
+        } catch (RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+    }
+
+    private void runPipeline(Long userId, UserContext context, String userMessage, TurnStream stream,
+                             UserTurnLanes.Permit permit) {
+        try {
+            stream.send("transcript", ConversationStreamEvent.builder()
+                    .userMessage(userMessage)
+                    .build());
+
+            // LLM 스트리밍 수신 (delta마다 문장 분리 → 완성된 문장은 즉시 TTS 요청)
+            KoreanSentenceSplitter splitter = new KoreanSentenceSplitter();
+            String systemPrompt = context.getSystemPrompt();
+            String aiResponse = aiService.streamResponse(systemPrompt, historyManager.window(context), userMessage, delta -> {
+                stream.checkCancelled();
+                splitter.append(delta).forEach(stream::dispatchSentence);
+            });
+            splitter.flush().forEach(stream::dispatchSentence);
+
+            // 텍스트가 확정되었으므로 음성 전송 완료 전에 히스토리 저장 (tts-retry에서 조회 보장)
+            contextService.addConversationTurn(userId, userMessage, aiResponse);
+
+            // 마지막 문장의 audio 이벤트까지 전송 대기
+            stream.awaitAudio();
+
+            stream.send("done", ConversationStreamEvent.builder()
+                    .userMessage(userMessage)
+                    .aiResponse(aiResponse)
+                    .timestamp(LocalDateTime.now())
+                    .build());
+            stream.emitter.complete();
+            log.debug("스트리밍 응답 완료 - userId: {}, 문장 수: {}", userId, stream.nextSeq);
+        } catch (StreamCancelledException e) {
+            log.info("클라이언트 연결 종료로 스트리밍 중단 - userId: {}", userId);
+            stream.emitter.complete();
+        } catch (Exception e) {
+            log.error("스트리밍 응답 처리 실패 - userId: {}", userId, e);
+            stream.sendErrorAndComplete("응답 생성 중 오류가 발생했습니다. 다시 시도해주세요.");
+        } finally {
+            permit.release();
+        }
+    }
+
+    /**
+     * 턴 1건의 스트림 상태
+     *
+     * audioChain: 직전 문장의 audio 전송이 끝나야 다음 문장의 audio를 전송하도록 연결한 체인
+     * → TTS는 병렬로 진행되어도 클라이언트는 항상 seq 순서대로 음성을 받음
+     *
+     * 연결이 끊기거나 한 문장의 TTS가 실패하면 아직 시작하지 않은 문장은 제공자를 호출하지 않음 (FailFastCalls)
+     */
+    private class TurnStream {
+
+        private final SseEmitter emitter;
+        private final VoiceSettings voiceSettings;
+        private final AtomicBoolean cancelled = new AtomicBoolean(false);
+        private final FailFastCalls ttsCalls = new FailFastCalls("앞 문장 TTS 실패로 건너뜀");
+        private CompletableFuture<Void> audioChain = CompletableFuture.completedFuture(null);
+        private int nextSeq = 0;
+
+        TurnStream(SseEmitter emitter, VoiceSettings voiceSettings) {
+            this.emitter = emitter;
+            this.voiceSettings = voiceSettings;
+        }
+
+        /** 완성된 문장 처리 (스트림 수신 스레드에서만 호출) */
+        void dispatchSentence(String sentence) {
+            int seq = nextSeq++;
+            send("sentence", ConversationStreamEvent.builder()
+                    .seq(seq)
+                    .text(sentence)
+                    .build());
+
+            CompletableFuture<byte[]> tts = CompletableFuture.supplyAsync(() -> synthesize(sentence), ttsExecutor);
+            audioChain = audioChain.thenCombine(tts, (ignored, audio) -> audio)
+                    .thenAccept(audio -> send("audio", ConversationStreamEvent.builder()
+                            .seq(seq)
+                            .audioData(audio)
+                            .build()));
+        }
+
+        /** 문장 TTS (연결 종료 또는 앞선 TTS 실패 후에는 호출하지 않음) */
+        private byte[] synthesize(String sentence) {
+            checkCancelled();
+            return ttsCalls.call(null, () -> voiceService.textToSpeech(sentence, voiceSettings));
+        }
+
+        void awaitAudio() {
+            try {
+                audioChain.join();
+            } catch (CompletionException e) {
+                // 건너뛴 문장이 아닌 실제 TTS 실패/연결 종료 원인을 그대로 전달 (StreamCancelledException 구분용)
+                ttsCalls.firstFailure().ifPresent(failure -> {
+                    throw failure;
+                });
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        void send(String eventName, ConversationStreamEvent event) {
+            checkCancelled();
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(eventName)
+                        .data(event, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 종료 또는 이미 완료된 emitter
+                cancel();
+                throw new StreamCancelledException();
+            }
+        }
+
+        void sendErrorAndComplete(String message) {
+            if (!cancelled.get()) {
+                try {
+                    emitter.send(SseEmitter.event()
+                            .name("error")
+                            .data(ConversationStreamEvent.builder()
+                                            .message(message)
+                                            .audioData(fallbackAudio())
+                                            .build(),
+                                    MediaType.APPLICATION_JSON));
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("error 이벤트 전송 실패: {}", e.getMessage());
+                }
+            }
+            emitter.complete();
+        }
+
+        /** 오류 안내 음성 (구하지 못하면 음성 없이 메시지만 전송) */
+        private byte[] fallbackAudio() {
+            try {
+                return voiceService.phraseToSpeech(FixedPhrase.ERROR_FALLBACK, voiceSettings);
+            } catch (RuntimeException e) {
+                log.debug("오류 안내 음성 생성 실패: {}", e.getMessage());
+                return null;
+            }
+        }
+
+        void checkCancelled() {
+            if (cancelled.get()) {
+                throw new StreamCancelledException();
+            }
+        }
+
+        void cancel() {
+            cancelled.set(true);
+        }
+    }
+
+    /** 클라이언트 연결 종료 시 LLM 스트림 수신을 중단시키기 위한 내부 신호 */
+    private static class StreamCancelledException extends RuntimeException {
+        StreamCancelledException() {
+            super(null, null, false, false);
+        }
+    }
+}
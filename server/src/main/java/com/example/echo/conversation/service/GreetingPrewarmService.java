@@ -0,0 +1,231 @@
+package com.example.echo.conversation.service;
+
+import com.example.echo.ai.service.AIService;
+import com.example.echo.context.domain.UserContext;
+import com.example.echo.context.service.ContextService;
+import com.example.echo.health.dto.HealthData;
+import com.example.echo.health.service.HealthDataService;
+import com.example.echo.location.dto.RawLocationData;
+import com.example.echo.prompt.service.PromptService;
+import com.example.echo.user.service.UserService;
+import com.example.echo.voice.service.VoiceService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 대화 인사 사전 생성 서비스
+ *
+ * /start의 cold path(선호도 → 건강 데이터 → 위치/날씨 → 시스템 프롬프트 → 인사 LLM → TTS)를
+ * 사용자의 대화 시각(UserPreferences.conversationTime) 몇 분 전에 미리 수행하여 캐시에 보관
+ * → /start에서 캐시 hit 시 LLM/TTS 호출 없이 바로 응답
+ *
+ * 캐시 사용 조건: 오늘 날짜에 준비된 인사일 것 (아니면 기존 경로로 fallback)
+ *
+ * 인사 문장/음성은 대화를 여는 말이므로 /start 요청 데이터와 관계없이 그대로 사용하고,
+ * 이후 턴에 쓰이는 컨텍스트(시스템 프롬프트)만 요청 데이터에 맞춰 결정 (PreparedGreeting.isContextCurrent)
+ * - 앱이 새 데이터를 보내지 않았으면(같은 건강 데이터, 위치 없음) 준비한 컨텍스트를 그대로 등록 (result=hit)
+ * - 더 최신 건강 데이터나 위치 데이터를 보냈으면 그 데이터로 컨텍스트만 다시 초기화 (result=hit_refreshed)
+ *   실제 앱은 /start마다 현재 건강/위치 데이터를 보내므로 보통 이 경로이며, 인사 LLM/TTS는 생략됨
+ *
+ * 날짜가 바뀐 뒤에는 사용할 수 없으므로 자정 이후 대화 시각은 전날 준비하지 않음 (자정이 지난 뒤 준비)
+ *
+ * 캐시는 크기/TTL 제한이 있으며, 한 번 사용(take)하면 제거됨
+ */
+@Slf4j
+@Service
+public class GreetingPrewarmService {
+
+    private static final String METRIC_NAME = "conversation.greeting.prewarm";
+
+    private final ContextService contextService;
+    private final HealthDataService healthDataService;
+    private final PromptService promptService;
+    private final AIService aiService;
+    private final VoiceService voiceService;
+    private final UserService userService;
+    private final Executor prewarmExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${conversation.prewarm.enabled:true}")
+    private boolean enabled;
+
+    /** 대화 시각 몇 분 전부터 준비할지 */
+    @Value("${conversation.prewarm.lead-minutes:10}")
+    private int leadMinutes;
+
+    private final Cache<Long, PreparedGreeting> preparedGreetings;
+
+    /** 오늘 이미 준비를 시도한 사용자 (같은 날 중복 생성 방지) */
+    private final Cache<Long, LocalDate> attemptedDates;
+
+    /** 준비 진행 중인 사용자 */
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public GreetingPrewarmService(ContextService contextService,
+                                  HealthDataService healthDataService,
+                                  PromptService promptService,
+                                  AIService aiService,
+                                  VoiceService voiceService,
+                                  UserService userService,
+                                  @Qualifier("prewarmExecutor") Executor prewarmExecutor,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${conversation.prewarm.max-entries:1000}") long maxEntries,
+                                  @Value("${conversation.prewarm.ttl-minutes:90}") long ttlMinutes) {
+        this.contextService = contextService;
+        this.healthDataService = healthDataService;
+        this.promptService = promptService;
+        this.aiService = aiService;
+        this.voiceService = voiceService;
+        this.userService = userService;
+        this.prewarmExecutor = prewarmExecutor;
+        this.meterRegistry = meterRegistry;
+        this.preparedGreetings = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+        this.attemptedDates = Caffeine.newBuilder()
+                .maximumSize(maxEntries * 10)
+                .expireAfterWrite(Duration.ofDays(1))
+                .build();
+    }
+
+    /**
+     * 대화 시각이 [지금, 지금 + leadMinutes) 구간인 사용자의 인사를 미리 생성
+     *
+     * 1분마다 실행되며, 구간에 들어온 사용자 중 오늘 아직 시도하지 않은 사용자만 처리
+     * (서버 재시작이나 스케줄 지연이 있어도 대화 시각 전이면 따라잡음)
+     * 구간이 자정을 넘으면 오늘 끝까지만 조회 (자정 이후 대화 시각은 날짜가 바뀐 뒤 다음 실행에서 준비)
+     */
+    @Scheduled(fixedDelayString = "${conversation.prewarm.interval-ms:60000}",
+            initialDelayString = "${conversation.prewarm.initial-delay-ms:60000}")
+    public void prewarmUpcoming() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime current = LocalDateTime.now();
+        LocalTime now = current.toLocalTime();
+        LocalDate today = current.toLocalDate();
+        LocalTime until = current.plusMinutes(leadMinutes).toLocalDate().isAfter(today)
+                ? LocalTime.MAX
+                : now.plusMinutes(leadMinutes);
+        List<Long> userIds = userService.findUserIdsByConversationTime(now, until);
+
+        int scheduled = 0;
+        for (Long userId : userIds) {
+            if (today.equals(attemptedDates.getIfPresent(userId)) || !inFlight.add(userId)) {
+                continue;
+            }
+            attemptedDates.put(userId, today);
+            prewarmExecutor.execute(() -> prepare(userId));
+            scheduled++;
+        }
+
+        if (scheduled > 0) {
+            log.info("[인사 사전 생성] {}명 예약 (대상 구간: {} ~ {})", scheduled, now, until);
+        }
+    }
+
+    /**
+     * 사용자 1명의 인사 준비 (컨텍스트 → 시스템 프롬프트 → 인사 → TTS)
+     */
+    void prepare(Long userId) {
+        long startNanos = System.nanoTime();
+        try {
+            // 사전 생성 시 사용한 건강 데이터를 보관해 두고 /start 요청 데이터와 비교
+            HealthData healthData = healthDataService.getTodayHealthData(userId);
+            UserContext context = contextService.buildContext(userId, healthData, null);
+
+            String systemPrompt = promptService.buildSystemPrompt(context);
+            context.setSystemPrompt(systemPrompt);
+
+            String greeting = aiService.generateGreeting(systemPrompt, context);
+            byte[] audio = voiceService.textToSpeech(greeting, context.getPreferences().getVoiceSettings());
+
+            preparedGreetings.put(userId, new PreparedGreeting(context, healthData, greeting, audio,
+                    LocalDateTime.now()));
+            count("prepared");
+            log.info("[인사 사전 생성] 완료 - userId: {}, 소요: {}ms",
+                    userId, Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+        } catch (Exception e) {
+            count("failed");
+            log.warn("[인사 사전 생성] 실패 - userId: {}, 원인: {}", userId, e.getMessage());
+        } finally {
+            inFlight.remove(userId);
+        }
+    }
+
+    /**
+     * 사전 생성된 인사 꺼내기 (오늘 준비한 인사가 아니면 버리고 empty 반환)
+     *
+     * @param healthData      /start 요청의 건강 데이터 (null 허용, 메트릭 구분용)
+     * @param rawLocationData /start 요청의 위치 데이터 (null 허용, 메트릭 구분용)
+     */
+    public Optional<PreparedGreeting> take(Long userId, HealthData healthData, RawLocationData rawLocationData) {
+        PreparedGreeting prepared = preparedGreetings.asMap().remove(userId);
+        if (prepared == null) {
+            count("miss");
+            return Optional.empty();
+        }
+
+        if (!LocalDate.now().equals(prepared.getContext().getDate())) {
+            count("stale");
+            log.debug("[인사 사전 생성] 날짜 불일치로 사용 안 함 - userId: {}", userId);
+            return Optional.empty();
+        }
+
+        if (prepared.isContextCurrent(healthData, rawLocationData)) {
+            count("hit");
+        } else {
+            count("hit_refreshed");
+            log.debug("[인사 사전 생성] 요청 데이터가 더 최신이므로 인사만 사용하고 컨텍스트는 다시 초기화 - userId: {}", userId);
+        }
+        return Optional.of(prepared);
+    }
+
+    private void count(String result) {
+        meterRegistry.counter(METRIC_NAME, "result", result).increment();
+    }
+
+    /**
+     * 사전 생성된 인사
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class PreparedGreeting {
+        private final UserContext context;
+        private final HealthData healthData;
+        private final String greeting;
+        private final byte[] audio;
+        private final LocalDateTime preparedAt;
+
+        /**
+         * 준비한 컨텍스트를 그대로 쓸 수 있는지
+         * (위치 데이터 없이 준비하므로 요청에 좌표나 방문 장소가 있으면 다시 초기화해야 함)
+         */
+        public boolean isContextCurrent(HealthData requestHealthData, RawLocationData requestLocationData) {
+            boolean hasLocation = requestLocationData != null
+                    && ((requestLocationData.getCurrentLatitude() != null && requestLocationData.getCurrentLongitude() != null)
+                    || (requestLocationData.getVisitedPlaces() != null && !requestLocationData.getVisitedPlaces().isEmpty()));
+            return !hasLocation && (requestHealthData == null || requestHealthData.equals(healthData));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.echo.conversation.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * 대화 API Idempotency-Key 응답 캐시
+ *
+ * 앱이 응답 타임아웃(30초) 후 같은 Idempotency-Key로 재시도하면 STT/LLM/TTS를 다시 호출하지 않고
+ * 처음 요청의 응답을 그대로 반환 (히스토리에 같은 턴이 두 번 쌓이지 않음)
+ *
+ * - 완료된 요청: 저장된 응답 반환 (음성은 응답의 audioId로 TurnAudioStore에서 다시 다운로드)
+ * - 처리 중인 요청: 새로 실행하지 않고 처리 중인 결과를 함께 기다림
+ * - 실패한 요청: 저장하지 않음 → 같은 키로 재시도하면 다시 실행
+ * - 키는 사용자·작업별로 구분 (다른 사용자/엔드포인트의 같은 키와 섞이지 않음)
+ *
+ * 보관 시간 기본값은 TurnAudioStore 음성 보관 시간(10분)과 같게 두어
+ * 재시도 응답의 audioUrl이 항상 다운로드 가능하도록 함
+ *
+ * 서버별 캐시이므로 다른 서버로 간 재시도는 처음 요청으로 처리됨 (다중 인스턴스는 sticky session 전제)
+ *
+ * 메트릭: conversation.idempotency{operation, result=miss|replayed|attached}
+ */
+@Slf4j
+@Component
+public class IdempotencyCache {
+
+    private final MeterRegistry meterRegistry;
+    private final Cache<Key, CompletableFuture<Object>> entries;
+
+    public IdempotencyCache(MeterRegistry meterRegistry,
+                            @Value("${conversation.idempotency.ttl-minutes:10}") long ttlMinutes,
+                            @Value("${conversation.idempotency.max-entries:10000}") long maxEntries) {
+        this.meterRegistry = meterRegistry;
+        this.entries = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    /**
+     * Idempotency-Key 기준으로 한 번만 실행
+     *
+     * @param operation      작업 이름 (start, message, end)
+     * @param idempotencyKey 클라이언트가 보낸 키 (없으면 캐시 없이 바로 실행)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Long userId, String operation, String idempotencyKey, Supplier<T> task) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return task.get();
+        }
+
+        Key key = new Key(userId, operation, idempotencyKey.trim());
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = entries.asMap().putIfAbsent(key, mine);
+        if (existing != null) {
+            String result = existing.isDone() ? "replayed" : "attached";
+            meterRegistry.counter("conversation.idempotency", "operation", operation, "result", result).increment();
+            log.info("Idempotency-Key 재요청 - userId: {}, 작업: {}, 처리: {}", userId, operation, result);
+            return (T) await(existing);
+        }
+
+        meterRegistry.counter("conversation.idempotency", "operation", operation, "result", "miss").increment();
+        try {
+            T result = task.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            // 실패는 저장하지 않음 (기다리던 요청에는 같은 예외 전달, 이후 재시도는 다시 실행)
+            entries.asMap().remove(key, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> existing) {
+        try {
+            return existing.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Key(Long userId, String operation, String idempotencyKey) {
+    }
+}
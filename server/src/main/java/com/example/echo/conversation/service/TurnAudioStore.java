@@ -0,0 +1,162 @@
+package com.example.echo.conversation.service;
+
+import com.example.echo.conversation.exception.TurnAudioNotFoundException;
+import com.example.echo.voice.exception.VoiceProcessingException;
+import com.example.echo.voice.util.AudioMediaType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 대화 턴 음성 저장소
+ *
+ * 대화 API는 텍스트와 audioId만 바로 응답하고, TTS는 ttsExecutor에서 비동기로 진행
+ * 클라이언트는 GET /api/conversations/audio/{audioId}로 바이너리를 별도 다운로드
+ * → JSON에 Base64 음성을 싣지 않아 응답 크기(+33%)와 힙 사용량 감소, 텍스트 먼저 표시 가능
+ *
+ * - 다운로드 시점에 TTS가 아직 진행 중이면 완료될 때까지 대기 (최대 AWAIT_TIMEOUT)
+ * - Range 재요청(이어받기)을 위해 조회 후에도 TTL 동안 유지
+ * - audioId는 발급받은 사용자만 조회 가능
+ * - 보관 상한은 개수가 아닌 음성 바이트 수 기준 (conversation.turn-audio.max-bytes)
+ *   생성 중인 항목은 크기를 알 수 없어 최소 가중치로 두고, 완료되면 실제 바이트 수로 다시 반영
+ * - 서버 메모리에만 보관 (jdbc 세션 저장소여도 공유하지 않음)
+ *   → 다중 인스턴스에서는 같은 사용자의 요청이 같은 서버로 가야 audioUrl을 받을 수 있음 (sticky session)
+ */
+@Slf4j
+@Component
+public class TurnAudioStore {
+
+    /** 음성 보관 시간 (대화 중 재생/재요청에 충분한 시간) */
+    private static final Duration RETENTION = Duration.ofMinutes(10);
+
+    /** 다운로드 요청 시 TTS 완료 대기 최대 시간 (Feign read timeout 30초 + 여유) */
+    private static final long AWAIT_TIMEOUT_SECONDS = 40;
+
+    private final Executor ttsExecutor;
+    /** 음성 바이트로 형식을 판별할 수 없을 때 쓰는 설정 제공자 기본 형식 */
+    private final String contentType;
+    private final Cache<String, Entry> entries;
+
+    public TurnAudioStore(@Qualifier("ttsExecutor") Executor ttsExecutor,
+                          @Value("${tts.provider:supertone}") String ttsProvider,
+                          @Value("${conversation.turn-audio.max-bytes:67108864}") long maxBytes) {
+        this.ttsExecutor = ttsExecutor;
+        this.contentType = AudioMediaType.ofProvider(ttsProvider);
+        this.entries = Caffeine.newBuilder()
+                .expireAfterWrite(RETENTION)
+                .maximumWeight(maxBytes)
+                .weigher((String audioId, Entry entry) -> entry.weight())
+                .build();
+    }
+
+    /**
+     * TTS 작업을 비동기로 시작하고 audioId 발급
+     *
+     * @param userId 음성 소유자
+     * @param synthesizer TTS 호출 (예: () -> voiceService.textToSpeech(text, settings))
+     * @return 다운로드용 audioId
+     */
+    public String submit(Long userId, Supplier<byte[]> synthesizer) {
+        String audioId = UUID.randomUUID().toString();
+        CompletableFuture<byte[]> future = CompletableFuture.supplyAsync(synthesizer, ttsExecutor);
+        Entry pending = new Entry(userId, future);
+        entries.put(audioId, pending);
+        future.whenComplete((audio, e) -> {
+            if (e != null) {
+                log.warn("턴 음성 생성 실패 - userId: {}, audioId: {}, 원인: {}", userId, audioId, e.getMessage());
+                return;
+            }
+            // 완료된 음성 크기로 가중치 다시 계산 (그사이 만료/제거되었으면 되살리지 않음)
+            entries.asMap().replace(audioId, pending, new Entry(userId, future));
+        });
+        return audioId;
+    }
+
+    /**
+     * 이미 생성된 음성 등록 (사전 생성된 인사 음성 등)
+     *
+     * @return 다운로드용 audioId
+     */
+    public String put(Long userId, byte[] audio) {
+        String audioId = UUID.randomUUID().toString();
+        entries.put(audioId, new Entry(userId, CompletableFuture.completedFuture(audio)));
+        return audioId;
+    }
+
+    /**
+     * 음성 조회 (TTS 진행 중이면 완료까지 대기)
+     *
+     * @throws TurnAudioNotFoundException 만료되었거나 다른 사용자의 audioId인 경우
+     * @throws VoiceProcessingException TTS 실패 또는 대기 시간 초과
+     */
+    public TurnAudio get(Long userId, String audioId) {
+        Entry entry = entries.getIfPresent(audioId);
+        if (entry == null || !Objects.equals(entry.userId, userId)) {
+            throw new TurnAudioNotFoundException("음성을 찾을 수 없습니다. 만료되었을 수 있습니다.");
+        }
+
+        try {
+            byte[] data = entry.future.get(AWAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            // 제공자 전환으로 설정과 다른 형식일 수 있으므로 음성 바이트로 판별
+            return new TurnAudio(data, AudioMediaType.detect(data, contentType));
+        } catch (ExecutionException e) {
+            // TTS 실패 원인 그대로 전달 (크레딧 부족 → 503 등 GlobalExceptionHandler 매핑 유지)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new VoiceProcessingException("음성 생성에 실패했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            throw new VoiceProcessingException("음성 생성 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VoiceProcessingException("음성 조회가 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 생성 완료된 턴 음성
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class TurnAudio {
+        private final byte[] data;
+        private final String contentType;
+    }
+
+    /**
+     * 보관 중인 음성 바이트 수 (생성 중인 항목은 최소 가중치)
+     */
+    long residentBytes() {
+        entries.cleanUp();
+        return entries.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final Long userId;
+        private final CompletableFuture<byte[]> future;
+
+        /** 완료된 음성은 바이트 수, 생성 중/실패는 1 */
+        int weight() {
+            byte[] audio = future.isDone() && !future.isCompletedExceptionally() ? future.getNow(null) : null;
+            return audio == null ? 1 : Math.max(1, audio.length);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.echo.conversation.service;
+
+import com.example.echo.conversation.exception.ConversationBusyException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 대화 턴 실행 레인
+ *
+ * 같은 사용자의 턴(/start, /message, /message/stream, /end)은 도착 순서대로 한 번에 하나씩 실행하고,
+ * 다른 사용자의 턴은 서로 기다리지 않음
+ * → 더블탭/클라이언트 재시도로 대화 히스토리를 동시에 수정하거나 STT/LLM/TTS를 중복 호출하지 않음
+ *
+ * - 레인: 사용자별 공정(FIFO) Semaphore(1), 실행/대기 중인 요청이 없으면 맵에서 제거
+ *   (스트리밍 턴은 요청 스레드에서 획득하고 파이프라인 스레드에서 반납하므로 Lock 대신 Semaphore)
+ * - 병합: 같은 사용자·작업·입력(지문)의 요청이 실행 중이면 다시 실행하지 않고 먼저 온 요청의 결과(또는 예외)를 함께 반환
+ * - 대기 상한: wait-timeout-ms 안에 레인을 얻지 못하면 ConversationBusyException (409)
+ * - 레인은 서버 안에서만 유효 (다른 서버로 간 같은 사용자의 턴과는 직렬화/병합되지 않음)
+ *
+ * 메트릭:
+ *   - conversation.lane.active: 실행 또는 대기 중인 요청이 있는 사용자 수
+ *   - conversation.lane.queued: 레인 획득을 기다리는 요청 수 (전체)
+ *   - conversation.lane.depth: 요청 도착 시 같은 사용자 레인에 앞서 있던 요청 수
+ *   - conversation.lane.wait: 레인 획득 대기 시간
+ *   - conversation.lane.coalesced{operation}: 실행 중인 요청에 병합된 요청 수
+ */
+@Slf4j
+@Component
+public class UserTurnLanes {
+
+    private final MeterRegistry meterRegistry;
+    private final long waitTimeoutMs;
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+    private final Map<CallKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final DistributionSummary depth;
+    private final Timer waitTimer;
+
+    public UserTurnLanes(MeterRegistry meterRegistry,
+                         @Value("${conversation.lane.wait-timeout-ms:60000}") long waitTimeoutMs) {
+        this.meterRegistry = meterRegistry;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.depth = meterRegistry.summary("conversation.lane.depth");
+        this.waitTimer = meterRegistry.timer("conversation.lane.wait");
+
+        meterRegistry.gaugeMapSize("conversation.lane.active", Tags.empty(), lanes);
+        meterRegistry.gauge("conversation.lane.queued", queued);
+    }
+
+    /**
+     * 사용자 레인에서 작업 실행 (같은 작업·지문의 요청이 이미 실행 중이면 그 결과를 공유)
+     *
+     * @param operation   작업 이름 (start, message, end)
+     * @param fingerprint 요청 입력 지문 (equals로 비교, null이면 병합하지 않음)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Long userId, String operation, Object fingerprint, Supplier<T> task) {
+        if (fingerprint == null) {
+            return runInLane(userId, task);
+        }
+
+        CallKey key = new CallKey(userId, operation, fingerprint);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            meterRegistry.counter("conversation.lane.coalesced", "operation", operation).increment();
+            log.info("실행 중인 같은 요청에 병합 - userId: {}, 작업: {}", userId, operation);
+            return (T) await(running);
+        }
+
+        try {
+            T result = runInLane(userId, task);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 사용자 레인에서 작업 실행 (병합 없이 순서만 보장)
+     */
+    public <T> T runInLane(Long userId, Supplier<T> task) {
+        Permit permit = acquire(userId);
+        try {
+            return task.get();
+        } finally {
+            permit.release();
+        }
+    }
+
+    /**
+     * 레인 획득 (작업이 다른 스레드에서 끝나는 스트리밍 턴처럼 직접 반납해야 할 때 사용)
+     *
+     * @return 턴이 끝나면 release()로 반납할 허가
+     * @throws ConversationBusyException wait-timeout-ms 안에 앞선 턴이 끝나지 않은 경우
+     */
+    public Permit acquire(Long userId) {
+        int[] ahead = new int[1];
+        Lane lane = lanes.compute(userId, (id, existing) -> {
+            Lane target = existing != null ? existing : new Lane();
+            ahead[0] = target.users++;
+            return target;
+        });
+        depth.record(ahead[0]);
+
+        boolean acquired = false;
+        queued.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            acquired = lane.permit.tryAcquire(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            queued.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired) {
+            leave(userId);
+            log.warn("이전 대화 요청이 끝나지 않아 레인 획득 실패 - userId: {}, 대기: {}ms", userId, waitTimeoutMs);
+            throw new ConversationBusyException("이전 대화 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return new Permit(userId, lane);
+    }
+
+    /**
+     * 레인을 쓰는 요청이 모두 끝나면 맵에서 제거
+     * (users 증감은 compute 안에서만 하므로 획득과 제거가 엇갈리지 않음)
+     */
+    private void leave(Long userId) {
+        lanes.computeIfPresent(userId, (id, lane) -> --lane.users == 0 ? null : lane);
+    }
+
+    private static Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            // 먼저 온 요청과 같은 예외로 응답 (GlobalExceptionHandler 매핑 유지)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 레인 사용 허가 (여러 번 호출해도 한 번만 반납)
+     */
+    public final class Permit {
+
+        private final Long userId;
+        private final Lane lane;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Permit(Long userId, Lane lane) {
+            this.userId = userId;
+            this.lane = lane;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                lane.permit.release();
+                leave(userId);
+            }
+        }
+    }
+
+    private static class Lane {
+        private final Semaphore permit = new Semaphore(1, true);
+        /** 실행 + 대기 중인 요청 수 (lanes.compute 안에서만 변경) */
+        private int users;
+    }
+
+    private record CallKey(Long userId, String operation, Object fingerprint) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.echo.diary.controller;
+
+import com.example.echo.common.auth.CurrentUser;
+import com.example.echo.diary.dto.DiaryResponse;
+import com.example.echo.diary.service.DiaryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 일기 조회 컨트롤러
+ */
+@Tag(name = "Diary", description = "일기 조회 API")
+@RestController
+@RequestMapping("/api/diaries")
+@RequiredArgsConstructor
+public class DiaryController {
+
+    private final DiaryService diaryService;
+
+    @Operation(
+            summary = "일기 목록 조회",
+            description = "최신순으로 일기 목록을 조회합니다. 다음 페이지는 이전 응답의 마지막 id를 before로 전달합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = DiaryResponse.class)))
+            )
+    })
+    @GetMapping
+    public ResponseEntity<List<DiaryResponse>> getDiaries(
+            @Parameter(hidden = true) @CurrentUser Long userId,
+            @Parameter(description = "이 ID보다 오래된 일기부터 조회 (생략 시 최신부터)")
+            @RequestParam(required = false) Long before,
+            @Parameter(description = "페이지 크기 (최대 50)")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(diaryService.getDiaries(userId, before, size));
+    }
+
+    @Operation(summary = "일기 상세 조회", description = "일기 한 건을 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = DiaryResponse.class))
+            ),
+            @ApiResponse(responseCode = "404", description = "일기가 없거나 본인 일기가 아님")
+    })
+    @GetMapping("/{diaryId}")
+    public ResponseEntity<DiaryResponse> getDiary(
+            @Parameter(hidden = true) @CurrentUser Long userId,
+            @Parameter(description = "일기 ID", required = true) @PathVariable Long diaryId
+    ) {
+        return ResponseEntity.ok(diaryService.getDiary(userId, diaryId));
+    }
+}
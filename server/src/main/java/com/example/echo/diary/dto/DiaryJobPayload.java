@@ -0,0 +1,79 @@
+package com.example.echo.diary.dto;
+
+import com.example.echo.context.domain.ConversationTurn;
+import com.example.echo.context.domain.UserContext;
+import com.example.echo.health.dto.EnrichedHealthData;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일기 생성 작업 입력 (대화 종료 시점의 대화 기록 스냅샷)
+ *
+ * 컨텍스트는 대화 종료와 함께 정리되므로 작업 실행에 필요한 값만 복사해 작업 큐에 저장
+ * - rollingSummary: 대화 중 히스토리 압축(ConversationHistoryManager)이 만든 요약
+ *   (conversationHistory 앞 summarizedTurnCount개 턴 반영, 일기용으로 따로 요약하지 않음)
+ * - 일기 생성은 요약 + 이후 턴만 사용하고, 요약이 없으면(짧은 대화) 전체 대화를 사용
+ * - 필드 이름은 이미 큐에 저장된 작업과 호환되도록 유지
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryJobPayload {
+
+    private Long userId;
+    private LocalDate date;
+    private String userName;
+
+    /** 오늘의 건강 데이터 (DIARY 템플릿 {{todayContext}}) */
+    private String todayContext;
+
+    private String weather;
+    private String rollingSummary;
+    private int summarizedTurnCount;
+    private List<ConversationTurn> conversationHistory;
+
+    public static DiaryJobPayload from(UserContext context) {
+        List<ConversationTurn> history = context.getConversationHistory();
+        DiaryJobPayloadBuilder builder = DiaryJobPayload.builder()
+                .userId(context.getUserId())
+                .date(context.getDate() != null ? context.getDate() : LocalDate.now())
+                .userName(context.getPreferences() != null ? context.getPreferences().getName() : null)
+                .todayContext(formatTodayContext(context.getEnrichedHealthData()))
+                .weather(context.getTodayWeather() != null ? context.getTodayWeather().getDescription() : null);
+
+        // 요약과 대화 기록이 같은 시점을 가리키도록 함께 복사 (ConversationHistoryManager와 같은 모니터)
+        synchronized (history) {
+            return builder
+                    .rollingSummary(context.getHistorySummary())
+                    .summarizedTurnCount(context.getHistorySummaryTurnCount())
+                    .conversationHistory(new ArrayList<>(history))
+                    .build();
+        }
+    }
+
+    private static String formatTodayContext(EnrichedHealthData healthData) {
+        if (healthData == null) {
+            return "오늘의 건강 데이터가 없습니다.";
+        }
+        StringBuilder sb = new StringBuilder();
+        appendLine(sb, "걸음 수", healthData.getStepsFormatted());
+        appendLine(sb, "수면 시간", healthData.getSleepDurationFormatted());
+        appendLine(sb, "기상 시간", healthData.getWakeUpTimeFormatted());
+        appendLine(sb, "운동 거리", healthData.getExerciseDistanceFormatted());
+        appendLine(sb, "운동 활동", healthData.getExerciseActivity());
+        return sb.length() > 0 ? sb.toString().trim() : "오늘의 건강 데이터가 없습니다.";
+    }
+
+    private static void appendLine(StringBuilder sb, String label, String value) {
+        if (value != null && !value.isBlank()) {
+            sb.append("- ").append(label).append(": ").append(value).append('\n');
+        }
+    }
+}
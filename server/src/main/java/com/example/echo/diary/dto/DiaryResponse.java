@@ -0,0 +1,48 @@
+package com.example.echo.diary.dto;
+
+import com.example.echo.diary.entity.Diary;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Schema(description = "일기 응답")
+@Getter
+@Builder
+public class DiaryResponse {
+
+    @Schema(description = "일기 ID (다음 페이지 조회 시 before 값으로 사용)", example = "42")
+    private Long id;
+
+    @Schema(description = "일기 날짜", example = "2026-03-07")
+    private LocalDate diaryDate;
+
+    @Schema(description = "제목", example = "3월 7일의 일기")
+    private String title;
+
+    @Schema(description = "본문", example = "오늘은 날씨가 맑아서 공원에 산책을 다녀왔다.")
+    private String content;
+
+    @Schema(description = "날씨", example = "맑음")
+    private String weather;
+
+    @Schema(description = "기분", example = "기쁨")
+    private String mood;
+
+    @Schema(description = "작성 시간", example = "2026-03-07T20:30:00")
+    private LocalDateTime createdAt;
+
+    public static DiaryResponse from(Diary diary) {
+        return DiaryResponse.builder()
+                .id(diary.getId())
+                .diaryDate(diary.getDiaryDate())
+                .title(diary.getTitle())
+                .content(diary.getContent())
+                .weather(diary.getWeather())
+                .mood(diary.getMood())
+                .createdAt(diary.getCreatedAt())
+                .build();
+    }
+}
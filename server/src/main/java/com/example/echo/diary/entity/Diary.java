@@ -0,0 +1,92 @@
+package com.example.echo.diary.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일기 엔티티
+ *
+ * 하루 대화 내용을 바탕으로 생성된 일기 (사용자당 하루 1건)
+ * - 같은 날 대화를 다시 하면 기존 일기에 이어서 다시 작성해 갱신
+ * - 목록 조회는 diary_id 기준 keyset 페이지네이션 (최신순)
+ */
+@Entity
+@Table(name = "diaries",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uq_diaries_user_date",
+                columnNames = {"user_id", "diary_date"}
+        ),
+        indexes = {
+                @Index(name = "idx_diaries_user_id", columnList = "user_id, diary_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Diary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "diary_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "diary_date", nullable = false)
+    private LocalDate diaryDate;
+
+    @Column(name = "title", nullable = false, length = 100)
+    private String title;
+
+    @Column(name = "content", columnDefinition = "TEXT", nullable = false)
+    private String content;
+
+    /** 대화 당일 날씨 설명 (예: "맑음") */
+    @Column(name = "weather", length = 50)
+    private String weather;
+
+    @Column(name = "mood", length = 50)
+    private String mood;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Builder
+    public Diary(Long userId, LocalDate diaryDate, String title, String content, String weather, String mood) {
+        this.userId = userId;
+        this.diaryDate = diaryDate;
+        this.title = title;
+        this.content = content;
+        this.weather = weather;
+        this.mood = mood;
+    }
+
+    /**
+     * 같은 날 대화가 추가로 끝났을 때 일기 내용 갱신
+     */
+    public void rewrite(String content, String weather) {
+        this.content = content;
+        if (weather != null) {
+            this.weather = weather;
+        }
+    }
+}
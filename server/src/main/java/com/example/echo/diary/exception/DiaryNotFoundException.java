@@ -0,0 +1,10 @@
+package com.example.echo.diary.exception;
+
+import com.example.echo.common.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class DiaryNotFoundException extends BaseException {
+    public DiaryNotFoundException(String message) {
+        super(HttpStatus.NOT_FOUND, message);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.echo.diary.repository;
+
+import com.example.echo.diary.entity.Diary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DiaryRepository extends JpaRepository<Diary, Long> {
+
+    /**
+     * 특정 사용자의 특정 날짜 일기 조회
+     */
+    Optional<Diary> findByUserIdAndDiaryDate(Long userId, LocalDate diaryDate);
+
+    /**
+     * 특정 사용자의 최신 일기 목록 (첫 페이지)
+     */
+    List<Diary> findByUserIdOrderByIdDesc(Long userId, Pageable pageable);
+
+    /**
+     * 특정 사용자의 beforeId보다 오래된 일기 목록 (다음 페이지, keyset)
+     * OFFSET 없이 (user_id, diary_id) 인덱스 범위 조회만 하므로 페이지가 깊어져도 비용이 일정
+     */
+    List<Diary> findByUserIdAndIdLessThanOrderByIdDesc(Long userId, Long beforeId, Pageable pageable);
+}
@@ -0,0 +1,30 @@
+package com.example.echo.diary.service;
+
+import com.example.echo.diary.dto.DiaryJobPayload;
+import com.example.echo.job.service.JobHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대화 종료 후 일기 생성 작업 처리기
+ */
+@Component
+@RequiredArgsConstructor
+public class DiaryJobHandler implements JobHandler {
+
+    public static final String JOB_TYPE = "DIARY";
+
+    private final DiaryService diaryService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String jobType() {
+        return JOB_TYPE;
+    }
+
+    @Override
+    public void handle(String payload) throws Exception {
+        diaryService.generateAndSaveDiary(objectMapper.readValue(payload, DiaryJobPayload.class));
+    }
+}
@@ -1,22 +1,151 @@
 package com.example.echo.diary.service;
 
-import com.example.echo.context.domain.UserContext;
-import lombok.RequiredArgsConstructor;
+import com.example.echo.ai.service.AIService;
+import com.example.echo.context.domain.ConversationTurn;
+import com.example.echo.diary.dto.DiaryJobPayload;
+import com.example.echo.diary.dto.DiaryResponse;
+import com.example.echo.diary.entity.Diary;
+import com.example.echo.diary.exception.DiaryNotFoundException;
+import com.example.echo.diary.repository.DiaryRepository;
+import com.example.echo.prompt.service.PromptService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 일기 생성/조회 서비스
+ *
+ * 일기 생성 입력은 대화 중 히스토리 압축(ConversationHistoryManager)이 만든 요약 + 요약 이후 턴이므로
+ * 대화 길이와 관계없이 LLM 호출 1회, 입력 크기가 거의 일정 (이후 턴은 히스토리 토큰 예산 이내)
+ * 일기용 요약을 턴마다 따로 만들지 않아 대화 중 추가 LLM 호출이 없음
+ * 같은 날 두 번째 대화부터는 기존 일기 본문을 함께 넘겨 하루 전체를 다시 작성
+ *
+ * LLM 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회 → 생성 → 저장 순서로 처리
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class DiaryService {
 
-    public void generateAndSaveDiary(UserContext context) {
+    private static final DateTimeFormatter TITLE_FORMAT = DateTimeFormatter.ofPattern("M월 d일의 일기");
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final DiaryRepository diaryRepository;
+    private final PromptService promptService;
+    private final AIService aiService;
+    private final int maxTokens;
+
+    public DiaryService(DiaryRepository diaryRepository,
+                        PromptService promptService,
+                        AIService aiService,
+                        @Value("${diary.max-tokens:500}") int maxTokens) {
+        this.diaryRepository = diaryRepository;
+        this.promptService = promptService;
+        this.aiService = aiService;
+        this.maxTokens = maxTokens;
+    }
+
+    /**
+     * 대화 기록으로 일기 생성 및 저장 (DiaryJobHandler에서 비동기로 호출)
+     * 사용자 발화가 없는 대화(인사만 하고 종료)는 일기를 만들지 않음
+     */
+    public void generateAndSaveDiary(DiaryJobPayload job) {
+        List<ConversationTurn> history = job.getConversationHistory();
+        boolean hasUserMessage = history.stream().anyMatch(turn -> turn.getUserMessage() != null);
+        if (!hasUserMessage) {
+            log.info("사용자 발화 없음 - 일기 생성 생략 - userId: {}, date: {}", job.getUserId(), job.getDate());
+            return;
+        }
+
+        Optional<Diary> existing = diaryRepository.findByUserIdAndDiaryDate(job.getUserId(), job.getDate());
+        String conversationText = buildConversationText(job, existing.map(Diary::getContent).orElse(null));
+
+        String prompt = promptService.buildDiaryPrompt(job.getUserName(), job.getTodayContext(), conversationText);
+        String content = aiService.complete(null, prompt, maxTokens);
+
+        Diary diary = existing.orElseGet(() -> Diary.builder()
+                .userId(job.getUserId())
+                .diaryDate(job.getDate())
+                .title(job.getDate().format(TITLE_FORMAT))
+                .content(content)
+                .weather(job.getWeather())
+                .build());
+        if (existing.isPresent()) {
+            diary.rewrite(content, job.getWeather());
+        }
+        diaryRepository.save(diary);
 
-        log.info("DiaryService.generateAndSaveDiary 호출됨 - userId: {}, 대화 턴 수: {}",
-                context.getUserId(),
-                context.getConversationHistory().size());
-        // TODO: 대화 내용 기반 일기 생성 및 저장
-        log.info("TODO: 일기 생성 로직 구현 필요 - userId: {}", context.getUserId());
+        log.info("일기 저장 완료 - userId: {}, date: {}, 요약 반영 턴: {}, 원문 턴: {}, 갱신 여부: {}",
+                job.getUserId(), job.getDate(), job.getSummarizedTurnCount(),
+                history.size() - job.getSummarizedTurnCount(), existing.isPresent());
+    }
+
+    /**
+     * DIARY 템플릿 {{conversationHistory}} 구성
+     * [앞선 대화 일기] → [대화 요약] → [이어진 대화] 순서 (없는 항목은 생략)
+     */
+    String buildConversationText(DiaryJobPayload job, String previousDiary) {
+        List<ConversationTurn> history = job.getConversationHistory();
+        int summarized = job.getRollingSummary() != null
+                ? Math.min(job.getSummarizedTurnCount(), history.size())
+                : 0;
+
+        StringBuilder sb = new StringBuilder();
+        if (previousDiary != null) {
+            sb.append("[앞선 대화로 쓴 오늘 일기]\n").append(previousDiary).append("\n\n");
+        }
+        if (summarized > 0) {
+            sb.append("[대화 요약]\n").append(job.getRollingSummary()).append("\n\n");
+        }
+        String tail = formatTurns(history.subList(summarized, history.size()));
+        if (!tail.isEmpty()) {
+            sb.append(summarized > 0 ? "[이어진 대화]\n" : "").append(tail);
+        }
+        return sb.toString().trim();
+    }
+
+    /**
+     * 대화 턴을 "사용자: ... / AI: ..." 형식의 텍스트로 변환
+     */
+    static String formatTurns(List<ConversationTurn> turns) {
+        StringBuilder sb = new StringBuilder();
+        for (ConversationTurn turn : turns) {
+            if (turn.getUserMessage() != null) {
+                sb.append("사용자: ").append(turn.getUserMessage()).append('\n');
+            }
+            if (turn.getAiResponse() != null) {
+                sb.append("AI: ").append(turn.getAiResponse()).append('\n');
+            }
+        }
+        return sb.toString().trim();
+    }
+
+    /**
+     * 일기 목록 조회 (최신순, keyset 페이지네이션)
+     *
+     * @param before 이전 페이지 마지막 일기 ID (null이면 첫 페이지)
+     * @param size 페이지 크기 (최대 50)
+     */
+    public List<DiaryResponse> getDiaries(Long userId, Long before, int size) {
+        Pageable limit = PageRequest.of(0, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        List<Diary> diaries = before == null
+                ? diaryRepository.findByUserIdOrderByIdDesc(userId, limit)
+                : diaryRepository.findByUserIdAndIdLessThanOrderByIdDesc(userId, before, limit);
+        return diaries.stream().map(DiaryResponse::from).toList();
+    }
 
+    /**
+     * 일기 단건 조회 (다른 사용자의 일기는 존재하지 않는 것으로 처리)
+     */
+    public DiaryResponse getDiary(Long userId, Long diaryId) {
+        return diaryRepository.findById(diaryId)
+                .filter(diary -> diary.getUserId().equals(userId))
+                .map(DiaryResponse::from)
+                .orElseThrow(() -> new DiaryNotFoundException("일기를 찾을 수 없습니다: " + diaryId));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,136 @@
+package com.example.echo.job.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 백그라운드 작업 엔티티 (DB 기반 작업 큐)
+ *
+ * 요청 처리 중 등록하고 JobWorker가 비동기로 처리
+ * - 워커는 leaseUntil까지 작업을 점유(lease)하며, 만료된 RUNNING 작업은 다른 워커가 다시 가져감
+ *   (처리 중 서버가 재시작되어도 작업이 유실되지 않음)
+ * - 실패 시 지수 백오프로 재시도, maxAttempts 초과 시 DEAD로 보관
+ */
+@Entity
+@Table(name = "background_jobs",
+        indexes = {
+                @Index(name = "idx_background_jobs_status_next_run", columnList = "status, next_run_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BackgroundJob {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long id;
+
+    /** 작업 종류 (JobHandler.jobType()과 매칭) */
+    @Column(name = "job_type", nullable = false, length = 50)
+    private String jobType;
+
+    /** 작업 입력 (JSON) */
+    @Column(name = "payload", columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private JobStatus status;
+
+    /** 지금까지 실행을 시작한 횟수 (claim 시 증가) */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "max_attempts", nullable = false)
+    private int maxAttempts;
+
+    /** 이 시각 이후 실행 가능 (재시도 백오프) */
+    @Column(name = "next_run_at", nullable = false)
+    private LocalDateTime nextRunAt;
+
+    /** 작업을 점유한 워커 ID */
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    /** 점유 만료 시각 (지나면 다른 워커가 다시 가져갈 수 있음) */
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Builder
+    public BackgroundJob(String jobType, String payload, int maxAttempts, LocalDateTime nextRunAt) {
+        this.jobType = jobType;
+        this.payload = payload;
+        this.status = JobStatus.PENDING;
+        this.attempts = 0;
+        this.maxAttempts = maxAttempts;
+        this.nextRunAt = nextRunAt;
+    }
+
+    /**
+     * 해당 워커가 현재 점유 중인 작업인지 (lease 만료 후 다른 워커가 가져간 경우 false)
+     */
+    public boolean isLeasedBy(String workerId) {
+        return status == JobStatus.RUNNING && workerId.equals(leaseOwner);
+    }
+
+    public boolean hasAttemptsLeft() {
+        return attempts < maxAttempts;
+    }
+
+    public void complete() {
+        this.status = JobStatus.SUCCEEDED;
+        releaseLease();
+    }
+
+    public void retryAt(LocalDateTime nextRunAt, String error) {
+        this.status = JobStatus.PENDING;
+        this.nextRunAt = nextRunAt;
+        this.lastError = truncate(error);
+        releaseLease();
+    }
+
+    public void deadLetter(String error) {
+        this.status = JobStatus.DEAD;
+        this.lastError = truncate(error);
+        releaseLease();
+    }
+
+    private void releaseLease() {
+        this.leaseOwner = null;
+        this.leaseUntil = null;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
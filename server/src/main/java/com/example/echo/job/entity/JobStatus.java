@@ -0,0 +1,15 @@
+package com.example.echo.job.entity;
+
+/**
+ * 백그라운드 작업 상태
+ *
+ * PENDING → RUNNING → SUCCEEDED
+ *                   ↘ PENDING (재시도 대기, nextRunAt 이후 다시 실행)
+ *                   ↘ DEAD (최대 시도 횟수 초과 또는 처리할 핸들러 없음)
+ */
+public enum JobStatus {
+    PENDING,
+    RUNNING,
+    SUCCEEDED,
+    DEAD
+}
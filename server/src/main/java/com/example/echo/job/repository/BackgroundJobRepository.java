@@ -0,0 +1,52 @@
+package com.example.echo.job.repository;
+
+import com.example.echo.job.entity.BackgroundJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface BackgroundJobRepository extends JpaRepository<BackgroundJob, Long> {
+
+    /**
+     * 실행 가능한 작업 ID 조회 (실행 시각이 된 PENDING + lease가 만료된 RUNNING)
+     */
+    @Query("""
+            select j.id from BackgroundJob j
+            where (j.status = com.example.echo.job.entity.JobStatus.PENDING and j.nextRunAt <= :now)
+               or (j.status = com.example.echo.job.entity.JobStatus.RUNNING and j.leaseUntil < :now)
+            order by j.nextRunAt asc
+            """)
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 작업 점유 (조건부 UPDATE)
+     *
+     * 조회 이후 다른 워커가 먼저 가져갔으면 조건에 맞지 않아 0을 반환하므로
+     * 여러 서버 인스턴스가 같은 테이블을 폴링해도 한 작업은 한 워커만 실행
+     *
+     * @return 점유 성공 시 1, 이미 다른 워커가 가져갔으면 0
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            update BackgroundJob j
+            set j.status = com.example.echo.job.entity.JobStatus.RUNNING,
+                j.leaseOwner = :owner,
+                j.leaseUntil = :leaseUntil,
+                j.attempts = j.attempts + 1,
+                j.updatedAt = :now
+            where j.id = :id
+              and ((j.status = com.example.echo.job.entity.JobStatus.PENDING and j.nextRunAt <= :now)
+                or (j.status = com.example.echo.job.entity.JobStatus.RUNNING and j.leaseUntil < :now))
+            """)
+    int claim(@Param("id") Long id,
+              @Param("owner") String owner,
+              @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,20 @@
+package com.example.echo.job.service;
+
+/**
+ * 백그라운드 작업 처리기
+ *
+ * 구현체를 빈으로 등록하면 JobWorker가 jobType()이 같은 작업을 넘겨줌
+ * 같은 작업이 두 번 이상 실행될 수 있으므로 (lease 만료 후 재실행, 완료 기록 직전 장애) 멱등하게 구현
+ */
+public interface JobHandler {
+
+    /** 처리할 작업 종류 (BackgroundJob.jobType) */
+    String jobType();
+
+    /**
+     * 작업 처리 (예외를 던지면 백오프 후 재시도)
+     *
+     * @param payload 등록 시 저장한 JSON
+     */
+    void handle(String payload) throws Exception;
+}
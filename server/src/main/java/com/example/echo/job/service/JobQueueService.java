@@ -0,0 +1,167 @@
+package com.example.echo.job.service;
+
+import com.example.echo.job.entity.BackgroundJob;
+import com.example.echo.job.repository.BackgroundJobRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DB 기반 백그라운드 작업 큐
+ *
+ * 작업 등록(enqueue)과 워커의 점유/완료/실패 기록을 각각 짧은 트랜잭션으로 처리
+ * (작업 실행 자체는 트랜잭션 밖에서 JobWorker가 수행)
+ */
+@Slf4j
+@Service
+public class JobQueueService {
+
+    private final BackgroundJobRepository jobRepository;
+    private final ObjectMapper objectMapper;
+
+    private final int maxAttempts;
+    private final long leaseSeconds;
+    private final long baseDelaySeconds;
+    private final long maxDelaySeconds;
+
+    public JobQueueService(BackgroundJobRepository jobRepository,
+                           ObjectMapper objectMapper,
+                           @Value("${jobs.max-attempts:5}") int maxAttempts,
+                           @Value("${jobs.lease-seconds:300}") long leaseSeconds,
+                           @Value("${jobs.retry.base-delay-seconds:30}") long baseDelaySeconds,
+                           @Value("${jobs.retry.max-delay-seconds:1800}") long maxDelaySeconds) {
+        this.jobRepository = jobRepository;
+        this.objectMapper = objectMapper;
+        this.maxAttempts = maxAttempts;
+        this.leaseSeconds = leaseSeconds;
+        this.baseDelaySeconds = baseDelaySeconds;
+        this.maxDelaySeconds = maxDelaySeconds;
+    }
+
+    /**
+     * 작업 등록 (즉시 실행 가능 상태)
+     *
+     * @param jobType 작업 종류 (JobHandler.jobType())
+     * @param payload JSON으로 저장할 작업 입력
+     * @return 작업 ID
+     */
+    @Transactional
+    public Long enqueue(String jobType, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("작업 입력 직렬화 실패 - jobType: " + jobType, e);
+        }
+
+        BackgroundJob job = jobRepository.save(BackgroundJob.builder()
+                .jobType(jobType)
+                .payload(json)
+                .maxAttempts(maxAttempts)
+                .nextRunAt(LocalDateTime.now())
+                .build());
+        log.info("[작업 큐] 등록 - jobId: {}, jobType: {}", job.getId(), jobType);
+        return job.getId();
+    }
+
+    /**
+     * 실행 가능한 작업을 최대 limit건 점유
+     *
+     * @param workerId 점유할 워커 ID
+     * @return 점유에 성공한 작업 (다른 워커가 먼저 가져간 작업은 제외)
+     */
+    @Transactional
+    public List<BackgroundJob> claim(String workerId, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> candidateIds = jobRepository.findClaimableIds(now, PageRequest.of(0, limit));
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+        List<Long> claimedIds = new ArrayList<>();
+        for (Long id : candidateIds) {
+            if (jobRepository.claim(id, workerId, leaseUntil, now) == 1) {
+                claimedIds.add(id);
+            }
+        }
+        return claimedIds.isEmpty() ? List.of() : jobRepository.findAllById(claimedIds);
+    }
+
+    /**
+     * 작업 완료 기록
+     */
+    @Transactional
+    public void complete(Long jobId, String workerId) {
+        jobRepository.findById(jobId)
+                .filter(job -> isStillLeased(job, workerId))
+                .ifPresent(BackgroundJob::complete);
+    }
+
+    /**
+     * 작업 실패 기록 (시도 횟수가 남았으면 백오프 후 재시도, 아니면 DEAD)
+     *
+     * @return 재시도 예정이면 true, DEAD로 보관했으면 false
+     */
+    @Transactional
+    public boolean fail(Long jobId, String workerId, String error) {
+        BackgroundJob job = jobRepository.findById(jobId)
+                .filter(found -> isStillLeased(found, workerId))
+                .orElse(null);
+        if (job == null) {
+            return false;
+        }
+
+        if (!job.hasAttemptsLeft()) {
+            job.deadLetter(error);
+            log.error("[작업 큐] 최대 시도 횟수 초과로 DEAD 처리 - jobId: {}, jobType: {}, 시도: {}회, error: {}",
+                    jobId, job.getJobType(), job.getAttempts(), error);
+            return false;
+        }
+
+        LocalDateTime nextRunAt = LocalDateTime.now().plusSeconds(backoffSeconds(job.getAttempts()));
+        job.retryAt(nextRunAt, error);
+        log.warn("[작업 큐] 실패 → 재시도 예약 - jobId: {}, jobType: {}, 시도: {}/{}회, 다음 실행: {}, error: {}",
+                jobId, job.getJobType(), job.getAttempts(), job.getMaxAttempts(), nextRunAt, error);
+        return true;
+    }
+
+    /**
+     * 재시도 없이 DEAD 처리 (처리할 핸들러가 없는 경우 등)
+     */
+    @Transactional
+    public void deadLetter(Long jobId, String workerId, String error) {
+        jobRepository.findById(jobId)
+                .filter(job -> isStillLeased(job, workerId))
+                .ifPresent(job -> {
+                    job.deadLetter(error);
+                    log.error("[작업 큐] DEAD 처리 - jobId: {}, jobType: {}, error: {}",
+                            jobId, job.getJobType(), error);
+                });
+    }
+
+    /**
+     * 재시도 대기 시간: base * 2^(시도 횟수 - 1), 최대 maxDelaySeconds
+     */
+    long backoffSeconds(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        return Math.min(baseDelaySeconds << exponent, maxDelaySeconds);
+    }
+
+    private boolean isStillLeased(BackgroundJob job, String workerId) {
+        if (job.isLeasedBy(workerId)) {
+            return true;
+        }
+        log.warn("[작업 큐] lease가 만료되어 다른 워커가 가져간 작업 - 결과 기록 생략 - jobId: {}, workerId: {}",
+                job.getId(), workerId);
+        return false;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.echo.job.service;
+
+import com.example.echo.job.entity.BackgroundJob;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 백그라운드 작업 워커
+ *
+ * 주기적으로 작업 큐를 폴링하여 빈 슬롯(concurrency - 실행 중)만큼 작업을 점유하고
+ * jobExecutor에서 jobType에 맞는 JobHandler로 처리
+ *
+ * 서버 인스턴스마다 고유 workerId로 점유하므로 여러 인스턴스가 같은 큐를 나눠 처리할 수 있음
+ */
+@Slf4j
+@Service
+public class JobWorker {
+
+    private static final String METRIC_NAME = "jobs.processed";
+
+    private final JobQueueService jobQueueService;
+    private final Map<String, JobHandler> handlers;
+    private final Executor jobExecutor;
+    private final MeterRegistry meterRegistry;
+    private final int concurrency;
+
+    private final String workerId = "worker-" + ProcessHandle.current().pid() + "-"
+            + UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicInteger running = new AtomicInteger();
+
+    @Value("${jobs.worker.enabled:true}")
+    private boolean enabled;
+
+    public JobWorker(JobQueueService jobQueueService,
+                     List<JobHandler> handlers,
+                     @Qualifier("jobExecutor") Executor jobExecutor,
+                     MeterRegistry meterRegistry,
+                     @Value("${jobs.concurrency:2}") int concurrency) {
+        this.jobQueueService = jobQueueService;
+        this.handlers = handlers.stream()
+                .collect(Collectors.toMap(JobHandler::jobType, Function.identity()));
+        this.jobExecutor = jobExecutor;
+        this.meterRegistry = meterRegistry;
+        this.concurrency = concurrency;
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.poll-interval-ms:1000}",
+            initialDelayString = "${jobs.initial-delay-ms:5000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+
+        int freeSlots = concurrency - running.get();
+        if (freeSlots <= 0) {
+            return;
+        }
+
+        List<BackgroundJob> jobs;
+        try {
+            jobs = jobQueueService.claim(workerId, freeSlots);
+        } catch (Exception e) {
+            log.warn("[작업 큐] 폴링 실패 - workerId: {}, 이유: {}", workerId, e.getMessage());
+            return;
+        }
+
+        for (BackgroundJob job : jobs) {
+            running.incrementAndGet();
+            jobExecutor.execute(() -> {
+                try {
+                    execute(job);
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * 작업 1건 실행 후 결과 기록
+     */
+    void execute(BackgroundJob job) {
+        JobHandler handler = handlers.get(job.getJobType());
+        if (handler == null) {
+            jobQueueService.deadLetter(job.getId(), workerId, "처리할 핸들러 없음: " + job.getJobType());
+            record(job, "dead");
+            return;
+        }
+
+        log.info("[작업 큐] 실행 - jobId: {}, jobType: {}, 시도: {}/{}회",
+                job.getId(), job.getJobType(), job.getAttempts(), job.getMaxAttempts());
+        try {
+            handler.handle(job.getPayload());
+            jobQueueService.complete(job.getId(), workerId);
+            record(job, "success");
+        } catch (Exception e) {
+            String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            boolean retrying = jobQueueService.fail(job.getId(), workerId, error);
+            record(job, retrying ? "retry" : "dead");
+        }
+    }
+
+    String getWorkerId() {
+        return workerId;
+    }
+
+    private void record(BackgroundJob job, String result) {
+        meterRegistry.counter(METRIC_NAME, "type", job.getJobType(), "result", result).increment();
+    }
+}
@@ -7,12 +7,22 @@ import com.example.echo.location.dto.LocationData;
 import com.example.echo.location.dto.RawLocationData;
 import com.example.echo.location.dto.RawVisitedPlace;
 import com.example.echo.location.dto.VisitedPlace;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 /**
  * 위치 데이터 처리 서비스
@@ -20,18 +30,45 @@ import java.util.List;
  * - 원시 위치 데이터를 보강된 위치 데이터로 변환
  * - 역지오코딩으로 장소명/주소 추가
  * - Timemachine API로 방문 시점 날씨 추가
+ *
+ * 방문 장소별 API 호출은 locationEnrichExecutor에서 동시에 진행하되,
+ * 제공자(카카오/OpenWeather)별 동시 호출 수는 서버 전체에서 Semaphore로 제한 (rate limit 보호)
+ * 각 호출은 컨텍스트 초기화 시간 예산(context.init.budget-ms) 안에 끝나지 않으면 fallback 값으로 대체
+ * (초기화가 예산 초과로 위치 없이 진행해도 요청 스레드가 느린 제공자에 묶여 있지 않도록)
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class LocationService {
 
     private final GeocodingService geocodingService;
     private final WeatherClient weatherClient;
+    private final Executor locationEnrichExecutor;
+    private final Semaphore geocodePermits;
+    private final Semaphore weatherPermits;
+    private final long budgetMs;
+
+    public LocationService(GeocodingService geocodingService,
+                           WeatherClient weatherClient,
+                           @Qualifier("locationEnrichExecutor") Executor locationEnrichExecutor,
+                           @Value("${location.enrich.geocode-concurrency:4}") int geocodeConcurrency,
+                           @Value("${location.enrich.weather-concurrency:4}") int weatherConcurrency,
+                           @Value("${context.init.budget-ms:2500}") long budgetMs) {
+        this.geocodingService = geocodingService;
+        this.weatherClient = weatherClient;
+        this.locationEnrichExecutor = locationEnrichExecutor;
+        this.geocodePermits = new Semaphore(geocodeConcurrency);
+        this.weatherPermits = new Semaphore(weatherConcurrency);
+        this.budgetMs = budgetMs;
+    }
 
     /**
      * 원시 위치 데이터를 보강된 위치 데이터로 변환
      *
+     * 호출 전에 중복 제거:
+     * - 역지오코딩: 좌표 소수점 4자리(약 10m)가 같은 장소는 1회만 호출
+     * - 방문 날씨: WeatherClient 캐시 키와 같은 단위(좌표 소수점 1자리 + 방문 시각)로 1회만 호출
+     * 결과 방문 장소 순서는 입력 순서를 유지
+     *
      * @param raw 앱에서 받은 원시 위치 데이터
      * @return 장소명, 주소, 날씨가 추가된 위치 데이터
      */
@@ -44,20 +81,30 @@ public class LocationService {
                 raw.getCurrentLatitude(), raw.getCurrentLongitude(),
                 raw.getVisitedPlaces() != null ? raw.getVisitedPlaces().size() : 0);
 
-        String currentCity = null;
+        CompletableFuture<String> currentCityFuture = CompletableFuture.completedFuture(null);
         if (raw.getCurrentLatitude() != null && raw.getCurrentLongitude() != null) {
-            currentCity = geocodingService.getCityName(
-                    raw.getCurrentLatitude(),
-                    raw.getCurrentLongitude()
-            );
+            double lat = raw.getCurrentLatitude();
+            double lon = raw.getCurrentLongitude();
+            currentCityFuture = callLimited(geocodePermits, () -> geocodingService.getCityName(lat, lon), null);
         }
 
-        List<VisitedPlace> enrichedPlaces = new ArrayList<>();
-        if (raw.getVisitedPlaces() != null) {
-            for (RawVisitedPlace rawPlace : raw.getVisitedPlaces()) {
-                enrichedPlaces.add(enrichVisitedPlace(rawPlace));
-            }
+        List<RawVisitedPlace> rawPlaces = raw.getVisitedPlaces() != null ? raw.getVisitedPlaces() : List.of();
+        Map<String, CompletableFuture<GeocodingResult>> geocodeCalls = new HashMap<>();
+        Map<String, CompletableFuture<VisitWeather>> weatherCalls = new HashMap<>();
+        List<CompletableFuture<VisitedPlace>> placeFutures = new ArrayList<>(rawPlaces.size());
+        for (RawVisitedPlace rawPlace : rawPlaces) {
+            CompletableFuture<GeocodingResult> geocode = requestGeocode(rawPlace, geocodeCalls);
+            CompletableFuture<VisitWeather> weather = requestVisitWeather(rawPlace, weatherCalls);
+            placeFutures.add(geocode.thenCombine(weather,
+                    (result, visitWeather) -> toVisitedPlace(rawPlace, result, visitWeather)));
         }
+        log.debug("방문 장소 API 요청 - 장소 {}곳 → 역지오코딩 {}건, 방문 날씨 {}건 (중복 제거 후)",
+                rawPlaces.size(), geocodeCalls.size(), weatherCalls.size());
+
+        String currentCity = currentCityFuture.join();
+        List<VisitedPlace> enrichedPlaces = placeFutures.stream()
+                .map(CompletableFuture::join)
+                .toList();
 
         log.info("위치 데이터 보강 완료 - currentCity: {}, 방문장소 수: {}, 총 이동거리: {}km",
                 currentCity, enrichedPlaces.size(), raw.getTotalDistanceKm());
@@ -77,35 +124,68 @@ public class LocationService {
     private static final int MIN_STAY_DURATION_FOR_WEATHER = 30;
 
     /**
-     * 방문 장소 정보 보강
-     *
-     * - 역지오코딩으로 장소명/주소 추가
-     * - Timemachine API로 방문 시점 날씨 추가 (30분 이상 체류 시에만)
+     * 역지오코딩 요청 (같은 좌표 키는 진행 중인 호출을 공유)
+     */
+    private CompletableFuture<GeocodingResult> requestGeocode(
+            RawVisitedPlace raw, Map<String, CompletableFuture<GeocodingResult>> geocodeCalls) {
+        if (raw.getLatitude() == null || raw.getLongitude() == null) {
+            return CompletableFuture.completedFuture(GeocodingResult.builder().build());
+        }
+        String key = String.format("%.4f,%.4f", raw.getLatitude(), raw.getLongitude());
+        double lat = raw.getLatitude();
+        double lon = raw.getLongitude();
+        return geocodeCalls.computeIfAbsent(key, k -> callLimited(geocodePermits,
+                () -> geocodingService.reverseGeocode(lat, lon), GeocodingResult.builder().build()));
+    }
+
+    /**
+     * 방문 시점 날씨 요청 (30분 이상 체류 시에만, 같은 좌표/시각 키는 호출을 공유)
      */
-    private VisitedPlace enrichVisitedPlace(RawVisitedPlace raw) {
-        // 1. 역지오코딩
-        GeocodingResult result = geocodingService.reverseGeocode(
-                raw.getLatitude(),
-                raw.getLongitude()
-        );
-
-        // 2. 방문 시점 날씨 조회 (30분 이상 체류 시에만 API 호출)
-        VisitWeather visitWeather = null;
+    private CompletableFuture<VisitWeather> requestVisitWeather(
+            RawVisitedPlace raw, Map<String, CompletableFuture<VisitWeather>> weatherCalls) {
         Integer stayDuration = raw.getStayDurationMinutes();
-        if (stayDuration != null && stayDuration >= MIN_STAY_DURATION_FOR_WEATHER) {
-            visitWeather = weatherClient.getWeatherForVisit(
-                    raw.getLatitude(),
-                    raw.getLongitude(),
-                    raw.getVisitStartTime()
-            );
-            log.debug("방문 시점 날씨 조회 - 체류 {}분 >= {}분, 날씨: {}",
-                    stayDuration, MIN_STAY_DURATION_FOR_WEATHER,
-                    visitWeather != null ? visitWeather.getDescription() : "null");
-        } else {
+        if (stayDuration == null || stayDuration < MIN_STAY_DURATION_FOR_WEATHER) {
             log.debug("방문 시점 날씨 조회 생략 - 체류 {}분 < {}분 (API 절약)",
                     stayDuration, MIN_STAY_DURATION_FOR_WEATHER);
+            return CompletableFuture.completedFuture(null);
+        }
+        if (raw.getLatitude() == null || raw.getLongitude() == null || raw.getVisitStartTime() == null) {
+            log.debug("위치 또는 시간 정보가 없어 방문 날씨 조회를 건너뜁니다");
+            return CompletableFuture.completedFuture(null);
         }
+        String key = String.format("%.1f,%.1f:%d",
+                raw.getLatitude(), raw.getLongitude(), raw.getVisitStartTime().getHour());
+        return weatherCalls.computeIfAbsent(key, k -> callLimited(weatherPermits,
+                () -> weatherClient.getWeatherForVisit(raw.getLatitude(), raw.getLongitude(), raw.getVisitStartTime()),
+                null));
+    }
 
+    /**
+     * 제공자별 동시 호출 수 제한 안에서 비동기 호출 (실패 또는 budgetMs 초과 시 fallback 값으로 대체)
+     */
+    private <T> CompletableFuture<T> callLimited(Semaphore permits, Supplier<T> call, T fallback) {
+        return CompletableFuture.supplyAsync(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                return call.get();
+            } finally {
+                permits.release();
+            }
+        }, locationEnrichExecutor).orTimeout(budgetMs, TimeUnit.MILLISECONDS).exceptionally(e -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof TimeoutException) {
+                log.warn("위치 보강 API 호출 시간 예산({}ms) 초과 → 없이 진행", budgetMs);
+            } else {
+                log.warn("위치 보강 API 호출 실패 - 이유: {}", cause.getMessage());
+            }
+            return fallback;
+        });
+    }
+
+    /**
+     * 방문 장소 정보 보강 결과 조립
+     */
+    private VisitedPlace toVisitedPlace(RawVisitedPlace raw, GeocodingResult result, VisitWeather visitWeather) {
         log.debug("방문 장소 보강 완료 - placeName: {}, address: {}, 체류: {}분, 날씨: {}",
                 result.getPlaceName(), result.getAddress(),
                 raw.getStayDurationMinutes(),
@@ -123,4 +203,3 @@ public class LocationService {
                 .build();
     }
 }
- 
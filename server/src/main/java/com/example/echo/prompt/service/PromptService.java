@@ -37,7 +37,7 @@ import java.util.Map;
  * - UserContext에서 필요한 데이터 추출 (DB 재조회 없음)
  * - 템플릿 변수 치환 후 최종 프롬프트 반환
  *
- * 일기 프롬프트는 DiaryService에서 담당 (단일 책임 원칙)
+ * 일기 프롬프트는 DIARY 템플릿 변수 치환만 담당 (입력 구성은 DiaryService)
  */
 @Slf4j
 @Service
@@ -53,8 +53,10 @@ public class PromptService {
      * 모든 대화의 기본이 되며, 대화 시작 시 1회 생성
      *
      * [최적화] Context에서 EnrichedHealthData 직접 사용 - DB 재조회 없음
+     * [최적화] 템플릿(v8~)은 {{변수}}를 맨 아래 데이터 블록에만 두므로 앞부분(페르소나+규칙)은
+     *         모든 사용자에게 동일 → OpenAI 프롬프트 캐시 적중 (AIService의 ai.prompt.tokens.cached로 확인)
      *
-     * 템플릿 변수 (v7):
+     * 템플릿 변수 (v7~):
      * - 사용자 정보: {{userName}}, {{userAge}}, {{userBirthday}}
      * - 선호도: {{hobby}}, {{job}}, {{family}}, {{preferredTopics}}, {{preferredSleepHours}}
      * - 현재 날씨: {{weather}}, {{temperature}}
@@ -138,6 +140,28 @@ public class PromptService {
         return template.compile(variables);
     }
 
+    /**
+     * 일기 작성 프롬프트 생성 (DIARY 템플릿)
+     *
+     * 템플릿 변수: {{userName}}, {{todayContext}}, {{conversationHistory}}
+     *
+     * @param userName 사용자 이름 (null이면 "사용자")
+     * @param todayContext 오늘의 건강 데이터 텍스트
+     * @param conversationHistory 대화 내용 (누적 요약 + 요약 이후 대화)
+     * @return 컴파일된 일기 프롬프트 문자열
+     * @throws IllegalStateException 활성화된 DIARY 템플릿이 없을 경우
+     */
+    public String buildDiaryPrompt(String userName, String todayContext, String conversationHistory) {
+        PromptTemplate template = getActiveTemplate(PromptType.DIARY);
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("userName", userName != null ? userName : "사용자");
+        variables.put("todayContext", todayContext);
+        variables.put("conversationHistory", conversationHistory);
+
+        return template.compile(variables);
+    }
+
     /**
      * 방문 장소 목록을 텍스트로 변환
      *
@@ -2,7 +2,11 @@ package com.example.echo.user.repository;
 
 import com.example.echo.user.entity.UserPreferences;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserPreferencesRepository extends JpaRepository<UserPreferences, Long> {
@@ -10,4 +14,7 @@ public interface UserPreferencesRepository extends JpaRepository<UserPreferences
     Optional<UserPreferences> findByUserId(Long userId);
 
     boolean existsByUserId(Long userId);
+
+    @Query("select p.userId from UserPreferences p where p.conversationTime >= :from and p.conversationTime < :to")
+    List<Long> findUserIdsByConversationTimeRange(@Param("from") LocalTime from, @Param("to") LocalTime to);
 }
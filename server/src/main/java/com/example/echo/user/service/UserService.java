@@ -11,7 +11,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -183,4 +186,19 @@ public class UserService {
                         && prefs.getConversationTime() != null)
                 .orElse(false);
     }
+
+    /**
+     * 대화 시각이 [from, to) 구간에 있는 사용자 ID 조회
+     * from > to이면 자정을 넘는 구간으로 보고 [from, 24:00) + [00:00, to)로 나누어 조회
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findUserIdsByConversationTime(LocalTime from, LocalTime to) {
+        if (!from.isAfter(to)) {
+            return userPreferencesRepository.findUserIdsByConversationTimeRange(from, to);
+        }
+        List<Long> userIds = new ArrayList<>(
+                userPreferencesRepository.findUserIdsByConversationTimeRange(from, LocalTime.MAX));
+        userIds.addAll(userPreferencesRepository.findUserIdsByConversationTimeRange(LocalTime.MIN, to));
+        return userIds;
+    }
 }
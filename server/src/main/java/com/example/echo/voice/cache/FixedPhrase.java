@@ -0,0 +1,46 @@
+package com.example.echo.voice.cache;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 고정 발화 목록 (PhraseBank에 미리 합성해 두는 문장)
+ *
+ * 서버가 매번 같은 문장으로 말하는 안내 (현재는 스트리밍 error 이벤트의 오류 안내)
+ * → 목소리 설정(voiceTone, voiceSpeed)별로 한 번만 합성하고 이후에는 TTS 호출 없이 바로 재생
+ *
+ * 실제로 재생하는 곳이 있는 문장만 추가 (항목마다 시작 시 톤 수만큼 합성됨)
+ *
+ * 문장을 바꾸면 해시가 달라져 새로 합성됨 (기존 음성은 PhraseBank 파일에 남지만 조회되지 않음)
+ */
+public enum FixedPhrase {
+
+    ERROR_FALLBACK("죄송해요, 잠깐 문제가 생겼어요. 조금 뒤에 다시 이야기해 주세요.");
+
+    /** 정규화한 문장 → 고정 발화 (LLM 응답 문장이 목록과 같은지 확인용) */
+    private static final Map<String, FixedPhrase> BY_TEXT = Arrays.stream(values())
+            .collect(Collectors.toMap(phrase -> TtsCacheKey.normalize(phrase.text), Function.identity()));
+
+    private final String text;
+
+    FixedPhrase(String text) {
+        this.text = text;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * 문장이 고정 발화와 같으면 반환 (공백/유니코드 조합 차이는 무시)
+     */
+    public static Optional<FixedPhrase> match(String text) {
+        if (text == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(BY_TEXT.get(TtsCacheKey.normalize(text)));
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.echo.voice.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 고정 발화 음성 저장소 (하나의 파일에 모아 보관)
+ *
+ * FixedPhrase 문장을 목소리 조건(TtsCacheKey)별로 한 번만 합성해 파일 끝에 이어 붙이고,
+ * 메모리에도 음성 바이트를 그대로 보관해 조회 시 반환 → 재시작 후에도 다시 합성하지 않음
+ * (문장 수 × 톤 × 속도 조합이라 전체가 수 MB 이내, 소비자가 모두 byte[]를 쓰므로 매핑 없이 힙에 둠)
+ *
+ * 파일 형식 (레코드 반복): [MAGIC 4B][키 해시 32B][음성 길이 4B][음성]
+ * - 시작 시 레코드를 순서대로 읽어 복원 (저장 중 종료로 잘린 마지막 레코드는 잘라냄)
+ * - 같은 키를 동시에 요청하면 합성은 1번만 (single-flight), 합성 실패는 저장하지 않음
+ * - 파일이 max-bytes를 넘으면 더 저장하지 않고 합성 결과만 반환
+ *
+ * 메트릭: tts.phrase.requests{result=hit|rendered}, tts.phrase.bank.bytes
+ */
+@Slf4j
+@Component
+public class PhraseBank {
+
+    private static final int MAGIC = 0x50485242; // "PHRB"
+    private static final int HASH_BYTES = 32;
+    private static final int HEADER_BYTES = Integer.BYTES + HASH_BYTES + Integer.BYTES;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Path file;
+    private final long maxBytes;
+
+    /** 키 해시 → 음성 (반환한 배열은 호출 측에서 수정하지 않음) */
+    private final Map<String, byte[]> phrases = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong fileBytes = new AtomicLong();
+    private final Object appendLock = new Object();
+
+    private FileChannel channel;
+
+    public PhraseBank(MeterRegistry meterRegistry,
+                      @Value("${tts.phrase-bank.enabled:true}") boolean enabled,
+                      @Value("${tts.phrase-bank.file:./data/phrase-bank.pack}") Path file,
+                      @Value("${tts.phrase-bank.max-bytes:67108864}") long maxBytes) {
+        this.meterRegistry = meterRegistry;
+        this.file = file;
+        this.maxBytes = Math.min(maxBytes, Integer.MAX_VALUE);
+        this.enabled = enabled && open();
+
+        meterRegistry.gauge("tts.phrase.bank.bytes", fileBytes);
+    }
+
+    /**
+     * 고정 발화 음성 반환, 없으면 합성 후 저장
+     *
+     * @param synthesizer 실제 TTS 호출 (이 키로 처음 요청할 때만 실행)
+     */
+    public byte[] get(TtsCacheKey key, Supplier<byte[]> synthesizer) {
+        if (!enabled) {
+            return synthesizer.get();
+        }
+
+        String hash = key.hash();
+        byte[] stored = phrases.get(hash);
+        if (stored != null) {
+            meterRegistry.counter("tts.phrase.requests", "result", "hit").increment();
+            return stored;
+        }
+
+        CompletableFuture<byte[]> mine = new CompletableFuture<>();
+        CompletableFuture<byte[]> running = inFlight.putIfAbsent(hash, mine);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            // 먼저 끝난 렌더링이 inFlight에서 빠진 직후일 수 있으므로 다시 확인
+            byte[] audio = phrases.get(hash);
+            if (audio == null) {
+                meterRegistry.counter("tts.phrase.requests", "result", "rendered").increment();
+                audio = append(hash, synthesizer.get());
+            }
+            mine.complete(audio);
+            return audio;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(hash, mine);
+        }
+    }
+
+    private byte[] append(String hash, byte[] audio) {
+        synchronized (appendLock) {
+            long offset = fileBytes.get();
+            long end = offset + HEADER_BYTES + audio.length;
+            if (end > maxBytes) {
+                log.warn("고정 발화 저장소 용량 초과로 저장하지 않음 - 현재: {}B, 상한: {}B", offset, maxBytes);
+                return audio;
+            }
+
+            ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + audio.length)
+                    .putInt(MAGIC)
+                    .put(HexFormat.of().parseHex(hash))
+                    .putInt(audio.length)
+                    .put(audio)
+                    .flip();
+            try {
+                long position = offset;
+                while (record.hasRemaining()) {
+                    position += channel.write(record, position);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                // 기록 실패한 구간은 다음 저장에서 덮어씀 (메모리에 넣지 않았으므로 다음 요청에서 다시 합성)
+                log.warn("고정 발화 저장 실패 - file: {}, 오류: {}", file, e.getMessage());
+                return audio;
+            }
+
+            fileBytes.set(end);
+            phrases.put(hash, audio);
+            return audio;
+        }
+    }
+
+    private static byte[] await(CompletableFuture<byte[]> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 저장소 파일 열기 + 음성 복원
+     *
+     * @return 저장소 사용 가능 여부 (실패하면 매번 합성)
+     */
+    private boolean open() {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long valid = load();
+            if (valid < channel.size()) {
+                log.warn("고정 발화 저장소의 잘린 레코드 정리 - file: {}, {}B → {}B", file, channel.size(), valid);
+                channel.truncate(valid);
+            }
+            fileBytes.set(valid);
+        } catch (IOException e) {
+            log.warn("고정 발화 저장소를 사용할 수 없어 매번 합성 - file: {}, 오류: {}", file, e.getMessage());
+            close();
+            return false;
+        }
+        log.info("고정 발화 저장소 로드 - file: {}, 음성: {}개, 크기: {}B", file, phrases.size(), fileBytes.get());
+        return true;
+    }
+
+    /**
+     * 레코드를 순서대로 읽어 메모리에 복원
+     *
+     * @return 온전한 레코드가 끝나는 위치
+     */
+    private long load() throws IOException {
+        long size = channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        byte[] hashBytes = new byte[HASH_BYTES];
+
+        while (position + HEADER_BYTES <= size) {
+            header.clear();
+            while (header.hasRemaining() && channel.read(header, position + header.position()) > 0) {
+                // 헤더 전체를 읽을 때까지 반복
+            }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC) {
+                break;
+            }
+            header.get(hashBytes);
+            int length = header.getInt();
+            long audioOffset = position + HEADER_BYTES;
+            if (length < 0 || audioOffset + length > size) {
+                break;
+            }
+            ByteBuffer audio = ByteBuffer.allocate(length);
+            while (audio.hasRemaining() && channel.read(audio, audioOffset + audio.position()) > 0) {
+                // 음성 전체를 읽을 때까지 반복
+            }
+            phrases.put(HexFormat.of().formatHex(hashBytes), audio.array());
+            position = audioOffset + length;
+        }
+        return position;
+    }
+
+    @PreDestroy
+    void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("고정 발화 저장소 닫기 실패 - file: {}, 오류: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.echo.voice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * TTS 음성 캐시 (메모리 + 디스크 2단계)
+ *
+ * 같은 문장을 같은 음성 조건으로 다시 합성하지 않도록 결과를 TtsCacheKey 해시로 저장
+ * (tts-retry의 같은 응답, 자주 반복되는 인사/마무리 문장 등 → 지연 시간과 Supertone 크레딧 절약)
+ *
+ * 조회 순서: 메모리 → 디스크 → 합성 (디스크 적중 시 메모리로 올림)
+ * - 메모리: Caffeine, 음성 바이트 수 기준 상한 (memory-max-bytes)
+ * - 디스크: disk-dir/{해시 앞 2자리}/{해시}.audio, 전체 크기 상한(disk-max-bytes)을 넘으면
+ *           오래 조회하지 않은 파일부터 상한의 90%까지 삭제 (재시작 시 디렉터리를 읽어 목록 복원)
+ * - 같은 키를 동시에 요청하면 합성은 1번만 하고 결과를 함께 사용 (single-flight)
+ * - 합성 실패는 저장하지 않음
+ *
+ * 메트릭:
+ *   - tts.cache.requests{result=memory|disk|shared|miss}: 적중률 = (memory + disk + shared) / 전체
+ *   - tts.cache.bytes.saved: 합성하지 않고 캐시에서 돌려준 음성 바이트 수
+ *   - tts.cache.synthesis: 캐시 미스 합성 시간 (적중 수 × 평균 = 절약한 지연 시간)
+ *   - tts.cache.memory.bytes, tts.cache.disk.bytes: 계층별 저장 크기
+ */
+@Slf4j
+@Component
+public class TtsAudioCache {
+
+    private static final String FILE_SUFFIX = ".audio";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Path diskDir;
+    private final long diskMaxBytes;
+    private final Cache<String, byte[]> memory;
+    private final Map<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+
+    /** 디스크 파일 목록 (해시 → 크기/마지막 조회 시각) */
+    private final Map<String, DiskEntry> diskEntries = new ConcurrentHashMap<>();
+    private final AtomicLong diskBytes = new AtomicLong();
+    private final Object evictionLock = new Object();
+    private volatile boolean diskEnabled;
+
+    private final Timer synthesisTimer;
+
+    public TtsAudioCache(MeterRegistry meterRegistry,
+                         @Value("${tts.cache.enabled:true}") boolean enabled,
+                         @Value("${tts.cache.memory-max-bytes:33554432}") long memoryMaxBytes,
+                         @Value("${tts.cache.disk-dir:./data/tts-cache}") Path diskDir,
+                         @Value("${tts.cache.disk-max-bytes:536870912}") long diskMaxBytes) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.diskDir = diskDir;
+        this.diskMaxBytes = diskMaxBytes;
+        this.memory = Caffeine.newBuilder()
+                .maximumWeight(memoryMaxBytes)
+                .weigher((String hash, byte[] audio) -> audio.length)
+                .build();
+        this.synthesisTimer = meterRegistry.timer("tts.cache.synthesis");
+
+        meterRegistry.gauge("tts.cache.memory.bytes", memory, cache -> cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L));
+        meterRegistry.gauge("tts.cache.disk.bytes", diskBytes);
+
+        this.diskEnabled = enabled && diskMaxBytes > 0 && loadDiskIndex();
+    }
+
+    /**
+     * 캐시된 음성 반환, 없으면 합성 후 저장
+     *
+     * @param synthesizer 실제 TTS 호출 (캐시 미스에서만 실행)
+     */
+    public byte[] get(TtsCacheKey key, Supplier<byte[]> synthesizer) {
+        if (!enabled) {
+            return synthesizer.get();
+        }
+
+        String hash = key.hash();
+        byte[] cached = memory.getIfPresent(hash);
+        if (cached != null) {
+            return hit("memory", cached);
+        }
+
+        CompletableFuture<byte[]> mine = new CompletableFuture<>();
+        CompletableFuture<byte[]> running = inFlight.putIfAbsent(hash, mine);
+        if (running != null) {
+            return hit("shared", await(running));
+        }
+
+        try {
+            byte[] fromDisk = readDisk(hash);
+            if (fromDisk != null) {
+                memory.put(hash, fromDisk);
+                mine.complete(fromDisk);
+                return hit("disk", fromDisk);
+            }
+
+            meterRegistry.counter("tts.cache.requests", "result", "miss").increment();
+            byte[] audio = synthesisTimer.record(synthesizer);
+            memory.put(hash, audio);
+            writeDisk(hash, audio);
+            mine.complete(audio);
+            return audio;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(hash, mine);
+        }
+    }
+
+    private byte[] hit(String result, byte[] audio) {
+        meterRegistry.counter("tts.cache.requests", "result", result).increment();
+        meterRegistry.counter("tts.cache.bytes.saved").increment(audio.length);
+        return audio;
+    }
+
+    private static byte[] await(CompletableFuture<byte[]> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            // 먼저 요청한 쪽과 같은 예외 전달 (VoiceServiceImpl 예외 처리 유지)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // ========== 디스크 계층 ==========
+
+    private Path fileOf(String hash) {
+        return diskDir.resolve(hash.substring(0, 2)).resolve(hash + FILE_SUFFIX);
+    }
+
+    private byte[] readDisk(String hash) {
+        if (!diskEnabled || !diskEntries.containsKey(hash)) {
+            return null;
+        }
+        Path file = fileOf(hash);
+        try {
+            byte[] audio = Files.readAllBytes(file);
+            long now = System.currentTimeMillis();
+            diskEntries.computeIfPresent(hash, (h, entry) -> new DiskEntry(entry.size(), now));
+            // 재시작 후에도 조회 순서를 유지하도록 수정 시각 갱신 (실패해도 캐시 사용에는 영향 없음)
+            try {
+                Files.setLastModifiedTime(file, FileTime.fromMillis(now));
+            } catch (IOException ignored) {
+                // 읽기 전용 파일 시스템 등
+            }
+            return audio;
+        } catch (IOException e) {
+            // 외부에서 지워진 파일 등 → 목록에서 빼고 다시 합성
+            log.warn("TTS 디스크 캐시 읽기 실패 - file: {}, 오류: {}", file, e.getMessage());
+            removeDiskEntry(hash);
+            return null;
+        }
+    }
+
+    private void writeDisk(String hash, byte[] audio) {
+        if (!diskEnabled || audio.length > diskMaxBytes) {
+            return;
+        }
+        Path file = fileOf(hash);
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), hash, ".tmp");
+            Files.write(tmp, audio);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("TTS 디스크 캐시 저장 실패 - file: {}, 오류: {}", file, e.getMessage());
+            return;
+        }
+
+        DiskEntry previous = diskEntries.put(hash, new DiskEntry(audio.length, System.currentTimeMillis()));
+        diskBytes.addAndGet(audio.length - (previous != null ? previous.size() : 0));
+        if (diskBytes.get() > diskMaxBytes) {
+            evictDisk();
+        }
+    }
+
+    /**
+     * 오래 조회하지 않은 파일부터 상한의 90%까지 삭제 (매 저장마다 정렬하지 않도록 여유를 둠)
+     */
+    private void evictDisk() {
+        synchronized (evictionLock) {
+            long target = diskMaxBytes / 10 * 9;
+            if (diskBytes.get() <= target) {
+                return;
+            }
+            List<Map.Entry<String, DiskEntry>> oldestFirst = new ArrayList<>(diskEntries.entrySet());
+            oldestFirst.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccess()));
+
+            int deleted = 0;
+            for (Map.Entry<String, DiskEntry> entry : oldestFirst) {
+                if (diskBytes.get() <= target) {
+                    break;
+                }
+                removeDiskEntry(entry.getKey());
+                deleted++;
+            }
+            log.info("TTS 디스크 캐시 정리 - 삭제: {}개, 현재 크기: {}B", deleted, diskBytes.get());
+        }
+    }
+
+    private void removeDiskEntry(String hash) {
+        DiskEntry removed = diskEntries.remove(hash);
+        if (removed == null) {
+            return;
+        }
+        diskBytes.addAndGet(-removed.size());
+        try {
+            Files.deleteIfExists(fileOf(hash));
+        } catch (IOException e) {
+            log.warn("TTS 디스크 캐시 파일 삭제 실패 - hash: {}, 오류: {}", hash, e.getMessage());
+        }
+    }
+
+    /**
+     * 재시작 시 디스크 캐시 목록 복원 (파일 수정 시각을 마지막 조회 시각으로 사용)
+     *
+     * @return 디스크 계층 사용 가능 여부
+     */
+    private boolean loadDiskIndex() {
+        try {
+            Files.createDirectories(diskDir);
+            try (Stream<Path> files = Files.walk(diskDir, 2)) {
+                files.filter(Files::isRegularFile).forEach(this::indexFile);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("TTS 디스크 캐시를 사용할 수 없어 메모리 캐시만 사용 - dir: {}, 오류: {}", diskDir, e.getMessage());
+            return false;
+        }
+        log.info("TTS 디스크 캐시 로드 - dir: {}, 파일: {}개, 크기: {}B", diskDir, diskEntries.size(), diskBytes.get());
+        return true;
+    }
+
+    private void indexFile(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            if (!name.endsWith(FILE_SUFFIX)) {
+                // 저장 중 종료되어 남은 임시 파일
+                Files.deleteIfExists(file);
+                return;
+            }
+            long size = Files.size(file);
+            FileTime modified = Files.getLastModifiedTime(file);
+            diskEntries.put(name.substring(0, name.length() - FILE_SUFFIX.length()),
+                    new DiskEntry(size, modified.toMillis()));
+            diskBytes.addAndGet(size);
+        } catch (IOException e) {
+            log.warn("TTS 디스크 캐시 파일 무시 - file: {}, 오류: {}", file, e.getMessage());
+        }
+    }
+
+    private record DiskEntry(long size, long lastAccess) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.echo.voice.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * TTS 캐시 키 (같은 키 = 같은 음성)
+ *
+ * 음성을 바꾸는 합성 조건(제공자, 음성 ID, 스타일, 속도, 모델)과 정규화한 텍스트로 구성
+ * 텍스트 정규화: 유니코드 NFC + 앞뒤 공백 제거 + 연속 공백 1칸 (발음이 같은 문자열을 같은 키로)
+ *
+ * @param provider supertone | azure
+ * @param voice    Supertone voice_id 또는 Azure Neural Voice 이름
+ * @param style    Supertone 스타일 (Azure는 null)
+ * @param speed    Supertone speed 또는 Azure prosody rate
+ * @param model    Supertone 모델 (Azure는 null)
+ */
+public record TtsCacheKey(String provider, String voice, String style, String speed, String model, String text) {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public static TtsCacheKey of(String provider, String voice, String style, String speed, String model,
+                                 String text) {
+        return new TtsCacheKey(provider, voice, style, speed, model, normalize(text));
+    }
+
+    static String normalize(String text) {
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC);
+        return WHITESPACE.matcher(composed.strip()).replaceAll(" ");
+    }
+
+    /**
+     * 메모리/디스크 캐시에서 쓰는 SHA-256 hex (디스크 파일명)
+     */
+    public String hash() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : new String[]{provider, voice, style, speed, model, text}) {
+                if (part != null) {
+                    digest.update(part.getBytes(StandardCharsets.UTF_8));
+                }
+                // 구분자 (필드 경계가 바뀌어도 같은 해시가 나오지 않도록)
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
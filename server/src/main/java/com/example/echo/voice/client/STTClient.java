@@ -1,42 +1,235 @@
 /*
- 인터페이스 (주문서 양식 코드)
- 실제 실행할 때, 즉 VoiceService에서는 값을 넣어준다.
-*/
-
-/*
- * OpenAI Whisper STT 클라이언트
+ * OpenAI Whisper STT 클라이언트 (POST {openai.api.url}/audio/transcriptions, multipart/form-data)
+ *
+ * 다른 OpenAI 호출과 달리 Feign을 쓰지 않는 이유:
+ *   Feign 폼 인코더는 파일 파트를 byte[]로 모두 읽은 뒤 요청 본문을 다시 한 번 byte[]로 만듦
+ *   → 25MB 녹음 1건에 힙 복사본이 여러 개 생겨 동시 업로드 시 메모리가 급격히 늘어남
+ *
+ * 여기서는 multipart 본문을 직접 구성해 고정 크기 버퍼(BUFFER_BYTES)로 흘려 보냄
+ *   - 텍스트 필드(model, language, response_format)와 경계 문자열만 메모리에 둠
+ *   - 파일 파트는 MultipartFile.getInputStream()에서 읽어 바로 소켓으로 씀
+ *     (큰 업로드는 spring.servlet.multipart.file-size-threshold 이상이면 디스크 임시 파일)
+ *   - Content-Length를 미리 계산해 고정 길이 스트리밍 (HttpURLConnection 내부 버퍼링 없음)
+ *   → 업로드 1건당 힙 사용량은 파일 크기와 무관하게 버퍼 크기 수준
  *
- * @FeignClient: 기본 URL 설정 (https://api.openai.com/v1)
- * @PostMapping:
- *   - value: API 경로 → 기본 URL + "/audio/transcriptions"
- *   - consumes: 요청 형식 (MULTIPART_FORM_DATA - 파일 업로드용)
+ * Feign 클라이언트와 같이 격벽 + 서킷 브레이커(DependencyGuard, 이름 openai-whisper)를 거침
  *
- * @RequestPart: 각 필드를 개별 파트로 분리 전송 (파일 첨부 필요)
- *   - file: 음성 파일
- *   - model: 사용할 모델명
+ * 메트릭: stt.upload (업로드~응답 시간), stt.upload.bytes (파일 크기)
  */
 package com.example.echo.voice.client;
 
-import com.example.echo.voice.config.OpenAIFeignConfig;
+import com.example.echo.common.resilience.DependencyGuard;
+import com.example.echo.common.resilience.DependencyGuards;
 import com.example.echo.voice.dto.WhisperTranscriptionResponse;
-import org.springframework.cloud.openfeign.FeignClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-@FeignClient(
-        name = "stt-client",
-        url = "${openai.api.url}",
-        configuration = OpenAIFeignConfig.class
-)
-public interface STTClient {
-
-    @PostMapping(value = "/audio/transcriptions", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    WhisperTranscriptionResponse transcribe(
-            @RequestPart("file") MultipartFile file,
-            @RequestPart("model") String model,
-            @RequestPart("language") String language,
-            @RequestPart(value = "response_format", required = false) String responseFormat
-    );
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class STTClient {
+
+    /** 파일 파트 전송 버퍼 (업로드 1건당 힙 사용량 상한) */
+    static final int BUFFER_BYTES = 16 * 1024;
+
+    /** 오류 응답 본문은 로그용으로 앞부분만 읽음 */
+    private static final int MAX_ERROR_BODY_BYTES = 2048;
+
+    static final String DEPENDENCY_NAME = "openai-whisper";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final DependencyGuard dependencyGuard;
+    private final URL endpoint;
+    private final String apiKey;
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+
+    public STTClient(ObjectMapper objectMapper,
+                     MeterRegistry meterRegistry,
+                     DependencyGuards dependencyGuards,
+                     @Value("${openai.api.url}") String apiUrl,
+                     @Value("${openai.api.key}") String apiKey,
+                     @Value("${openai.whisper.connect-timeout:10s}") Duration connectTimeout,
+                     @Value("${openai.whisper.read-timeout:60s}") Duration readTimeout) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.dependencyGuard = dependencyGuards.get(DEPENDENCY_NAME);
+        this.endpoint = toUrl(apiUrl + "/audio/transcriptions");
+        this.apiKey = apiKey;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * 음성 파일 전사
+     *
+     * @param responseFormat null이면 필드 생략 (Whisper 기본값 json)
+     * @throws UncheckedIOException 전송 실패 또는 2xx가 아닌 응답
+     * @throws com.example.echo.common.exception.DependencyUnavailableException 서킷 열림 또는 동시 업로드 한도 초과 (전송하지 않음)
+     */
+    public WhisperTranscriptionResponse transcribe(MultipartFile file, String model, String language,
+                                                   String responseFormat) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("model", model);
+        fields.put("language", language);
+        if (responseFormat != null) {
+            fields.put("response_format", responseFormat);
+        }
+
+        MultipartBody body = MultipartBody.of(fields, file);
+        meterRegistry.summary("stt.upload.bytes").record(file.getSize());
+        try {
+            // 4xx(429 제외)는 요청 문제라 서킷에 반영하지 않도록 상태 코드 확인은 격벽 밖에서
+            WhisperResult result = dependencyGuard.execute(() -> timedSend(body, file),
+                    r -> r.status() / 100 == 5 || r.status() == 429);
+            if (result.status() / 100 != 2) {
+                throw new IOException("Whisper API 오류 응답 - status: " + result.status() + ", body: " + result.errorBody());
+            }
+            return result.response();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private WhisperResult timedSend(MultipartBody body, MultipartFile file) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return send(body, file);
+        } finally {
+            sample.stop(meterRegistry.timer("stt.upload"));
+        }
+    }
+
+    private WhisperResult send(MultipartBody body, MultipartFile file) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) endpoint.openConnection();
+        try {
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setConnectTimeout((int) connectTimeout.toMillis());
+            connection.setReadTimeout((int) readTimeout.toMillis());
+            connection.setRequestProperty(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey);
+            connection.setRequestProperty(HttpHeaders.CONTENT_TYPE, body.contentType());
+            connection.setRequestProperty(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+            connection.setFixedLengthStreamingMode(body.contentLength());
+
+            try (OutputStream out = connection.getOutputStream();
+                 InputStream in = file.getInputStream()) {
+                out.write(body.head());
+                long copied = copy(in, out);
+                if (copied != file.getSize()) {
+                    throw new IOException("업로드 파일 크기가 달라졌습니다. (예상 " + file.getSize() + "B, 실제 " + copied + "B)");
+                }
+                out.write(body.tail());
+            }
+
+            int status = connection.getResponseCode();
+            if (status / 100 != 2) {
+                return new WhisperResult(status, null, errorBody(connection));
+            }
+            try (InputStream in = connection.getInputStream()) {
+                return new WhisperResult(status, objectMapper.readValue(in, WhisperTranscriptionResponse.class), null);
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * 고정 크기 버퍼로 복사 (파일 전체를 메모리에 올리지 않음)
+     */
+    private static long copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[BUFFER_BYTES];
+        long total = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+            total += read;
+        }
+        return total;
+    }
+
+    private static String errorBody(HttpURLConnection connection) {
+        try (InputStream in = connection.getErrorStream()) {
+            return in == null ? "" : new String(in.readNBytes(MAX_ERROR_BODY_BYTES), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private static URL toUrl(String url) {
+        try {
+            return URI.create(url).toURL();
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 Whisper API URL입니다: " + url, e);
+        }
+    }
+
+    /** 응답 상태 + 본문 (2xx면 response, 아니면 errorBody) */
+    record WhisperResult(int status, WhisperTranscriptionResponse response, String errorBody) {
+    }
+
+    /**
+     * multipart 본문의 파일 앞/뒤 부분 (파일 내용은 포함하지 않음)
+     *
+     * head = 텍스트 필드 파트들 + 파일 파트 헤더, tail = 파일 파트 끝 + 종료 경계
+     */
+    record MultipartBody(String boundary, byte[] head, byte[] tail, long fileSize) {
+
+        static MultipartBody of(Map<String, String> fields, MultipartFile file) {
+            String boundary = "echo-" + UUID.randomUUID();
+            StringBuilder head = new StringBuilder();
+            fields.forEach((name, value) -> head.append("--").append(boundary).append("\r\n")
+                    .append("Content-Disposition: form-data; name=\"").append(name).append("\"\r\n\r\n")
+                    .append(value).append("\r\n"));
+
+            String contentType = file.getContentType() != null
+                    ? file.getContentType()
+                    : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+            head.append("--").append(boundary).append("\r\n")
+                    .append("Content-Disposition: form-data; name=\"file\"; filename=\"")
+                    .append(filename(file)).append("\"\r\n")
+                    .append("Content-Type: ").append(contentType).append("\r\n\r\n");
+
+            String tail = "\r\n--" + boundary + "--\r\n";
+            return new MultipartBody(boundary, head.toString().getBytes(StandardCharsets.UTF_8),
+                    tail.getBytes(StandardCharsets.UTF_8), file.getSize());
+        }
+
+        /** Whisper는 확장자로 형식을 판별하므로 원본 파일명 유지 (헤더를 깨는 문자만 제거) */
+        private static String filename(MultipartFile file) {
+            String name = file.getOriginalFilename();
+            if (name == null || name.isBlank()) {
+                return "audio";
+            }
+            return name.replaceAll("[\"\\r\\n]", "");
+        }
+
+        String contentType() {
+            return MediaType.MULTIPART_FORM_DATA_VALUE + "; boundary=" + boundary;
+        }
+
+        long contentLength() {
+            return head.length + fileSize + tail.length;
+        }
+    }
 }
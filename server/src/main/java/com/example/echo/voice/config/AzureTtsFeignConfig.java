@@ -5,6 +5,7 @@
  */
 package com.example.echo.voice.config;
 
+import com.example.echo.common.resilience.AbortableFeignClient;
 import feign.RequestInterceptor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -22,6 +23,12 @@ public class AzureTtsFeignConfig {
         };
     }
 
+    /** 헤징에서 진 요청을 연결 끊기로 바로 중단할 수 있도록 (TtsHedger, AbortableCall) */
+    @Bean
+    public feign.Client azureTtsFeignClient() {
+        return new AbortableFeignClient();
+    }
+
     @Bean
     public feign.Request.Options requestOptions() {
         return new feign.Request.Options(10_000, 30_000); // connect 10s, read 30s
@@ -1,5 +1,6 @@
 package com.example.echo.voice.config;
 
+import com.example.echo.common.resilience.AbortableFeignClient;
 import com.example.echo.voice.client.SupertoneErrorDecoder;
 import feign.RequestInterceptor;
 import feign.codec.ErrorDecoder;
@@ -16,6 +17,12 @@ public class SupertoneFeignConfig {
         return template -> template.header("x-sup-api-key", apiKey);
     }
 
+    /** 헤징에서 진 요청을 연결 끊기로 바로 중단할 수 있도록 (TtsHedger, AbortableCall) */
+    @Bean
+    public feign.Client supertoneFeignClient() {
+        return new AbortableFeignClient();
+    }
+
     @Bean
     public feign.Request.Options supertoneRequestOptions() {
         return new feign.Request.Options(10_000, 30_000);
@@ -19,9 +19,11 @@
  */
 package com.example.echo.voice.controller;
 
+import com.example.echo.voice.dto.AudioOutputFormat;
 import com.example.echo.voice.dto.SttResponse;
 import com.example.echo.voice.dto.TtsRequest;
 import com.example.echo.voice.service.VoiceService;
+import com.example.echo.voice.util.AudioMediaType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
@@ -54,21 +56,27 @@ public class VoiceController {
      * ========== TTS (텍스트 → 음성) ==========
      *
      * [요청]
-     * POST /api/voice/tts
+     * POST /api/voice/tts?rate=16000&codec=mulaw (rate/codec은 선택, WAV 음성만 변환)
      * Content-Type: application/json
      * Body: { "text": "안녕하세요", "voiceSettings": { "voiceSpeed": 1.0, "voiceTone": "warm" } }
      *
      * [응답]
-     * Content-Type: audio/wav (supertone) | audio/mpeg (azure)
+     * Content-Type: audio/wav (supertone) | audio/mpeg (azure) - 실제로 합성한 제공자 기준
      * Body: 오디오 바이너리 데이터
      */
     @PostMapping("/tts")
-    public ResponseEntity<byte[]> textToSpeech(@RequestBody TtsRequest request) {
+    public ResponseEntity<byte[]> textToSpeech(@RequestBody TtsRequest request,
+                                               @RequestParam(required = false) Integer rate,
+                                               @RequestParam(required = false) String codec) {
+        AudioOutputFormat format = AudioOutputFormat.of(rate, codec);
         byte[] audioData = voiceService.textToSpeech(request.getText(), request.getVoiceSettings());
+        if (!format.isOriginal()) {
+            audioData = voiceService.convertAudio(audioData, format);
+        }
 
-        boolean isSupertone = "supertone".equals(ttsProvider);
-        String contentType = isSupertone ? "audio/wav" : "audio/mpeg";
-        String filename = isSupertone ? "speech.wav" : "speech.mp3";
+        // 제공자 전환으로 설정과 다른 형식일 수 있으므로 음성 바이트로 판별
+        String contentType = AudioMediaType.detect(audioData, AudioMediaType.ofProvider(ttsProvider));
+        String filename = "speech." + AudioMediaType.extension(contentType);
 
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_TYPE, contentType)
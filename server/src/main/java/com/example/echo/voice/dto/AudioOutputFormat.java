@@ -0,0 +1,70 @@
+package com.example.echo.voice.dto;
+
+import com.example.echo.voice.exception.UnsupportedAudioFormatException;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 클라이언트가 요청한 음성 출력 형식 (음성 다운로드 요청의 rate, codec 파라미터)
+ *
+ * 둘 다 없으면 TTS 원본 그대로 전송
+ *
+ * @param sampleRate 출력 샘플레이트 (null이면 원본 유지, 8000~48000)
+ * @param codec      출력 코덱 (null이면 PCM)
+ */
+public record AudioOutputFormat(Integer sampleRate, Codec codec) {
+
+    public static final AudioOutputFormat ORIGINAL = new AudioOutputFormat(null, null);
+
+    private static final int MIN_SAMPLE_RATE = 8_000;
+    private static final int MAX_SAMPLE_RATE = 48_000;
+
+    /**
+     * @throws UnsupportedAudioFormatException 범위를 벗어난 샘플레이트 또는 지원하지 않는 코덱
+     */
+    public static AudioOutputFormat of(Integer sampleRate, String codec) {
+        if (sampleRate == null && (codec == null || codec.isBlank())) {
+            return ORIGINAL;
+        }
+        if (sampleRate != null && (sampleRate < MIN_SAMPLE_RATE || sampleRate > MAX_SAMPLE_RATE)) {
+            throw new UnsupportedAudioFormatException(
+                    "샘플레이트는 " + MIN_SAMPLE_RATE + "~" + MAX_SAMPLE_RATE + "Hz만 지원합니다.");
+        }
+        return new AudioOutputFormat(sampleRate, codec == null || codec.isBlank() ? null : Codec.from(codec));
+    }
+
+    public boolean isOriginal() {
+        return sampleRate == null && codec == null;
+    }
+
+    /**
+     * 출력 코덱 (모두 WAV 컨테이너 → Content-Type은 audio/wav 그대로)
+     *
+     * IMA-ADPCM WAV는 Android MediaPlayer가 재생하지 못함 (앱은 MULAW 사용)
+     */
+    public enum Codec {
+        PCM("pcm"),
+        MULAW("mulaw"),
+        IMA_ADPCM("ima-adpcm");
+
+        private final String value;
+
+        Codec(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        static Codec from(String value) {
+            String normalized = value.trim().toLowerCase(Locale.ROOT);
+            return Arrays.stream(values())
+                    .filter(codec -> codec.value.equals(normalized))
+                    .findFirst()
+                    .orElseThrow(() -> new UnsupportedAudioFormatException(
+                            "지원하지 않는 코덱입니다. (지원: pcm, mulaw, ima-adpcm)"));
+        }
+    }
+}
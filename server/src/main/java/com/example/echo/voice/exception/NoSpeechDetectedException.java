@@ -0,0 +1,11 @@
+package com.example.echo.voice.exception;
+
+/**
+ * 업로드 음성에 말소리가 없음 (무음/너무 짧은 녹음, Whisper 호출 전 사전 검사에서 거절)
+ * 앱은 error 코드 NO_SPEECH_DETECTED(422)를 받으면 다시 녹음하도록 안내
+ */
+public class NoSpeechDetectedException extends RuntimeException {
+    public NoSpeechDetectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.echo.voice.exception;
+
+import com.example.echo.common.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class UnsupportedAudioFormatException extends BaseException {
+    public UnsupportedAudioFormatException(String message) {
+        super(HttpStatus.BAD_REQUEST, message);
+    }
+}
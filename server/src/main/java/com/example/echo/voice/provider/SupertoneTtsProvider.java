@@ -0,0 +1,160 @@
+package com.example.echo.voice.provider;
+
+import com.example.echo.user.dto.VoiceSettings;
+import com.example.echo.voice.cache.TtsCacheKey;
+import com.example.echo.voice.client.SupertoneTtsClient;
+import com.example.echo.voice.dto.SupertoneCreditBalance;
+import com.example.echo.voice.dto.SupertoneTtsRequest;
+import com.example.echo.voice.exception.RetryableVoiceException;
+import com.example.echo.voice.exception.SupertoneInsufficientCreditException;
+import com.example.echo.voice.exception.VoiceProcessingException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.Set;
+
+/**
+ * Supertone Play TTS (WAV 응답)
+ *
+ * - voiceTone → Supertone style, voiceSpeed → speed (0.5~2.0)
+ * - 5xx는 supertoneRetryTemplate으로 재시도, 402(크레딧 부족)는 즉시 실패
+ * - 크레딧 잔액은 /v1/credits로 조회 (라우터가 주기적으로 확인)
+ */
+@Slf4j
+@Component
+public class SupertoneTtsProvider implements TtsProvider {
+
+    public static final String NAME = "supertone";
+
+    private static final double MIN_SPEED = 0.5;
+    private static final double MAX_SPEED = 2.0;
+
+    // voiceTone → Supertone style 매핑
+    private static final Map<String, String> TONE_TO_STYLE = Map.of(
+        "warm",   "serene",
+        "calm",   "neutral",
+        "bright", "happy",
+        "gentle", "serene"
+    );
+
+    private final SupertoneTtsClient supertoneClient;
+    private final RetryTemplate supertoneRetryTemplate;
+    private final String voiceId;
+    private final String model;
+
+    public SupertoneTtsProvider(SupertoneTtsClient supertoneClient,
+                                @Qualifier("supertoneRetryTemplate") RetryTemplate supertoneRetryTemplate,
+                                @Value("${supertone.voice-id}") String voiceId,
+                                @Value("${supertone.model:sona_speech_2}") String model) {
+        this.supertoneClient = supertoneClient;
+        this.supertoneRetryTemplate = supertoneRetryTemplate;
+        this.voiceId = voiceId;
+        this.model = model;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean supports(VoiceSettings voiceSettings) {
+        if (voiceSettings == null) {
+            return true;
+        }
+        String tone = voiceSettings.getVoiceTone();
+        Double speed = voiceSettings.getVoiceSpeed();
+        return (tone == null || TONE_TO_STYLE.containsKey(tone.toLowerCase()))
+                && (speed == null || (speed >= MIN_SPEED && speed <= MAX_SPEED));
+    }
+
+    @Override
+    public Set<String> voiceTones() {
+        return TONE_TO_STYLE.keySet();
+    }
+
+    @Override
+    public TtsCacheKey cacheKey(String text, VoiceSettings voiceSettings) {
+        return TtsCacheKey.of(NAME, voiceId, resolveStyle(voiceSettings), String.valueOf(resolveSpeed(voiceSettings)),
+                model, text);
+    }
+
+    @Override
+    public byte[] synthesize(String text, VoiceSettings voiceSettings) {
+        String style = resolveStyle(voiceSettings);
+        Double speed = resolveSpeed(voiceSettings);
+        SupertoneTtsRequest request = SupertoneTtsRequest.builder()
+            .text(text)
+            .language("ko")
+            .style(style)
+            .model(model)
+            .speed(speed)
+            .build();
+
+        log.info("Supertone TTS 변환 시작: voice_id={}, style={}, speed={}, text_length={}",
+            voiceId, style, speed, text.length());
+
+        try {
+            byte[] audioData = supertoneRetryTemplate.execute(ctx -> {
+                if (ctx.getRetryCount() > 0) {
+                    log.warn("Supertone TTS 재시도 중: {}/2회", ctx.getRetryCount());
+                }
+                return supertoneClient.synthesize(voiceId, request);
+            });
+
+            if (audioData == null || audioData.length == 0) {
+                throw new VoiceProcessingException("Supertone TTS API 응답이 비어있습니다.");
+            }
+
+            log.info("Supertone TTS 변환 완료: {} chars -> {} bytes", text.length(), audioData.length);
+            return audioData;
+
+        } catch (SupertoneInsufficientCreditException e) {
+            logCreditBalance();
+            throw e;
+        } catch (RetryableVoiceException e) {
+            log.error("Supertone TTS 3회 재시도 후 최종 실패: {}", e.getMessage());
+            throw new VoiceProcessingException(
+                    "Supertone TTS 서비스가 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요.", e);
+        }
+    }
+
+    @Override
+    public OptionalDouble remainingCredits() {
+        SupertoneCreditBalance balance = supertoneClient.getCreditBalance();
+        return balance == null || balance.getBalance() == null
+                ? OptionalDouble.empty()
+                : OptionalDouble.of(balance.getBalance());
+    }
+
+    @Override
+    public boolean isCreditExhausted(RuntimeException e) {
+        return e instanceof SupertoneInsufficientCreditException;
+    }
+
+    private String resolveStyle(VoiceSettings voiceSettings) {
+        return (voiceSettings != null && voiceSettings.getVoiceTone() != null)
+            ? TONE_TO_STYLE.getOrDefault(voiceSettings.getVoiceTone().toLowerCase(), "serene")
+            : "serene";
+    }
+
+    private Double resolveSpeed(VoiceSettings voiceSettings) {
+        return (voiceSettings != null && voiceSettings.getVoiceSpeed() != null)
+            ? voiceSettings.getVoiceSpeed()
+            : 1.0;
+    }
+
+    private void logCreditBalance() {
+        try {
+            SupertoneCreditBalance balance = supertoneClient.getCreditBalance();
+            log.warn("[크레딧 부족] Supertone 크레딧 잔액: {}", balance);
+        } catch (Exception ex) {
+            log.warn("[크레딧 부족] 크레딧 잔액 조회 실패: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.echo.voice.provider;
+
+import com.example.echo.user.dto.VoiceSettings;
+import com.example.echo.voice.cache.TtsCacheKey;
+
+import java.util.OptionalDouble;
+import java.util.Set;
+
+/**
+ * TTS 제공자 SPI
+ *
+ * 제공자마다 목소리 설정(voiceTone/voiceSpeed)을 자기 API 파라미터로 바꿔 합성
+ * TtsProviderRouter가 상태(지연/오류율/크레딧)를 보고 요청마다 사용할 제공자 순서를 정함
+ * 새 제공자는 이 인터페이스를 구현한 @Component를 추가하면 라우팅 대상에 포함됨
+ */
+public interface TtsProvider {
+
+    /** 제공자 이름 (supertone | azure, tts.provider 설정/메트릭 태그/캐시 키에 사용) */
+    String name();
+
+    /** 목소리 설정을 이 제공자가 그대로 표현할 수 있는지 (톤 매핑/속도 범위) */
+    boolean supports(VoiceSettings voiceSettings);
+
+    /** 톤 매핑이 있는 voiceTone 값 (고정 발화 사전 합성 대상) */
+    default Set<String> voiceTones() {
+        return Set.of();
+    }
+
+    /** 합성 조건 + 텍스트 캐시 키 (같은 키 = 같은 음성) */
+    TtsCacheKey cacheKey(String text, VoiceSettings voiceSettings);
+
+    /**
+     * 음성 합성
+     *
+     * @return 음성 바이너리 (Supertone WAV / Azure MP3)
+     * @throws RuntimeException 합성 실패 (VoiceProcessingException, 크레딧 부족 등)
+     */
+    byte[] synthesize(String text, VoiceSettings voiceSettings);
+
+    /** 남은 크레딧 (크레딧 개념이 없는 제공자는 empty) */
+    default OptionalDouble remainingCredits() {
+        return OptionalDouble.empty();
+    }
+
+    /** 크레딧 소진으로 실패했는지 (다음 크레딧 조회 전까지 라우팅에서 제외) */
+    default boolean isCreditExhausted(RuntimeException e) {
+        return false;
+    }
+}
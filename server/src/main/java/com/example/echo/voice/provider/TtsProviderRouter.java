@@ -0,0 +1,252 @@
+package com.example.echo.voice.provider;
+
+import com.example.echo.user.dto.VoiceSettings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TTS 제공자 라우터 (상태 기반 선택 + 자동 전환)
+ *
+ * tts.provider 하나로 고정하면 Supertone 크레딧이 떨어지거나 5xx가 계속될 때 설정을 바꿀 때까지 모든 사용자가 실패함
+ * 제공자별로 최근 응답 시간/오류율/남은 크레딧을 추적해 요청마다 시도할 순서를 정함
+ *
+ * 순서 (앞 기준이 같을 때만 다음 기준 비교):
+ *   1. 크레딧 소진 제공자는 맨 뒤 (402 응답 또는 주기 조회 잔액 ≤ min-credits, 다음 조회에서 회복 확인)
+ *   2. 최근 window-seconds 오류율이 max-error-rate 초과인 제공자는 뒤로 (표본 min-samples 이상일 때만)
+ *   3. 설정 제공자(tts.provider) 우선 (정상일 때 목소리가 바뀌지 않도록)
+ *   4. 최근 응답 시간 p90이 짧은 순
+ * 목소리 설정(톤/속도)을 표현할 수 없는 제공자는 제외 (모두 표현할 수 없으면 전체를 대상으로 기본값 합성)
+ * 오래된 결과는 window-seconds가 지나면 빠지므로 장애가 끝난 제공자는 자동으로 다시 앞으로 옴
+ *
+ * 메트릭: tts.router.decisions{provider,preferred} (요청별 1순위), tts.router.failovers{from,to},
+ *         tts.router.error.rate{provider}, tts.router.latency.p90{provider} (ms),
+ *         tts.router.credits{provider}, tts.router.healthy{provider}
+ */
+@Slf4j
+@Component
+public class TtsProviderRouter {
+
+    private final List<TtsProvider> providers;
+    private final MeterRegistry meterRegistry;
+    private final String preferred;
+    private final double maxErrorRate;
+    private final double minCredits;
+    private final Map<String, ProviderHealth> health = new LinkedHashMap<>();
+
+    public TtsProviderRouter(List<TtsProvider> providers,
+                             MeterRegistry meterRegistry,
+                             @Value("${tts.provider:supertone}") String preferred,
+                             @Value("${tts.router.window-seconds:60}") int windowSeconds,
+                             @Value("${tts.router.max-samples:200}") int maxSamples,
+                             @Value("${tts.router.min-samples:5}") int minSamples,
+                             @Value("${tts.router.max-error-rate:0.5}") double maxErrorRate,
+                             @Value("${tts.router.min-credits:0}") double minCredits) {
+        if (providers.isEmpty()) {
+            throw new IllegalStateException("TTS 제공자가 없습니다.");
+        }
+        this.providers = List.copyOf(providers);
+        this.meterRegistry = meterRegistry;
+        this.preferred = preferred;
+        this.maxErrorRate = maxErrorRate;
+        this.minCredits = minCredits;
+
+        for (TtsProvider provider : this.providers) {
+            ProviderHealth stats = new ProviderHealth(TimeUnit.SECONDS.toMillis(windowSeconds), maxSamples, minSamples);
+            health.put(provider.name(), stats);
+            Tags tags = Tags.of("provider", provider.name());
+            meterRegistry.gauge("tts.router.error.rate", tags, stats, ProviderHealth::errorRate);
+            meterRegistry.gauge("tts.router.latency.p90", tags, stats, ProviderHealth::latencyP90);
+            meterRegistry.gauge("tts.router.credits", tags, stats, ProviderHealth::credits);
+            meterRegistry.gauge("tts.router.healthy", tags, stats, s -> tier(s) == 0 ? 1 : 0);
+        }
+    }
+
+    /**
+     * 이번 요청에서 시도할 제공자 순서 (첫 번째가 주 제공자, 나머지는 실패 시 전환 대상)
+     */
+    public List<TtsProvider> route(VoiceSettings voiceSettings) {
+        List<TtsProvider> capable = providers.stream()
+                .filter(provider -> provider.supports(voiceSettings))
+                .toList();
+        if (capable.isEmpty()) {
+            capable = providers;
+        }
+        List<TtsProvider> ordered = capable.stream()
+                .sorted(Comparator.<TtsProvider>comparingInt(provider -> tier(health.get(provider.name())))
+                        .thenComparingInt(provider -> provider.name().equals(preferred) ? 0 : 1)
+                        .thenComparingDouble(provider -> health.get(provider.name()).latencyP90()))
+                .toList();
+
+        TtsProvider first = ordered.get(0);
+        meterRegistry.counter("tts.router.decisions",
+                "provider", first.name(), "preferred", String.valueOf(first.name().equals(preferred))).increment();
+        if (!first.name().equals(preferred)) {
+            log.debug("TTS 설정 제공자 대신 {} 사용 (설정: {})", first.name(), preferred);
+        }
+        return ordered;
+    }
+
+    /**
+     * 제공자 호출 + 응답 시간/성공 여부 기록 (캐시 적중은 호출하지 않으므로 기록되지 않음)
+     *
+     * 호출자가 취소한 호출(헤징에서 진 요청 등)의 실패는 제공자 상태와 무관하므로 기록하지 않음
+     * (DependencyGuard와 같은 기준: InterruptedIOException 또는 스레드 인터럽트)
+     */
+    public byte[] synthesize(TtsProvider provider, String text, VoiceSettings voiceSettings) {
+        ProviderHealth stats = health.get(provider.name());
+        long startedAt = System.nanoTime();
+        try {
+            byte[] audio = provider.synthesize(text, voiceSettings);
+            stats.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), true);
+            return audio;
+        } catch (RuntimeException e) {
+            if (isCancelled(e)) {
+                log.debug("TTS 제공자 호출 취소 - {} (상태 기록 안 함)", provider.name());
+                throw e;
+            }
+            stats.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), false);
+            if (provider.isCreditExhausted(e)) {
+                log.warn("TTS 제공자 크레딧 소진 - {} (다음 크레딧 조회까지 후순위)", provider.name());
+                stats.exhaust();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 다음 제공자로 전환 기록
+     */
+    public void failover(TtsProvider from, TtsProvider to, RuntimeException cause) {
+        log.warn("TTS 제공자 전환 - {} → {} (원인: {})", from.name(), to.name(), cause.getMessage());
+        meterRegistry.counter("tts.router.failovers", "from", from.name(), "to", to.name()).increment();
+    }
+
+    /**
+     * 남은 크레딧 주기 조회 (크레딧 개념이 없는 제공자는 건너뜀, 조회 실패 시 이전 상태 유지)
+     */
+    @Scheduled(fixedDelayString = "${tts.router.credit-check-interval-ms:300000}",
+            initialDelayString = "${tts.router.credit-check-initial-delay-ms:10000}")
+    public void refreshCredits() {
+        for (TtsProvider provider : providers) {
+            try {
+                OptionalDouble credits = provider.remainingCredits();
+                if (credits.isPresent()) {
+                    double remaining = credits.getAsDouble();
+                    health.get(provider.name()).updateCredits(remaining, remaining <= minCredits);
+                }
+            } catch (RuntimeException e) {
+                log.warn("TTS 제공자 크레딧 조회 실패 - {}: {}", provider.name(), e.getMessage());
+            }
+        }
+    }
+
+    private static boolean isCancelled(RuntimeException e) {
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedIOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 0: 정상, 1: 오류율 초과, 2: 크레딧 소진 */
+    private int tier(ProviderHealth stats) {
+        if (stats.isExhausted()) {
+            return 2;
+        }
+        return stats.errorRate() > maxErrorRate ? 1 : 0;
+    }
+
+    /**
+     * 제공자 1곳의 최근 호출 결과 (시간 창 + 최대 개수로 제한한 큐)
+     */
+    private static class ProviderHealth {
+
+        private final long windowMillis;
+        private final int maxSamples;
+        private final int minSamples;
+        private final Deque<Sample> samples = new ArrayDeque<>();
+        private double credits = Double.NaN;
+        private boolean exhausted;
+
+        ProviderHealth(long windowMillis, int maxSamples, int minSamples) {
+            this.windowMillis = windowMillis;
+            this.maxSamples = Math.max(1, maxSamples);
+            this.minSamples = minSamples;
+        }
+
+        synchronized void record(long latencyMillis, boolean success) {
+            samples.addLast(new Sample(System.currentTimeMillis(), latencyMillis, success));
+            if (samples.size() > maxSamples) {
+                samples.removeFirst();
+            }
+        }
+
+        synchronized double errorRate() {
+            prune();
+            if (samples.size() < minSamples) {
+                return 0;
+            }
+            long failures = samples.stream().filter(sample -> !sample.success()).count();
+            return (double) failures / samples.size();
+        }
+
+        /** 성공 응답 시간 p90 (표본이 없으면 0) */
+        synchronized double latencyP90() {
+            prune();
+            long[] latencies = samples.stream()
+                    .filter(Sample::success)
+                    .mapToLong(Sample::latencyMillis)
+                    .sorted()
+                    .toArray();
+            if (latencies.length == 0) {
+                return 0;
+            }
+            return latencies[(int) Math.ceil(0.9 * latencies.length) - 1];
+        }
+
+        synchronized void exhaust() {
+            exhausted = true;
+        }
+
+        synchronized void updateCredits(double remaining, boolean exhausted) {
+            this.credits = remaining;
+            this.exhausted = exhausted;
+        }
+
+        synchronized double credits() {
+            return credits;
+        }
+
+        synchronized boolean isExhausted() {
+            return exhausted;
+        }
+
+        private void prune() {
+            long oldest = System.currentTimeMillis() - windowMillis;
+            while (!samples.isEmpty() && samples.peekFirst().at() < oldest) {
+                samples.removeFirst();
+            }
+        }
+    }
+
+    private record Sample(long at, long latencyMillis, boolean success) {
+    }
+}
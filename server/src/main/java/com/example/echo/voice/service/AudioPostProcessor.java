@@ -0,0 +1,71 @@
+package com.example.echo.voice.service;
+
+import com.example.echo.voice.dto.AudioOutputFormat;
+import com.example.echo.voice.util.PcmAudio;
+import com.example.echo.voice.util.WavEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * TTS 음성 후처리 (클라이언트가 요청한 형식으로 변환)
+ *
+ * Supertone은 고음질 WAV(PCM 16비트)를 그대로 반환하므로 모바일 데이터에서는 용량이 큼
+ * 클라이언트가 rate/codec을 요청하면 순수 Java로 변환:
+ *   앞뒤 무음 제거 → 모노 변환 → 샘플레이트 변환 → 코덱 인코딩 (PCM / μ-law / IMA-ADPCM)
+ * 예: 44.1kHz PCM → 16kHz μ-law ≈ 1/5, 16kHz IMA-ADPCM ≈ 1/11
+ *
+ * - 요청 형식이 없으면 원본 그대로 (기존 클라이언트 영향 없음)
+ * - 16비트 PCM WAV가 아닌 음성(Azure MP3 등)은 원본 그대로
+ *
+ * 메트릭: tts.postprocess{codec} (변환 시간), tts.postprocess.bytes.saved
+ */
+@Slf4j
+@Component
+public class AudioPostProcessor {
+
+    private final MeterRegistry meterRegistry;
+    private final int silenceThreshold;
+    private final int silencePaddingMs;
+
+    public AudioPostProcessor(MeterRegistry meterRegistry,
+                              @Value("${tts.post-process.silence-threshold:300}") int silenceThreshold,
+                              @Value("${tts.post-process.silence-padding-ms:80}") int silencePaddingMs) {
+        this.meterRegistry = meterRegistry;
+        this.silenceThreshold = silenceThreshold;
+        this.silencePaddingMs = silencePaddingMs;
+    }
+
+    /**
+     * 요청 형식으로 변환 (변환할 수 없으면 원본 반환)
+     */
+    public byte[] process(byte[] audio, AudioOutputFormat format) {
+        if (format == null || format.isOriginal() || !PcmAudio.isPcm16Wav(audio)) {
+            return audio;
+        }
+
+        AudioOutputFormat.Codec codec = format.codec() != null ? format.codec() : AudioOutputFormat.Codec.PCM;
+        byte[] converted = meterRegistry.timer("tts.postprocess", "codec", codec.getValue())
+                .record(() -> convert(audio, format.sampleRate(), codec));
+
+        meterRegistry.counter("tts.postprocess.bytes.saved").increment(Math.max(0, audio.length - converted.length));
+        log.debug("음성 후처리 - rate: {}, codec: {}, {}B → {}B",
+                format.sampleRate(), codec.getValue(), audio.length, converted.length);
+        return converted;
+    }
+
+    private byte[] convert(byte[] audio, Integer sampleRate, AudioOutputFormat.Codec codec) {
+        PcmAudio pcm = PcmAudio.fromWav(audio)
+                .trimSilence(silenceThreshold, silencePaddingMs)
+                .toMono();
+        if (sampleRate != null) {
+            pcm = pcm.resample(sampleRate);
+        }
+        return switch (codec) {
+            case PCM -> WavEncoder.pcm16(pcm);
+            case MULAW -> WavEncoder.mulaw(pcm);
+            case IMA_ADPCM -> WavEncoder.imaAdpcm(pcm);
+        };
+    }
+}
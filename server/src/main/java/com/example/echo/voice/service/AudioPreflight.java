@@ -0,0 +1,123 @@
+package com.example.echo.voice.service;
+
+import com.example.echo.voice.exception.NoSpeechDetectedException;
+import com.example.echo.voice.util.SpeechActivity;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * STT 사전 검사 (Whisper 호출 전 무음 제거/거절)
+ *
+ * 무음이 대부분이거나 너무 짧은 녹음도 Whisper로 보내면 비용과 대기 시간이 들고,
+ * 무음 구간에서 없는 문장을 만들어 내는 경우가 있음
+ *
+ * 16비트 PCM WAV 업로드는 스트림으로 한 번 훑어 에너지 기반으로 음성 구간을 찾은 뒤:
+ *   - 음성이 없거나(min-speech-ms 미만) 녹음이 너무 짧으면(min-duration-ms 미만) NoSpeechDetectedException (422)
+ *   - 앞뒤 무음이 있으면 음성 구간 + 여유(padding-ms)만 담은 WAV로 바꿔 전송 (원본 파일을 구간만 스트리밍)
+ * 그 외 형식(m4a, webm, mp3 등)은 디코더 없이 판별할 수 없으므로 그대로 전송
+ * 검사 결과는 긴 녹음 구간 분할(SttChunkTranscriber)에 넘겨 파일을 다시 읽지 않게 함
+ *
+ * 메트릭: stt.preflight{result=skipped|passed|trimmed|rejected},
+ *         stt.preflight.seconds.saved (Whisper로 보내지 않은 음성 길이), stt.preflight.bytes.saved
+ */
+@Slf4j
+@Component
+public class AudioPreflight {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int frameMs;
+    private final int rmsThreshold;
+    private final int minSpeechMs;
+    private final int minDurationMs;
+    private final int paddingMs;
+
+    public AudioPreflight(MeterRegistry meterRegistry,
+                          @Value("${stt.preflight.enabled:true}") boolean enabled,
+                          @Value("${stt.preflight.frame-ms:20}") int frameMs,
+                          @Value("${stt.preflight.rms-threshold:500}") int rmsThreshold,
+                          @Value("${stt.preflight.min-speech-ms:200}") int minSpeechMs,
+                          @Value("${stt.preflight.min-duration-ms:300}") int minDurationMs,
+                          @Value("${stt.preflight.padding-ms:150}") int paddingMs) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.frameMs = frameMs;
+        this.rmsThreshold = rmsThreshold;
+        this.minSpeechMs = minSpeechMs;
+        this.minDurationMs = minDurationMs;
+        this.paddingMs = paddingMs;
+    }
+
+    /**
+     * 사전 검사 결과
+     *
+     * @param upload   Whisper로 보낼 파일 (원본 또는 앞뒤 무음을 잘라낸 WAV)
+     * @param activity upload의 음성 구간 검사 결과 (검사하지 않았으면 null)
+     */
+    public record Prepared(MultipartFile upload, SpeechActivity activity) {
+
+        static Prepared unscanned(MultipartFile upload) {
+            return new Prepared(upload, null);
+        }
+    }
+
+    /**
+     * @throws NoSpeechDetectedException 말소리가 없거나 너무 짧은 녹음
+     */
+    public Prepared prepare(MultipartFile audioFile) {
+        if (!enabled) {
+            return Prepared.unscanned(audioFile);
+        }
+
+        Optional<SpeechActivity> scanned;
+        try (InputStream in = audioFile.getInputStream()) {
+            scanned = SpeechActivity.scan(in, audioFile.getSize(), frameMs, rmsThreshold);
+        } catch (IOException e) {
+            log.warn("STT 사전 검사 실패, 원본 그대로 전송 - {}", e.getMessage());
+            return Prepared.unscanned(record("skipped", audioFile));
+        }
+        if (scanned.isEmpty()) {
+            return Prepared.unscanned(record("skipped", audioFile));
+        }
+
+        SpeechActivity activity = scanned.get();
+        if (activity.durationSeconds() * 1000 < minDurationMs || activity.speechMillis() < minSpeechMs) {
+            log.info("음성 미감지로 STT 생략 - 길이: {}s, 음성: {}ms",
+                    String.format("%.2f", activity.durationSeconds()), activity.speechMillis());
+            saved(activity.durationSeconds(), audioFile.getSize());
+            record("rejected", audioFile);
+            throw new NoSpeechDetectedException("음성이 감지되지 않았습니다. 다시 말씀해 주세요.");
+        }
+
+        int start = activity.speechStart(paddingMs);
+        int end = activity.speechEnd(paddingMs);
+        int trimmedBytes = activity.getDataLength() - (end - start);
+        if (trimmedBytes < activity.getFrameBytes()) {
+            return new Prepared(record("passed", audioFile), activity);
+        }
+
+        WavRangeFile trimmed = new WavRangeFile(audioFile, activity.header(end - start),
+                activity.getDataOffset() + (long) start, end - start);
+        saved(activity.durationSeconds() * trimmedBytes / activity.getDataLength(),
+                audioFile.getSize() - trimmed.getSize());
+        log.debug("STT 앞뒤 무음 제거 - {}B → {}B", audioFile.getSize(), trimmed.getSize());
+        return new Prepared(record("trimmed", trimmed), activity.trimmed(start, end));
+    }
+
+    private MultipartFile record(String result, MultipartFile file) {
+        meterRegistry.counter("stt.preflight", "result", result).increment();
+        return file;
+    }
+
+    private void saved(double seconds, long bytes) {
+        meterRegistry.counter("stt.preflight.seconds.saved").increment(seconds);
+        meterRegistry.counter("stt.preflight.bytes.saved").increment(Math.max(0, bytes));
+    }
+}
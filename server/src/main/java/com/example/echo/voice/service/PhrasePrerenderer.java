@@ -0,0 +1,76 @@
+package com.example.echo.voice.service;
+
+import com.example.echo.user.dto.VoiceSettings;
+import com.example.echo.voice.cache.FixedPhrase;
+import com.example.echo.voice.provider.TtsProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+
+/**
+ * 시작 시 고정 발화 사전 합성
+ *
+ * 기본 속도(1.0)의 목소리 톤(등록된 TtsProvider 톤 매핑의 합집합)별로 FixedPhrase 전체를 PhraseBank에 채워 둠
+ * (이미 저장된 조합은 TTS 호출 없이 건너뜀 → 실제 합성은 첫 배포 또는 문장 변경 시에만)
+ * 다른 속도 조합은 처음 사용할 때 합성
+ */
+@Slf4j
+@Component
+public class PhrasePrerenderer {
+
+    private final VoiceService voiceService;
+    private final Set<String> voiceTones;
+    private final Executor prewarmExecutor;
+    private final boolean enabled;
+
+    public PhrasePrerenderer(VoiceService voiceService,
+                             List<TtsProvider> providers,
+                             @Qualifier("prewarmExecutor") Executor prewarmExecutor,
+                             @Value("${tts.phrase-bank.prerender-on-startup:true}") boolean enabled) {
+        this.voiceService = voiceService;
+        this.voiceTones = voiceTones(providers);
+        this.prewarmExecutor = prewarmExecutor;
+        this.enabled = enabled;
+    }
+
+    private static Set<String> voiceTones(Collection<TtsProvider> providers) {
+        Set<String> tones = new TreeSet<>();
+        providers.forEach(provider -> tones.addAll(provider.voiceTones()));
+        return tones;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prerenderOnStartup() {
+        if (enabled) {
+            prewarmExecutor.execute(this::prerender);
+        }
+    }
+
+    /**
+     * 톤별 고정 발화 합성 (실패하면 중단, 남은 조합은 처음 사용할 때 합성)
+     */
+    void prerender() {
+        int count = 0;
+        try {
+            for (String tone : voiceTones) {
+                VoiceSettings voiceSettings = VoiceSettings.builder().voiceTone(tone).build();
+                for (FixedPhrase phrase : FixedPhrase.values()) {
+                    voiceService.phraseToSpeech(phrase, voiceSettings);
+                    count++;
+                }
+            }
+            log.info("고정 발화 사전 합성 완료 - {}건", count);
+        } catch (RuntimeException e) {
+            log.warn("고정 발화 사전 합성 중단 - 완료: {}건, 원인: {}", count, e.getMessage());
+        }
+    }
+}
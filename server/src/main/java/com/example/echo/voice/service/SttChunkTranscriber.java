@@ -0,0 +1,148 @@
+package com.example.echo.voice.service;
+
+import com.example.echo.voice.util.FailFastCalls;
+import com.example.echo.voice.util.SpeechActivity;
+import com.example.echo.voice.util.TranscriptMerger;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * 긴 녹음 STT 분할 전사
+ *
+ * 한 턴에 몇 분씩 말하는 경우 Whisper 요청 1건으로 보내면 전사 시간이 녹음 길이에 비례하고 25MB 제한에 걸림
+ * 16비트 PCM WAV는 조용한 지점(SpeechActivity.splitPoints)에서 구간으로 나눠 sttChunkExecutor에서 병렬 전사한 뒤
+ * 겹친 부분의 중복 단어를 제거하고 순서대로 합침 (TranscriptMerger)
+ * → 전체 STT 시간 ≈ 가장 긴 구간 1개의 전사 시간
+ *
+ * - 구간: segment-seconds마다 앞 search-seconds 안에서 가장 조용한 프레임을 경계로 사용
+ * - 경계 앞뒤 overlap-ms를 양쪽 구간에 모두 포함 (경계에 걸친 단어가 잘리지 않도록)
+ * - 각 구간은 원본 파일의 해당 범위를 그대로 스트리밍 (WavRangeFile, 복사본 없음)
+ * - Whisper 동시 호출 수는 요청 전체 합산 concurrency로 제한
+ * - 구간 하나라도 실패하면 전체 실패 (원인 예외 그대로 전달)
+ *   아직 전사를 시작하지 않은 구간은 Whisper를 호출하지 않고 끝냄 (FailFastCalls)
+ * - 압축 형식(m4a 등)과 짧은 녹음은 나누지 않음
+ *
+ * 메트릭: stt.chunks (분할 전사 1건당 구간 수)
+ */
+@Slf4j
+@Component
+public class SttChunkTranscriber {
+
+    /** 구간 경계 탐색용 프레임 (RMS 임계값은 경계 선택에 쓰지 않으므로 기본값) */
+    private static final int FRAME_MS = 20;
+    private static final int RMS_THRESHOLD = 500;
+
+    /** 겹침 1초당 최대 중복 단어 수 (한국어 발화 속도 기준 여유 있게) */
+    private static final int WORDS_PER_SECOND = 4;
+
+    private final Executor sttChunkExecutor;
+    private final Semaphore permits;
+    private final int segmentMs;
+    private final int searchMs;
+    private final int overlapMs;
+    private final DistributionSummary chunkCount;
+
+    public SttChunkTranscriber(@Qualifier("sttChunkExecutor") Executor sttChunkExecutor,
+                               MeterRegistry meterRegistry,
+                               @Value("${stt.chunk.segment-seconds:60}") int segmentSeconds,
+                               @Value("${stt.chunk.search-seconds:10}") int searchSeconds,
+                               @Value("${stt.chunk.overlap-ms:1000}") int overlapMs,
+                               @Value("${stt.chunk.concurrency:4}") int concurrency) {
+        this.sttChunkExecutor = sttChunkExecutor;
+        this.permits = new Semaphore(concurrency);
+        this.segmentMs = segmentSeconds * 1000;
+        this.searchMs = searchSeconds * 1000;
+        this.overlapMs = overlapMs;
+        this.chunkCount = meterRegistry.summary("stt.chunks");
+    }
+
+    /**
+     * 조용한 지점에서 겹치는 구간으로 나눔
+     *
+     * @param activity upload의 검사 결과 (AudioPreflight가 이미 훑었으면 다시 읽지 않음, null이면 직접 검사)
+     * @return 나누지 않으면 원본 1개
+     */
+    public List<MultipartFile> split(MultipartFile upload, SpeechActivity activity) {
+        if (activity != null) {
+            return activity.durationSeconds() * 1000 > segmentMs ? segments(upload, activity) : List.of(upload);
+        }
+        try {
+            if (!isLong(upload)) {
+                return List.of(upload);
+            }
+            Optional<SpeechActivity> scanned;
+            try (InputStream in = upload.getInputStream()) {
+                scanned = SpeechActivity.scan(in, upload.getSize(), FRAME_MS, RMS_THRESHOLD);
+            }
+            return scanned.map(found -> segments(upload, found)).orElseGet(() -> List.of(upload));
+        } catch (IOException e) {
+            log.warn("STT 구간 분할 실패, 원본 그대로 전송 - {}", e.getMessage());
+            return List.of(upload);
+        }
+    }
+
+    /** 헤더만 읽어 나눌 만큼 긴 PCM WAV인지 확인 (짧은 녹음은 전체를 읽지 않음) */
+    private boolean isLong(MultipartFile upload) throws IOException {
+        try (InputStream in = upload.getInputStream()) {
+            OptionalDouble seconds = SpeechActivity.probeDurationSeconds(in, upload.getSize());
+            return seconds.isPresent() && seconds.getAsDouble() * 1000 > segmentMs;
+        }
+    }
+
+    private List<MultipartFile> segments(MultipartFile upload, SpeechActivity activity) {
+        List<Integer> points = activity.splitPoints(segmentMs, searchMs);
+        if (points.isEmpty()) {
+            return List.of(upload);
+        }
+        int overlap = activity.bytesFor(overlapMs);
+        List<Integer> bounds = new ArrayList<>(points.size() + 2);
+        bounds.add(0);
+        bounds.addAll(points);
+        bounds.add(activity.getDataLength());
+
+        List<MultipartFile> segments = new ArrayList<>(bounds.size() - 1);
+        for (int i = 0; i + 1 < bounds.size(); i++) {
+            int from = i == 0 ? 0 : Math.max(0, bounds.get(i) - overlap);
+            int to = i + 2 == bounds.size() ? bounds.get(i + 1) : Math.min(activity.getDataLength(), bounds.get(i + 1) + overlap);
+            segments.add(new WavRangeFile(upload, activity.header(to - from),
+                    activity.getDataOffset() + (long) from, to - from));
+        }
+        return segments;
+    }
+
+    /**
+     * 구간별 병렬 전사 후 겹친 부분을 제거하고 순서대로 합침
+     *
+     * @param transcriber 구간 1개 전사
+     */
+    public String transcribe(List<MultipartFile> segments, Function<MultipartFile, String> transcriber) {
+        chunkCount.record(segments.size());
+        log.info("STT 분할 전사 시작 - 구간: {}개", segments.size());
+
+        FailFastCalls calls = new FailFastCalls("다른 구간 전사 실패로 건너뜀");
+        List<CompletableFuture<String>> futures = segments.stream()
+                .map(segment -> CompletableFuture.supplyAsync(() -> calls.call(permits, () -> transcriber.apply(segment)),
+                        sttChunkExecutor))
+                .toList();
+
+        List<String> parts = calls.joinAll(futures, "음성을 텍스트로 변환하는 중 오류가 발생했습니다.");
+        int maxOverlapWords = Math.max(1, overlapMs * WORDS_PER_SECOND * 2 / 1000);
+        return TranscriptMerger.merge(parts, maxOverlapWords);
+    }
+}
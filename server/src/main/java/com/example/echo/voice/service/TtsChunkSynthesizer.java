@@ -0,0 +1,99 @@
+package com.example.echo.voice.service;
+
+import com.example.echo.voice.provider.TtsProvider;
+import com.example.echo.voice.util.AudioConcatenator;
+import com.example.echo.voice.util.FailFastCalls;
+import com.example.echo.voice.util.KoreanSentenceSplitter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 긴 텍스트 TTS 분할 합성
+ *
+ * 여러 문장 응답을 한 번에 합성하면 TTS 시간이 전체 길이에 비례하므로
+ * 문장 경계(KoreanSentenceSplitter)에서 조각으로 나눠 ttsChunkExecutor에서 병렬 합성한 뒤
+ * 순서대로 이어 붙여 재생 가능한 파일 1개로 반환 (AudioConcatenator: WAV 헤더 재작성 / MP3 프레임 연결)
+ * → 전체 TTS 시간 ≈ 가장 긴 조각 1개의 합성 시간, 800자 제한을 넘는 일기 낭독도 가능
+ *
+ * - 조각: 문장을 순서대로 max-chars까지 묶음 (너무 짧은 호출이 많아지지 않도록)
+ * - 등록된 TtsProvider마다 동시 합성 수 제한 (요청 전체 합산, 제한을 넘는 조각은 대기)
+ * - 조각 하나라도 실패하면 전체 실패 (원인 예외 그대로 전달)
+ *   아직 합성을 시작하지 않은 조각은 제공자를 호출하지 않고 끝냄 (FailFastCalls)
+ *
+ * 메트릭: tts.chunks (분할 합성 1건당 조각 수)
+ */
+@Slf4j
+@Component
+public class TtsChunkSynthesizer {
+
+    private final Executor ttsChunkExecutor;
+    private final int maxChunkChars;
+    private final Map<String, Semaphore> providerPermits;
+    private final DistributionSummary chunkCount;
+
+    public TtsChunkSynthesizer(@Qualifier("ttsChunkExecutor") Executor ttsChunkExecutor,
+                               MeterRegistry meterRegistry,
+                               List<TtsProvider> providers,
+                               @Value("${tts.chunk.max-chars:100}") int maxChunkChars,
+                               @Value("${tts.chunk.concurrency:4}") int concurrency) {
+        this.ttsChunkExecutor = ttsChunkExecutor;
+        this.maxChunkChars = maxChunkChars;
+        this.providerPermits = providers.stream()
+                .collect(Collectors.toUnmodifiableMap(TtsProvider::name, provider -> new Semaphore(concurrency)));
+        this.chunkCount = meterRegistry.summary("tts.chunks");
+    }
+
+    /**
+     * 문장 경계에서 조각으로 나눔 (조각이 1개면 나누지 않아도 됨)
+     */
+    public List<String> split(String text) {
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String sentence : KoreanSentenceSplitter.split(text)) {
+            if (current.length() > 0 && current.length() + 1 + sentence.length() > maxChunkChars) {
+                chunks.add(current.toString());
+                current.setLength(0);
+            }
+            if (current.length() > 0) {
+                current.append(' ');
+            }
+            current.append(sentence);
+        }
+        if (current.length() > 0) {
+            chunks.add(current.toString());
+        }
+        return chunks;
+    }
+
+    /**
+     * 조각별 병렬 합성 후 순서대로 이어 붙임
+     *
+     * @param provider    TtsProvider.name() (동시 합성 수 제한 단위)
+     * @param synthesizer 조각 1개 합성 (캐시 포함)
+     */
+    public byte[] synthesize(String provider, List<String> chunks, Function<String, byte[]> synthesizer) {
+        Semaphore permits = providerPermits.get(provider);
+        chunkCount.record(chunks.size());
+        log.info("TTS 분할 합성 시작 - provider: {}, 조각: {}개", provider, chunks.size());
+
+        FailFastCalls calls = new FailFastCalls("다른 조각 합성 실패로 건너뜀");
+        List<CompletableFuture<byte[]>> futures = chunks.stream()
+                .map(chunk -> CompletableFuture.supplyAsync(() -> calls.call(permits, () -> synthesizer.apply(chunk)),
+                        ttsChunkExecutor))
+                .toList();
+        return AudioConcatenator.concat(calls.joinAll(futures, "텍스트를 음성으로 변환하는 중 오류가 발생했습니다."));
+    }
+}
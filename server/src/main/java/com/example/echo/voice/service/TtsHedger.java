@@ -0,0 +1,227 @@
+package com.example.echo.voice.service;
+
+import com.example.echo.common.resilience.AbortableCall;
+import com.example.echo.voice.exception.VoiceProcessingException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * TTS 헤징 요청 (느린 응답 꼬리 지연 줄이기)
+ *
+ * Supertone은 중앙값보다 p99가 훨씬 길어 한 문장이 수 초~수십 초(read timeout 30s) 걸리는 경우가 있음
+ * 주 제공자가 최근 응답 시간 분위수(percentile, 기본 p90)만큼 기다려도 답이 없으면
+ * 다른 제공자로 같은 문장을 한 번 더 요청하고 먼저 성공한 쪽을 사용
+ * 진 쪽은 스레드 인터럽트 + HTTP 연결 끊기(AbortableCall)로 중단
+ * (Feign 기본 클라이언트의 소켓 읽기는 인터럽트만으로 멈추지 않아 read timeout까지 스레드/격벽 자리/크레딧을 씀)
+ *
+ * - 대기 기준: 주 제공자별 최근 window-size건 성공 응답 시간의 분위수를 min-delay-ms~max-delay-ms로 제한
+ *   (라우터가 요청마다 주 제공자를 바꿀 수 있으므로 제공자별로 따로 기록)
+ *   (표본이 min-samples보다 적으면 max-delay-ms, 표본이 없을 때 불필요한 이중 호출을 막기 위해)
+ * - 기준 전에 주 제공자가 실패하면 헤징하지 않고 그대로 실패 (재시도는 기존 RetryTemplate이 담당)
+ * - 헤징 후 한쪽이 실패하면 다른 쪽 결과를 기다림, 둘 다 실패하면 주 제공자 예외 전달
+ * - 제공자마다 음성이 다르므로 기본 비활성 (tts.hedge.enabled)
+ *
+ * 메트릭: tts.hedge.requests{primary}, tts.hedge.sent{primary} (헤징 비율 = sent / requests),
+ *         tts.hedge.wins{winner=primary|backup}, tts.hedge.latency{hedged} (p50/p90/p99),
+ *         tts.hedge.threshold.ms{primary} (현재 대기 기준)
+ */
+@Slf4j
+@Component
+public class TtsHedger {
+
+    private final Executor ttsHedgeExecutor;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayMs;
+    private final long maxDelayMs;
+    private final int minSamples;
+    private final int windowSize;
+
+    /** 주 제공자별 최근 성공 응답 시간 */
+    private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+
+    public TtsHedger(@Qualifier("ttsHedgeExecutor") Executor ttsHedgeExecutor,
+                     MeterRegistry meterRegistry,
+                     @Value("${tts.hedge.enabled:false}") boolean enabled,
+                     @Value("${tts.hedge.percentile:0.9}") double percentile,
+                     @Value("${tts.hedge.min-delay-ms:300}") long minDelayMs,
+                     @Value("${tts.hedge.max-delay-ms:3000}") long maxDelayMs,
+                     @Value("${tts.hedge.window-size:200}") int windowSize,
+                     @Value("${tts.hedge.min-samples:20}") int minSamples) {
+        this.ttsHedgeExecutor = ttsHedgeExecutor;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelayMs = minDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.minSamples = minSamples;
+        this.windowSize = Math.max(1, windowSize);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 주 제공자 호출, 대기 기준을 넘기면 예비 제공자로 한 번 더 호출해 먼저 성공한 결과 반환
+     *
+     * @param primary     주 제공자 이름 (메트릭 태그)
+     * @param primaryCall 주 제공자 합성 (캐시 포함)
+     * @param backupCall  예비 제공자 합성 (캐시 포함)
+     */
+    public <T> T hedge(String primary, Supplier<T> primaryCall, Supplier<T> backupCall) {
+        if (!enabled) {
+            return primaryCall.get();
+        }
+        meterRegistry.counter("tts.hedge.requests", "primary", primary).increment();
+        long startedAt = System.nanoTime();
+        LatencyWindow window = window(primary);
+        long threshold = thresholdMillis(window);
+
+        CompletionService<T> race = new ExecutorCompletionService<>(ttsHedgeExecutor);
+        AbortableCall primaryHttp = new AbortableCall();
+        AbortableCall backupHttp = new AbortableCall();
+        Future<T> primaryFuture = race.submit(() -> primaryHttp.run(() -> timed(window, primaryCall)));
+        Future<T> backupFuture = null;
+        try {
+            Future<T> done = race.poll(threshold, TimeUnit.MILLISECONDS);
+            if (done != null) {
+                T result = result(done);
+                latency(false).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                return result;
+            }
+
+            log.info("TTS 헤징 요청 - primary: {}, 대기 기준: {}ms", primary, threshold);
+            meterRegistry.counter("tts.hedge.sent", "primary", primary).increment();
+            backupFuture = race.submit(() -> backupHttp.run(backupCall));
+
+            RuntimeException primaryFailure = null;
+            for (int finished = 0; finished < 2; finished++) {
+                Future<T> next = race.take();
+                boolean primaryWon = next == primaryFuture;
+                try {
+                    T result = result(next);
+                    if (primaryWon) {
+                        abort(backupFuture, backupHttp);
+                    } else {
+                        abort(primaryFuture, primaryHttp);
+                    }
+                    meterRegistry.counter("tts.hedge.wins", "winner", primaryWon ? "primary" : "backup").increment();
+                    latency(true).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    return result;
+                } catch (RuntimeException e) {
+                    log.warn("TTS 헤징 {} 실패: {}", primaryWon ? "주 제공자" : "예비 제공자", e.getMessage());
+                    primaryFailure = primaryWon || primaryFailure == null ? e : primaryFailure;
+                }
+            }
+            throw primaryFailure;
+        } catch (InterruptedException e) {
+            abort(primaryFuture, primaryHttp);
+            if (backupFuture != null) {
+                abort(backupFuture, backupHttp);
+            }
+            Thread.currentThread().interrupt();
+            throw new VoiceProcessingException("음성 변환이 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 현재 대기 기준 (주 제공자 최근 응답 시간 분위수)
+     */
+    long thresholdMillis(String primary) {
+        return thresholdMillis(window(primary));
+    }
+
+    private long thresholdMillis(LatencyWindow window) {
+        long[] samples = window.snapshot();
+        if (samples.length < minSamples) {
+            return maxDelayMs;
+        }
+        Arrays.sort(samples);
+        int index = (int) Math.ceil(percentile * samples.length) - 1;
+        long value = samples[Math.max(0, Math.min(samples.length - 1, index))];
+        return Math.max(minDelayMs, Math.min(maxDelayMs, value));
+    }
+
+    private LatencyWindow window(String primary) {
+        return windows.computeIfAbsent(primary, name -> {
+            LatencyWindow window = new LatencyWindow(windowSize);
+            meterRegistry.gauge("tts.hedge.threshold.ms", Tags.of("primary", name), window, this::thresholdMillis);
+            return window;
+        });
+    }
+
+    /** 주 제공자 성공 응답 시간 기록 (헤징에서 져서 중단된 호출은 기록되지 않음) */
+    private static <T> T timed(LatencyWindow window, Supplier<T> call) {
+        long startedAt = System.nanoTime();
+        T result = call.get();
+        window.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return result;
+    }
+
+    /** 진 쪽 중단 (인터럽트를 먼저 걸어 연결이 끊긴 실패가 제공자 오류로 기록되지 않도록) */
+    private static void abort(Future<?> future, AbortableCall http) {
+        future.cancel(true);
+        http.abort();
+    }
+
+    private static <T> T result(Future<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new VoiceProcessingException("텍스트를 음성으로 변환하는 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    private Timer latency(boolean hedged) {
+        return Timer.builder("tts.hedge.latency")
+                .description("헤징 모드 TTS 응답 시간 (헤징 여부별)")
+                .tag("hedged", String.valueOf(hedged))
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 제공자 1곳의 최근 성공 응답 시간 (ms, 링 버퍼)
+     */
+    private static class LatencyWindow {
+
+        private final long[] samples;
+        private int count;
+        private int next;
+
+        LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        synchronized void record(long millis) {
+            samples[next] = millis;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        synchronized long[] snapshot() {
+            return Arrays.copyOf(samples, count);
+        }
+    }
+}
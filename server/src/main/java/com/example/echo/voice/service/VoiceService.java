@@ -1,14 +1,29 @@
 package com.example.echo.voice.service;
 
+import com.example.echo.voice.cache.FixedPhrase;
+import com.example.echo.voice.dto.AudioOutputFormat;
 import org.springframework.web.multipart.MultipartFile;
 // [2024-01 merge] voice.dto.VoiceSettings → user.dto.VoiceSettings로 통일
 // 이유: user/dto에 더 완성도 높은 VoiceSettings가 있어 중복 제거
 import com.example.echo.user.dto.VoiceSettings;
 
+
 /**
  * 음성 처리 서비스 인터페이스
  */
 public interface VoiceService {
     String speechToText(MultipartFile audioFile);
     byte[] textToSpeech(String text, VoiceSettings voiceSettings);
+
+    /**
+     * 고정 발화 음성 (목소리 설정별로 처음 한 번만 합성, 이후 PhraseBank에 보관된 음성 반환)
+     */
+    byte[] phraseToSpeech(FixedPhrase phrase, VoiceSettings voiceSettings);
+
+    /**
+     * TTS 음성을 클라이언트가 요청한 형식으로 변환 (무음 제거, 샘플레이트, 코덱)
+     *
+     * @return 변환한 음성 (요청 형식이 없거나 변환할 수 없는 음성이면 원본)
+     */
+    byte[] convertAudio(byte[] audio, AudioOutputFormat format);
 }
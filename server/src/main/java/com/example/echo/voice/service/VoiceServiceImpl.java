@@ -8,26 +8,31 @@ STTclient, TTS client 실행하는 곳
 */
 package com.example.echo.voice.service;
 
+import com.example.echo.common.exception.DependencyUnavailableException;
 import com.example.echo.voice.client.STTClient;
-import com.example.echo.voice.client.SupertoneTtsClient;
-import com.example.echo.voice.client.TTSClient;
 // [2024-01 merge] voice.dto.VoiceSettings → user.dto.VoiceSettings로 통일
 // 이유: user/dto에 더 완성도 높은 VoiceSettings가 있어 중복 제거
 import com.example.echo.user.dto.VoiceSettings;
-import com.example.echo.voice.dto.SupertoneCreditBalance;
-import com.example.echo.voice.dto.SupertoneTtsRequest;
+import com.example.echo.voice.cache.FixedPhrase;
+import com.example.echo.voice.cache.PhraseBank;
+import com.example.echo.voice.cache.TtsAudioCache;
+import com.example.echo.voice.cache.TtsCacheKey;
+import com.example.echo.voice.dto.AudioOutputFormat;
 import com.example.echo.voice.dto.WhisperTranscriptionResponse;
-import com.example.echo.voice.exception.RetryableVoiceException;
 import com.example.echo.voice.exception.SupertoneInsufficientCreditException;
 import com.example.echo.voice.exception.VoiceProcessingException;
-import org.springframework.retry.support.RetryTemplate;
+import com.example.echo.voice.provider.TtsProvider;
+import com.example.echo.voice.provider.TtsProviderRouter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.Map;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -35,9 +40,14 @@ import java.util.Map;
 public class VoiceServiceImpl implements VoiceService {
 
     private final STTClient sttClient;
-    private final TTSClient ttsClient;
-    private final SupertoneTtsClient supertoneClient;
-    private final RetryTemplate supertoneRetryTemplate;
+    private final TtsAudioCache ttsAudioCache;
+    private final PhraseBank phraseBank;
+    private final TtsChunkSynthesizer ttsChunkSynthesizer;
+    private final AudioPostProcessor audioPostProcessor;
+    private final AudioPreflight audioPreflight;
+    private final SttChunkTranscriber sttChunkTranscriber;
+    private final TtsHedger ttsHedger;
+    private final TtsProviderRouter ttsRouter;
 
     @Value("${openai.whisper.model:whisper-1}")
     private String whisperModel;
@@ -45,33 +55,16 @@ public class VoiceServiceImpl implements VoiceService {
     @Value("${openai.whisper.language:ko}")
     private String defaultLanguage;
 
-    @Value("${azure.tts.default-voice:ko-KR-SunHiNeural}")
-    private String defaultVoice;
+    /** 전체 텍스트 최대 길이 (문장 조각으로 나눠 합성하므로 제공자별 1회 호출 제한과 무관) */
+    @Value("${tts.max-text-length:5000}")
+    private int maxTextLength;
 
-    @Value("${tts.provider:supertone}")
-    private String ttsProvider;
+    /** 업로드 최대 크기 (긴 WAV는 구간으로 나눠 전사) */
+    @Value("${stt.max-upload-bytes:104857600}")
+    private long maxUploadBytes;
 
-    @Value("${supertone.voice-id}")
-    private String supertoneVoiceId;
-
-    @Value("${supertone.model:sona_speech_2}")
-    private String supertoneModel;
-
-    // voiceTone → Azure Neural Voice 매핑
-    private static final Map<String, String> TONE_TO_VOICE = Map.of(
-        "warm",   "ko-KR-SunHiNeural",   // 친근하고 따뜻한 여성
-        "calm",   "ko-KR-InJoonNeural",  // 차분한 남성
-        "bright", "ko-KR-JiMinNeural",   // 밝고 활기찬 여성
-        "gentle", "ko-KR-YuJinNeural"    // 부드러운 여성
-    );
-
-    // voiceTone → Supertone style 매핑
-    private static final Map<String, String> TONE_TO_STYLE = Map.of(
-        "warm",   "serene",
-        "calm",   "neutral",
-        "bright", "happy",
-        "gentle", "serene"
-    );
+    /** Whisper API 최대 파일 크기 (구간 1개 기준) */
+    private static final long WHISPER_MAX_FILE_BYTES = 25 * 1024 * 1024;
 
     /*
      * ========== STT (음성 → 텍스트) ==========
@@ -79,37 +72,42 @@ public class VoiceServiceImpl implements VoiceService {
      * [메인 흐름]
      * 1. 입력: MultipartFile audioFile (음성 파일)
      * 2. 검증: validateAudioFile() - 파일 존재/형식/크기 확인
-     * 3. 전처리: 없음 (파일 그대로 전송)
-     * 4. API 호출: sttClient.transcribe() → OpenAI Whisper API
-     * 5. 응답: WhisperTranscriptionResponse (JSON)
-     * 6. 출력: String (변환된 텍스트)
+     * 3. 사전 검사: audioPreflight.prepare() - WAV는 앞뒤 무음 제거, 말소리가 없으면 Whisper 호출 없이 거절
+     * 4. 구간 분할: sttChunkTranscriber.split() - 긴 WAV는 조용한 지점에서 겹치는 구간으로 나눔
+     *    (사전 검사 결과를 그대로 사용해 파일을 다시 읽지 않음, 구간마다 Whisper 25MB 제한 확인)
+     * 5. API 호출: sttClient.transcribe() → OpenAI Whisper API (여러 구간이면 병렬 호출 후 겹친 부분 제거하고 합침)
+     * 6. 응답: WhisperTranscriptionResponse (JSON)
+     * 7. 출력: String (변환된 텍스트)
      */
     @Override
     public String speechToText(MultipartFile audioFile) {
         // 1. 검증
         validateAudioFile(audioFile);
 
+        // 2. 사전 검사 (무음이면 NoSpeechDetectedException)
+        AudioPreflight.Prepared prepared = audioPreflight.prepare(audioFile);
+        MultipartFile upload = prepared.upload();
+
+        // 3. 긴 녹음 구간 분할
+        List<MultipartFile> segments = sttChunkTranscriber.split(upload, prepared.activity());
+        if (segments.stream().anyMatch(segment -> segment.getSize() > WHISPER_MAX_FILE_BYTES)) {
+            throw new VoiceProcessingException("파일 크기가 25MB를 초과합니다.");
+        }
+
         try {
-            // 2. API 호출
-            WhisperTranscriptionResponse response = sttClient.transcribe(
-                    audioFile,
-                    whisperModel,
-                    defaultLanguage,
-                    "json"
-            );
-
-            // 3. 응답 확인
-            if (response == null || response.getText() == null) {
-                throw new VoiceProcessingException("Whisper API 응답이 비어있습니다.");
-            }
+            // 4. API 호출
+            String text = segments.size() == 1
+                    ? transcribe(upload)
+                    : sttChunkTranscriber.transcribe(segments, this::transcribe);
 
-            log.info("STT 변환 완료: {} bytes -> {} chars",
-                    audioFile.getSize(),
-                    response.getText().length());
+            log.info("STT 변환 완료: {} bytes ({}개 구간) -> {} chars",
+                    upload.getSize(),
+                    segments.size(),
+                    text.length());
 
-            return response.getText();
+            return text;
 
-        } catch (VoiceProcessingException e) {
+        } catch (VoiceProcessingException | DependencyUnavailableException e) {
             throw e;
         } catch (Exception e) {
             log.error("STT 처리 중 오류 발생: {}", e.getMessage(), e);
@@ -117,148 +115,153 @@ public class VoiceServiceImpl implements VoiceService {
         }
     }
 
+    private String transcribe(MultipartFile file) {
+        WhisperTranscriptionResponse response = sttClient.transcribe(
+                file,
+                whisperModel,
+                defaultLanguage,
+                "json"
+        );
+
+        // 응답 확인
+        if (response == null || response.getText() == null) {
+            throw new VoiceProcessingException("Whisper API 응답이 비어있습니다.");
+        }
+        return response.getText();
+    }
+
     /*
      * ========== TTS (텍스트 → 음성) ==========
      *
      * [메인 흐름]
      * 1. 입력: String text, VoiceSettings voiceSettings
-     * 2. 검증: validateText() - 빈값/글자수 확인 (800자 제한)
-     * 3. 전처리:
-     *    - resolveVoice(): voiceTone → Azure Neural Voice 이름 변환
-     *    - convertSpeedToRate(): voiceSpeed → SSML prosody rate 변환
-     *    - buildSsml(): SSML XML 문자열 생성
-     * 4. API 호출: ttsClient.synthesize() → Azure TTS API
-     * 5. 응답: byte[] (MP3 바이너리)
-     * 6. 출력: byte[] (음성 파일)
+     * 2. 검증: validateText() - 빈값/글자수 확인 (tts.max-text-length)
+     * 3. 제공자 선택: ttsRouter.route() - 최근 지연/오류율/크레딧 기준 시도 순서 (설정 제공자 우선)
+     *    - 각 제공자(TtsProvider)가 voiceTone/voiceSpeed를 자기 API 파라미터로 변환 (Supertone style / Azure SSML)
+     * 4. 캐시 조회: 고정 발화(FixedPhrase)면 phraseBank, 아니면 ttsAudioCache
+     *    (제공자/음성/스타일/속도/모델/텍스트가 같으면 API 호출 생략)
+     *    여러 문장이면 ttsChunkSynthesizer로 조각별 병렬 합성 후 하나로 이어 붙임
+     * 5. API 호출: 1순위 제공자, 실패하면 다음 제공자로 전환
+     *    (헤징 모드면 1순위가 최근 p90보다 늦을 때 2순위로도 요청, 먼저 온 응답 사용 - ttsHedger)
+     * 6. 응답: byte[] (Supertone WAV / Azure MP3)
+     * 7. 출력: byte[] (음성 파일)
      */
     @Override
     public byte[] textToSpeech(String text, VoiceSettings voiceSettings) {
         validateText(text);
 
-        try {
-            if ("supertone".equals(ttsProvider)) {
-                return synthesizeWithSupertone(text, voiceSettings);
-            }
-            return synthesizeWithAzure(text, voiceSettings);
-        } catch (VoiceProcessingException e) {
-            throw e;
-        } catch (SupertoneInsufficientCreditException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("TTS 처리 중 오류 발생: {}", e.getMessage(), e);
-            throw new VoiceProcessingException("텍스트를 음성으로 변환하는 중 오류가 발생했습니다.", e);
+        Optional<FixedPhrase> phrase = FixedPhrase.match(text);
+        if (phrase.isPresent()) {
+            return phraseToSpeech(phrase.get(), voiceSettings);
+        }
+
+        List<String> chunks = ttsChunkSynthesizer.split(text);
+        if (chunks.size() <= 1) {
+            return synthesize(text, voiceSettings, ttsAudioCache::get);
         }
+        return synthesizeChunks(chunks, voiceSettings);
     }
 
-    private byte[] synthesizeWithSupertone(String text, VoiceSettings voiceSettings) {
-        String style = (voiceSettings != null && voiceSettings.getVoiceTone() != null)
-            ? TONE_TO_STYLE.getOrDefault(voiceSettings.getVoiceTone().toLowerCase(), "serene")
-            : "serene";
-        Double speed = (voiceSettings != null && voiceSettings.getVoiceSpeed() != null)
-            ? voiceSettings.getVoiceSpeed()
-            : 1.0;
-
-        SupertoneTtsRequest request = SupertoneTtsRequest.builder()
-            .text(text)
-            .language("ko")
-            .style(style)
-            .model(supertoneModel)
-            .speed(speed)
-            .build();
-
-        log.info("Supertone TTS 변환 시작: voice_id={}, style={}, speed={}, text_length={}",
-            supertoneVoiceId, style, speed, text.length());
+    @Override
+    public byte[] phraseToSpeech(FixedPhrase phrase, VoiceSettings voiceSettings) {
+        return synthesize(phrase.getText(), voiceSettings, phraseBank::get);
+    }
 
+    @Override
+    public byte[] convertAudio(byte[] audio, AudioOutputFormat format) {
         try {
-            byte[] audioData = supertoneRetryTemplate.execute(ctx -> {
-                if (ctx.getRetryCount() > 0) {
-                    log.warn("Supertone TTS 재시도 중: {}/2회", ctx.getRetryCount());
-                }
-                return supertoneClient.synthesize(supertoneVoiceId, request);
-            });
+            return audioPostProcessor.process(audio, format);
+        } catch (IllegalArgumentException e) {
+            // 헤더만 WAV이고 내용이 깨진 경우 등 → 원본 전송 (재생은 클라이언트가 판단)
+            log.warn("음성 후처리 실패, 원본 전송: {}", e.getMessage());
+            return audio;
+        }
+    }
 
-            if (audioData == null || audioData.length == 0) {
-                throw new VoiceProcessingException("Supertone TTS API 응답이 비어있습니다.");
+    /**
+     * 라우터가 정한 순서대로 제공자를 시도 (실패하면 다음 제공자로 전환, 모두 실패하면 1순위 예외 전달)
+     * 헤징 모드면 1·2순위를 함께 경쟁시키고, 둘 다 실패하면 3순위부터 이어서 시도
+     */
+    private <T> T synthesize(String text, VoiceSettings voiceSettings,
+                             BiFunction<TtsCacheKey, Supplier<byte[]>, T> store) {
+        List<TtsProvider> candidates = ttsRouter.route(voiceSettings);
+        RuntimeException firstFailure = null;
+        int next = 0;
+        while (next < candidates.size()) {
+            TtsProvider provider = candidates.get(next);
+            boolean hedged = ttsHedger.isEnabled() && next + 1 < candidates.size();
+            try {
+                if (hedged) {
+                    TtsProvider backup = candidates.get(next + 1);
+                    return ttsHedger.hedge(provider.name(),
+                            () -> synthesizeWith(provider, text, voiceSettings, store),
+                            () -> synthesizeWith(backup, text, voiceSettings, store));
+                }
+                return synthesizeWith(provider, text, voiceSettings, store);
+            } catch (RuntimeException e) {
+                firstFailure = firstFailure == null ? e : firstFailure;
+                next += hedged ? 2 : 1;
+                if (next < candidates.size()) {
+                    ttsRouter.failover(provider, candidates.get(next), e);
+                }
             }
-
-            log.info("Supertone TTS 변환 완료: {} chars -> {} bytes", text.length(), audioData.length);
-            return audioData;
-
-        } catch (SupertoneInsufficientCreditException e) {
-            logCreditBalance();
-            throw e;
-        } catch (RetryableVoiceException e) {
-            log.error("Supertone TTS 3회 재시도 후 최종 실패: {}", e.getMessage());
-            throw new VoiceProcessingException(
-                    "Supertone TTS 서비스가 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요.", e);
         }
+        throw firstFailure;
     }
 
-    private void logCreditBalance() {
-        try {
-            SupertoneCreditBalance balance = supertoneClient.getCreditBalance();
-            log.warn("[크레딧 부족] Supertone 크레딧 잔액: {}", balance);
-        } catch (Exception ex) {
-            log.warn("[크레딧 부족] 크레딧 잔액 조회 실패: {}", ex.getMessage());
+    /**
+     * 여러 조각은 모두 같은 제공자로 합성 (WAV/MP3 조각은 서로 이어 붙일 수 없음)
+     * 조각 하나라도 실패하면 다음 제공자로 전체를 다시 합성 (이미 합성된 조각은 제공자별 캐시에 남음)
+     */
+    private byte[] synthesizeChunks(List<String> chunks, VoiceSettings voiceSettings) {
+        List<TtsProvider> candidates = ttsRouter.route(voiceSettings);
+        RuntimeException firstFailure = null;
+        for (int i = 0; i < candidates.size(); i++) {
+            TtsProvider provider = candidates.get(i);
+            try {
+                return ttsChunkSynthesizer.synthesize(provider.name(), chunks,
+                        chunk -> synthesizeWith(provider, chunk, voiceSettings, ttsAudioCache::get));
+            } catch (IllegalArgumentException e) {
+                log.error("TTS 음성 조각 연결 실패: {}", e.getMessage());
+                throw new VoiceProcessingException("음성 조각을 합치는 중 오류가 발생했습니다.", e);
+            } catch (RuntimeException e) {
+                firstFailure = firstFailure == null ? e : firstFailure;
+                if (i + 1 < candidates.size()) {
+                    ttsRouter.failover(provider, candidates.get(i + 1), e);
+                }
+            }
         }
+        throw firstFailure;
     }
 
-    private byte[] synthesizeWithAzure(String text, VoiceSettings voiceSettings) {
-        String voiceName = resolveVoice(voiceSettings);
-        String rate = convertSpeedToRate(voiceSettings);
-        String ssml = buildSsml(text, voiceName, rate);
-
-        log.info("Azure TTS 변환 시작: voice={}, rate={}, text_length={}",
-            voiceName, rate, text.length());
-
-        byte[] audioData = ttsClient.synthesize(ssml);
-
-        if (audioData == null || audioData.length == 0) {
-            throw new VoiceProcessingException("Azure TTS API 응답이 비어있습니다.");
+    /**
+     * 제공자 1곳의 캐시 키와 합성 호출을 만들어 저장소(ttsAudioCache/phraseBank)에 전달
+     */
+    private <T> T synthesizeWith(TtsProvider provider, String text, VoiceSettings voiceSettings,
+                                 BiFunction<TtsCacheKey, Supplier<byte[]>, T> store) {
+        try {
+            return store.apply(provider.cacheKey(text, voiceSettings),
+                    () -> ttsRouter.synthesize(provider, text, voiceSettings));
+        } catch (VoiceProcessingException | DependencyUnavailableException e) {
+            throw e;
+        } catch (SupertoneInsufficientCreditException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("TTS 처리 중 오류 발생: {}", e.getMessage(), e);
+            throw new VoiceProcessingException("텍스트를 음성으로 변환하는 중 오류가 발생했습니다.", e);
         }
-
-        log.info("Azure TTS 변환 완료: {} chars -> {} bytes", text.length(), audioData.length);
-        return audioData;
     }
 
     private void validateText(String text) {
         if (text == null || text.isBlank()) {
             throw new VoiceProcessingException("변환할 텍스트가 비어있습니다.");
         }
-        // Azure SSML 제한: 800자 (한글 3바이트/자 고려)
-        if (text.length() > 800) {
-            throw new VoiceProcessingException("텍스트가 800자를 초과합니다.");
+        // 제공자 1회 호출 제한(Azure SSML 800자)은 문장 조각 단위로 나눠 지키므로 전체 길이만 제한
+        if (text.length() > maxTextLength) {
+            throw new VoiceProcessingException("텍스트가 " + maxTextLength + "자를 초과합니다.");
         }
     }
 
-    private String resolveVoice(VoiceSettings voiceSettings) {
-        if (voiceSettings == null || voiceSettings.getVoiceTone() == null) return defaultVoice;
-        return TONE_TO_VOICE.getOrDefault(voiceSettings.getVoiceTone().toLowerCase(), defaultVoice);
-    }
-
-    private String convertSpeedToRate(VoiceSettings voiceSettings) {
-        if (voiceSettings == null || voiceSettings.getVoiceSpeed() == null) return "+0%";
-        // voiceSpeed: 0.5 ~ 2.0 (기본 1.0) → SSML rate: -50% ~ +100% (기본 +0%)
-        int ratePercent = (int) Math.round((voiceSettings.getVoiceSpeed() - 1.0) * 100);
-        ratePercent = Math.max(-50, Math.min(100, ratePercent));
-        return (ratePercent >= 0 ? "+" : "") + ratePercent + "%";
-    }
-
-    private String buildSsml(String text, String voiceName, String rate) {
-        // XML 특수문자 이스케이프 (SSML 파싱 오류 방지)
-        String escaped = text
-            .replace("&", "&amp;")
-            .replace("<", "&lt;")
-            .replace(">", "&gt;")
-            .replace("\"", "&quot;")
-            .replace("'", "&apos;");
-        return String.format(
-            "<speak version='1.0' xml:lang='ko-KR'><voice xml:lang='ko-KR' name='%s'>" +
-            "<prosody rate='%s'>%s</prosody></voice></speak>",
-            voiceName, rate, escaped
-        );
-    }
-
     private void validateAudioFile(MultipartFile audioFile) {
         if (audioFile == null || audioFile.isEmpty()) {
             throw new VoiceProcessingException("오디오 파일이 비어있습니다.");
@@ -269,10 +272,9 @@ public class VoiceServiceImpl implements VoiceService {
             throw new VoiceProcessingException("지원하지 않는 오디오 형식입니다. (지원 형식: mp3, mp4, mpeg, mpga, m4a, wav, webm)");
         }
 
-        // Whisper API 최대 파일 크기: 25MB
-        long maxSize = 25 * 1024 * 1024;
-        if (audioFile.getSize() > maxSize) {
-            throw new VoiceProcessingException("파일 크기가 25MB를 초과합니다.");
+        // 업로드 최대 크기 (WAV는 구간으로 나눠 전송하므로 Whisper 25MB 제한보다 큼, 다른 형식은 분할 후 다시 확인)
+        if (audioFile.getSize() > maxUploadBytes) {
+            throw new VoiceProcessingException("파일 크기가 " + maxUploadBytes / (1024 * 1024) + "MB를 초과합니다.");
         }
     }
 
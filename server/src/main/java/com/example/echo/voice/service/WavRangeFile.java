@@ -0,0 +1,132 @@
+package com.example.echo.voice.service;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.file.Files;
+
+/**
+ * 원본 WAV 업로드의 data 구간 일부를 새 WAV 헤더 뒤에 이어 읽는 파일 (복사본을 만들지 않음)
+ *
+ * 사전 검사의 무음 제거(AudioPreflight), 긴 녹음 구간 분할(SttChunkTranscriber)에서
+ * STTClient가 원본 파일(디스크 임시 파일)의 해당 구간만 스트리밍하도록 사용
+ */
+class WavRangeFile implements MultipartFile {
+
+    private final MultipartFile source;
+    private final byte[] header;
+    private final long offset;
+    private final long length;
+
+    /**
+     * @param header WAV 헤더 (data 길이 = length)
+     * @param offset 원본 파일에서 구간 시작 위치
+     * @param length 구간 길이
+     */
+    WavRangeFile(MultipartFile source, byte[] header, long offset, long length) {
+        this.source = source;
+        this.header = header;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public String getName() {
+        return source.getName();
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return source.getOriginalFilename();
+    }
+
+    @Override
+    public String getContentType() {
+        return source.getContentType();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public long getSize() {
+        return header.length + length;
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        try (InputStream in = getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        InputStream in = source.getInputStream();
+        in.skipNBytes(offset);
+        return new SequenceInputStream(new ByteArrayInputStream(header), new LimitedInputStream(in, length));
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        try (InputStream in = getInputStream()) {
+            Files.copy(in, dest.toPath());
+        }
+    }
+
+    /**
+     * 앞에서 length 바이트까지만 읽는 스트림
+     */
+    private static class LimitedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        LimitedInputStream(InputStream in, long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int value = super.read();
+            if (value >= 0) {
+                remaining--;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = super.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.echo.voice.util;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * TTS 음성 조각 이어 붙이기 (문장 단위로 나눠 합성한 결과 → 재생 가능한 파일 1개)
+ *
+ * - WAV (Supertone): 각 조각의 data 청크만 모아 RIFF/data 크기를 다시 쓴 헤더 1개로 합침
+ *   (fmt가 다른 조각이 섞이면 예외 - 같은 음성 설정으로 합성했다면 발생하지 않음)
+ * - MP3 (Azure): 프레임 단위 포맷이므로 그대로 이어 붙이되,
+ *   두 번째 조각부터 앞의 ID3v2 태그, 마지막 조각 외에는 끝의 ID3v1 태그를 제거
+ */
+public final class AudioConcatenator {
+
+    private static final int ID3V2_HEADER_BYTES = 10;
+    private static final int ID3V1_TAG_BYTES = 128;
+
+    private AudioConcatenator() {
+    }
+
+    /**
+     * 조각을 순서대로 합침 (첫 조각의 형식으로 WAV/MP3 판단)
+     *
+     * @throws IllegalArgumentException WAV 헤더가 올바르지 않거나 조각마다 포맷이 다른 경우
+     */
+    public static byte[] concat(List<byte[]> parts) {
+        if (parts.isEmpty()) {
+            throw new IllegalArgumentException("합칠 음성이 없습니다.");
+        }
+        if (parts.size() == 1) {
+            return parts.get(0);
+        }
+        return WavChunks.isWav(parts.get(0)) ? concatWav(parts) : concatMp3(parts);
+    }
+
+    private static byte[] concatWav(List<byte[]> parts) {
+        byte[] format = null;
+        ByteArrayOutputStream samples = new ByteArrayOutputStream();
+
+        for (byte[] part : parts) {
+            WavChunks chunks = WavChunks.parse(part);
+            if (format == null) {
+                format = chunks.format();
+            } else if (!Arrays.equals(format, chunks.format())) {
+                throw new IllegalArgumentException("WAV 조각의 포맷(fmt)이 서로 다릅니다.");
+            }
+            samples.write(part, chunks.dataOffset(), chunks.dataLength());
+        }
+
+        return WavChunks.write(format, null, samples.toByteArray());
+    }
+
+    private static byte[] concatMp3(List<byte[]> parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < parts.size(); i++) {
+            byte[] part = parts.get(i);
+            int start = i == 0 ? 0 : id3v2Length(part);
+            int end = part.length;
+            if (i < parts.size() - 1 && hasId3v1(part, start)) {
+                end -= ID3V1_TAG_BYTES;
+            }
+            out.write(part, start, end - start);
+        }
+        return out.toByteArray();
+    }
+
+    /** 앞쪽 ID3v2 태그 길이 (없으면 0) */
+    private static int id3v2Length(byte[] mp3) {
+        if (mp3.length < ID3V2_HEADER_BYTES || !matches(mp3, 0, "ID3")) {
+            return 0;
+        }
+        // 크기는 synchsafe 정수 (바이트당 7비트), 헤더 미포함 / 푸터 플래그면 10바이트 추가
+        int size = (mp3[6] & 0x7F) << 21 | (mp3[7] & 0x7F) << 14 | (mp3[8] & 0x7F) << 7 | (mp3[9] & 0x7F);
+        int footer = (mp3[5] & 0x10) != 0 ? ID3V2_HEADER_BYTES : 0;
+        return Math.min(mp3.length, ID3V2_HEADER_BYTES + size + footer);
+    }
+
+    private static boolean hasId3v1(byte[] mp3, int start) {
+        return mp3.length - start >= ID3V1_TAG_BYTES && matches(mp3, mp3.length - ID3V1_TAG_BYTES, "TAG");
+    }
+
+    private static boolean matches(byte[] data, int offset, String ascii) {
+        return WavChunks.matches(data, offset, ascii);
+    }
+}
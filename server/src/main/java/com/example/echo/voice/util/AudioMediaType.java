@@ -0,0 +1,41 @@
+package com.example.echo.voice.util;
+
+/**
+ * TTS 음성의 Content-Type 판별
+ *
+ * 제공자 라우팅으로 요청마다 Supertone(WAV)/Azure(MP3) 응답이 섞일 수 있으므로
+ * 설정 제공자가 아니라 실제 음성 바이트의 앞부분(RIFF/WAVE, ID3 태그, MP3 프레임 동기)으로 판별
+ */
+public final class AudioMediaType {
+
+    public static final String WAV = "audio/wav";
+    public static final String MPEG = "audio/mpeg";
+
+    private AudioMediaType() {
+    }
+
+    /**
+     * @param fallback 판별할 수 없을 때 사용할 형식
+     */
+    public static String detect(byte[] audio, String fallback) {
+        if (audio == null) {
+            return fallback;
+        }
+        if (WavChunks.isWav(audio)) {
+            return WAV;
+        }
+        boolean id3 = audio.length >= 3 && audio[0] == 'I' && audio[1] == 'D' && audio[2] == '3';
+        boolean frameSync = audio.length >= 2 && (audio[0] & 0xFF) == 0xFF && (audio[1] & 0xE0) == 0xE0;
+        return id3 || frameSync ? MPEG : fallback;
+    }
+
+    /** 설정 제공자 기본 형식 (supertone: WAV, azure: MP3) */
+    public static String ofProvider(String provider) {
+        return "supertone".equals(provider) ? WAV : MPEG;
+    }
+
+    /** 다운로드 파일 확장자 */
+    public static String extension(String mediaType) {
+        return WAV.equals(mediaType) ? "wav" : "mp3";
+    }
+}
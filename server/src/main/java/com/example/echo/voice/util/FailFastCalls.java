@@ -0,0 +1,99 @@
+package com.example.echo.voice.util;
+
+import com.example.echo.voice.exception.VoiceProcessingException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 병렬 외부 호출 묶음 (하나라도 실패하면 아직 시작하지 않은 호출은 건너뜀)
+ *
+ * CompletableFuture.cancel은 실행 중/대기 중 작업을 멈추지 못하므로
+ * 각 작업이 제공자 호출 직전에 첫 실패를 직접 확인해 호출 없이 끝냄 (대기 중인 작업도 크레딧을 쓰지 않도록)
+ *
+ * 사용: TtsChunkSynthesizer(조각), SttChunkTranscriber(구간), ConversationStreamService(문장 TTS)
+ */
+public final class FailFastCalls {
+
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    private final String skipMessage;
+
+    /**
+     * @param skipMessage 건너뛴 작업의 CancellationException 메시지
+     */
+    public FailFastCalls(String skipMessage) {
+        this.skipMessage = skipMessage;
+    }
+
+    /**
+     * 앞선 호출이 실패하지 않았으면 실행 (실패하면 첫 실패로 기록)
+     *
+     * @param permits 동시 호출 수 제한 (null이면 제한 없음, 허가를 기다리는 동안 실패했으면 호출하지 않음)
+     * @throws CancellationException 앞선 호출이 이미 실패한 경우
+     */
+    public <T> T call(Semaphore permits, Supplier<T> call) {
+        skipIfFailed();
+        if (permits != null) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new VoiceProcessingException("음성 변환이 중단되었습니다.", e);
+            }
+        }
+        try {
+            skipIfFailed();
+            return call.get();
+        } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+            throw e;
+        } finally {
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * 모든 결과를 순서대로 모음
+     *
+     * 건너뛴 작업이 먼저 조회될 수 있으므로 실패 시 실제로 실패한 호출의 예외를 그대로 전달
+     *
+     * @param errorMessage 원인이 RuntimeException이 아닐 때 VoiceProcessingException 메시지
+     */
+    public <T> List<T> joinAll(List<CompletableFuture<T>> futures, String errorMessage) {
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            firstFailure().ifPresent(first -> {
+                throw first;
+            });
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new VoiceProcessingException(errorMessage, e.getCause());
+        }
+        return results;
+    }
+
+    /** 처음 실패한 호출의 예외 */
+    public Optional<RuntimeException> firstFailure() {
+        return Optional.ofNullable(failure.get());
+    }
+
+    private void skipIfFailed() {
+        if (failure.get() != null) {
+            throw new CancellationException(skipMessage);
+        }
+    }
+}
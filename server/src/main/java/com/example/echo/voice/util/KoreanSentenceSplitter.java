@@ -0,0 +1,144 @@
+package com.example.echo.voice.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한국어 문장 분리기 (스트리밍 지원)
+ *
+ * LLM 스트리밍 응답처럼 텍스트가 조각(delta) 단위로 도착할 때,
+ * 문장이 완성되는 즉시 잘라내어 TTS로 넘길 수 있도록 한다.
+ *
+ * 문장 경계 판단 규칙:
+ * - 종결 부호(. ? ! … 。) 뒤에 공백/줄바꿈이 오면 경계
+ * - "3.5km"처럼 종결 부호 뒤에 바로 글자가 붙으면 경계 아님
+ * - 종결 부호 뒤 닫는 따옴표/괄호는 같은 문장에 포함
+ * - 줄바꿈은 그 자체로 경계
+ * - 종결 부호 없이 너무 길어지면 쉼표/공백 위치에서 강제 분리 (TTS 첫 응답 지연 방지)
+ *
+ * 인스턴스는 상태(버퍼)를 가지므로 요청 1건당 1개를 생성해서 사용한다. (스레드 안전하지 않음)
+ */
+public class KoreanSentenceSplitter {
+
+    /** 종결 부호 없이 이 길이를 넘으면 강제 분리 */
+    private static final int MAX_SENTENCE_LENGTH = 120;
+
+    private final StringBuilder buffer = new StringBuilder();
+
+    /**
+     * 텍스트 조각을 추가하고, 완성된 문장들을 반환
+     *
+     * @param delta 새로 도착한 텍스트 조각
+     * @return 이번 조각으로 완성된 문장 목록 (없으면 빈 리스트)
+     */
+    public List<String> append(String delta) {
+        if (delta != null) {
+            buffer.append(delta);
+        }
+        return drain(false);
+    }
+
+    /**
+     * 남은 버퍼를 모두 문장으로 반환 (스트림 종료 시 호출)
+     */
+    public List<String> flush() {
+        return drain(true);
+    }
+
+    /**
+     * 완성된 전체 텍스트를 문장 단위로 분리
+     */
+    public static List<String> split(String text) {
+        KoreanSentenceSplitter splitter = new KoreanSentenceSplitter();
+        List<String> sentences = new ArrayList<>(splitter.append(text));
+        sentences.addAll(splitter.flush());
+        return sentences;
+    }
+
+    private List<String> drain(boolean endOfStream) {
+        List<String> sentences = new ArrayList<>();
+        int start = 0;
+        int i = 0;
+
+        while (i < buffer.length()) {
+            char c = buffer.charAt(i);
+
+            if (c == '\n') {
+                addSentence(sentences, start, i);
+                start = i + 1;
+                i++;
+                continue;
+            }
+
+            if (isTerminator(c)) {
+                int end = i + 1;
+                while (end < buffer.length()
+                        && (isTerminator(buffer.charAt(end)) || isClosing(buffer.charAt(end)))) {
+                    end++;
+                }
+                if (end == buffer.length()) {
+                    // 다음 글자가 아직 도착하지 않음 → 스트림 종료 시에만 확정
+                    if (endOfStream) {
+                        addSentence(sentences, start, end);
+                        start = end;
+                    }
+                    break;
+                }
+                if (Character.isWhitespace(buffer.charAt(end))) {
+                    addSentence(sentences, start, end);
+                    start = end;
+                }
+                i = end;
+                continue;
+            }
+
+            if (i - start >= MAX_SENTENCE_LENGTH) {
+                int cut = findSoftBreak(start, i);
+                addSentence(sentences, start, cut);
+                start = cut;
+            }
+            i++;
+        }
+
+        if (endOfStream && start < buffer.length()) {
+            addSentence(sentences, start, buffer.length());
+            start = buffer.length();
+        }
+
+        buffer.delete(0, start);
+        return sentences;
+    }
+
+    /**
+     * 강제 분리 위치 탐색: 쉼표 > 공백 > 현재 위치 순
+     */
+    private int findSoftBreak(int start, int end) {
+        int min = start + MAX_SENTENCE_LENGTH / 2;
+        for (int j = end; j > min; j--) {
+            if (buffer.charAt(j - 1) == ',') {
+                return j;
+            }
+        }
+        for (int j = end; j > min; j--) {
+            if (Character.isWhitespace(buffer.charAt(j - 1))) {
+                return j;
+            }
+        }
+        return end;
+    }
+
+    private void addSentence(List<String> sentences, int start, int end) {
+        String sentence = buffer.substring(start, end).trim();
+        if (!sentence.isEmpty()) {
+            sentences.add(sentence);
+        }
+    }
+
+    private static boolean isTerminator(char c) {
+        return c == '.' || c == '?' || c == '!' || c == '…' || c == '。';
+    }
+
+    private static boolean isClosing(char c) {
+        return c == '"' || c == '\'' || c == ')' || c == '」' || c == '”' || c == '’' || c == '~';
+    }
+}
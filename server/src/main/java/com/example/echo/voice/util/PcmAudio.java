@@ -0,0 +1,201 @@
+package com.example.echo.voice.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * 16비트 PCM 음성 (WAV 디코딩 결과, 채널 인터리브)
+ *
+ * TTS 음성 후처리용 최소 기능만 제공 (무음 제거, 모노 변환, 샘플레이트 변환)
+ * 모든 연산은 새 인스턴스를 반환 (원본 불변)
+ */
+public final class PcmAudio {
+
+    private static final int FORMAT_PCM = 1;
+    private static final int FORMAT_EXTENSIBLE = 0xFFFE;
+
+    private final int sampleRate;
+    private final int channels;
+    private final short[] samples;
+
+    public PcmAudio(int sampleRate, int channels, short[] samples) {
+        this.sampleRate = sampleRate;
+        this.channels = channels;
+        this.samples = samples;
+    }
+
+    /**
+     * 16비트 PCM WAV인지 확인 (후처리 가능 여부)
+     */
+    public static boolean isPcm16Wav(byte[] audio) {
+        if (!WavChunks.isWav(audio)) {
+            return false;
+        }
+        try {
+            return isPcm16(WavChunks.parse(audio).format());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException 16비트 PCM WAV가 아닌 경우
+     */
+    public static PcmAudio fromWav(byte[] wav) {
+        WavChunks chunks = WavChunks.parse(wav);
+        if (!isPcm16(chunks.format())) {
+            throw new IllegalArgumentException("16비트 PCM WAV만 후처리할 수 있습니다.");
+        }
+        ByteBuffer format = ByteBuffer.wrap(chunks.format()).order(ByteOrder.LITTLE_ENDIAN);
+        int channels = format.getShort(2);
+        int sampleRate = format.getInt(4);
+
+        short[] samples = new short[chunks.dataLength() / Short.BYTES];
+        ByteBuffer.wrap(wav, chunks.dataOffset(), samples.length * Short.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .asShortBuffer()
+                .get(samples);
+        // 마지막 프레임이 잘렸으면 버림
+        int frames = samples.length / channels;
+        return new PcmAudio(sampleRate, channels, Arrays.copyOf(samples, frames * channels));
+    }
+
+    static boolean isPcm16(byte[] format) {
+        if (format.length < 16) {
+            return false;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(format).order(ByteOrder.LITTLE_ENDIAN);
+        int tag = Short.toUnsignedInt(buffer.getShort(0));
+        // WAVE_FORMAT_EXTENSIBLE이면 SubFormat GUID 앞 2바이트가 실제 포맷
+        if (tag == FORMAT_EXTENSIBLE && format.length >= 26) {
+            tag = Short.toUnsignedInt(buffer.getShort(24));
+        }
+        return tag == FORMAT_PCM && buffer.getShort(14) == 16 && buffer.getShort(2) > 0;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public int getChannels() {
+        return channels;
+    }
+
+    /** 인터리브된 샘플 (복사하지 않음, 수정 금지) */
+    public short[] getSamples() {
+        return samples;
+    }
+
+    public int frames() {
+        return samples.length / channels;
+    }
+
+    public double durationSeconds() {
+        return (double) frames() / sampleRate;
+    }
+
+    /**
+     * 앞뒤 무음 제거
+     *
+     * @param threshold 무음으로 볼 최대 진폭 (0~32767)
+     * @param paddingMs 소리 앞뒤로 남길 여유 (말 시작/끝이 잘리지 않도록)
+     * @return 전체가 무음이면 원본 그대로
+     */
+    public PcmAudio trimSilence(int threshold, int paddingMs) {
+        int frames = frames();
+        int first = 0;
+        while (first < frames && isSilent(first, threshold)) {
+            first++;
+        }
+        if (first == frames) {
+            return this;
+        }
+        int last = frames - 1;
+        while (last > first && isSilent(last, threshold)) {
+            last--;
+        }
+
+        int padding = (int) ((long) sampleRate * paddingMs / 1000);
+        int from = Math.max(0, first - padding);
+        int to = Math.min(frames, last + 1 + padding);
+        if (from == 0 && to == frames) {
+            return this;
+        }
+        return new PcmAudio(sampleRate, channels, Arrays.copyOfRange(samples, from * channels, to * channels));
+    }
+
+    private boolean isSilent(int frame, int threshold) {
+        for (int c = 0; c < channels; c++) {
+            if (Math.abs(samples[frame * channels + c]) > threshold) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 채널 평균으로 모노 변환
+     */
+    public PcmAudio toMono() {
+        if (channels == 1) {
+            return this;
+        }
+        int frames = frames();
+        short[] mono = new short[frames];
+        for (int f = 0; f < frames; f++) {
+            int sum = 0;
+            for (int c = 0; c < channels; c++) {
+                sum += samples[f * channels + c];
+            }
+            mono[f] = (short) (sum / channels);
+        }
+        return new PcmAudio(sampleRate, 1, mono);
+    }
+
+    /**
+     * 샘플레이트 변환
+     *
+     * - 낮출 때: 출력 샘플 1개가 덮는 입력 구간의 평균 (간단한 저역 통과, 에일리어싱 완화)
+     * - 높일 때: 선형 보간
+     * - 샘플이 없으면(data 청크가 빈 WAV) 원본 그대로
+     */
+    public PcmAudio resample(int targetRate) {
+        int frames = frames();
+        if (targetRate == sampleRate || frames == 0) {
+            return this;
+        }
+        double ratio = (double) sampleRate / targetRate;
+        int outFrames = (int) Math.max(1, Math.round(frames / ratio));
+        short[] out = new short[outFrames * channels];
+
+        for (int o = 0; o < outFrames; o++) {
+            double position = o * ratio;
+            for (int c = 0; c < channels; c++) {
+                out[o * channels + c] = ratio > 1
+                        ? average(position, ratio, c, frames)
+                        : interpolate(position, c, frames);
+            }
+        }
+        return new PcmAudio(targetRate, channels, out);
+    }
+
+    private short average(double position, double window, int channel, int frames) {
+        int from = Math.min((int) position, frames - 1);
+        int to = Math.min(frames, Math.max(from + 1, (int) (position + window)));
+        long sum = 0;
+        for (int f = from; f < to; f++) {
+            sum += samples[f * channels + channel];
+        }
+        return (short) (sum / (to - from));
+    }
+
+    private short interpolate(double position, int channel, int frames) {
+        int index = Math.min((int) position, frames - 1);
+        int next = Math.min(index + 1, frames - 1);
+        double fraction = position - index;
+        double value = samples[index * channels + channel] * (1 - fraction)
+                + samples[next * channels + channel] * fraction;
+        return (short) Math.round(value);
+    }
+}
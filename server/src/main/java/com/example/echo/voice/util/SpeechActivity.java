@@ -0,0 +1,259 @@
+package com.example.echo.voice.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
+
+/**
+ * 16비트 PCM WAV의 에너지 기반 음성 구간 검출 (STT 사전 검사용)
+ *
+ * 업로드 파일을 통째로 읽지 않고 스트림에서 프레임(frameMs) 단위로 읽으며 RMS 계산
+ * RMS가 임계값 이상인 프레임을 음성으로 보고 처음/마지막 음성 프레임과 음성 프레임 수를 기록
+ * (배경 소음이 임계값보다 작다는 가정의 단순 VAD, 말 사이 쉼도 구간 안이면 그대로 둠)
+ * 프레임별 RMS도 보관해 긴 녹음을 조용한 지점에서 나누는 데 사용 (프레임당 int 1개, 10분 ≈ 120KB)
+ */
+public final class SpeechActivity {
+
+    /** 헤더 탐색용으로 먼저 읽는 크기 (LIST 등 부가 청크 포함) */
+    private static final int HEADER_PROBE_BYTES = 4096;
+
+    private final byte[] format;
+    private final int sampleRate;
+    private final int blockAlign;
+    private final int dataOffset;
+    private final int dataLength;
+    private final int frameMs;
+    private final int frameBytes;
+    /** data 본문 시작 ~ 첫 프레임 사이 바이트 (잘라낸 구간의 검사 결과에서만 0이 아님) */
+    private final int frameShift;
+    private final int voicedFrames;
+    private final int firstVoiced;
+    private final int lastVoiced;
+    private final int[] frameRms;
+
+    private SpeechActivity(byte[] format, int dataOffset, int dataLength, int frameMs, int frameBytes, int frameShift,
+                           int voicedFrames, int firstVoiced, int lastVoiced, int[] frameRms) {
+        ByteBuffer buffer = ByteBuffer.wrap(format).order(ByteOrder.LITTLE_ENDIAN);
+        this.format = format;
+        this.sampleRate = buffer.getInt(4);
+        this.blockAlign = buffer.getShort(2) * Short.BYTES;
+        this.dataOffset = dataOffset;
+        this.dataLength = dataLength;
+        this.frameMs = frameMs;
+        this.frameBytes = frameBytes;
+        this.frameShift = frameShift;
+        this.voicedFrames = voicedFrames;
+        this.firstVoiced = firstVoiced;
+        this.lastVoiced = lastVoiced;
+        this.frameRms = frameRms;
+    }
+
+    /**
+     * 헤더만 읽어 재생 시간 계산 (전체를 검사할 필요가 있는지 판단용)
+     *
+     * @param in 스트림 앞부분을 읽음 (닫기는 호출자 책임)
+     * @return 16비트 PCM WAV가 아니면 empty
+     */
+    public static OptionalDouble probeDurationSeconds(InputStream in, long totalLength) throws IOException {
+        byte[] head = in.readNBytes(HEADER_PROBE_BYTES);
+        try {
+            WavChunks chunks = WavChunks.parseHeader(head, totalLength);
+            if (!PcmAudio.isPcm16(chunks.format())) {
+                return OptionalDouble.empty();
+            }
+            ByteBuffer format = ByteBuffer.wrap(chunks.format()).order(ByteOrder.LITTLE_ENDIAN);
+            long bytesPerSecond = (long) format.getInt(4) * format.getShort(2) * Short.BYTES;
+            return OptionalDouble.of((double) chunks.dataLength() / bytesPerSecond);
+        } catch (IllegalArgumentException e) {
+            return OptionalDouble.empty();
+        }
+    }
+
+    /**
+     * @param in           WAV 파일 스트림 (끝까지 읽음, 닫기는 호출자 책임)
+     * @param totalLength  파일 전체 길이
+     * @param frameMs      판정 프레임 길이
+     * @param rmsThreshold 음성으로 볼 최소 RMS (0~32767)
+     * @return 16비트 PCM WAV가 아니면 empty (다른 형식은 검사하지 않음)
+     * @throws IOException 스트림 읽기 실패
+     */
+    public static Optional<SpeechActivity> scan(InputStream in, long totalLength, int frameMs, int rmsThreshold)
+            throws IOException {
+        byte[] head = in.readNBytes(HEADER_PROBE_BYTES);
+        WavChunks chunks;
+        try {
+            chunks = WavChunks.parseHeader(head, totalLength);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (!PcmAudio.isPcm16(chunks.format())) {
+            return Optional.empty();
+        }
+
+        ByteBuffer format = ByteBuffer.wrap(chunks.format()).order(ByteOrder.LITTLE_ENDIAN);
+        int channels = format.getShort(2);
+        int sampleRate = format.getInt(4);
+        int frameBytes = Math.max(1, sampleRate * frameMs / 1000) * channels * Short.BYTES;
+
+        // 이미 읽은 헤더 뒤쪽(data 시작 부분) + 나머지 스트림
+        int buffered = Math.max(0, head.length - chunks.dataOffset());
+        InputStream data = new SequenceInputStream(
+                new ByteArrayInputStream(head, Math.min(chunks.dataOffset(), head.length), buffered), in);
+
+        byte[] frame = new byte[frameBytes];
+        ByteBuffer samples = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+        long squareThreshold = (long) rmsThreshold * rmsThreshold;
+        int remaining = chunks.dataLength();
+        int index = 0;
+        int voiced = 0;
+        int first = -1;
+        int last = -1;
+        int[] rms = new int[Math.max(1, (int) ((long) chunks.dataLength() / frameBytes) + 1)];
+
+        while (remaining >= Short.BYTES) {
+            int read = data.readNBytes(frame, 0, Math.min(frameBytes, remaining));
+            int sampleCount = read / Short.BYTES;
+            if (sampleCount == 0) {
+                break;
+            }
+            long sumSquares = 0;
+            for (int i = 0; i < sampleCount; i++) {
+                int sample = samples.getShort(i * Short.BYTES);
+                sumSquares += (long) sample * sample;
+            }
+            long meanSquare = sumSquares / sampleCount;
+            rms[index] = (int) Math.sqrt(meanSquare);
+            if (meanSquare >= squareThreshold) {
+                voiced++;
+                first = first < 0 ? index : first;
+                last = index;
+            }
+            remaining -= read;
+            index++;
+            if (read < frameBytes && remaining > 0) {
+                // data 크기 표기보다 파일이 짧음
+                break;
+            }
+        }
+        int scanned = chunks.dataLength() - Math.max(0, remaining);
+        return Optional.of(new SpeechActivity(chunks.format(), chunks.dataOffset(), scanned, frameMs, frameBytes, 0,
+                voiced, first, last, Arrays.copyOf(rms, index)));
+    }
+
+    /**
+     * data 본문 [start, end)만 header(end - start) 뒤에 담은 WAV의 검사 결과 (파일을 다시 읽지 않음)
+     *
+     * 구간 안에 온전히 들어가는 프레임의 RMS만 이어서 사용
+     * speechStart/speechEnd로 자른 구간용 (음성 프레임이 모두 구간 안에 있다고 봄)
+     */
+    public SpeechActivity trimmed(int start, int end) {
+        int firstFrame = Math.min(frameRms.length, (start + frameBytes - 1) / frameBytes);
+        int endFrame = Math.max(firstFrame, Math.min(frameRms.length, end / frameBytes));
+        int length = end - start;
+        return new SpeechActivity(format, header(length).length, length, frameMs, frameBytes,
+                firstFrame * frameBytes - start, voicedFrames,
+                hasSpeech() ? Math.max(0, firstVoiced - firstFrame) : -1,
+                hasSpeech() ? Math.min(endFrame - firstFrame - 1, lastVoiced - firstFrame) : -1,
+                Arrays.copyOfRange(frameRms, firstFrame, endFrame));
+    }
+
+    public boolean hasSpeech() {
+        return voicedFrames > 0;
+    }
+
+    /** data 청크 본문 시작 위치 (파일 기준) */
+    public int getDataOffset() {
+        return dataOffset;
+    }
+
+    /** 검사한 data 본문 길이 */
+    public int getDataLength() {
+        return dataLength;
+    }
+
+    public int getFrameBytes() {
+        return frameBytes;
+    }
+
+    public double durationSeconds() {
+        return (double) dataLength / ((long) sampleRate * blockAlign);
+    }
+
+    /** 음성 프레임 길이 합 (말 사이 쉼 제외) */
+    public long speechMillis() {
+        return (long) voicedFrames * frameMs;
+    }
+
+    /**
+     * 처음 음성 프레임 - 여유 구간 시작 위치 (data 본문 기준 바이트, 샘플 경계 정렬)
+     */
+    public int speechStart(int paddingMs) {
+        if (!hasSpeech()) {
+            return 0;
+        }
+        long start = (long) firstVoiced * frameBytes + frameShift - paddingBytes(paddingMs);
+        return (int) Math.max(0, start);
+    }
+
+    /**
+     * 마지막 음성 프레임 + 여유 구간 끝 위치 (data 본문 기준 바이트, 샘플 경계 정렬)
+     */
+    public int speechEnd(int paddingMs) {
+        if (!hasSpeech()) {
+            return dataLength;
+        }
+        long end = (long) (lastVoiced + 1) * frameBytes + frameShift + paddingBytes(paddingMs);
+        return (int) Math.min(dataLength - dataLength % blockAlign, end);
+    }
+
+    private long paddingBytes(int paddingMs) {
+        return (long) sampleRate * paddingMs / 1000 * blockAlign;
+    }
+
+    /** 시간 → data 본문 바이트 수 (샘플 경계 정렬) */
+    public int bytesFor(int millis) {
+        return (int) Math.min(Integer.MAX_VALUE, paddingBytes(millis));
+    }
+
+    /**
+     * 긴 녹음을 나눌 경계 (data 본문 기준 바이트, 오름차순)
+     *
+     * 직전 경계에서 segmentMs 떨어진 지점 앞 searchMs 안에서 RMS가 가장 낮은 프레임 시작 위치를 경계로 사용
+     * (말하는 중간이 아니라 숨 쉬는 틈/문장 사이에서 자르도록)
+     *
+     * @return 나눌 필요가 없으면 빈 목록
+     */
+    public List<Integer> splitPoints(int segmentMs, int searchMs) {
+        int segmentFrames = Math.max(1, segmentMs / frameMs);
+        int searchFrames = Math.max(0, Math.min(segmentFrames - 1, searchMs / frameMs));
+        List<Integer> points = new ArrayList<>();
+        int start = 0;
+        while (frameRms.length - start > segmentFrames) {
+            int target = start + segmentFrames;
+            int best = target;
+            for (int f = target - searchFrames; f < target; f++) {
+                if (frameRms[f] < frameRms[best]) {
+                    best = f;
+                }
+            }
+            points.add(frameShift + best * frameBytes);
+            start = best;
+        }
+        return points;
+    }
+
+    /**
+     * 같은 포맷으로 dataLength 바이트 본문을 담는 WAV 헤더 (잘라낸 구간 앞에 붙임)
+     */
+    public byte[] header(int dataLength) {
+        return WavChunks.header(format, null, dataLength);
+    }
+}
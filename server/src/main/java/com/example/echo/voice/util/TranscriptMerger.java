@@ -0,0 +1,71 @@
+package com.example.echo.voice.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 겹치게 나눠 전사한 구간 텍스트 합치기
+ *
+ * 구간 경계 앞뒤를 겹쳐 전사하므로 앞 구간 끝과 다음 구간 앞에 같은 말이 두 번 나옴
+ * → 앞 텍스트 끝 단어들과 다음 텍스트 앞 단어들이 가장 길게 겹치는 곳을 찾아 다음 텍스트에서 제거
+ *
+ * - 단어 비교는 문장부호/대소문자를 무시 (Whisper가 경계에서 마침표를 다르게 붙이는 경우)
+ * - 다음 구간 맨 앞 단어는 잘린 소리로 다르게 전사될 수 있어 앞쪽 MAX_LEADING_SKIP 단어까지는 건너뛰고 비교
+ *   (건너뛸 때는 2단어 이상 겹쳐야 중복으로 인정, 우연히 같은 단어 1개로 지우지 않도록)
+ */
+public final class TranscriptMerger {
+
+    private static final int MAX_LEADING_SKIP = 2;
+
+    private TranscriptMerger() {
+    }
+
+    /**
+     * @param parts       구간 순서대로의 전사 텍스트
+     * @param maxOverlap  겹침으로 볼 최대 단어 수 (겹침 구간 길이에 맞춤)
+     */
+    public static String merge(List<String> parts, int maxOverlap) {
+        List<String> merged = new ArrayList<>();
+        for (String part : parts) {
+            if (part == null || part.isBlank()) {
+                continue;
+            }
+            List<String> words = Arrays.asList(part.trim().split("\\s+"));
+            merged.addAll(words.subList(duplicatedPrefix(merged, words, maxOverlap), words.size()));
+        }
+        return String.join(" ", merged);
+    }
+
+    /**
+     * @return 다음 텍스트 앞에서 제거할 단어 수 (중복이 없으면 0)
+     */
+    static int duplicatedPrefix(List<String> previous, List<String> next, int maxOverlap) {
+        for (int length = Math.min(maxOverlap, Math.min(previous.size(), next.size())); length >= 1; length--) {
+            for (int skip = 0; skip <= MAX_LEADING_SKIP && skip + length <= next.size(); skip++) {
+                if (skip > 0 && length < 2) {
+                    continue;
+                }
+                if (matches(previous, previous.size() - length, next, skip, length)) {
+                    return skip + length;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static boolean matches(List<String> a, int aFrom, List<String> b, int bFrom, int length) {
+        for (int i = 0; i < length; i++) {
+            String left = normalize(a.get(aFrom + i));
+            if (left.isEmpty() || !left.equals(normalize(b.get(bFrom + i)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(String word) {
+        return word.replaceAll("[^\\p{L}\\p{N}]", "").toLowerCase(Locale.ROOT);
+    }
+}
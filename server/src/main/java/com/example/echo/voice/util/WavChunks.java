@@ -0,0 +1,113 @@
+package com.example.echo.voice.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * WAV(RIFF) 청크 읽기/쓰기 (AudioConcatenator, PcmAudio, WavEncoder 공용)
+ *
+ * @param format     fmt 청크 본문
+ * @param dataOffset data 청크 본문 시작 위치
+ * @param dataLength data 청크 본문 길이
+ */
+record WavChunks(byte[] format, int dataOffset, int dataLength) {
+
+    static final int RIFF_HEADER_BYTES = 12;
+    static final int CHUNK_HEADER_BYTES = 8;
+
+    static boolean isWav(byte[] audio) {
+        return audio.length >= RIFF_HEADER_BYTES
+                && matches(audio, 0, "RIFF")
+                && matches(audio, 8, "WAVE");
+    }
+
+    static WavChunks parse(byte[] wav) {
+        return parseHeader(wav, wav.length);
+    }
+
+    /**
+     * 파일 앞부분만으로 청크 위치 파악 (업로드 파일을 통째로 읽지 않고 스트림으로 처리할 때)
+     *
+     * @param head        파일 앞부분 (data 청크 헤더까지 포함해야 함)
+     * @param totalLength 전체 파일 길이 (data 길이 계산용)
+     */
+    static WavChunks parseHeader(byte[] head, long totalLength) {
+        if (!isWav(head)) {
+            throw new IllegalArgumentException("WAV 형식이 아닌 음성입니다.");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(head).order(ByteOrder.LITTLE_ENDIAN);
+        byte[] format = null;
+        int position = RIFF_HEADER_BYTES;
+
+        while (position + CHUNK_HEADER_BYTES <= head.length) {
+            String id = new String(head, position, 4, StandardCharsets.US_ASCII);
+            long size = Integer.toUnsignedLong(buffer.getInt(position + 4));
+            int body = position + CHUNK_HEADER_BYTES;
+
+            if ("data".equals(id)) {
+                if (format == null) {
+                    throw new IllegalArgumentException("WAV fmt 청크가 data 청크보다 뒤에 있습니다.");
+                }
+                // 스트리밍 응답은 data 크기를 0 또는 0xFFFFFFFF로 둘 수 있음 → 남은 바이트 전체 사용
+                long available = Math.max(0, totalLength - body);
+                long length = (size == 0 || size > available) ? available : size;
+                return new WavChunks(format, body, (int) Math.min(length, Integer.MAX_VALUE));
+            }
+            if (size > head.length - body) {
+                break;
+            }
+            if ("fmt ".equals(id)) {
+                format = Arrays.copyOfRange(wav, body, body + (int) size);
+            }
+            // 청크는 짝수 바이트 단위로 정렬
+            position = body + (int) size + (int) (size & 1);
+        }
+        throw new IllegalArgumentException("WAV data 청크를 찾을 수 없습니다.");
+    }
+
+    /**
+     * fmt (+ fact) + data 청크로 WAV 작성
+     *
+     * @param factFrames 비 PCM 포맷(μ-law, ADPCM)의 fact 청크 샘플 수 (PCM이면 null)
+     */
+    static byte[] write(byte[] format, Integer factFrames, byte[] data) {
+        byte[] header = header(format, factFrames, data.length);
+        // 홀수 길이 data 뒤의 패딩 1바이트는 배열 기본값(0)
+        byte[] out = Arrays.copyOf(header, header.length + data.length + (data.length & 1));
+        System.arraycopy(data, 0, out, header.length, data.length);
+        return out;
+    }
+
+    /**
+     * data 본문 앞까지의 헤더 (본문은 호출자가 이어서 씀, 홀수 길이면 패딩 1바이트도 호출자 몫)
+     */
+    static byte[] header(byte[] format, Integer factFrames, int dataLength) {
+        int factBytes = factFrames != null ? CHUNK_HEADER_BYTES + Integer.BYTES : 0;
+        int headerBytes = RIFF_HEADER_BYTES + CHUNK_HEADER_BYTES + format.length + factBytes + CHUNK_HEADER_BYTES;
+        ByteBuffer out = ByteBuffer.allocate(headerBytes).order(ByteOrder.LITTLE_ENDIAN);
+        out.put(ascii("RIFF"))
+                .putInt(headerBytes - CHUNK_HEADER_BYTES + dataLength + (dataLength & 1))
+                .put(ascii("WAVE"))
+                .put(ascii("fmt "))
+                .putInt(format.length)
+                .put(format);
+        if (factFrames != null) {
+            out.put(ascii("fact")).putInt(Integer.BYTES).putInt(factFrames);
+        }
+        out.put(ascii("data"))
+                .putInt(dataLength);
+        return out.array();
+    }
+
+    static boolean matches(byte[] data, int offset, String ascii) {
+        byte[] expected = ascii(ascii);
+        return data.length >= offset + expected.length
+                && Arrays.equals(data, offset, offset + expected.length, expected, 0, expected.length);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.echo.voice.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * PCM 음성 → WAV 인코딩 (외부 코덱 없이 순수 Java)
+ *
+ * - PCM: 16비트 그대로 (2바이트/샘플)
+ * - μ-law (G.711): 8비트 로그 압축 (1바이트/샘플, PCM 대비 1/2), 모든 재생기 지원
+ * - IMA-ADPCM: 4비트 적응 차분 (약 0.5바이트/샘플, PCM 대비 약 1/4), 모노로 인코딩
+ */
+public final class WavEncoder {
+
+    private static final short FORMAT_PCM = 1;
+    private static final short FORMAT_MULAW = 7;
+    private static final short FORMAT_IMA_ADPCM = 0x11;
+
+    private static final int MULAW_BIAS = 0x84;
+    private static final int MULAW_CLIP = 32635;
+
+    private static final int[] IMA_INDEX_TABLE = {
+            -1, -1, -1, -1, 2, 4, 6, 8,
+            -1, -1, -1, -1, 2, 4, 6, 8
+    };
+
+    private static final int[] IMA_STEP_TABLE = {
+            7, 8, 9, 10, 11, 12, 13, 14, 16, 17, 19, 21, 23, 25, 28, 31, 34, 37, 41, 45,
+            50, 55, 60, 66, 73, 80, 88, 97, 107, 118, 130, 143, 157, 173, 190, 209, 230, 253, 279, 307,
+            337, 371, 408, 449, 494, 544, 598, 658, 724, 796, 876, 963, 1060, 1166, 1282, 1411, 1552, 1707, 1878, 2066,
+            2272, 2499, 2749, 3024, 3327, 3660, 4026, 4428, 4871, 5358, 5894, 6484, 7132, 7845, 8630, 9493,
+            10442, 11487, 12635, 13899, 15289, 16818, 18500, 20350, 22385, 24623, 27086, 29794, 32767
+    };
+
+    private WavEncoder() {
+    }
+
+    public static byte[] pcm16(PcmAudio audio) {
+        short[] samples = audio.getSamples();
+        ByteBuffer data = ByteBuffer.allocate(samples.length * Short.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        data.asShortBuffer().put(samples);
+        return WavChunks.write(format(FORMAT_PCM, audio.getChannels(), audio.getSampleRate(), 16,
+                audio.getChannels() * Short.BYTES, null), null, data.array());
+    }
+
+    public static byte[] mulaw(PcmAudio audio) {
+        short[] samples = audio.getSamples();
+        byte[] data = new byte[samples.length];
+        for (int i = 0; i < samples.length; i++) {
+            data[i] = linearToMulaw(samples[i]);
+        }
+        // 비 PCM 포맷은 fmt 확장 크기(cbSize)와 fact 청크 필요
+        return WavChunks.write(format(FORMAT_MULAW, audio.getChannels(), audio.getSampleRate(), 8,
+                audio.getChannels(), new byte[0]), audio.frames(), data);
+    }
+
+    /**
+     * IMA-ADPCM (모노)
+     *
+     * 블록 = [첫 샘플 16비트][step index 1바이트][예약 1바이트][나머지 샘플 4비트씩]
+     * 블록 크기는 샘플레이트에 비례 (11.025kHz당 256바이트, 관례값)
+     * 마지막 블록의 빈 자리는 무음으로 채우고 실제 샘플 수는 fact 청크에 기록
+     */
+    public static byte[] imaAdpcm(PcmAudio audio) {
+        PcmAudio mono = audio.toMono();
+        short[] samples = mono.getSamples();
+        int blockAlign = 256 * Math.max(1, mono.getSampleRate() / 11025);
+        int samplesPerBlock = (blockAlign - 4) * 2 + 1;
+        int blocks = Math.max(1, (samples.length + samplesPerBlock - 1) / samplesPerBlock);
+
+        byte[] data = new byte[blocks * blockAlign];
+        int index = 0;
+        for (int b = 0; b < blocks; b++) {
+            int base = b * samplesPerBlock;
+            int out = b * blockAlign;
+            int predictor = sampleAt(samples, base);
+
+            data[out] = (byte) predictor;
+            data[out + 1] = (byte) (predictor >> 8);
+            data[out + 2] = (byte) index;
+            data[out + 3] = 0;
+
+            for (int s = 1; s < samplesPerBlock; s++) {
+                int sample = sampleAt(samples, base + s);
+                int diff = sample - predictor;
+                int nibble = 0;
+                if (diff < 0) {
+                    nibble = 8;
+                    diff = -diff;
+                }
+                int step = IMA_STEP_TABLE[index];
+                int delta = step >> 3;
+                if (diff >= step) {
+                    nibble |= 4;
+                    diff -= step;
+                    delta += step;
+                }
+                step >>= 1;
+                if (diff >= step) {
+                    nibble |= 2;
+                    diff -= step;
+                    delta += step;
+                }
+                step >>= 1;
+                if (diff >= step) {
+                    nibble |= 1;
+                    delta += step;
+                }
+                predictor += (nibble & 8) != 0 ? -delta : delta;
+                predictor = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, predictor));
+                index = Math.max(0, Math.min(IMA_STEP_TABLE.length - 1, index + IMA_INDEX_TABLE[nibble]));
+
+                // 블록 안에서 샘플 2개가 1바이트 (앞 샘플이 하위 4비트)
+                int position = out + 4 + (s - 1) / 2;
+                data[position] |= (byte) ((s - 1) % 2 == 0 ? nibble : nibble << 4);
+            }
+        }
+
+        byte[] extra = ByteBuffer.allocate(Short.BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                .putShort((short) samplesPerBlock)
+                .array();
+        return WavChunks.write(format(FORMAT_IMA_ADPCM, 1, mono.getSampleRate(), 4, blockAlign, extra),
+                samples.length, data);
+    }
+
+    private static int sampleAt(short[] samples, int index) {
+        return index < samples.length ? samples[index] : 0;
+    }
+
+    /**
+     * G.711 μ-law 인코딩
+     */
+    static byte linearToMulaw(short pcm) {
+        int sample = pcm;
+        int sign = (sample >> 8) & 0x80;
+        if (sign != 0) {
+            sample = -sample;
+        }
+        sample = Math.min(sample, MULAW_CLIP) + MULAW_BIAS;
+
+        int exponent = 7;
+        for (int mask = 0x4000; (sample & mask) == 0 && exponent > 0; mask >>= 1) {
+            exponent--;
+        }
+        int mantissa = (sample >> (exponent + 3)) & 0x0F;
+        return (byte) ~(sign | (exponent << 4) | mantissa);
+    }
+
+    /**
+     * fmt 청크 본문
+     *
+     * @param extra 비 PCM 포맷의 확장 데이터 (cbSize 뒤 내용, PCM이면 null → cbSize 생략)
+     */
+    private static byte[] format(short tag, int channels, int sampleRate, int bitsPerSample, int blockAlign,
+                                 byte[] extra) {
+        int byteRate = tag == FORMAT_IMA_ADPCM
+                ? sampleRate * blockAlign / ((blockAlign - 4 * channels) * 2 / channels + 1)
+                : sampleRate * blockAlign;
+        ByteBuffer buffer = ByteBuffer.allocate(16 + (extra != null ? Short.BYTES + extra.length : 0))
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .putShort(tag)
+                .putShort((short) channels)
+                .putInt(sampleRate)
+                .putInt(byteRate)
+                .putShort((short) blockAlign)
+                .putShort((short) bitsPerSample);
+        if (extra != null) {
+            buffer.putShort((short) extra.length).put(extra);
+        }
+        return buffer.array();
+    }
+}
@@ -3,24 +3,29 @@ package com.example.echo.ai.service;
 import com.example.echo.ai.client.OpenAIClient;
 import com.example.echo.ai.dto.ChatCompletionRequest;
 import com.example.echo.ai.dto.ChatCompletionResponse;
+import com.example.echo.ai.dto.HistoryWindow;
 import com.example.echo.ai.exception.AIException;
 import com.example.echo.context.domain.ConversationTurn;
 import com.example.echo.context.domain.UserContext;
 import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -34,13 +39,16 @@ class AIServiceTest {
     @Mock
     private OpenAIClient openAIClient;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
+
     private AIService aiService;
 
     private UserContext context;
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aiService = new AIService(openAIClient, meterRegistry);
         ReflectionTestUtils.setField(aiService, "model", "gpt-4o-mini");
         ReflectionTestUtils.setField(aiService, "temperature", 0.7);
         ReflectionTestUtils.setField(aiService, "maxTokens", 1024);
@@ -120,7 +128,7 @@ class AIServiceTest {
                 .thenReturn(response);
 
         // When
-        String result = aiService.generateResponse(systemPrompt, history, userMessage);
+        String result = aiService.generateResponse(systemPrompt, HistoryWindow.of(history), userMessage);
 
         // Then
         assertThat(result).isEqualTo("좋은 질문이네요!");
@@ -128,7 +136,7 @@ class AIServiceTest {
         // 메시지 구조 검증: system(1) + history(user+assistant)(2) + current user(1) = 4
         ArgumentCaptor<ChatCompletionRequest> captor = ArgumentCaptor.forClass(ChatCompletionRequest.class);
         when(openAIClient.createChatCompletion(captor.capture())).thenReturn(response);
-        aiService.generateResponse(systemPrompt, history, userMessage);
+        aiService.generateResponse(systemPrompt, HistoryWindow.of(history), userMessage);
 
         ChatCompletionRequest capturedRequest = captor.getValue();
         assertThat(capturedRequest.getMessages()).hasSize(4);
@@ -140,6 +148,29 @@ class AIServiceTest {
         assertThat(capturedRequest.getMessages().get(3).getContent()).isEqualTo(userMessage);
     }
 
+    @Test
+    @DisplayName("generateResponse - 압축 요약이 있으면 시스템 프롬프트 다음 system 메시지로 전달")
+    void generateResponse_withSummary() {
+        // Given
+        List<ConversationTurn> recent = List.of(ConversationTurn.builder()
+                .userMessage("점심은 국수 먹었어요")
+                .aiResponse("맛있으셨겠어요!")
+                .timestamp(LocalDateTime.now())
+                .build());
+        ArgumentCaptor<ChatCompletionRequest> captor = ArgumentCaptor.forClass(ChatCompletionRequest.class);
+        when(openAIClient.createChatCompletion(captor.capture())).thenReturn(createMockResponse("네!"));
+
+        // When
+        aiService.generateResponse("시스템 프롬프트", new HistoryWindow("아침에 공원 산책", recent), "저녁은 뭐 먹을까요");
+
+        // Then: system + summary(system) + user/assistant + current user = 5
+        List<ChatCompletionRequest.Message> messages = captor.getValue().getMessages();
+        assertThat(messages).hasSize(5);
+        assertThat(messages.get(1).getRole()).isEqualTo("system");
+        assertThat(messages.get(1).getContent()).contains("아침에 공원 산책");
+        assertThat(messages.get(2).getContent()).isEqualTo("점심은 국수 먹었어요");
+    }
+
     @Test
     @DisplayName("generateResponse - API 실패: FeignException → AIException 변환")
     void generateResponse_apiFailure() {
@@ -156,7 +187,7 @@ class AIServiceTest {
                 .thenThrow(feignException);
 
         // When & Then
-        assertThatThrownBy(() -> aiService.generateResponse(systemPrompt, history, userMessage))
+        assertThatThrownBy(() -> aiService.generateResponse(systemPrompt, HistoryWindow.of(history), userMessage))
                 .isInstanceOf(AIException.class)
                 .hasMessageContaining("AI 응답 생성 실패")
                 .hasCause(feignException);
@@ -179,7 +210,7 @@ class AIServiceTest {
                 .thenReturn(nullChoicesResponse);
 
         // When
-        String result1 = aiService.generateResponse(systemPrompt, history, userMessage);
+        String result1 = aiService.generateResponse(systemPrompt, HistoryWindow.of(history), userMessage);
 
         // Then
         assertThat(result1).isEmpty();
@@ -192,12 +223,165 @@ class AIServiceTest {
                 .thenReturn(emptyChoicesResponse);
 
         // When
-        String result2 = aiService.generateResponse(systemPrompt, history, userMessage);
+        String result2 = aiService.generateResponse(systemPrompt, HistoryWindow.of(history), userMessage);
 
         // Then
         assertThat(result2).isEmpty();
     }
 
+    // ===== streamResponse 테스트 =====
+
+    @Test
+    @DisplayName("streamResponse - 정상 케이스: delta 순서대로 콜백 호출 후 전체 텍스트 반환, stream=true 요청")
+    void streamResponse_success() {
+        // Given
+        String body = """
+                data: {"id":"c1","choices":[{"index":0,"delta":{"role":"assistant"}}]}
+
+                data: {"id":"c1","choices":[{"index":0,"delta":{"content":"안녕하세요."}}]}
+
+                data: {"id":"c1","choices":[{"index":0,"delta":{"content":" 반가워요!"}}]}
+
+                data: {"id":"c1","choices":[{"index":0,"delta":{},"finish_reason":"stop"}]}
+
+                data: [DONE]
+
+                """;
+        ArgumentCaptor<ChatCompletionRequest> captor = ArgumentCaptor.forClass(ChatCompletionRequest.class);
+        when(openAIClient.streamChatCompletion(captor.capture())).thenReturn(createStreamResponse(200, body));
+
+        List<String> deltas = new ArrayList<>();
+
+        // When
+        String result = aiService.streamResponse("시스템 프롬프트", null, "안녕", deltas::add);
+
+        // Then
+        assertThat(result).isEqualTo("안녕하세요. 반가워요!");
+        assertThat(deltas).containsExactly("안녕하세요.", " 반가워요!");
+        assertThat(captor.getValue().getStream()).isTrue();
+        assertThat(captor.getValue().getMessages()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("streamResponse - usage 청크의 캐시 토큰을 기록하고 첫 토큰 시간을 cache 태그로 기록")
+    void streamResponse_recordsCachedTokens() {
+        // Given
+        String body = """
+                data: {"choices":[{"index":0,"delta":{"content":"좋아요."}}]}
+
+                data: {"choices":[],"usage":{"prompt_tokens":2000,"completion_tokens":5,"total_tokens":2005,"prompt_tokens_details":{"cached_tokens":1536,"audio_tokens":0},"completion_tokens_details":{"reasoning_tokens":0}}}
+
+                data: [DONE]
+                """;
+        ArgumentCaptor<ChatCompletionRequest> captor = ArgumentCaptor.forClass(ChatCompletionRequest.class);
+        when(openAIClient.streamChatCompletion(captor.capture())).thenReturn(createStreamResponse(200, body));
+
+        // When
+        String result = aiService.streamResponse("시스템 프롬프트", null, "안녕", delta -> { });
+
+        // Then
+        assertThat(result).isEqualTo("좋아요.");
+        assertThat(captor.getValue().getStreamOptions().getIncludeUsage()).isTrue();
+        assertThat(meterRegistry.counter("ai.prompt.tokens", "operation", "stream").count()).isEqualTo(2000.0);
+        assertThat(meterRegistry.counter("ai.prompt.tokens.cached", "operation", "stream").count()).isEqualTo(1536.0);
+        assertThat(meterRegistry.summary("ai.prompt.cache.ratio", "operation", "stream").mean()).isEqualTo(0.768);
+        assertThat(meterRegistry.timer("ai.stream.first-token", "cache", "hit").count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("generateResponse - usage 없으면 cache=unknown으로 응답 시간만 기록")
+    void generateResponse_withoutUsage() {
+        // Given
+        when(openAIClient.createChatCompletion(any(ChatCompletionRequest.class))).thenReturn(createMockResponse("네"));
+
+        // When
+        aiService.generateResponse("시스템 프롬프트", null, "안녕");
+
+        // Then
+        assertThat(meterRegistry.timer("ai.response.latency", "operation", "response", "cache", "unknown").count())
+                .isEqualTo(1L);
+        assertThat(meterRegistry.find("ai.prompt.tokens").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("streamResponse - API 실패: 2xx가 아닌 상태코드 → AIException")
+    void streamResponse_errorStatus() {
+        // Given
+        when(openAIClient.streamChatCompletion(any(ChatCompletionRequest.class)))
+                .thenReturn(createStreamResponse(429, "{\"error\":{\"message\":\"Rate limit\"}}"));
+
+        // When & Then
+        assertThatThrownBy(() -> aiService.streamResponse("시스템 프롬프트", null, "안녕", delta -> { }))
+                .isInstanceOf(AIException.class)
+                .hasMessageContaining("429");
+    }
+
+    @Test
+    @DisplayName("streamResponse - 파싱 불가 청크는 건너뛰고 나머지 delta 처리")
+    void streamResponse_skipsMalformedChunk() {
+        // Given
+        String body = """
+                data: {not-json}
+
+                data: {"choices":[{"delta":{"content":"좋아요."}}]}
+
+                data: [DONE]
+                """;
+        when(openAIClient.streamChatCompletion(any(ChatCompletionRequest.class)))
+                .thenReturn(createStreamResponse(200, body));
+
+        // When
+        String result = aiService.streamResponse("시스템 프롬프트", null, "안녕", delta -> { });
+
+        // Then
+        assertThat(result).isEqualTo("좋아요.");
+    }
+
+    // ===== complete 테스트 =====
+
+    @Test
+    @DisplayName("complete - systemPrompt 없으면 user 메시지 1개와 지정한 maxTokens로 요청")
+    void complete_withoutSystemPrompt() {
+        // Given
+        ArgumentCaptor<ChatCompletionRequest> captor = ArgumentCaptor.forClass(ChatCompletionRequest.class);
+        when(openAIClient.createChatCompletion(captor.capture())).thenReturn(createMockResponse("오늘의 일기"));
+
+        // When
+        String result = aiService.complete(null, "일기를 써 주세요", 300);
+
+        // Then
+        assertThat(result).isEqualTo("오늘의 일기");
+        ChatCompletionRequest request = captor.getValue();
+        assertThat(request.getMessages()).hasSize(1);
+        assertThat(request.getMessages().get(0).getRole()).isEqualTo("user");
+        assertThat(request.getMaxTokens()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("complete - API 실패: FeignException → AIException 변환")
+    void complete_apiFailure() {
+        // Given
+        FeignException feignException = mock(FeignException.class);
+        when(openAIClient.createChatCompletion(any(ChatCompletionRequest.class))).thenThrow(feignException);
+
+        // When & Then
+        assertThatThrownBy(() -> aiService.complete("요약 규칙", "대화", 100))
+                .isInstanceOf(AIException.class)
+                .hasMessageContaining("AI 텍스트 생성 실패")
+                .hasCause(feignException);
+    }
+
+    private Response createStreamResponse(int status, String body) {
+        return Response.builder()
+                .status(status)
+                .reason("test")
+                .request(Request.create(Request.HttpMethod.POST, "/chat/completions",
+                        Map.of(), null, StandardCharsets.UTF_8, null))
+                .headers(Map.of())
+                .body(body, StandardCharsets.UTF_8)
+                .build();
+    }
+
     /**
      * ChatCompletionResponse 객체를 mock으로 구성
      * (NoArgsConstructor만 있어 setter/builder 없으므로 mock 사용)
@@ -0,0 +1,143 @@
+package com.example.echo.ai.service;
+
+import com.example.echo.ai.dto.HistoryWindow;
+import com.example.echo.ai.exception.AIException;
+import com.example.echo.context.domain.ConversationTurn;
+import com.example.echo.context.domain.UserContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConversationHistoryManager 테스트")
+class ConversationHistoryManagerTest {
+
+    /** 턴 1개 추정 토큰: (20 + 4) * 2 = 48 */
+    private static final String MESSAGE = "가".repeat(20);
+
+    @Mock
+    private AIService aiService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConversationHistoryManager historyManager;
+    private UserContext context;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 예산 100토큰, 최근 1턴 유지, 압축은 호출 스레드에서 바로 실행
+        historyManager = new ConversationHistoryManager(aiService, Runnable::run, meterRegistry, 100, 1, 200);
+        context = UserContext.builder()
+                .userId(1L)
+                .conversationHistory(new ArrayList<>())
+                .build();
+    }
+
+    @Test
+    @DisplayName("예산 안이면 요약 없이 전체 턴을 그대로 전달한다")
+    void underBudget_returnsAllTurns() {
+        // given
+        addTurns(1);
+
+        // when
+        HistoryWindow window = historyManager.window(context);
+
+        // then
+        assertThat(window.getSummary()).isNull();
+        assertThat(window.getTurns()).hasSize(1);
+        then(aiService).should(never()).complete(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("예산 초과 시 오래된 턴은 이번 호출에서 제외하고 백그라운드로 요약에 합친다")
+    void overBudget_truncatesAndCompacts() {
+        // given
+        addTurns(3);
+        given(aiService.complete(eq(ConversationHistoryManager.COMPACTION_PROMPT), any(), eq(200)))
+                .willReturn("산책 이야기");
+
+        // when
+        HistoryWindow window = historyManager.window(context);
+
+        // then - 예산(100) 안의 최근 2턴만 전달
+        assertThat(window.getTurns()).hasSize(2);
+        assertThat(meterRegistry.counter("ai.history.truncated").count()).isEqualTo(1.0);
+
+        // then - 예산의 1/2(50) 안에 남는 최근 1턴을 제외하고 앞 2턴을 요약에 반영
+        ArgumentCaptor<String> promptCaptor = ArgumentCaptor.forClass(String.class);
+        then(aiService).should().complete(any(), promptCaptor.capture(), eq(200));
+        assertThat(promptCaptor.getValue()).contains("사용자: " + MESSAGE + "0").contains("사용자: " + MESSAGE + "1")
+                .doesNotContain(MESSAGE + "2");
+        assertThat(context.getHistorySummary()).isEqualTo("산책 이야기");
+        assertThat(context.getHistorySummaryTurnCount()).isEqualTo(2);
+        assertThat(meterRegistry.counter("ai.history.compaction", "result", "success").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("압축 이후에는 요약 + 요약 이후 턴만 전달한다")
+    void afterCompaction_returnsSummaryAndRecentTurns() {
+        // given
+        addTurns(3);
+        context.setHistorySummary("산책 이야기");
+        context.setHistorySummaryTurnCount(2);
+
+        // when
+        HistoryWindow window = historyManager.window(context);
+
+        // then
+        assertThat(window.getSummary()).isEqualTo("산책 이야기");
+        assertThat(window.getTurns()).hasSize(1);
+        assertThat(window.getTurns().get(0).getUserMessage()).isEqualTo(MESSAGE + "2");
+    }
+
+    @Test
+    @DisplayName("압축 실패 시 요약은 그대로 두고 실패를 기록한다")
+    void compactionFailure_keepsState() {
+        // given
+        addTurns(3);
+        given(aiService.complete(any(), any(), anyInt())).willThrow(new AIException("AI 텍스트 생성 실패: timeout"));
+
+        // when
+        historyManager.window(context);
+
+        // then
+        assertThat(context.getHistorySummary()).isNull();
+        assertThat(context.getHistorySummaryTurnCount()).isZero();
+        assertThat(meterRegistry.counter("ai.history.compaction", "result", "failure").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("추정 토큰: 한글은 1자당 1토큰, ASCII는 4자당 1토큰")
+    void estimateTokens() {
+        assertThat(ConversationHistoryManager.estimateTokens("안녕하세요")).isEqualTo(5);
+        assertThat(ConversationHistoryManager.estimateTokens("hello world!")).isEqualTo(3);
+        assertThat(ConversationHistoryManager.estimateTokens(null)).isZero();
+    }
+
+    private void addTurns(int count) {
+        for (int i = 0; i < count; i++) {
+            // 번호를 붙여 턴 구분 (ASCII 1자는 토큰 추정에 1 추가)
+            context.getConversationHistory().add(ConversationTurn.builder()
+                    .userMessage(MESSAGE + i)
+                    .aiResponse(MESSAGE)
+                    .timestamp(LocalDateTime.now())
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.echo.common.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+@DisplayName("ConnectionHoldTimeConfig 테스트")
+class ConnectionHoldTimeConfigTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private Connection rawConnection;
+    private DataSource dataSource;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        given(provider.getIfAvailable()).willReturn(meterRegistry);
+
+        rawConnection = mock(Connection.class);
+        DataSource target = mock(DataSource.class);
+        given(target.getConnection()).willReturn(rawConnection);
+
+        dataSource = (DataSource) ConnectionHoldTimeConfig.connectionHoldTimeDataSourcePostProcessor(provider)
+                .postProcessAfterInitialization(target, "dataSource");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("요청 중 얻은 커넥션은 매핑 패턴 기준 endpoint 태그로 기록")
+    void recordsHoldTimePerEndpoint() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/conversations/audio/abc");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/conversations/audio/{audioId}");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // when
+        Connection connection = dataSource.getConnection();
+        connection.close();
+
+        // then
+        assertThat(meterRegistry.get(ConnectionHoldTimeConfig.METRIC_NAME)
+                .tag("endpoint", "GET /api/conversations/audio/{audioId}")
+                .timer().count()).isEqualTo(1L);
+        then(rawConnection).should().close();
+    }
+
+    @Test
+    @DisplayName("요청 밖에서 얻은 커넥션은 background로 기록하고 close 중복 호출은 1회만 기록")
+    void recordsBackgroundOnce() throws Exception {
+        // when
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        // then
+        assertThat(meterRegistry.get(ConnectionHoldTimeConfig.METRIC_NAME)
+                .tag("endpoint", ConnectionHoldTimeConfig.BACKGROUND)
+                .timer().count()).isEqualTo(1L);
+        then(rawConnection).should(times(2)).close();
+    }
+
+    @Test
+    @DisplayName("요청이 실행기에 넘긴 작업에서 얻은 커넥션은 요청 endpoint로 기록 (요청이 끝난 뒤 실행돼도)")
+    void propagatesEndpointToExecutorTasks() throws Exception {
+        // given: /start 요청 스레드에서 작업 생성
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/conversations/start");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/conversations/start");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        Runnable task = ConnectionHoldTimeConfig.endpointPropagation().decorate(() -> {
+            try {
+                dataSource.getConnection().close();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        RequestContextHolder.resetRequestAttributes();
+
+        // when: 다른 스레드에서 실행
+        Thread worker = new Thread(task);
+        worker.start();
+        worker.join();
+
+        // then
+        assertThat(meterRegistry.get(ConnectionHoldTimeConfig.METRIC_NAME)
+                .tag("endpoint", "POST /api/conversations/start")
+                .timer().count()).isEqualTo(1L);
+        assertThat(meterRegistry.find(ConnectionHoldTimeConfig.METRIC_NAME)
+                .tag("endpoint", ConnectionHoldTimeConfig.BACKGROUND)
+                .timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("요청 없이 넘긴 작업은 그대로 background")
+    void backgroundTaskUnchanged() throws Exception {
+        // given
+        Runnable original = () -> {
+        };
+
+        // when & then
+        assertThat(ConnectionHoldTimeConfig.endpointPropagation().decorate(original)).isSameAs(original);
+    }
+}
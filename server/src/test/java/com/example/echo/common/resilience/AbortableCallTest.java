@@ -0,0 +1,117 @@
+package com.example.echo.common.resilience;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Request;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AbortableCallTest {
+
+    private HttpServer server;
+    private ExecutorService callers;
+    private final CountDownLatch requestArrived = new CountDownLatch(1);
+    private final CountDownLatch releaseResponse = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        // 응답을 보내지 않고 붙잡고 있는 느린 제공자
+        server.createContext("/slow", exchange -> {
+            requestArrived.countDown();
+            try {
+                releaseResponse.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        callers = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseResponse.countDown();
+        callers.shutdownNow();
+        server.stop(0);
+    }
+
+    /** TTS 요청과 같은 본문 있는 POST */
+    private Request slowRequest() {
+        return Request.create(Request.HttpMethod.POST,
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/slow",
+                Map.of(), "안녕하세요".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, null);
+    }
+
+    /** 호출 결과 대신 발생한 IOException 반환 (정상 응답이면 null) */
+    private Throwable execute(AbortableCall call) {
+        return call.run(() -> {
+            try {
+                new AbortableFeignClient().execute(slowRequest(),
+                        new Request.Options(1, TimeUnit.SECONDS, 30, TimeUnit.SECONDS, true)).close();
+                return null;
+            } catch (IOException e) {
+                return e;
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("abort()하면 응답을 기다리던 호출이 read timeout 전에 바로 끝남")
+    void abort_endsBlockedRead() throws Exception {
+        // Given
+        AbortableCall call = new AbortableCall();
+        Future<Throwable> result = callers.submit(() -> execute(call));
+        assertThat(requestArrived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        long startedAt = System.nanoTime();
+        call.abort();
+
+        // Then
+        assertThat(result.get(5, TimeUnit.SECONDS)).isInstanceOf(IOException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(5_000);
+    }
+
+    @Test
+    @DisplayName("abort() 이후에는 새 연결을 열지 않음")
+    void abortedCall_rejectsNewConnections() {
+        // Given
+        AbortableCall call = new AbortableCall();
+        call.abort();
+
+        // When & Then
+        assertThat(execute(call)).isInstanceOf(InterruptedIOException.class);
+        assertThat(requestArrived.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("run() 밖의 호출은 기본 클라이언트와 같음")
+    void outsideRun_plainClient() throws Exception {
+        // Given
+        releaseResponse.countDown();
+
+        // When & Then
+        try (var response = new AbortableFeignClient().execute(slowRequest(),
+                new Request.Options(1, TimeUnit.SECONDS, 5, TimeUnit.SECONDS, true))) {
+            assertThat(response.status()).isEqualTo(200);
+        }
+    }
+}
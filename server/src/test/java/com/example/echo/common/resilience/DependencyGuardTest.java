@@ -0,0 +1,335 @@
+package com.example.echo.common.resilience;
+
+import com.example.echo.common.exception.DependencyUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DependencyGuardTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+    }
+
+    /** 동시 2건, 대기 50ms, 최근 4건 중 4건 이상 / 실패 50% 이상이면 열림, 1초 뒤 시험 호출 2건, 느린 호출 1초 */
+    private DependencyGuard guard() {
+        return new DependencyGuard("openai-chat-client",
+                new DependencyGuard.Settings(2, 50, 4, 4, 0.5, 1000, 1000, 2),
+                meterRegistry, clock::get);
+    }
+
+    private static String succeed(DependencyGuard guard) throws IOException {
+        return guard.execute(() -> "ok", result -> false);
+    }
+
+    private static void fail(DependencyGuard guard) {
+        assertThatThrownBy(() -> guard.execute(() -> {
+            throw new IOException("connect timed out");
+        }, result -> false)).isInstanceOf(IOException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void elapse(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.counter("dependency.calls", "dependency", "openai-chat-client", "outcome", outcome).count();
+    }
+
+    @Nested
+    @DisplayName("서킷 브레이커")
+    class CircuitBreakerTest {
+
+        @Test
+        @DisplayName("최근 실패 비율이 기준 이상이면 열리고 호출하지 않고 바로 503")
+        void failureRate_opensCircuit() throws IOException {
+            // Given
+            DependencyGuard guard = guard();
+            succeed(guard);
+            succeed(guard);
+            fail(guard);
+            fail(guard);
+
+            // When & Then
+            AtomicInteger calls = new AtomicInteger();
+            assertThatThrownBy(() -> guard.execute(() -> calls.incrementAndGet(), result -> false))
+                    .isInstanceOf(DependencyUnavailableException.class)
+                    .satisfies(e -> assertThat(((DependencyUnavailableException) e).getStatus())
+                            .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+            assertThat(calls).hasValue(0);
+            assertThat(guard.state()).isEqualTo(DependencyGuard.State.OPEN);
+            assertThat(count("short_circuited")).isEqualTo(1);
+            assertThat(meterRegistry.get("dependency.circuit.state").tag("dependency", "openai-chat-client")
+                    .gauge().value()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("호출 수가 minimum-calls보다 적으면 모두 실패해도 닫힌 상태 유지")
+        void fewCalls_staysClosed() {
+            // Given
+            DependencyGuard guard = guard();
+
+            // When
+            fail(guard);
+            fail(guard);
+            fail(guard);
+
+            // Then
+            assertThat(guard.state()).isEqualTo(DependencyGuard.State.CLOSED);
+        }
+
+        @Test
+        @DisplayName("판정 함수가 실패로 본 응답과 느린 응답도 실패로 셈")
+        void failedResponsesAndSlowCalls_counted() throws IOException {
+            // Given
+            DependencyGuard guard = guard();
+
+            // When: 5xx 응답 2건 + 1.5초 걸린 성공 응답 1건 + 정상 1건
+            guard.execute(() -> 503, status -> status >= 500);
+            guard.execute(() -> 503, status -> status >= 500);
+            guard.execute(() -> {
+                elapse(1500);
+                return 200;
+            }, status -> status >= 500);
+            assertThat(guard.state()).isEqualTo(DependencyGuard.State.CLOSED);
+            guard.execute(() -> 200, status -> status >= 500);
+
+            // Then: 4건 중 3건 실패
+            assertThat(guard.state()).isEqualTo(DependencyGuard.State.OPEN);
+            assertThat(count("slow")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("open-ms가 지나면 시험 호출이 모두 성공할 때 닫힘")
+        void halfOpen_probesSucceed_closes() throws IOException {
+            // Given
+            DependencyGuard guard = guard();
+            for (int i = 0; i < 4; i++) {
+                fail(guard);
+            }
+
+            // When
+            elapse(1000);
+
+            // Then
+            assertThat(guard.state()).isEqualTo(DependencyGuard.State.HALF_OPEN);
+            succeed(guard);
+            assertThat(guard.state()).isEqualTo(DependencyGuard.State.HALF_OPEN);
+            succeed(guard);
+            assertThat(guard.state()).isEqualTo(DependencyGuard.State.CLOSED);
+            assertThat(guard.snapshot().bufferedCalls()).isZero();
+        }
+
+        @Test
+        @DisplayName("시험 호출이 실패하면 다시 열림")
+        void halfOpen_probeFails_reopens() {
+            // Given
+            DependencyGuard guard = guard();
+            for (int i = 0; i < 4; i++) {
+                fail(guard);
+            }
+            elapse(1000);
+
+            // When
+            fail(guard);
+
+            // Then
+            assertThat(guard.state()).isEqualTo(DependencyGuard.State.OPEN);
+            assertThat(guard.snapshot().retryAfterMillis()).isEqualTo(1000);
+        }
+
+        @Test
+        @DisplayName("HALF_OPEN에서는 half-open-calls건을 넘는 동시 시험 호출을 막음")
+        void halfOpen_limitsProbes() throws Exception {
+            // Given
+            DependencyGuard guard = guard();
+            for (int i = 0; i < 4; i++) {
+                fail(guard);
+            }
+            elapse(1000);
+            CountDownLatch started = new CountDownLatch(2);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            try {
+                // When: 시험 호출 2건이 진행 중일 때 3번째 호출
+                for (int i = 0; i < 2; i++) {
+                    executor.submit(() -> guard.execute(() -> {
+                        started.countDown();
+                        await(release);
+                        return "ok";
+                    }, result -> false));
+                }
+                assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+                // Then
+                assertThatThrownBy(() -> succeed(guard))
+                        .isInstanceOf(DependencyUnavailableException.class)
+                        .hasMessageContaining("서킷 열림");
+            } finally {
+                release.countDown();
+                executor.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("호출자가 인터럽트로 취소한 호출은 실패로 세지 않음")
+        void interruptedCall_notCounted() {
+            // Given
+            DependencyGuard guard = guard();
+
+            // When
+            for (int i = 0; i < 4; i++) {
+                assertThatThrownBy(() -> guard.execute(() -> {
+                    throw new InterruptedIOException("취소됨");
+                }, result -> false)).isInstanceOf(InterruptedIOException.class);
+            }
+
+            // Then
+            assertThat(guard.state()).isEqualTo(DependencyGuard.State.CLOSED);
+            assertThat(guard.failureRate()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("격벽")
+    class BulkheadTest {
+
+        @Test
+        @DisplayName("동시 호출 한도를 넘으면 max-wait-ms만 기다린 뒤 호출하지 않고 503")
+        void full_rejectedAfterWait() throws Exception {
+            // Given: 느린 호출 2건이 자리를 모두 차지
+            DependencyGuard guard = guard();
+            CountDownLatch started = new CountDownLatch(2);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            try {
+                for (int i = 0; i < 2; i++) {
+                    executor.submit(() -> guard.execute(() -> {
+                        started.countDown();
+                        await(release);
+                        return "ok";
+                    }, result -> false));
+                }
+                assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+                assertThat(guard.snapshot().availableConcurrentCalls()).isZero();
+
+                // When
+                AtomicInteger calls = new AtomicInteger();
+                long startedAt = System.nanoTime();
+                assertThatThrownBy(() -> guard.execute(() -> calls.incrementAndGet(), result -> false))
+                        .isInstanceOf(DependencyUnavailableException.class)
+                        .hasMessageContaining("동시 호출 한도 초과");
+                long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+                // Then
+                assertThat(calls).hasValue(0);
+                assertThat(waitedMs).isBetween(40L, 2000L);
+                assertThat(count("rejected")).isEqualTo(1);
+            } finally {
+                release.countDown();
+                executor.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("호출이 끝나면 자리를 반납 (실패해도)")
+        void permitsReleased() throws Exception {
+            // Given
+            DependencyGuard guard = guard();
+
+            // When
+            succeed(guard);
+            fail(guard);
+
+            // Then
+            assertThat(guard.snapshot().availableConcurrentCalls()).isEqualTo(2);
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Future<String> first = executor.submit(() -> succeed(guard));
+                Future<String> second = executor.submit(() -> succeed(guard));
+                assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+                assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("반환 후에도 이어지는 호출은 완료 통지까지 자리를 유지하고 그때 느린 호출을 판정")
+        void heldCall_releasedOnCompletion() throws IOException {
+            // Given
+            DependencyGuard guard = guard();
+            AtomicReference<DependencyGuard.Completion> completion = new AtomicReference<>();
+
+            // When: 헤더는 바로 받았지만 본문을 읽는 데 1초 넘게 걸림
+            guard.execute(() -> "stream", result -> false, (result, done) -> {
+                completion.set(done);
+                return result;
+            });
+            assertThat(guard.snapshot().availableConcurrentCalls()).isEqualTo(1);
+            elapse(1500);
+            completion.get().complete(false);
+            completion.get().complete(false);
+
+            // Then
+            assertThat(guard.snapshot().availableConcurrentCalls()).isEqualTo(2);
+            assertThat(count("slow")).isEqualTo(1);
+            assertThat(guard.snapshot().bufferedCalls()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("설정은 의존성별 값 → resilience.default → 코드 기본값 순으로 사용")
+    void settingsResolvedPerDependency() {
+        // Given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("resilience.default.max-concurrent-calls", "10")
+                .withProperty("resilience.default.open-ms", "60000")
+                .withProperty("resilience.dependencies.openai-chat-client.max-concurrent-calls", "30");
+        DependencyGuards guards = new DependencyGuards(environment, meterRegistry);
+
+        // When
+        DependencyGuard.Settings chat = guards.settings("openai-chat-client");
+        DependencyGuard.Settings weather = guards.settings("weather-api-client");
+
+        // Then
+        assertThat(chat.maxConcurrentCalls()).isEqualTo(30);
+        assertThat(chat.openMillis()).isEqualTo(60000);
+        assertThat(weather.maxConcurrentCalls()).isEqualTo(10);
+        assertThat(weather.halfOpenCalls()).isEqualTo(3);
+        assertThat(guards.get("weather-api-client")).isSameAs(guards.get("weather-api-client"));
+    }
+}
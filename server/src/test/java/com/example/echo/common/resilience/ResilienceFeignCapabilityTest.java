@@ -0,0 +1,183 @@
+package com.example.echo.common.resilience;
+
+import com.example.echo.ai.client.OpenAIClient;
+import com.example.echo.common.client.WeatherApiClient;
+import com.example.echo.common.exception.DependencyUnavailableException;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResilienceFeignCapabilityTest {
+
+    private static final Request.Options OPTIONS =
+            new Request.Options(1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true);
+
+    private SimpleMeterRegistry meterRegistry;
+    private DependencyGuards guards;
+    private ResilienceFeignCapability capability;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("resilience.default.window-size", "4")
+                .withProperty("resilience.default.minimum-calls", "4")
+                .withProperty("resilience.default.open-ms", "60000");
+        guards = new DependencyGuards(environment, meterRegistry);
+        capability = new ResilienceFeignCapability(guards);
+    }
+
+    private static Request request(Class<?> type, String name) {
+        RequestTemplate template = new RequestTemplate();
+        template.feignTarget(new Target.HardCodedTarget<>(type, name, "http://localhost"));
+        return Request.create(Request.HttpMethod.POST, "http://localhost/chat/completions", Map.of(), null,
+                StandardCharsets.UTF_8, template);
+    }
+
+    private static Response response(Request request, int status) {
+        return Response.builder()
+                .request(request)
+                .status(status)
+                .reason("status " + status)
+                .headers(Map.of())
+                .build();
+    }
+
+    @Test
+    @DisplayName("5xx 응답이 이어지면 해당 클라이언트 서킷만 열리고 호출 없이 바로 실패")
+    void serverErrors_openOnlyThatClient() throws IOException {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        Client client = capability.enrich((request, options) -> {
+            calls.incrementAndGet();
+            return response(request, 503);
+        });
+        Request chat = request(OpenAIClient.class, "openai-chat-client");
+        for (int i = 0; i < 4; i++) {
+            assertThat(client.execute(chat, OPTIONS).status()).isEqualTo(503);
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> client.execute(chat, OPTIONS))
+                .isInstanceOf(DependencyUnavailableException.class)
+                .hasMessageContaining("openai-chat-client");
+        assertThat(calls).hasValue(4);
+        assertThat(guards.get("openai-chat-client").state()).isEqualTo(DependencyGuard.State.OPEN);
+
+        Request weather = request(WeatherApiClient.class, "weather-api-client");
+        assertThat(client.execute(weather, OPTIONS).status()).isEqualTo(503);
+        assertThat(calls).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 요청 문제라 서킷에 반영하지 않음 (429 제외)")
+    void clientErrors_notCounted() throws IOException {
+        // Given
+        Client client = capability.enrich((request, options) -> response(request, 400));
+        Request chat = request(OpenAIClient.class, "openai-chat-client");
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            client.execute(chat, OPTIONS);
+        }
+
+        // Then
+        assertThat(guards.get("openai-chat-client").state()).isEqualTo(DependencyGuard.State.CLOSED);
+        assertThat(ResilienceFeignCapability.isFailure(response(chat, 429))).isTrue();
+    }
+
+    @Test
+    @DisplayName("연결 실패(IOException)도 실패로 세고 예외는 그대로 전달")
+    void ioException_countedAndPropagated() {
+        // Given
+        Client client = capability.enrich((request, options) -> {
+            throw new IOException("Connection refused");
+        });
+        Request chat = request(OpenAIClient.class, "openai-chat-client");
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.execute(chat, OPTIONS)).isInstanceOf(IOException.class);
+        }
+
+        // Then
+        assertThat(guards.get("openai-chat-client").state()).isEqualTo(DependencyGuard.State.OPEN);
+        assertThat(meterRegistry.counter("dependency.calls",
+                "dependency", "openai-chat-client", "outcome", "failure").count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("스트리밍 응답은 본문을 닫을 때까지 격벽 자리를 유지하고 본문 읽기 실패도 실패로 셈")
+    void streamingBody_holdsPermitUntilClosed() throws IOException {
+        // Given
+        Client client = capability.enrich((request, options) -> Response.builder()
+                .request(request)
+                .status(200)
+                .reason("OK")
+                .headers(Map.of())
+                .body(new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("Connection reset");
+                    }
+                }, null)
+                .build());
+        Request chat = request(OpenAIClient.class, "openai-chat-client");
+        int permits = guards.get("openai-chat-client").snapshot().availableConcurrentCalls();
+
+        // When
+        Response response = client.execute(chat, OPTIONS);
+        assertThat(guards.get("openai-chat-client").snapshot().availableConcurrentCalls()).isEqualTo(permits - 1);
+        try (InputStream body = response.body().asInputStream()) {
+            assertThatThrownBy(body::read).isInstanceOf(IOException.class);
+        }
+        response.close();
+
+        // Then
+        assertThat(guards.get("openai-chat-client").snapshot().availableConcurrentCalls()).isEqualTo(permits);
+        assertThat(meterRegistry.counter("dependency.calls",
+                "dependency", "openai-chat-client", "outcome", "failure").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("본문을 다 읽고 닫으면 성공으로 셈")
+    void bodyClosed_countedAsSuccess() throws IOException {
+        // Given
+        Client client = capability.enrich((request, options) -> Response.builder()
+                .request(request)
+                .status(200)
+                .reason("OK")
+                .headers(Map.of())
+                .body(new ByteArrayInputStream("data: [DONE]".getBytes(StandardCharsets.UTF_8)), null)
+                .build());
+
+        // When
+        try (Response response = client.execute(request(OpenAIClient.class, "openai-chat-client"), OPTIONS)) {
+            response.body().asInputStream().readAllBytes();
+        }
+
+        // Then
+        assertThat(guards.get("openai-chat-client").snapshot().availableConcurrentCalls())
+                .isEqualTo(guards.get("openai-chat-client").snapshot().settings().maxConcurrentCalls());
+        assertThat(meterRegistry.counter("dependency.calls",
+                "dependency", "openai-chat-client", "outcome", "success").count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.echo.context.journal;
+
+import com.example.echo.context.domain.ConversationTurn;
+import com.example.echo.context.domain.UserContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SessionJournal 테스트")
+class SessionJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path path;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        path = tempDir.resolve("data/session.journal");
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    /** 재시작을 흉내 내기 위해 같은 파일로 새 인스턴스 생성 */
+    private SessionJournal journal(long compactThresholdBytes) {
+        return new SessionJournal(new ObjectMapper().findAndRegisterModules(), meterRegistry, true, path,
+                compactThresholdBytes);
+    }
+
+    private UserContext context(Long userId) {
+        return UserContext.builder()
+                .userId(userId)
+                .date(LocalDate.now())
+                .conversationHistory(new ArrayList<>())
+                .systemPrompt("당신은 어르신의 말벗입니다.")
+                .lastAccessTime(LocalDateTime.now())
+                .isActive(true)
+                .build();
+    }
+
+    private ConversationTurn addTurn(UserContext context, String userMessage, String aiResponse) {
+        ConversationTurn turn = ConversationTurn.builder()
+                .userMessage(userMessage)
+                .aiResponse(aiResponse)
+                .timestamp(LocalDateTime.now())
+                .build();
+        context.getConversationHistory().add(turn);
+        return turn;
+    }
+
+    @Nested
+    @DisplayName("기록 후 복원")
+    class Replay {
+
+        @Test
+        @DisplayName("스냅샷과 이후 턴을 복원하고 종료된 세션은 제외한다")
+        void rebuildsLiveSessions() {
+            // given
+            SessionJournal journal = journal(Long.MAX_VALUE);
+            UserContext first = context(1L);
+            addTurn(first, null, "안녕하세요, 어르신!");
+            journal.appendSnapshot(first);
+            journal.appendTurn(1L, 1, addTurn(first, "오늘 산책했어요", "좋으셨겠어요!"));
+
+            UserContext ended = context(2L);
+            journal.appendSnapshot(ended);
+            journal.appendRemove(2L);
+            journal.close();
+
+            // when
+            Map<Long, UserContext> sessions = journal(Long.MAX_VALUE).replay();
+
+            // then
+            assertThat(sessions).containsOnlyKeys(1L);
+            UserContext restored = sessions.get(1L);
+            assertThat(restored.getSystemPrompt()).isEqualTo("당신은 어르신의 말벗입니다.");
+            assertThat(restored.getConversationHistory())
+                    .extracting(ConversationTurn::getUserMessage, ConversationTurn::getAiResponse)
+                    .containsExactly(tuple(null, "안녕하세요, 어르신!"), tuple("오늘 산책했어요", "좋으셨겠어요!"));
+        }
+
+        @Test
+        @DisplayName("flush 전에는 파일에 쓰지 않고, flush 한 번에 모은 레코드를 기록한다")
+        void batchesRecordsUntilFlush() throws IOException {
+            // given
+            SessionJournal journal = journal(Long.MAX_VALUE);
+            UserContext context = context(1L);
+            journal.appendSnapshot(context);
+            for (int i = 1; i <= 5; i++) {
+                journal.appendTurn(1L, i - 1, addTurn(context, "발화 " + i, "응답 " + i));
+            }
+
+            // when
+            boolean writtenBeforeFlush = Files.exists(path) && Files.size(path) > 0;
+            journal.flush();
+
+            // then
+            assertThat(writtenBeforeFlush).isFalse();
+            assertThat(meterRegistry.summary("context.journal.batch.records").max()).isEqualTo(6.0);
+            assertThat(journal(Long.MAX_VALUE).replay().get(1L).getConversationHistory()).hasSize(5);
+        }
+
+        @Test
+        @DisplayName("기록 중 끊긴 마지막 레코드는 버리고 그 앞까지 복원한다")
+        void ignoresTornTail() throws IOException {
+            // given
+            SessionJournal journal = journal(Long.MAX_VALUE);
+            UserContext context = context(1L);
+            journal.appendSnapshot(context);
+            journal.appendTurn(1L, 0, addTurn(context, "첫 번째", "응답"));
+            journal.close();
+            Files.write(path, new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+            // when
+            Map<Long, UserContext> sessions = journal(Long.MAX_VALUE).replay();
+
+            // then
+            assertThat(sessions.get(1L).getConversationHistory()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("이미 스냅샷에 포함된 위치의 턴 레코드는 다시 추가하지 않는다")
+        void skipsTurnsAlreadyInSnapshot() {
+            // given: 압축 스냅샷 뒤에 같은 턴 레코드가 이어진 경우
+            SessionJournal journal = journal(Long.MAX_VALUE);
+            UserContext context = context(1L);
+            ConversationTurn turn = addTurn(context, "손자가 왔어요", "반가우셨겠어요!");
+            journal.appendSnapshot(context);
+            journal.appendTurn(1L, 0, turn);
+            journal.close();
+
+            // when
+            Map<Long, UserContext> sessions = journal(Long.MAX_VALUE).replay();
+
+            // then
+            assertThat(sessions.get(1L).getConversationHistory()).hasSize(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("압축")
+    class Compaction {
+
+        @Test
+        @DisplayName("살아 있는 세션의 스냅샷만 남기고 파일을 줄이며, 이후 기록은 새 파일에 이어진다")
+        void rewritesWithLiveSessionsOnly() throws IOException {
+            // given
+            SessionJournal journal = journal(1);
+            UserContext live = context(1L);
+            journal.appendSnapshot(live);
+            for (int i = 0; i < 50; i++) {
+                journal.appendTurn(1L, i, addTurn(live, "오늘 있었던 일 " + i, "그러셨군요 " + i));
+            }
+            for (long userId = 2; userId <= 50; userId++) {
+                journal.appendSnapshot(context(userId));
+                journal.appendRemove(userId);
+            }
+            journal.flush();
+            long before = Files.size(path);
+
+            // when
+            journal.compactIfNeeded(List.of(live));
+            journal.appendTurn(1L, 50, addTurn(live, "압축 후 발화", "압축 후 응답"));
+            journal.close();
+
+            // then
+            assertThat(Files.size(path)).isLessThan(before);
+            Map<Long, UserContext> sessions = journal(Long.MAX_VALUE).replay();
+            assertThat(sessions).containsOnlyKeys(1L);
+            assertThat(sessions.get(1L).getConversationHistory()).hasSize(51);
+        }
+    }
+
+    @Test
+    @DisplayName("비활성화하면 파일을 만들지 않는다")
+    void disabledJournalWritesNothing() {
+        // given
+        SessionJournal journal = new SessionJournal(new ObjectMapper().findAndRegisterModules(), meterRegistry,
+                false, path, Long.MAX_VALUE);
+
+        // when
+        journal.appendSnapshot(context(1L));
+        journal.flush();
+
+        // then
+        assertThat(path).doesNotExist();
+        assertThat(journal.replay()).isEmpty();
+    }
+}
@@ -3,23 +3,28 @@ package com.example.echo.context.service;
 import com.example.echo.common.client.WeatherClient;
 import com.example.echo.common.dto.WeatherData;
 import com.example.echo.context.domain.UserContext;
+import com.example.echo.context.journal.SessionJournal;
+import com.example.echo.context.store.InMemoryContextStore;
 import com.example.echo.health.dto.EnrichedHealthData;
 import com.example.echo.health.dto.HealthData;
 import com.example.echo.health.service.HealthDataService;
+import com.example.echo.location.dto.RawLocationData;
 import com.example.echo.location.service.LocationService;
 import com.example.echo.user.dto.UserPreferences;
 import com.example.echo.user.dto.VoiceSettings;
 import com.example.echo.user.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
@@ -30,9 +35,12 @@ import static org.mockito.ArgumentMatchers.eq;
 @DisplayName("ContextService 테스트")
 class ContextServiceTest {
 
-    @InjectMocks
     private ContextService contextService;
 
+    private SimpleMeterRegistry meterRegistry;
+
+    private SessionStore sessionStore;
+
     @Mock
     private UserService userService;
 
@@ -45,6 +53,9 @@ class ContextServiceTest {
     @Mock
     private LocationService locationService;
 
+    @Mock
+    private SessionJournal sessionJournal;
+
     private Long userId;
     private UserPreferences mockPreferences;
     private HealthData mockHealthData;
@@ -55,6 +66,13 @@ class ContextServiceTest {
     void setUp() {
         userId = 1L;
 
+        // 단계들을 호출 스레드에서 바로 실행 (비동기 대기 없이 검증)
+        meterRegistry = new SimpleMeterRegistry();
+        sessionStore = new SessionStore(new InMemoryContextStore(), sessionJournal, event -> { }, Runnable::run,
+                meterRegistry, 30, Long.MAX_VALUE);
+        contextService = new ContextService(sessionStore, userService, healthDataService, weatherClient, locationService,
+                Runnable::run, meterRegistry, 3000);
+
         mockPreferences = UserPreferences.builder()
                 .userId(userId)
                 .name("홍길동")
@@ -140,7 +158,8 @@ class ContextServiceTest {
             assertThat(result.isActive()).isTrue();
             assertThat(result.getConversationHistory()).isEmpty();
 
-            // ContextService는 더 이상 건강 데이터 저장을 담당하지 않음 (ConversationService에서 처리)
+            // 앱에서 전송한 건강 데이터는 초기화 단계에서 함께 저장
+            then(healthDataService).should().saveHealthData(userId, mockHealthData);
         }
 
         @Test
@@ -155,9 +174,10 @@ class ContextServiceTest {
             // when
             contextService.initializeContext(userId, mockHealthData);
 
-            // then (건강 데이터 저장은 ConversationService에서 담당)
+            // then
             then(userService).should(times(1)).getPreferences(userId);
             then(healthDataService).should(times(1)).buildEnrichedHealthData(eq(mockHealthData), eq(userId), any());
+            then(healthDataService).should(times(1)).saveHealthData(userId, mockHealthData);
             then(weatherClient).should(times(1)).getCurrentWeather(null, null);
         }
 
@@ -174,14 +194,108 @@ class ContextServiceTest {
             // when
             contextService.initializeContext(userId);
 
-            // then (건강 데이터 저장은 ConversationService에서 담당)
+            // then (DB에서 조회한 데이터는 다시 저장하지 않음)
             then(userService).should(times(1)).getPreferences(userId);
             then(healthDataService).should(times(1)).getTodayHealthData(userId);
+            then(healthDataService).should(never()).saveHealthData(any(), any(HealthData.class));
             then(healthDataService).should(times(1)).buildEnrichedHealthData(eq(mockHealthData), eq(userId), any());
             then(weatherClient).should(times(1)).getCurrentWeather(null, null);
         }
     }
 
+    @Nested
+    @DisplayName("시간 예산 / 부분 실패")
+    class Budget {
+
+        @Test
+        @DisplayName("예산을 넘긴 위치 보강은 null로 두고 나머지 단계로 컨텍스트를 생성한다")
+        void slowLocation_degradesToNull() {
+            // given: 실제 스레드풀 + 짧은 예산
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                ContextService budgeted = new ContextService(sessionStore, userService, healthDataService,
+                        weatherClient, locationService, executor, meterRegistry, 200);
+                RawLocationData raw = RawLocationData.builder()
+                        .currentLatitude(37.5)
+                        .currentLongitude(127.0)
+                        .build();
+                given(userService.getPreferences(userId)).willReturn(mockPreferences);
+                given(healthDataService.buildEnrichedHealthData(eq(mockHealthData), eq(userId), any()))
+                        .willReturn(mockEnrichedHealthData);
+                given(weatherClient.getCurrentWeather(37.5, 127.0)).willReturn(mockWeatherData);
+                given(locationService.enrichLocationData(raw)).willAnswer(invocation -> {
+                    Thread.sleep(2000);
+                    return null;
+                });
+
+                // when
+                long start = System.currentTimeMillis();
+                UserContext result = budgeted.initializeContext(userId, mockHealthData, raw);
+                long elapsed = System.currentTimeMillis() - start;
+
+                // then
+                assertThat(elapsed).isLessThan(1500);
+                assertThat(result.getLocationData()).isNull();
+                assertThat(result.getEnrichedHealthData()).isEqualTo(mockEnrichedHealthData);
+                assertThat(result.getTodayWeather()).isEqualTo(mockWeatherData);
+                assertThat(meterRegistry.counter("context.init.degraded", "step", "location", "reason", "timeout")
+                        .count()).isEqualTo(1.0);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("날씨 조회 실패는 null로 두고 진행한다")
+        void weatherFailure_degradesToNull() {
+            // given
+            given(userService.getPreferences(userId)).willReturn(mockPreferences);
+            given(healthDataService.buildEnrichedHealthData(eq(mockHealthData), eq(userId), any()))
+                    .willReturn(mockEnrichedHealthData);
+            given(weatherClient.getCurrentWeather(null, null)).willThrow(new IllegalStateException("API 오류"));
+
+            // when
+            UserContext result = contextService.initializeContext(userId, mockHealthData);
+
+            // then
+            assertThat(result.getTodayWeather()).isNull();
+            assertThat(result.getEnrichedHealthData()).isEqualTo(mockEnrichedHealthData);
+            assertThat(meterRegistry.get("context.init.step").tags("step", "weather", "outcome", "error")
+                    .timer().count()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("선호도 조회 실패는 그대로 전파한다")
+        void preferencesFailure_propagates() {
+            // given
+            given(userService.getPreferences(userId)).willThrow(new IllegalStateException("사용자 없음"));
+
+            // when & then
+            assertThatThrownBy(() -> contextService.initializeContext(userId, mockHealthData))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("사용자 없음");
+        }
+
+        @Test
+        @DisplayName("buildContext는 건강 데이터를 저장하지 않고 contextStore에도 등록하지 않는다")
+        void buildContext_doesNotPersist() {
+            // given
+            given(userService.getPreferences(userId)).willReturn(mockPreferences);
+            given(healthDataService.buildEnrichedHealthData(eq(mockHealthData), eq(userId), any()))
+                    .willReturn(mockEnrichedHealthData);
+            given(weatherClient.getCurrentWeather(null, null)).willReturn(mockWeatherData);
+
+            // when
+            UserContext result = contextService.buildContext(userId, mockHealthData, null);
+
+            // then
+            assertThat(result.getEnrichedHealthData()).isEqualTo(mockEnrichedHealthData);
+            then(healthDataService).should(never()).saveHealthData(any(), any(HealthData.class));
+            assertThatThrownBy(() -> contextService.getContext(userId))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
     @Nested
     @DisplayName("getContext 메서드")
     class GetContext {
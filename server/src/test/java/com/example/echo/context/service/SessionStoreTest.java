@@ -0,0 +1,249 @@
+package com.example.echo.context.service;
+
+import com.example.echo.context.domain.ConversationTurn;
+import com.example.echo.context.domain.UserContext;
+import com.example.echo.context.event.SessionEvictedEvent;
+import com.example.echo.context.journal.SessionJournal;
+import com.example.echo.context.store.ContextSizeEstimator;
+import com.example.echo.context.store.InMemoryContextStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("SessionStore 테스트")
+class SessionStoreTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<SessionEvictedEvent> events;
+    private SessionJournal journal;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        events = new ArrayList<>();
+        journal = mock(SessionJournal.class);
+    }
+
+    private SessionStore store(long maxBytes) {
+        // 종료 처리 이벤트를 호출 스레드에서 바로 발행 (비동기 대기 없이 검증)
+        return new SessionStore(new InMemoryContextStore(), journal,
+                event -> events.add((SessionEvictedEvent) event), Runnable::run, meterRegistry, 30, maxBytes);
+    }
+
+    private UserContext context(Long userId, LocalDateTime lastAccessTime, int turns) {
+        List<ConversationTurn> history = new ArrayList<>();
+        for (int i = 0; i < turns; i++) {
+            history.add(ConversationTurn.builder()
+                    .userMessage("오늘 공원에 다녀왔어요")
+                    .aiResponse("산책하기 좋은 날씨였겠어요")
+                    .timestamp(lastAccessTime)
+                    .build());
+        }
+        return UserContext.builder()
+                .userId(userId)
+                .date(LocalDate.now())
+                .conversationHistory(history)
+                .lastAccessTime(lastAccessTime)
+                .isActive(true)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("sweep 메서드 - 유휴 제거")
+    class SweepIdle {
+
+        @Test
+        @DisplayName("마지막 접근 후 유휴 기준이 지난 세션만 제거하고 이벤트를 발행한다")
+        void evictsOnlyIdleSessions() {
+            // given
+            SessionStore store = store(Long.MAX_VALUE);
+            UserContext idle = context(1L, LocalDateTime.now().minusMinutes(31), 2);
+            store.put(idle);
+            store.put(context(2L, LocalDateTime.now().minusMinutes(5), 2));
+
+            // when
+            store.sweep();
+
+            // then
+            assertThat(store.get(1L)).isNull();
+            assertThat(store.get(2L)).isNotNull();
+            assertThat(idle.isActive()).isFalse();
+            assertThat(events).singleElement().satisfies(event -> {
+                assertThat(event.context()).isSameAs(idle);
+                assertThat(event.reason()).isEqualTo(SessionStore.REASON_IDLE);
+            });
+            assertThat(meterRegistry.counter("context.sessions.evicted", "reason", "idle").count()).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("용량 제한")
+    class Capacity {
+
+        @Test
+        @DisplayName("추정 크기 상한을 넘으면 가장 오래 접근하지 않은 세션부터 제거한다")
+        void evictsLeastRecentlyAccessedFirst() {
+            // given: 세션 2개까지만 들어가는 상한
+            LocalDateTime now = LocalDateTime.now();
+            long oneSession = ContextSizeEstimator.estimateBytes(context(0L, now, 10));
+            SessionStore store = store(oneSession * 2 + oneSession / 2);
+            store.put(context(1L, now.minusMinutes(3), 10));
+            store.put(context(2L, now.minusMinutes(1), 10));
+
+            // when
+            store.put(context(3L, now.minusMinutes(2), 10));
+
+            // then
+            assertThat(store.get(1L)).isNull();
+            assertThat(store.get(2L)).isNotNull();
+            assertThat(store.get(3L)).isNotNull();
+            assertThat(events).singleElement()
+                    .satisfies(event -> assertThat(event.reason()).isEqualTo(SessionStore.REASON_CAPACITY));
+            assertThat(store.totalEstimatedBytes()).isLessThanOrEqualTo(store.getMaxBytes());
+        }
+
+        @Test
+        @DisplayName("방금 등록한 세션은 상한을 넘어도 제거하지 않는다")
+        void neverEvictsJustRegisteredSession() {
+            // given
+            SessionStore store = store(1);
+
+            // when
+            store.put(context(1L, LocalDateTime.now().minusHours(1), 3));
+
+            // then
+            assertThat(store.get(1L)).isNotNull();
+            assertThat(events).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("evict / remove 메서드")
+    class EvictAndRemove {
+
+        @Test
+        @DisplayName("수동 제거는 종료 처리 이벤트를 발행한다")
+        void manualEvictPublishesEvent() {
+            // given
+            SessionStore store = store(Long.MAX_VALUE);
+            store.put(context(1L, LocalDateTime.now(), 1));
+
+            // when
+            boolean evicted = store.evict(1L);
+
+            // then
+            assertThat(evicted).isTrue();
+            assertThat(store.size()).isZero();
+            assertThat(events).singleElement()
+                    .satisfies(event -> assertThat(event.reason()).isEqualTo(SessionStore.REASON_MANUAL));
+            assertThat(store.evict(1L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("정상 종료(remove)는 이벤트를 발행하지 않는다")
+        void removeDoesNotPublishEvent() {
+            // given
+            SessionStore store = store(Long.MAX_VALUE);
+            UserContext context = context(1L, LocalDateTime.now(), 1);
+            store.put(context);
+
+            // when
+            UserContext removed = store.remove(1L);
+
+            // then
+            assertThat(removed).isSameAs(context);
+            assertThat(events).isEmpty();
+        }
+
+        @Test
+        @DisplayName("제거된 세션을 되돌리되 그사이 시작된 새 세션은 덮어쓰지 않는다")
+        void restoreDoesNotOverwriteNewSession() {
+            // given
+            SessionStore store = store(Long.MAX_VALUE);
+            UserContext evicted = context(1L, LocalDateTime.now().minusMinutes(31), 2);
+            store.put(evicted);
+            store.sweep();
+
+            // when
+            boolean restored = store.restore(evicted);
+
+            // then
+            assertThat(restored).isTrue();
+            assertThat(store.get(1L)).isSameAs(evicted);
+            assertThat(evicted.isActive()).isTrue();
+
+            UserContext newSession = context(1L, LocalDateTime.now(), 0);
+            store.put(newSession);
+            assertThat(store.restore(evicted)).isFalse();
+            assertThat(store.get(1L)).isSameAs(newSession);
+        }
+    }
+
+    @Nested
+    @DisplayName("세션 저널")
+    class Journal {
+
+        @BeforeEach
+        void enableJournal() {
+            given(journal.isEnabled()).willReturn(true);
+        }
+
+        @Test
+        @DisplayName("시작 시 저널에서 읽은 세션을 등록하고 저널을 재작성한다")
+        void recoverRegistersReplayedSessions() {
+            // given
+            UserContext replayed = context(1L, LocalDateTime.now(), 3);
+            given(journal.replay()).willReturn(Map.of(1L, replayed));
+            SessionStore store = store(Long.MAX_VALUE);
+
+            // when
+            store.recover();
+
+            // then
+            assertThat(store.get(1L)).isSameAs(replayed);
+            then(journal).should().compact(argThat(sessions -> sessions.contains(replayed)));
+        }
+
+        @Test
+        @DisplayName("등록/첫 턴은 스냅샷, 이후 턴은 턴 레코드, 종료와 제거는 종료 레코드로 기록한다")
+        void recordsLifecycle() {
+            // given
+            SessionStore store = store(Long.MAX_VALUE);
+            UserContext context = context(1L, LocalDateTime.now(), 2);
+
+            // when
+            store.put(context);
+            store.turnAdded(context, context.getConversationHistory().get(0), 0);
+            store.turnAdded(context, context.getConversationHistory().get(1), 1);
+            store.remove(1L);
+            store.put(context(2L, LocalDateTime.now(), 0));
+            store.evict(2L);
+
+            // then
+            then(journal).should(times(3)).appendSnapshot(any());
+            then(journal).should().appendTurn(1L, 1, context.getConversationHistory().get(1));
+            then(journal).should().appendRemove(1L);
+            then(journal).should().appendRemove(2L);
+        }
+    }
+
+    @Test
+    @DisplayName("대화 턴이 늘어나면 추정 크기도 늘어난다")
+    void estimateBytes_growsWithHistory() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(ContextSizeEstimator.estimateBytes(context(1L, now, 10)))
+                .isGreaterThan(ContextSizeEstimator.estimateBytes(context(1L, now, 1)));
+    }
+}
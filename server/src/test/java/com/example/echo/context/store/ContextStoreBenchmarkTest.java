@@ -0,0 +1,112 @@
+package com.example.echo.context.store;
+
+import com.example.echo.common.dto.WeatherData;
+import com.example.echo.context.domain.ConversationTurn;
+import com.example.echo.context.domain.UserContext;
+import com.example.echo.context.repository.ConversationSessionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세션 저장소별 턴당 오버헤드 비교 (기본 test 태스크에서는 제외, ./gradlew benchmark로 실행)
+ *
+ * 턴 1회 = 세션 조회 → 대화 턴 추가 → 저장 (ContextService.getContext + addConversationTurn과 같은 순서)
+ * - memory: ConcurrentHashMap 조회만
+ * - jdbc (같은 서버): 버전 조회 + near-cache 사용 + gzip 직렬화 + 조건부 UPDATE
+ * - jdbc (서버 교대): 매 턴 다른 서버가 처리 → payload 재조회/역직렬화까지 포함 (최악의 경우)
+ *
+ * H2 인메모리 DB 기준이므로 절대값보다 저장소 간 상대 비교용 (운영 MySQL은 네트워크 왕복이 추가됨)
+ */
+@Tag("benchmark")
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.datasource.url=jdbc:h2:mem:testdb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@DisplayName("ContextStore 턴당 오버헤드 벤치마크")
+class ContextStoreBenchmarkTest {
+
+    private static final int WARMUP_TURNS = 200;
+    private static final int MEASURED_TURNS = 30;
+    private static final int SESSIONS = 20;
+    private static final long NEAR_CACHE_MAX_BYTES = 64L * 1024 * 1024;
+
+    @Autowired
+    private ConversationSessionRepository sessionRepository;
+
+    @Test
+    @DisplayName("memory / jdbc(같은 서버) / jdbc(서버 교대) 턴당 평균 시간")
+    void perTurnOverhead() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JdbcContextStore nodeA = new JdbcContextStore(sessionRepository, objectMapper, meterRegistry, NEAR_CACHE_MAX_BYTES);
+        JdbcContextStore nodeB = new JdbcContextStore(sessionRepository, objectMapper, meterRegistry, NEAR_CACHE_MAX_BYTES);
+
+        // 워밍업 (JIT, 커넥션 풀, Hibernate 쿼리 계획 캐시)
+        run(new InMemoryContextStore(), new InMemoryContextStore(), 1000L, WARMUP_TURNS, false);
+        run(nodeA, nodeB, 2000L, WARMUP_TURNS, true);
+
+        long memoryNanos = run(new InMemoryContextStore(), new InMemoryContextStore(), 3000L, MEASURED_TURNS, false);
+        long jdbcNanos = run(nodeA, nodeA, 4000L, MEASURED_TURNS, false);
+        long jdbcAlternatingNanos = run(nodeA, nodeB, 5000L, MEASURED_TURNS, true);
+
+        System.out.printf("[ContextStore 벤치마크] 세션 %d개 x %d턴, 턴당 평균 (μs)%n", SESSIONS, MEASURED_TURNS);
+        System.out.printf("  memory             : %8.1f%n", memoryNanos / 1000.0);
+        System.out.printf("  jdbc (같은 서버)    : %8.1f%n", jdbcNanos / 1000.0);
+        System.out.printf("  jdbc (서버 교대)    : %8.1f%n", jdbcAlternatingNanos / 1000.0);
+
+        assertThat(sessionRepository.count()).isEqualTo(SESSIONS * 3L);
+    }
+
+    /**
+     * @return 턴 1회 평균 시간 (ns)
+     */
+    private long run(ContextStore first, ContextStore second, long userIdBase, int turns, boolean alternate) {
+        for (int s = 0; s < SESSIONS; s++) {
+            first.put(newContext(userIdBase + s));
+        }
+
+        long start = System.nanoTime();
+        for (int turn = 0; turn < turns; turn++) {
+            ContextStore store = alternate && turn % 2 == 1 ? second : first;
+            for (int s = 0; s < SESSIONS; s++) {
+                UserContext context = store.get(userIdBase + s);
+                context.setLastAccessTime(LocalDateTime.now());
+                context.getConversationHistory().add(ConversationTurn.builder()
+                        .userMessage("오늘은 아침에 공원을 한 바퀴 돌고 왔어요. 날씨가 좋아서 기분이 좋았어요.")
+                        .aiResponse("아침 산책 정말 좋으셨겠어요! 공원에서 어떤 꽃을 보셨어요?")
+                        .timestamp(LocalDateTime.now())
+                        .build());
+                store.save(context);
+            }
+        }
+        return (System.nanoTime() - start) / ((long) turns * SESSIONS);
+    }
+
+    private UserContext newContext(Long userId) {
+        return UserContext.builder()
+                .userId(userId)
+                .date(LocalDate.now())
+                .conversationHistory(new ArrayList<>())
+                .todayWeather(WeatherData.builder().description("맑음").temperature(18).build())
+                .systemPrompt("당신은 어르신의 말벗입니다. ".repeat(100))
+                .lastAccessTime(LocalDateTime.now())
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.echo.context.store;
+
+import com.example.echo.common.dto.WeatherData;
+import com.example.echo.context.domain.ConversationTurn;
+import com.example.echo.context.domain.UserContext;
+import com.example.echo.context.repository.ConversationSessionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.datasource.url=jdbc:h2:mem:testdb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@DisplayName("JdbcContextStore 테스트 (H2)")
+class JdbcContextStoreTest {
+
+    private static final long NEAR_CACHE_MAX_BYTES = 64L * 1024 * 1024;
+
+    @Autowired
+    private ConversationSessionRepository sessionRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    /** 같은 DB를 쓰는 서버 두 대 */
+    private JdbcContextStore nodeA;
+    private JdbcContextStore nodeB;
+
+    @BeforeEach
+    void setUp() {
+        sessionRepository.deleteAll();
+        meterRegistry = new SimpleMeterRegistry();
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        nodeA = new JdbcContextStore(sessionRepository, objectMapper, meterRegistry, NEAR_CACHE_MAX_BYTES);
+        nodeB = new JdbcContextStore(sessionRepository, objectMapper, meterRegistry, NEAR_CACHE_MAX_BYTES);
+    }
+
+    private UserContext context(Long userId, LocalDateTime lastAccessTime) {
+        return UserContext.builder()
+                .userId(userId)
+                .date(LocalDate.now())
+                .conversationHistory(new ArrayList<>())
+                .todayWeather(WeatherData.builder().description("맑음").temperature(18).build())
+                .systemPrompt("당신은 어르신의 말벗입니다.")
+                .lastAccessTime(lastAccessTime)
+                .isActive(true)
+                .build();
+    }
+
+    private void addTurn(UserContext context, String userMessage) {
+        context.getConversationHistory().add(ConversationTurn.builder()
+                .userMessage(userMessage)
+                .aiResponse("그러셨군요!")
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
+    @Nested
+    @DisplayName("서버 간 세션 공유")
+    class SharedAcrossNodes {
+
+        @Test
+        @DisplayName("한 서버에서 등록한 세션을 다른 서버에서 그대로 읽는다")
+        void otherNodeReadsRegisteredSession() {
+            // given
+            UserContext context = context(1L, LocalDateTime.now());
+            addTurn(context, "오늘 산책했어요");
+            nodeA.put(context);
+
+            // when
+            UserContext loaded = nodeB.get(1L);
+
+            // then
+            assertThat(loaded).isNotSameAs(context);
+            assertThat(loaded.getUserId()).isEqualTo(1L);
+            assertThat(loaded.getSystemPrompt()).isEqualTo("당신은 어르신의 말벗입니다.");
+            assertThat(loaded.getTodayWeather().getDescription()).isEqualTo("맑음");
+            assertThat(loaded.isActive()).isTrue();
+            assertThat(loaded.getConversationHistory()).extracting(ConversationTurn::getUserMessage)
+                    .containsExactly("오늘 산책했어요");
+        }
+
+        @Test
+        @DisplayName("버전이 같으면 near-cache 객체를 그대로 쓰고, 다른 서버가 갱신하면 다시 읽는다")
+        void nearCacheIsRefreshedWhenVersionChanges() {
+            // given
+            nodeA.put(context(1L, LocalDateTime.now()));
+            UserContext first = nodeA.get(1L);
+
+            // when: 다음 턴은 B 서버가 처리
+            UserContext onB = nodeB.get(1L);
+            addTurn(onB, "손자가 왔어요");
+            nodeB.save(onB);
+
+            // then
+            assertThat(nodeA.get(1L)).isNotSameAs(first)
+                    .satisfies(refreshed -> assertThat(refreshed.getConversationHistory()).hasSize(1));
+            UserContext again = nodeA.get(1L);
+            assertThat(nodeA.get(1L)).isSameAs(again);
+            assertThat(meterRegistry.counter("context.store.load", "source", "near-cache").count()).isPositive();
+        }
+
+        @Test
+        @DisplayName("다른 서버가 먼저 갱신했으면 충돌로 기록하고 마지막 저장을 반영한다")
+        void conflictingSaveOverwrites() {
+            // given: 두 서버가 같은 버전을 읽음
+            nodeA.put(context(1L, LocalDateTime.now()));
+            UserContext onA = nodeA.get(1L);
+            UserContext onB = nodeB.get(1L);
+            addTurn(onA, "A 서버 턴");
+            nodeA.save(onA);
+
+            // when
+            addTurn(onB, "B 서버 턴");
+            nodeB.save(onB);
+
+            // then
+            assertThat(meterRegistry.counter("context.store.conflict").count()).isEqualTo(1.0);
+            assertThat(nodeA.get(1L).getConversationHistory()).extracting(ConversationTurn::getUserMessage)
+                    .containsExactly("B 서버 턴");
+        }
+    }
+
+    @Nested
+    @DisplayName("등록")
+    class Registration {
+
+        @Test
+        @DisplayName("다른 서버가 갱신한 세션을 교체하면 실제로 기록된 버전으로 near-cache를 채운다")
+        void putRecordsWrittenVersion() {
+            // given: B 서버가 한 턴 저장해 버전 1
+            nodeA.put(context(1L, LocalDateTime.now()));
+            UserContext onB = nodeB.get(1L);
+            addTurn(onB, "B 서버 턴");
+            nodeB.save(onB);
+
+            // when
+            UserContext replaced = context(1L, LocalDateTime.now());
+            nodeA.put(replaced);
+
+            // then
+            assertThat(sessionRepository.findVersion(1L)).contains(2L);
+            assertThat(nodeA.get(1L)).isSameAs(replaced);
+            assertThat(nodeB.get(1L).getConversationHistory()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("같은 사용자의 세션을 동시에 등록해도 PK 중복 예외 없이 한 번만 등록된다")
+        void concurrentInsertIgnored() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            byte[] payload = nodeA.serialize(context(1L, now));
+
+            // when
+            int first = sessionRepository.insertIfAbsent(1L, payload, now, now);
+            int second = sessionRepository.insertIfAbsent(1L, payload, now, now);
+
+            // then
+            assertThat(first).isEqualTo(1);
+            assertThat(second).isZero();
+            assertThat(sessionRepository.findVersion(1L)).contains(0L);
+        }
+    }
+
+    @Nested
+    @DisplayName("제거")
+    class Removal {
+
+        @Test
+        @DisplayName("유휴 세션 ID를 조회하고 조건을 만족할 때만 제거한다")
+        void removeIfOnlyWhenConditionHolds() {
+            // given
+            nodeA.put(context(1L, LocalDateTime.now().minusMinutes(40)));
+            nodeA.put(context(2L, LocalDateTime.now()));
+
+            // when
+            var idle = nodeB.findIdleUserIds(LocalDateTime.now().minusMinutes(30));
+            UserContext kept = nodeB.removeIf(1L, context -> false);
+            UserContext removed = nodeB.removeIf(1L, context -> true);
+
+            // then
+            assertThat(idle).containsExactly(1L);
+            assertThat(kept).isNull();
+            assertThat(removed).isNotNull();
+            assertThat(nodeA.get(1L)).isNull();
+            assertThat(nodeA.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("remove는 세션을 지우고 제거한 세션을 반환한다")
+        void removeDeletesSession() {
+            // given
+            nodeA.put(context(1L, LocalDateTime.now()));
+
+            // when
+            UserContext removed = nodeB.remove(1L);
+
+            // then
+            assertThat(removed.getUserId()).isEqualTo(1L);
+            assertThat(nodeA.get(1L)).isNull();
+            assertThat(nodeA.remove(1L)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("대화 기록은 gzip 압축되어 원문보다 작게 저장된다")
+    void payloadIsCompressed() {
+        // given
+        UserContext context = context(1L, LocalDateTime.now());
+        for (int i = 0; i < 30; i++) {
+            addTurn(context, "오늘은 공원에 가서 친구들과 이야기를 나눴어요");
+        }
+
+        // when
+        byte[] payload = nodeA.serialize(context);
+
+        // then
+        assertThat((long) payload.length).isLessThan(ContextSizeEstimator.estimateBytes(context) / 4);
+        assertThat(nodeA.deserialize(payload).getConversationHistory()).hasSize(30);
+    }
+}
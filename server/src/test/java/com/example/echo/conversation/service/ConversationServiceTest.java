@@ -1,18 +1,21 @@
 package com.example.echo.conversation.service;
 
 import com.example.echo.ai.service.AIService;
+import com.example.echo.ai.service.ConversationHistoryManager;
 import com.example.echo.common.dto.WeatherData;
 import com.example.echo.context.domain.UserContext;
 import com.example.echo.context.service.ContextService;
 import com.example.echo.conversation.dto.ConversationStartResponse;
-import com.example.echo.diary.service.DiaryService;
 import com.example.echo.health.dto.EnrichedHealthData;
 import com.example.echo.health.dto.HealthData;
-import com.example.echo.health.service.HealthDataService;
+import com.example.echo.job.service.JobQueueService;
+import com.example.echo.location.dto.RawLocationData;
+import com.example.echo.location.dto.RawVisitedPlace;
 import com.example.echo.prompt.service.PromptService;
 import com.example.echo.user.dto.UserPreferences;
 import com.example.echo.user.dto.VoiceSettings;
 import com.example.echo.voice.service.VoiceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,6 +25,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -39,14 +46,20 @@ class ConversationServiceTest {
     @Mock
     private AIService aiService;
 
+    @Mock
+    private ConversationHistoryManager historyManager;
+
     @Mock
     private ContextService contextService;
 
     @Mock
-    private DiaryService diaryService;
+    private JobQueueService jobQueueService;
 
     @Mock
-    private HealthDataService healthDataService;
+    private GreetingPrewarmService greetingPrewarmService;
+
+    // TTS를 호출 스레드에서 바로 실행하는 실제 저장소 (비동기 대기 없이 검증)
+    private TurnAudioStore turnAudioStore;
 
     //@InjectMocks-제거
     private ConversationService conversationService;
@@ -56,14 +69,20 @@ class ConversationServiceTest {
 
     @BeforeEach
     void setUp() {
+        turnAudioStore = new TurnAudioStore(Runnable::run, "supertone", 64 * 1024 * 1024);
+
         // 직접 생성자로 주입
         conversationService = new ConversationService(
                 voiceService,
                 promptService,
                 aiService,
+                historyManager,
                 contextService,
-                diaryService,
-                healthDataService
+                jobQueueService,
+                turnAudioStore,
+                greetingPrewarmService,
+                new UserTurnLanes(new SimpleMeterRegistry(), 1_000),
+                new IdempotencyCache(new SimpleMeterRegistry(), 10, 100)
         );
         mockContext = createMockContext();
     }
@@ -87,7 +106,8 @@ class ConversationServiceTest {
         // Then
         assertThat(response).isNotNull();
         assertThat(response.getMessage()).isEqualTo(greeting);
-        assertThat(response.getAudioData()).isEqualTo(audioData);
+        assertThat(response.getAudioUrl()).isEqualTo("/api/conversations/audio/" + response.getAudioId());
+        assertThat(turnAudioStore.get(TEST_USER_ID, response.getAudioId()).getData()).isEqualTo(audioData);
     }
 
     @Test
@@ -133,6 +153,57 @@ class ConversationServiceTest {
         verify(voiceService, times(1)).textToSpeech(any(), any());
     }
 
+    @Test
+    @DisplayName("startConversation - 사전 생성된 인사가 있으면 LLM/TTS 없이 바로 응답")
+    void startConversation_usesPreparedGreeting() {
+        // Given
+        byte[] audioData = "prepared-audio".getBytes();
+        GreetingPrewarmService.PreparedGreeting prepared = new GreetingPrewarmService.PreparedGreeting(
+                mockContext, null, "미리 준비한 인사", audioData, LocalDateTime.now());
+        when(greetingPrewarmService.take(TEST_USER_ID, null, null)).thenReturn(Optional.of(prepared));
+
+        // When
+        ConversationStartResponse response = conversationService.startConversation(TEST_USER_ID, null, null);
+
+        // Then
+        assertThat(response.getMessage()).isEqualTo("미리 준비한 인사");
+        assertThat(turnAudioStore.get(TEST_USER_ID, response.getAudioId()).getData()).isEqualTo(audioData);
+        verify(contextService).registerContext(mockContext);
+        verify(contextService).addConversationTurn(TEST_USER_ID, null, "미리 준비한 인사");
+        verify(contextService, never()).initializeContext(any(), any(), any());
+        verifyNoInteractions(aiService, voiceService, promptService);
+    }
+
+    @Test
+    @DisplayName("startConversation - 앱이 최신 건강/위치 데이터를 보내면 사전 생성 인사는 쓰고 컨텍스트만 다시 초기화")
+    void startConversation_preparedGreetingWithClientPayload() {
+        // Given: ConversationViewModel.startConversation()이 보내는 형태 (최신 건강 데이터 + 현재 좌표 + 방문 장소)
+        HealthData fresh = HealthData.builder().steps(4521).sleepDurationMinutes(410).build();
+        RawLocationData location = RawLocationData.builder()
+                .currentLatitude(37.5665)
+                .currentLongitude(126.9780)
+                .visitedPlaces(List.of(RawVisitedPlace.builder()
+                        .latitude(37.5796).longitude(126.9770).stayDurationMinutes(45).build()))
+                .totalDistanceKm(3.2)
+                .build();
+        byte[] audioData = "prepared-audio".getBytes();
+        GreetingPrewarmService.PreparedGreeting prepared = new GreetingPrewarmService.PreparedGreeting(
+                mockContext, HealthData.builder().steps(3000).build(), "미리 준비한 인사", audioData, LocalDateTime.now());
+        when(greetingPrewarmService.take(TEST_USER_ID, fresh, location)).thenReturn(Optional.of(prepared));
+        when(contextService.initializeContext(TEST_USER_ID, fresh, location)).thenReturn(mockContext);
+        when(promptService.buildSystemPrompt(mockContext)).thenReturn("최신 시스템 프롬프트");
+
+        // When
+        ConversationStartResponse response = conversationService.startConversation(TEST_USER_ID, fresh, location);
+
+        // Then
+        assertThat(response.getMessage()).isEqualTo("미리 준비한 인사");
+        assertThat(turnAudioStore.get(TEST_USER_ID, response.getAudioId()).getData()).isEqualTo(audioData);
+        assertThat(mockContext.getSystemPrompt()).isEqualTo("최신 시스템 프롬프트");
+        verify(contextService, never()).registerContext(any());
+        verifyNoInteractions(aiService, voiceService);
+    }
+
     private UserContext createMockContext() {
         VoiceSettings voiceSettings = VoiceSettings.builder()
                 .voiceSpeed(1.0)
@@ -1,23 +1,30 @@
 package com.example.echo.conversation.service;
 
 import com.example.echo.ai.service.AIService;
+import com.example.echo.ai.service.ConversationHistoryManager;
 import com.example.echo.context.domain.ConversationTurn;
 import com.example.echo.context.domain.UserContext;
+import com.example.echo.context.event.SessionEvictedEvent;
 import com.example.echo.context.service.ContextService;
+import com.example.echo.context.service.SessionStore;
 import com.example.echo.conversation.dto.ConversationResponse;
 import com.example.echo.conversation.dto.ConversationStartResponse;
-import com.example.echo.diary.service.DiaryService;
-import com.example.echo.health.service.HealthDataService;
+import com.example.echo.diary.dto.DiaryJobPayload;
+import com.example.echo.diary.service.DiaryJobHandler;
+import com.example.echo.job.service.JobQueueService;
 import com.example.echo.prompt.service.PromptService;
 import com.example.echo.user.dto.UserPreferences;
 import com.example.echo.user.dto.VoiceSettings;
 import com.example.echo.voice.service.VoiceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
@@ -29,6 +36,7 @@ import java.util.ArrayList;
 
 import static org.assertj.core.api.Assertions.*;
         import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.*;
 
@@ -48,14 +56,27 @@ class ConversationServiceTest2 {
     @Mock
     private AIService aiService;
 
+    @Mock
+    private ConversationHistoryManager historyManager;
+
     @Mock
     private ContextService contextService;
 
     @Mock
-    private DiaryService diaryService;
+    private JobQueueService jobQueueService;
 
     @Mock
-    private HealthDataService healthDataService;
+    private GreetingPrewarmService greetingPrewarmService;
+
+    // TTS를 호출 스레드에서 바로 실행하는 실제 저장소
+    @Spy
+    private TurnAudioStore turnAudioStore = new TurnAudioStore(Runnable::run, "supertone", 64 * 1024 * 1024);
+
+    @Spy
+    private UserTurnLanes turnLanes = new UserTurnLanes(new SimpleMeterRegistry(), 1_000);
+
+    @Spy
+    private IdempotencyCache idempotencyCache = new IdempotencyCache(new SimpleMeterRegistry(), 10, 100);
 
     private Long userId;
     private UserContext mockContext;
@@ -110,7 +131,7 @@ class ConversationServiceTest2 {
             // then
             assertThat(result).isNotNull();
             assertThat(result.getMessage()).isEqualTo(greeting);
-            assertThat(result.getAudioData()).isEqualTo(audioData);
+            assertThat(turnAudioStore.get(userId, result.getAudioId()).getData()).isEqualTo(audioData);
         }
 
         @Test
@@ -174,7 +195,7 @@ class ConversationServiceTest2 {
             assertThat(result).isNotNull();
             assertThat(result.getUserMessage()).isEqualTo(userMessage);
             assertThat(result.getAiResponse()).isEqualTo(aiResponse);
-            assertThat(result.getAudioData()).isEqualTo(responseAudio);
+            assertThat(turnAudioStore.get(userId, result.getAudioId()).getData()).isEqualTo(responseAudio);
         }
 
         @Test
@@ -208,6 +229,31 @@ class ConversationServiceTest2 {
             inOrder.verify(voiceService).textToSpeech(aiResponse, mockVoiceSettings);
         }
 
+        @Test
+        @DisplayName("성공: 같은 Idempotency-Key 재시도는 다시 처리하지 않고 처음 응답을 반환한다")
+        void success_replaysResponseForSameIdempotencyKey() {
+            // given
+            MultipartFile audioFile = new MockMultipartFile(
+                    "audio", "test.mp3", "audio/mpeg", "audio".getBytes()
+            );
+            mockContext.setSystemPrompt("시스템 프롬프트");
+
+            given(contextService.getContext(userId)).willReturn(mockContext);
+            given(voiceService.speechToText(audioFile)).willReturn("테스트 메시지");
+            given(aiService.generateResponse(any(), any(), any())).willReturn("AI 응답");
+            given(voiceService.textToSpeech("AI 응답", mockVoiceSettings)).willReturn("audio".getBytes());
+
+            // when
+            ConversationResponse first = conversationService.processUserMessage(userId, audioFile, "key-1");
+            ConversationResponse retried = conversationService.processUserMessage(userId, audioFile, "key-1");
+
+            // then
+            assertThat(retried).isSameAs(first);
+            then(voiceService).should(times(1)).speechToText(audioFile);
+            then(aiService).should(times(1)).generateResponse(any(), any(), any());
+            then(contextService).should(times(1)).addConversationTurn(userId, "테스트 메시지", "AI 응답");
+        }
+
         @Test
         @DisplayName("실패: Context가 없으면 예외 발생")
         void fail_throwsExceptionWhenContextNotFound() {
@@ -268,5 +314,88 @@ class ConversationServiceTest2 {
             inOrder.verify(contextService).getContext(userId);
             inOrder.verify(contextService).finalizeContext(userId);
         }
+
+        @Test
+        @DisplayName("성공: 대화 기록 스냅샷으로 일기 생성 작업을 등록한다")
+        void success_enqueuesDiaryJobWithHistorySnapshot() {
+            // given
+            mockContext.getConversationHistory().add(
+                    ConversationTurn.builder()
+                            .userMessage("오늘 산책했어요")
+                            .aiResponse("좋으셨겠어요!")
+                            .timestamp(LocalDateTime.now())
+                            .build()
+            );
+            given(contextService.getContext(userId)).willReturn(mockContext);
+
+            // when
+            conversationService.endConversation(userId);
+
+            // then
+            ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
+            then(jobQueueService).should().enqueue(eq(DiaryJobHandler.JOB_TYPE), payloadCaptor.capture());
+            DiaryJobPayload payload = (DiaryJobPayload) payloadCaptor.getValue();
+            assertThat(payload.getUserId()).isEqualTo(userId);
+            assertThat(payload.getConversationHistory()).hasSize(1);
+            assertThat(payload.getConversationHistory().get(0).getUserMessage()).isEqualTo("오늘 산책했어요");
+        }
+
+        @Test
+        @DisplayName("작업 등록에 실패하면 예외를 던지고 재시도할 수 있도록 컨텍스트를 남긴다")
+        void enqueueFailure_keepsContext() {
+            // given
+            given(contextService.getContext(userId)).willReturn(mockContext);
+            given(jobQueueService.enqueue(any(), any())).willThrow(new IllegalStateException("DB 오류"));
+
+            // when & then
+            assertThatThrownBy(() -> conversationService.endConversation(userId))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("DB 오류");
+            then(contextService).should(never()).finalizeContext(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("onSessionEvicted 메서드")
+    class OnSessionEvicted {
+
+        @Test
+        @DisplayName("/end 없이 제거된 세션도 일기 생성 작업을 등록한다")
+        void enqueuesDiaryJobForEvictedSession() {
+            // given
+            mockContext.getConversationHistory().add(
+                    ConversationTurn.builder()
+                            .userMessage("손자가 다녀갔어요")
+                            .aiResponse("반가우셨겠어요!")
+                            .timestamp(LocalDateTime.now())
+                            .build()
+            );
+
+            // when
+            conversationService.onSessionEvicted(new SessionEvictedEvent(mockContext, SessionStore.REASON_IDLE));
+
+            // then
+            ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
+            then(jobQueueService).should().enqueue(eq(DiaryJobHandler.JOB_TYPE), payloadCaptor.capture());
+            DiaryJobPayload payload = (DiaryJobPayload) payloadCaptor.getValue();
+            assertThat(payload.getUserId()).isEqualTo(userId);
+            assertThat(payload.getConversationHistory()).hasSize(1);
+            then(contextService).should(never()).finalizeContext(any());
+            then(contextService).should(never()).restoreContext(any());
+        }
+
+        @Test
+        @DisplayName("작업 등록에 실패하면 다음 정리 주기에 재시도하도록 세션을 되돌린다")
+        void enqueueFailure_restoresSession() {
+            // given
+            given(jobQueueService.enqueue(any(), any())).willThrow(new IllegalStateException("DB 오류"));
+            given(contextService.restoreContext(mockContext)).willReturn(true);
+
+            // when
+            conversationService.onSessionEvicted(new SessionEvictedEvent(mockContext, SessionStore.REASON_IDLE));
+
+            // then
+            then(contextService).should().restoreContext(mockContext);
+        }
     }
-}
\ No newline at end of file
+}
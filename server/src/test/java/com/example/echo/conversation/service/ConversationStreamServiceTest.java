@@ -0,0 +1,104 @@
+package com.example.echo.conversation.service;
+
+import com.example.echo.ai.dto.HistoryWindow;
+import com.example.echo.ai.service.AIService;
+import com.example.echo.ai.service.ConversationHistoryManager;
+import com.example.echo.context.domain.UserContext;
+import com.example.echo.context.service.ContextService;
+import com.example.echo.user.dto.UserPreferences;
+import com.example.echo.user.dto.VoiceSettings;
+import com.example.echo.voice.exception.VoiceProcessingException;
+import com.example.echo.voice.service.VoiceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConversationStreamService 테스트")
+class ConversationStreamServiceTest {
+
+    @Mock
+    private VoiceService voiceService;
+
+    @Mock
+    private AIService aiService;
+
+    @Mock
+    private ConversationHistoryManager historyManager;
+
+    @Mock
+    private ContextService contextService;
+
+    private ExecutorService ttsExecutor;
+    private ConversationStreamService streamService;
+
+    private final Long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        // 파이프라인은 호출 스레드에서 바로 실행, 문장 TTS는 스레드 1개에서 차례로 실행
+        ttsExecutor = Executors.newSingleThreadExecutor();
+        streamService = new ConversationStreamService(voiceService, aiService, historyManager, contextService,
+                Runnable::run, ttsExecutor, new UserTurnLanes(new SimpleMeterRegistry(), 1_000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ttsExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("한 문장의 TTS가 실패하면 대기 중인 나머지 문장은 TTS 제공자를 호출하지 않음")
+    void ttsFailure_skipsQueuedSentences() throws InterruptedException {
+        // given
+        UserContext context = UserContext.builder()
+                .userId(userId)
+                .conversationHistory(new ArrayList<>())
+                .preferences(UserPreferences.builder().userId(userId)
+                        .voiceSettings(VoiceSettings.builder().voiceTone("warm").voiceSpeed(1.0).build())
+                        .build())
+                .build();
+        given(contextService.getContext(userId)).willReturn(context);
+        given(voiceService.speechToText(any())).willReturn("오늘 산책했어요");
+        given(historyManager.window(context)).willReturn(HistoryWindow.of(List.of()));
+        given(aiService.streamResponse(any(), any(), eq("오늘 산책했어요"), any())).willAnswer(invocation -> {
+            Consumer<String> onDelta = invocation.getArgument(3);
+            onDelta.accept("산책 좋으셨겠어요. ");
+            onDelta.accept("어디로 다녀오셨어요? ");
+            onDelta.accept("날씨도 맑았죠. ");
+            return "산책 좋으셨겠어요. 어디로 다녀오셨어요? 날씨도 맑았죠.";
+        });
+        given(voiceService.textToSpeech(anyString(), any()))
+                .willThrow(new VoiceProcessingException("Supertone TTS API 응답이 비어있습니다."));
+
+        // when
+        streamService.streamUserMessage(userId,
+                new MockMultipartFile("audio", "voice.wav", "audio/wav", new byte[]{1, 2, 3}));
+        ttsExecutor.shutdown();
+        assertThat(ttsExecutor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        // then: 첫 문장만 호출, 나머지는 실패를 확인하고 건너뜀
+        verify(voiceService, times(1)).textToSpeech(anyString(), any());
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.echo.conversation.service;
+
+import com.example.echo.ai.service.AIService;
+import com.example.echo.context.domain.UserContext;
+import com.example.echo.context.service.ContextService;
+import com.example.echo.health.dto.HealthData;
+import com.example.echo.health.service.HealthDataService;
+import com.example.echo.location.dto.RawLocationData;
+import com.example.echo.location.dto.RawVisitedPlace;
+import com.example.echo.prompt.service.PromptService;
+import com.example.echo.user.dto.UserPreferences;
+import com.example.echo.user.service.UserService;
+import com.example.echo.voice.service.VoiceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GreetingPrewarmService 테스트")
+class GreetingPrewarmServiceTest {
+
+    @Mock
+    private ContextService contextService;
+
+    @Mock
+    private HealthDataService healthDataService;
+
+    @Mock
+    private PromptService promptService;
+
+    @Mock
+    private AIService aiService;
+
+    @Mock
+    private VoiceService voiceService;
+
+    @Mock
+    private UserService userService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GreetingPrewarmService prewarmService;
+
+    private final Long userId = 1L;
+    private HealthData healthData;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 준비 작업을 호출 스레드에서 바로 실행
+        prewarmService = new GreetingPrewarmService(contextService, healthDataService, promptService,
+                aiService, voiceService, userService, Runnable::run, meterRegistry, 100, 90);
+        ReflectionTestUtils.setField(prewarmService, "enabled", true);
+        ReflectionTestUtils.setField(prewarmService, "leadMinutes", 10);
+
+        healthData = HealthData.builder().steps(3000).build();
+    }
+
+    private void givenPrepareSucceeds() {
+        UserContext context = UserContext.builder()
+                .userId(userId)
+                .date(LocalDate.now())
+                .conversationHistory(new ArrayList<>())
+                .preferences(UserPreferences.builder().userId(userId).build())
+                .build();
+        given(healthDataService.getTodayHealthData(userId)).willReturn(healthData);
+        given(contextService.buildContext(userId, healthData, null)).willReturn(context);
+        given(promptService.buildSystemPrompt(context)).willReturn("시스템 프롬프트");
+        given(aiService.generateGreeting("시스템 프롬프트", context)).willReturn("좋은 아침이에요!");
+        given(voiceService.textToSpeech(eq("좋은 아침이에요!"), any())).willReturn("audio".getBytes());
+    }
+
+    @Nested
+    @DisplayName("prewarmUpcoming - 스케줄 실행")
+    class PrewarmUpcoming {
+
+        @Test
+        @DisplayName("대화 시각이 다가온 사용자의 인사를 준비하고 같은 날 다시 준비하지 않음")
+        void preparesOncePerDay() {
+            // given
+            givenPrepareSucceeds();
+            given(userService.findUserIdsByConversationTime(any(), any())).willReturn(List.of(userId));
+
+            // when
+            prewarmService.prewarmUpcoming();
+            prewarmService.prewarmUpcoming();
+
+            // then
+            verify(aiService, times(1)).generateGreeting(any(), any());
+            assertThat(prewarmService.take(userId, null, null)).isPresent();
+        }
+
+        @Test
+        @DisplayName("조회 구간은 자정을 넘지 않음 (자정 이후 대화 시각은 날짜가 바뀐 뒤 준비)")
+        void windowDoesNotCrossMidnight() {
+            // given
+            ReflectionTestUtils.setField(prewarmService, "leadMinutes", 24 * 60 - 1);
+            given(userService.findUserIdsByConversationTime(any(), any())).willReturn(List.of());
+
+            // when
+            prewarmService.prewarmUpcoming();
+
+            // then: 하루 가까운 구간이어도 끝은 오늘 안 (지금보다 뒤)
+            ArgumentCaptor<LocalTime> from = ArgumentCaptor.forClass(LocalTime.class);
+            ArgumentCaptor<LocalTime> to = ArgumentCaptor.forClass(LocalTime.class);
+            verify(userService).findUserIdsByConversationTime(from.capture(), to.capture());
+            assertThat(to.getValue()).isAfterOrEqualTo(from.getValue());
+        }
+
+        @Test
+        @DisplayName("비활성화 상태면 아무 작업도 하지 않음")
+        void disabled() {
+            // given
+            ReflectionTestUtils.setField(prewarmService, "enabled", false);
+
+            // when
+            prewarmService.prewarmUpcoming();
+
+            // then
+            verifyNoInteractions(userService, aiService);
+        }
+
+        @Test
+        @DisplayName("준비 중 예외가 나도 스케줄은 계속 진행되고 캐시는 비어 있음")
+        void failureIsSwallowed() {
+            // given
+            given(userService.findUserIdsByConversationTime(any(), any())).willReturn(List.of(userId));
+            given(healthDataService.getTodayHealthData(userId)).willThrow(new IllegalStateException("DB 오류"));
+
+            // when
+            prewarmService.prewarmUpcoming();
+
+            // then
+            assertThat(prewarmService.take(userId, null, null)).isEmpty();
+            assertThat(meterRegistry.counter("conversation.greeting.prewarm", "result", "failed").count())
+                    .isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("take - 사전 생성 인사 사용 조건")
+    class Take {
+
+        @BeforeEach
+        void prepare() {
+            givenPrepareSucceeds();
+            prewarmService.prepare(userId);
+        }
+
+        @Test
+        @DisplayName("요청 데이터가 없으면 hit, 한 번 꺼내면 제거됨")
+        void hitOnlyOnce() {
+            assertThat(prewarmService.take(userId, null, null))
+                    .hasValueSatisfying(p -> assertThat(p.getGreeting()).isEqualTo("좋은 아침이에요!"));
+            assertThat(prewarmService.take(userId, null, null)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("사전 생성 시와 같은 건강 데이터면 준비한 컨텍스트를 그대로 사용")
+        void hitWithSameHealthData() {
+            assertThat(prewarmService.take(userId, HealthData.builder().steps(3000).build(), null))
+                    .hasValueSatisfying(p -> assertThat(
+                            p.isContextCurrent(HealthData.builder().steps(3000).build(), null)).isTrue());
+            assertThat(meterRegistry.counter("conversation.greeting.prewarm", "result", "hit").count())
+                    .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("앱의 실제 /start 데이터(최신 건강 데이터 + 현재 좌표 + 방문 장소)여도 인사는 사용하고 컨텍스트만 다시 초기화")
+        void realisticClientPayload_greetingReused() {
+            // given: ConversationViewModel.startConversation()이 보내는 형태
+            HealthData fresh = HealthData.builder()
+                    .steps(4521)
+                    .sleepDurationMinutes(410)
+                    .sleepStartTime(LocalTime.of(23, 10))
+                    .wakeUpTime(LocalTime.of(6, 0))
+                    .build();
+            RawLocationData location = RawLocationData.builder()
+                    .currentLatitude(37.5665)
+                    .currentLongitude(126.9780)
+                    .visitedPlaces(List.of(RawVisitedPlace.builder()
+                            .latitude(37.5796).longitude(126.9770).stayDurationMinutes(45).build()))
+                    .totalDistanceKm(3.2)
+                    .build();
+
+            // when & then
+            assertThat(prewarmService.take(userId, fresh, location))
+                    .hasValueSatisfying(p -> {
+                        assertThat(p.getGreeting()).isEqualTo("좋은 아침이에요!");
+                        assertThat(p.isContextCurrent(fresh, location)).isFalse();
+                    });
+            assertThat(meterRegistry.counter("conversation.greeting.prewarm", "result", "hit_refreshed").count())
+                    .isEqualTo(1.0);
+            assertThat(meterRegistry.counter("conversation.greeting.prewarm", "result", "stale").count())
+                    .isZero();
+        }
+
+        @Test
+        @DisplayName("위치 없이 준비한 컨텍스트는 좌표나 방문 장소를 보내면 다시 초기화, 빈 위치 데이터면 그대로 사용")
+        void contextCurrent_location() {
+            GreetingPrewarmService.PreparedGreeting prepared = prewarmService.take(userId, null, null).orElseThrow();
+
+            assertThat(prepared.isContextCurrent(null, RawLocationData.builder()
+                    .currentLatitude(37.5).currentLongitude(127.0).build())).isFalse();
+            assertThat(prepared.isContextCurrent(null, RawLocationData.builder()
+                    .visitedPlaces(List.of(new RawVisitedPlace())).build())).isFalse();
+            assertThat(prepared.isContextCurrent(null, RawLocationData.builder().build())).isTrue();
+            assertThat(prepared.isContextCurrent(HealthData.builder().steps(4500).build(), null)).isFalse();
+        }
+    }
+}
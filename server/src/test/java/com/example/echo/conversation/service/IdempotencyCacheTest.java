@@ -0,0 +1,116 @@
+package com.example.echo.conversation.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("IdempotencyCache 테스트")
+class IdempotencyCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyCache cache;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new IdempotencyCache(meterRegistry, 10, 100);
+        calls = new AtomicInteger();
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("conversation.idempotency", "operation", "message", "result", result).count();
+    }
+
+    @Test
+    @DisplayName("완료된 요청과 같은 키로 재요청하면 다시 실행하지 않고 저장된 응답을 반환한다")
+    void replaysCompletedResponse() {
+        // when
+        String first = cache.execute(1L, "message", "key-1", () -> "응답 " + calls.incrementAndGet());
+        String retried = cache.execute(1L, "message", "key-1", () -> "응답 " + calls.incrementAndGet());
+
+        // then
+        assertThat(retried).isEqualTo(first).isEqualTo("응답 1");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(count("replayed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청과 같은 키로 재요청하면 처리 중인 결과를 함께 기다린다")
+    void attachesToInFlightRequest() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            Future<String> original = executor.submit(() -> cache.execute(1L, "message", "key-1", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "처음 응답";
+            }));
+            started.await(5, TimeUnit.SECONDS);
+
+            // when
+            Future<String> retried = executor.submit(() -> cache.execute(1L, "message", "key-1", () -> {
+                calls.incrementAndGet();
+                return "새 응답";
+            }));
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            assertThat(original.get(5, TimeUnit.SECONDS)).isEqualTo("처음 응답");
+            assertThat(retried.get(5, TimeUnit.SECONDS)).isEqualTo("처음 응답");
+            assertThat(calls.get()).isEqualTo(1);
+            assertThat(count("attached")).isEqualTo(1.0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 저장하지 않아 같은 키로 재시도하면 다시 실행한다")
+    void doesNotStoreFailure() {
+        // given
+        assertThatThrownBy(() -> cache.execute(1L, "message", "key-1", () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("STT 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // when
+        String retried = cache.execute(1L, "message", "key-1", () -> "응답 " + calls.incrementAndGet());
+
+        // then
+        assertThat(retried).isEqualTo("응답 2");
+    }
+
+    @Test
+    @DisplayName("키가 없거나 사용자·작업이 다르면 각각 실행한다")
+    void separatesByUserAndOperation() {
+        // when
+        cache.execute(1L, "message", null, calls::incrementAndGet);
+        cache.execute(1L, "message", null, calls::incrementAndGet);
+        cache.execute(1L, "message", "key-1", calls::incrementAndGet);
+        cache.execute(2L, "message", "key-1", calls::incrementAndGet);
+        cache.execute(1L, "start", "key-1", calls::incrementAndGet);
+
+        // then
+        assertThat(calls.get()).isEqualTo(5);
+    }
+}
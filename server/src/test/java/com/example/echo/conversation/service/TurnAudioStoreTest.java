@@ -0,0 +1,158 @@
+package com.example.echo.conversation.service;
+
+import com.example.echo.conversation.exception.TurnAudioNotFoundException;
+import com.example.echo.voice.exception.SupertoneInsufficientCreditException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TurnAudioStoreTest {
+
+    private static final Long USER_ID = 1L;
+    private static final long MAX_BYTES = 64 * 1024 * 1024;
+
+    @Test
+    @DisplayName("submit 후 get - TTS 결과와 provider별 Content-Type 반환")
+    void submitAndGet() {
+        // given
+        TurnAudioStore store = new TurnAudioStore(Runnable::run, "supertone", MAX_BYTES);
+        byte[] audio = "wav-bytes".getBytes();
+
+        // when
+        String audioId = store.submit(USER_ID, () -> audio);
+        TurnAudioStore.TurnAudio result = store.get(USER_ID, audioId);
+
+        // then
+        assertThat(result.getData()).isEqualTo(audio);
+        assertThat(result.getContentType()).isEqualTo("audio/wav");
+    }
+
+    @Test
+    @DisplayName("설정 제공자와 다른 형식의 음성이면 음성 바이트 기준 Content-Type 반환")
+    void contentTypeDetectedFromAudio() {
+        // given: supertone 설정이지만 Azure로 전환되어 MP3(ID3 태그) 생성
+        TurnAudioStore store = new TurnAudioStore(Runnable::run, "supertone", MAX_BYTES);
+        byte[] mp3 = "ID3-mp3-bytes".getBytes();
+
+        // when
+        String audioId = store.submit(USER_ID, () -> mp3);
+        TurnAudioStore.TurnAudio result = store.get(USER_ID, audioId);
+
+        // then
+        assertThat(result.getContentType()).isEqualTo("audio/mpeg");
+    }
+
+    @Test
+    @DisplayName("TTS 진행 중이면 완료될 때까지 대기 후 반환")
+    void getWaitsForPendingTts() throws Exception {
+        // given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        TurnAudioStore store = new TurnAudioStore(executor, "azure", MAX_BYTES);
+
+        try {
+            String audioId = store.submit(USER_ID, () -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "mp3".getBytes();
+            });
+
+            // when
+            release.countDown();
+            TurnAudioStore.TurnAudio result = store.get(USER_ID, audioId);
+
+            // then
+            assertThat(result.getData()).isEqualTo("mp3".getBytes());
+            assertThat(result.getContentType()).isEqualTo("audio/mpeg");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 audioId 또는 없는 audioId는 TurnAudioNotFoundException")
+    void getRejectsOtherUserAndUnknownId() {
+        // given
+        TurnAudioStore store = new TurnAudioStore(Runnable::run, "supertone", MAX_BYTES);
+        String audioId = store.submit(USER_ID, () -> new byte[]{1});
+
+        // when & then
+        assertThatThrownBy(() -> store.get(2L, audioId))
+                .isInstanceOf(TurnAudioNotFoundException.class);
+        assertThatThrownBy(() -> store.get(USER_ID, "unknown"))
+                .isInstanceOf(TurnAudioNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("보관 상한은 개수가 아닌 음성 바이트 수 기준 - 넘으면 음성을 제거")
+    void boundedByAudioBytes() {
+        // given: 1KB 상한
+        TurnAudioStore store = new TurnAudioStore(Runnable::run, "supertone", 1024);
+
+        // when: 400B 음성 5개 (합계 2,000B)
+        for (int i = 0; i < 5; i++) {
+            store.put(USER_ID, new byte[400]);
+        }
+
+        // then
+        assertThat(store.residentBytes()).isLessThanOrEqualTo(1024);
+    }
+
+    @Test
+    @DisplayName("생성 중인 음성은 최소 가중치로 두고 완료되면 실제 바이트 수로 반영")
+    void pendingAudioReweighedOnCompletion() throws Exception {
+        // given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        TurnAudioStore store = new TurnAudioStore(executor, "supertone", MAX_BYTES);
+
+        try {
+            String audioId = store.submit(USER_ID, () -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new byte[500];
+            });
+            assertThat(store.residentBytes()).isEqualTo(1);
+
+            // when
+            release.countDown();
+            store.get(USER_ID, audioId);
+
+            // then: 완료 콜백은 TTS 스레드에서 실행되므로 잠시 대기
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (store.residentBytes() != 500 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(store.residentBytes()).isEqualTo(500);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("TTS 실패 시 원래 예외를 그대로 전달 (크레딧 부족 → 503 매핑 유지)")
+    void getPropagatesTtsFailure() {
+        // given
+        TurnAudioStore store = new TurnAudioStore(Runnable::run, "supertone", MAX_BYTES);
+        String audioId = store.submit(USER_ID, () -> {
+            throw new SupertoneInsufficientCreditException("크레딧 부족");
+        });
+
+        // when & then
+        assertThatThrownBy(() -> store.get(USER_ID, audioId))
+                .isInstanceOf(SupertoneInsufficientCreditException.class);
+    }
+}
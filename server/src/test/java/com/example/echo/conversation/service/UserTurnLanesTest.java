@@ -0,0 +1,189 @@
+package com.example.echo.conversation.service;
+
+import com.example.echo.conversation.exception.ConversationBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("UserTurnLanes 테스트")
+class UserTurnLanesTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserTurnLanes lanes;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lanes = new UserTurnLanes(meterRegistry, 5_000);
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /** 해제 신호가 올 때까지 붙잡고 있는 작업 */
+    private String blockUntil(CountDownLatch started, CountDownLatch release, String result) {
+        started.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+
+    @Nested
+    @DisplayName("실행 순서")
+    class Ordering {
+
+        @Test
+        @DisplayName("같은 사용자의 턴은 앞선 턴이 끝난 뒤 실행한다")
+        void serializesSameUser() throws Exception {
+            // given
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Future<String> first = executor.submit(() ->
+                    lanes.runInLane(1L, () -> blockUntil(started, release, "첫 번째")));
+            started.await(5, TimeUnit.SECONDS);
+
+            // when
+            AtomicInteger secondRan = new AtomicInteger();
+            Future<Integer> second = executor.submit(() -> lanes.runInLane(1L, secondRan::incrementAndGet));
+            Thread.sleep(100);
+
+            // then
+            assertThat(secondRan.get()).isZero();
+            assertThat(meterRegistry.get("conversation.lane.queued").gauge().value()).isEqualTo(1.0);
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("첫 번째");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+            assertThat(meterRegistry.get("conversation.lane.active").gauge().value()).isZero();
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 턴은 기다리지 않는다")
+        void otherUsersRunInParallel() throws Exception {
+            // given
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            executor.submit(() -> lanes.runInLane(1L, () -> blockUntil(started, release, "사용자 1")));
+            started.await(5, TimeUnit.SECONDS);
+
+            try {
+                // when
+                String result = lanes.runInLane(2L, () -> "사용자 2");
+
+                // then
+                assertThat(result).isEqualTo("사용자 2");
+            } finally {
+                release.countDown();
+            }
+        }
+
+        @Test
+        @DisplayName("대기 상한 안에 레인을 얻지 못하면 ConversationBusyException")
+        void throwsWhenWaitTimesOut() throws Exception {
+            // given
+            UserTurnLanes shortWait = new UserTurnLanes(meterRegistry, 50);
+            UserTurnLanes.Permit held = shortWait.acquire(1L);
+
+            try {
+                // when & then
+                assertThatThrownBy(() -> shortWait.runInLane(1L, () -> "두 번째"))
+                        .isInstanceOf(ConversationBusyException.class);
+            } finally {
+                held.release();
+            }
+            assertThat(shortWait.runInLane(1L, () -> "다시 시도")).isEqualTo("다시 시도");
+        }
+    }
+
+    @Nested
+    @DisplayName("중복 요청 병합")
+    class Coalescing {
+
+        @Test
+        @DisplayName("실행 중인 같은 요청은 다시 실행하지 않고 같은 결과를 받는다")
+        void sharesResultOfRunningRequest() throws Exception {
+            // given
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger calls = new AtomicInteger();
+            Future<String> first = executor.submit(() -> lanes.execute(1L, "message", "audio-hash", () -> {
+                calls.incrementAndGet();
+                return blockUntil(started, release, "응답");
+            }));
+            started.await(5, TimeUnit.SECONDS);
+
+            // when
+            Future<String> duplicate = executor.submit(() -> lanes.execute(1L, "message", "audio-hash", () -> {
+                calls.incrementAndGet();
+                return "중복 실행";
+            }));
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("응답");
+            assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo("응답");
+            assertThat(calls.get()).isEqualTo(1);
+            assertThat(meterRegistry.counter("conversation.lane.coalesced", "operation", "message").count())
+                    .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("먼저 온 요청이 실패하면 병합된 요청도 같은 예외를 받는다")
+        void sharesFailure() throws Exception {
+            // given
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Future<String> first = executor.submit(() -> lanes.execute(1L, "start", "body", () -> {
+                blockUntil(started, release, null);
+                throw new IllegalStateException("AI 응답 생성 실패");
+            }));
+            started.await(5, TimeUnit.SECONDS);
+
+            // when
+            Future<String> duplicate = executor.submit(() -> lanes.execute(1L, "start", "body", () -> "중복 실행"));
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> duplicate.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("AI 응답 생성 실패");
+        }
+
+        @Test
+        @DisplayName("입력이 다르거나 앞선 요청이 끝난 뒤에 온 요청은 새로 실행한다")
+        void runsAgainForDifferentOrLaterRequest() {
+            // given
+            AtomicInteger calls = new AtomicInteger();
+
+            // when
+            lanes.execute(1L, "message", "audio-1", calls::incrementAndGet);
+            lanes.execute(1L, "message", "audio-2", calls::incrementAndGet);
+            lanes.execute(1L, "message", "audio-2", calls::incrementAndGet);
+
+            // then
+            assertThat(calls.get()).isEqualTo(3);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.echo.diary.repository;
+
+import com.example.echo.diary.entity.Diary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.datasource.url=jdbc:h2:mem:testdb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class DiaryRepositoryTest {
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    private final Long TEST_USER_ID = 1L;
+    private final LocalDate TODAY = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        diaryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("keyset 페이지네이션 - before 이전 일기만 최신순으로 조회")
+    void keysetPagination() {
+        // Given
+        for (int i = 5; i >= 1; i--) {
+            diaryRepository.save(createDiary(TEST_USER_ID, TODAY.minusDays(i)));
+        }
+        diaryRepository.save(createDiary(2L, TODAY));
+
+        // When
+        List<Diary> firstPage = diaryRepository.findByUserIdOrderByIdDesc(TEST_USER_ID, PageRequest.of(0, 2));
+        List<Diary> nextPage = diaryRepository.findByUserIdAndIdLessThanOrderByIdDesc(
+                TEST_USER_ID, firstPage.get(1).getId(), PageRequest.of(0, 2));
+
+        // Then
+        assertThat(firstPage).extracting(Diary::getDiaryDate)
+                .containsExactly(TODAY.minusDays(1), TODAY.minusDays(2));
+        assertThat(nextPage).extracting(Diary::getDiaryDate)
+                .containsExactly(TODAY.minusDays(3), TODAY.minusDays(4));
+    }
+
+    @Test
+    @DisplayName("findByUserIdAndDiaryDate - 해당 사용자의 날짜별 일기 조회")
+    void findByUserIdAndDiaryDate() {
+        // Given
+        diaryRepository.save(createDiary(TEST_USER_ID, TODAY));
+
+        // When & Then
+        assertThat(diaryRepository.findByUserIdAndDiaryDate(TEST_USER_ID, TODAY)).isPresent();
+        assertThat(diaryRepository.findByUserIdAndDiaryDate(2L, TODAY)).isEmpty();
+    }
+
+    private Diary createDiary(Long userId, LocalDate date) {
+        return Diary.builder()
+                .userId(userId)
+                .diaryDate(date)
+                .title(date.getMonthValue() + "월 " + date.getDayOfMonth() + "일의 일기")
+                .content("오늘은 산책을 했다.")
+                .build();
+    }
+}
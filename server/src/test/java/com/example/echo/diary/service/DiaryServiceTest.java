@@ -0,0 +1,233 @@
+package com.example.echo.diary.service;
+
+import com.example.echo.ai.service.AIService;
+import com.example.echo.context.domain.ConversationTurn;
+import com.example.echo.context.domain.UserContext;
+import com.example.echo.diary.dto.DiaryJobPayload;
+import com.example.echo.diary.dto.DiaryResponse;
+import com.example.echo.diary.entity.Diary;
+import com.example.echo.diary.exception.DiaryNotFoundException;
+import com.example.echo.diary.repository.DiaryRepository;
+import com.example.echo.prompt.service.PromptService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DiaryService 테스트")
+class DiaryServiceTest {
+
+    @Mock
+    private DiaryRepository diaryRepository;
+
+    @Mock
+    private PromptService promptService;
+
+    @Mock
+    private AIService aiService;
+
+    private DiaryService diaryService;
+
+    private final Long userId = 1L;
+    private final LocalDate date = LocalDate.of(2026, 3, 7);
+
+    @BeforeEach
+    void setUp() {
+        diaryService = new DiaryService(diaryRepository, promptService, aiService, 500);
+    }
+
+    @Nested
+    @DisplayName("generateAndSaveDiary 메서드")
+    class GenerateAndSaveDiary {
+
+        @Test
+        @DisplayName("성공: 히스토리 압축 요약 + 요약 이후 턴만으로 일기를 생성해 저장한다")
+        void success_usesSummaryAndTail() {
+            // given
+            DiaryJobPayload job = payload("공원에 산책을 다녀오셨다.", 2,
+                    turn(null, "안녕하세요!"),
+                    turn("오늘 공원에 갔어요", "좋으셨겠어요!"),
+                    turn("손녀가 전화했어요", "반가우셨겠네요!"));
+            given(diaryRepository.findByUserIdAndDiaryDate(userId, date)).willReturn(Optional.empty());
+            given(promptService.buildDiaryPrompt(eq("홍길동"), eq("- 걸음 수: 5,000보"), any())).willReturn("일기 프롬프트");
+            given(aiService.complete(null, "일기 프롬프트", 500)).willReturn("오늘은 공원에 다녀왔다.");
+
+            // when
+            diaryService.generateAndSaveDiary(job);
+
+            // then
+            ArgumentCaptor<String> historyCaptor = ArgumentCaptor.forClass(String.class);
+            then(promptService).should().buildDiaryPrompt(any(), any(), historyCaptor.capture());
+            assertThat(historyCaptor.getValue())
+                    .contains("[대화 요약]\n공원에 산책을 다녀오셨다.")
+                    .contains("사용자: 손녀가 전화했어요")
+                    .doesNotContain("오늘 공원에 갔어요");
+
+            ArgumentCaptor<Diary> diaryCaptor = ArgumentCaptor.forClass(Diary.class);
+            then(diaryRepository).should().save(diaryCaptor.capture());
+            assertThat(diaryCaptor.getValue().getTitle()).isEqualTo("3월 7일의 일기");
+            assertThat(diaryCaptor.getValue().getContent()).isEqualTo("오늘은 공원에 다녀왔다.");
+            assertThat(diaryCaptor.getValue().getWeather()).isEqualTo("맑음");
+        }
+
+        @Test
+        @DisplayName("작업 입력 요약은 대화 중 히스토리 압축 요약을 그대로 사용한다 (일기용 요약 LLM 호출 없음)")
+        void payload_usesHistoryCompactionSummary() {
+            // given
+            UserContext context = UserContext.builder()
+                    .userId(userId)
+                    .date(date)
+                    .conversationHistory(new ArrayList<>(List.of(
+                            turn("오늘 공원에 갔어요", "좋으셨겠어요!"),
+                            turn("손녀가 전화했어요", "반가우셨겠네요!"))))
+                    .historySummary("공원에 산책을 다녀오셨다.")
+                    .historySummaryTurnCount(1)
+                    .build();
+
+            // when
+            DiaryJobPayload job = DiaryJobPayload.from(context);
+
+            // then
+            assertThat(job.getRollingSummary()).isEqualTo("공원에 산책을 다녀오셨다.");
+            assertThat(job.getSummarizedTurnCount()).isEqualTo(1);
+            assertThat(job.getConversationHistory()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("성공: 요약이 없으면 전체 대화를 사용한다")
+        void success_withoutSummaryUsesFullHistory() {
+            // given
+            DiaryJobPayload job = payload(null, 0,
+                    turn("오늘 공원에 갔어요", "좋으셨겠어요!"));
+            given(diaryRepository.findByUserIdAndDiaryDate(userId, date)).willReturn(Optional.empty());
+            given(promptService.buildDiaryPrompt(any(), any(), any())).willReturn("일기 프롬프트");
+            given(aiService.complete(any(), any(), anyInt())).willReturn("일기");
+
+            // when
+            diaryService.generateAndSaveDiary(job);
+
+            // then
+            then(promptService).should().buildDiaryPrompt(any(), any(),
+                    eq("사용자: 오늘 공원에 갔어요\nAI: 좋으셨겠어요!"));
+        }
+
+        @Test
+        @DisplayName("같은 날 일기가 있으면 기존 본문을 함께 넘겨 다시 작성한다")
+        void existingDiary_rewritten() {
+            // given
+            Diary existing = Diary.builder()
+                    .userId(userId).diaryDate(date).title("3월 7일의 일기").content("아침에 산책했다.").build();
+            DiaryJobPayload job = payload(null, 0, turn("저녁에 국수 먹었어요", "맛있으셨겠어요!"));
+            given(diaryRepository.findByUserIdAndDiaryDate(userId, date)).willReturn(Optional.of(existing));
+            given(promptService.buildDiaryPrompt(any(), any(), any())).willReturn("일기 프롬프트");
+            given(aiService.complete(any(), any(), anyInt())).willReturn("아침에 산책하고 저녁에 국수를 먹었다.");
+
+            // when
+            diaryService.generateAndSaveDiary(job);
+
+            // then
+            ArgumentCaptor<String> historyCaptor = ArgumentCaptor.forClass(String.class);
+            then(promptService).should().buildDiaryPrompt(any(), any(), historyCaptor.capture());
+            assertThat(historyCaptor.getValue()).contains("아침에 산책했다.").contains("저녁에 국수 먹었어요");
+            then(diaryRepository).should().save(existing);
+            assertThat(existing.getContent()).isEqualTo("아침에 산책하고 저녁에 국수를 먹었다.");
+        }
+
+        @Test
+        @DisplayName("사용자 발화가 없으면 일기를 만들지 않는다")
+        void noUserMessage_skips() {
+            // given
+            DiaryJobPayload job = payload(null, 0, turn(null, "안녕하세요!"));
+
+            // when
+            diaryService.generateAndSaveDiary(job);
+
+            // then
+            then(aiService).should(never()).complete(any(), any(), anyInt());
+            then(diaryRepository).should(never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("일기 조회")
+    class ReadDiaries {
+
+        @Test
+        @DisplayName("before가 없으면 첫 페이지, 있으면 keyset 조회를 사용한다")
+        void getDiaries_keyset() {
+            // given
+            given(diaryRepository.findByUserIdOrderByIdDesc(eq(userId), any(Pageable.class))).willReturn(List.of());
+            given(diaryRepository.findByUserIdAndIdLessThanOrderByIdDesc(eq(userId), eq(10L), any(Pageable.class)))
+                    .willReturn(List.of(diary(userId)));
+
+            // when
+            List<DiaryResponse> first = diaryService.getDiaries(userId, null, 20);
+            List<DiaryResponse> next = diaryService.getDiaries(userId, 10L, 500);
+
+            // then
+            assertThat(first).isEmpty();
+            assertThat(next).hasSize(1);
+            ArgumentCaptor<Pageable> pageCaptor = ArgumentCaptor.forClass(Pageable.class);
+            then(diaryRepository).should().findByUserIdAndIdLessThanOrderByIdDesc(eq(userId), eq(10L), pageCaptor.capture());
+            assertThat(pageCaptor.getValue().getPageSize()).isEqualTo(50);
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 일기는 DiaryNotFoundException")
+        void getDiary_otherUser() {
+            // given
+            given(diaryRepository.findById(5L)).willReturn(Optional.of(diary(2L)));
+
+            // when & then
+            assertThatThrownBy(() -> diaryService.getDiary(userId, 5L))
+                    .isInstanceOf(DiaryNotFoundException.class);
+        }
+    }
+
+    private DiaryJobPayload payload(String summary, int summarizedTurnCount, ConversationTurn... turns) {
+        return DiaryJobPayload.builder()
+                .userId(userId)
+                .date(date)
+                .userName("홍길동")
+                .todayContext("- 걸음 수: 5,000보")
+                .weather("맑음")
+                .rollingSummary(summary)
+                .summarizedTurnCount(summarizedTurnCount)
+                .conversationHistory(List.of(turns))
+                .build();
+    }
+
+    private ConversationTurn turn(String userMessage, String aiResponse) {
+        return ConversationTurn.builder()
+                .userMessage(userMessage)
+                .aiResponse(aiResponse)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    private Diary diary(Long ownerId) {
+        return Diary.builder()
+                .userId(ownerId).diaryDate(date).title("3월 7일의 일기").content("내용").build();
+    }
+}
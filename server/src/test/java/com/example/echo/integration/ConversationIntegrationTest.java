@@ -57,7 +57,7 @@ class ConversationIntegrationTest {
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").isNotEmpty())
-                .andExpect(jsonPath("$.audioData").isNotEmpty())
+                .andExpect(jsonPath("$.audioUrl").isNotEmpty())
                 .andExpect(jsonPath("$.timestamp").isNotEmpty())
                 .andReturn();
 
@@ -67,7 +67,7 @@ class ConversationIntegrationTest {
         System.out.println("응답: " + responseBody.substring(0, Math.min(200, responseBody.length())) + "...");
 
         assertThat(responseBody).contains("message");
-        assertThat(responseBody).contains("audioData");
+        assertThat(responseBody).contains("audioUrl");
     }
 
     @Test
@@ -97,7 +97,7 @@ class ConversationIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.userMessage").isNotEmpty())
                 .andExpect(jsonPath("$.aiResponse").isNotEmpty())
-                .andExpect(jsonPath("$.audioData").isNotEmpty())
+                .andExpect(jsonPath("$.audioUrl").isNotEmpty())
                 .andReturn();
 
         // Then
@@ -264,7 +264,7 @@ class HealthDataE2EFlowTest {
                     .andDo(print())
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.message").isNotEmpty())
-                    .andExpect(jsonPath("$.audioData").isNotEmpty())
+                    .andExpect(jsonPath("$.audioUrl").isNotEmpty())
                     .andReturn();
 
             String startResponse = startResult.getResponse().getContentAsString();
@@ -309,7 +309,7 @@ class HealthDataE2EFlowTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.userMessage").isNotEmpty())
                     .andExpect(jsonPath("$.aiResponse").isNotEmpty())
-                    .andExpect(jsonPath("$.audioData").isNotEmpty())
+                    .andExpect(jsonPath("$.audioUrl").isNotEmpty())
                     .andReturn();
 
             String messageResponse = messageResult.getResponse().getContentAsString();
@@ -330,7 +330,7 @@ class HealthDataE2EFlowTest {
 
             MvcResult retryResult = mockMvc.perform(post("/api/conversations/tts-retry"))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.audioData").isNotEmpty())
+                    .andExpect(jsonPath("$.audioUrl").isNotEmpty())
                     .andReturn();
 
             System.out.println("TTS 재시도 성공: 오디오 데이터 수신");
@@ -0,0 +1,99 @@
+package com.example.echo.job.repository;
+
+import com.example.echo.job.entity.BackgroundJob;
+import com.example.echo.job.entity.JobStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.datasource.url=jdbc:h2:mem:testdb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class BackgroundJobRepositoryTest {
+
+    @Autowired
+    private BackgroundJobRepository jobRepository;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository.deleteAll();
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    @DisplayName("findClaimableIds - 실행 시각이 된 PENDING 작업만 오래된 순으로 조회")
+    void findClaimableIds_pendingDue() {
+        // Given
+        BackgroundJob older = jobRepository.save(createJob(now.minusMinutes(5)));
+        BackgroundJob newer = jobRepository.save(createJob(now.minusMinutes(1)));
+        jobRepository.save(createJob(now.plusMinutes(10)));  // 재시도 대기 중
+
+        // When
+        List<Long> ids = jobRepository.findClaimableIds(now, PageRequest.of(0, 10));
+
+        // Then
+        assertThat(ids).containsExactly(older.getId(), newer.getId());
+    }
+
+    @Test
+    @DisplayName("claim - 점유 성공 시 RUNNING으로 바뀌고 같은 작업은 다시 점유되지 않음")
+    void claim_onlyOnce() {
+        // Given
+        BackgroundJob job = jobRepository.save(createJob(now.minusSeconds(1)));
+
+        // When
+        int first = jobRepository.claim(job.getId(), "worker-a", now.plusMinutes(5), now);
+        int second = jobRepository.claim(job.getId(), "worker-b", now.plusMinutes(5), now);
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        BackgroundJob claimed = jobRepository.findById(job.getId()).orElseThrow();
+        assertThat(claimed.getStatus()).isEqualTo(JobStatus.RUNNING);
+        assertThat(claimed.getLeaseOwner()).isEqualTo("worker-a");
+        assertThat(claimed.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("claim - lease가 만료된 RUNNING 작업은 다른 워커가 다시 점유")
+    void claim_expiredLease() {
+        // Given
+        BackgroundJob job = jobRepository.save(createJob(now.minusMinutes(10)));
+        jobRepository.claim(job.getId(), "worker-a", now.minusMinutes(1), now.minusMinutes(10));
+
+        // When
+        List<Long> ids = jobRepository.findClaimableIds(now, PageRequest.of(0, 10));
+        int reclaimed = jobRepository.claim(job.getId(), "worker-b", now.plusMinutes(5), now);
+
+        // Then
+        assertThat(ids).containsExactly(job.getId());
+        assertThat(reclaimed).isEqualTo(1);
+        BackgroundJob claimed = jobRepository.findById(job.getId()).orElseThrow();
+        assertThat(claimed.getLeaseOwner()).isEqualTo("worker-b");
+        assertThat(claimed.getAttempts()).isEqualTo(2);
+    }
+
+    private BackgroundJob createJob(LocalDateTime nextRunAt) {
+        return BackgroundJob.builder()
+                .jobType("DIARY")
+                .payload("{}")
+                .maxAttempts(5)
+                .nextRunAt(nextRunAt)
+                .build();
+    }
+}
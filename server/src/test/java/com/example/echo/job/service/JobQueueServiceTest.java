@@ -0,0 +1,179 @@
+package com.example.echo.job.service;
+
+import com.example.echo.job.entity.BackgroundJob;
+import com.example.echo.job.entity.JobStatus;
+import com.example.echo.job.repository.BackgroundJobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobQueueService 테스트")
+class JobQueueServiceTest {
+
+    private static final String WORKER_ID = "worker-1";
+
+    @Mock
+    private BackgroundJobRepository jobRepository;
+
+    private JobQueueService jobQueueService;
+
+    @BeforeEach
+    void setUp() {
+        // maxAttempts 3, lease 300초, 백오프 30초부터 2배씩 최대 100초
+        jobQueueService = new JobQueueService(jobRepository, new ObjectMapper(), 3, 300, 30, 100);
+    }
+
+    @Test
+    @DisplayName("enqueue - payload를 JSON으로 저장하고 즉시 실행 가능한 PENDING 작업으로 등록")
+    void enqueue_savesPendingJob() {
+        // given
+        given(jobRepository.save(any(BackgroundJob.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        jobQueueService.enqueue("DIARY", Map.of("userId", 1));
+
+        // then
+        ArgumentCaptor<BackgroundJob> captor = ArgumentCaptor.forClass(BackgroundJob.class);
+        then(jobRepository).should().save(captor.capture());
+        BackgroundJob saved = captor.getValue();
+        assertThat(saved.getJobType()).isEqualTo("DIARY");
+        assertThat(saved.getPayload()).isEqualTo("{\"userId\":1}");
+        assertThat(saved.getStatus()).isEqualTo(JobStatus.PENDING);
+        assertThat(saved.getMaxAttempts()).isEqualTo(3);
+        assertThat(saved.getNextRunAt()).isBeforeOrEqualTo(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("claim - 다른 워커가 먼저 가져간 작업은 제외")
+    void claim_skipsJobsTakenByOthers() {
+        // given
+        given(jobRepository.findClaimableIds(any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(1L, 2L));
+        given(jobRepository.claim(eq(1L), eq(WORKER_ID), any(), any())).willReturn(1);
+        given(jobRepository.claim(eq(2L), eq(WORKER_ID), any(), any())).willReturn(0);
+        BackgroundJob job = runningJob(1);
+        given(jobRepository.findAllById(List.of(1L))).willReturn(List.of(job));
+
+        // when
+        List<BackgroundJob> claimed = jobQueueService.claim(WORKER_ID, 2);
+
+        // then
+        assertThat(claimed).containsExactly(job);
+    }
+
+    @Nested
+    @DisplayName("fail 메서드")
+    class Fail {
+
+        @Test
+        @DisplayName("시도 횟수가 남았으면 지수 백오프 후 PENDING으로 되돌림")
+        void retriesWithBackoff() {
+            // given
+            BackgroundJob job = runningJob(2);
+            given(jobRepository.findById(1L)).willReturn(Optional.of(job));
+
+            // when
+            boolean retrying = jobQueueService.fail(1L, WORKER_ID, "timeout");
+
+            // then: 2번째 시도 실패 → 30 * 2 = 60초 후
+            assertThat(retrying).isTrue();
+            assertThat(job.getStatus()).isEqualTo(JobStatus.PENDING);
+            assertThat(job.getLastError()).isEqualTo("timeout");
+            assertThat(job.getLeaseOwner()).isNull();
+            assertThat(job.getNextRunAt()).isAfter(LocalDateTime.now().plusSeconds(50));
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수에 도달하면 DEAD로 보관")
+        void deadLettersAfterMaxAttempts() {
+            // given
+            BackgroundJob job = runningJob(3);
+            given(jobRepository.findById(1L)).willReturn(Optional.of(job));
+
+            // when
+            boolean retrying = jobQueueService.fail(1L, WORKER_ID, "LLM 오류");
+
+            // then
+            assertThat(retrying).isFalse();
+            assertThat(job.getStatus()).isEqualTo(JobStatus.DEAD);
+        }
+
+        @Test
+        @DisplayName("lease가 만료되어 다른 워커가 가져간 작업은 결과를 기록하지 않음")
+        void ignoresWhenLeaseLost() {
+            // given
+            BackgroundJob job = runningJob(1);
+            given(jobRepository.findById(1L)).willReturn(Optional.of(job));
+
+            // when
+            boolean retrying = jobQueueService.fail(1L, "other-worker", "timeout");
+
+            // then
+            assertThat(retrying).isFalse();
+            assertThat(job.getStatus()).isEqualTo(JobStatus.RUNNING);
+        }
+    }
+
+    @Test
+    @DisplayName("backoffSeconds - 시도마다 2배, 상한 적용")
+    void backoffSeconds() {
+        assertThat(jobQueueService.backoffSeconds(1)).isEqualTo(30);
+        assertThat(jobQueueService.backoffSeconds(2)).isEqualTo(60);
+        assertThat(jobQueueService.backoffSeconds(3)).isEqualTo(100);
+        assertThat(jobQueueService.backoffSeconds(50)).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("complete - 점유 중인 작업만 SUCCEEDED 처리")
+    void complete_marksSucceeded() {
+        // given
+        BackgroundJob job = runningJob(1);
+        given(jobRepository.findById(1L)).willReturn(Optional.of(job));
+
+        // when
+        jobQueueService.complete(1L, WORKER_ID);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        then(jobRepository).should(never()).save(any());
+    }
+
+    /**
+     * WORKER_ID가 점유 중이고 attempts번째 시도 중인 작업
+     * (점유는 DB UPDATE로만 일어나므로 테스트에서는 필드를 직접 설정)
+     */
+    private BackgroundJob runningJob(int attempts) {
+        BackgroundJob job = BackgroundJob.builder()
+                .jobType("DIARY")
+                .payload("{}")
+                .maxAttempts(3)
+                .nextRunAt(LocalDateTime.now())
+                .build();
+        ReflectionTestUtils.setField(job, "id", 1L);
+        ReflectionTestUtils.setField(job, "status", JobStatus.RUNNING);
+        ReflectionTestUtils.setField(job, "attempts", attempts);
+        ReflectionTestUtils.setField(job, "leaseOwner", WORKER_ID);
+        return job;
+    }
+}
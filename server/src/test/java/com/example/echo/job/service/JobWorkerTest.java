@@ -0,0 +1,119 @@
+package com.example.echo.job.service;
+
+import com.example.echo.job.entity.BackgroundJob;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobWorker 테스트")
+class JobWorkerTest {
+
+    @Mock
+    private JobQueueService jobQueueService;
+
+    @Mock
+    private JobHandler diaryHandler;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JobWorker jobWorker;
+
+    @BeforeEach
+    void setUp() {
+        given(diaryHandler.jobType()).willReturn("DIARY");
+        meterRegistry = new SimpleMeterRegistry();
+        // 작업을 호출 스레드에서 바로 실행 (비동기 대기 없이 검증)
+        jobWorker = new JobWorker(jobQueueService, List.of(diaryHandler), Runnable::run, meterRegistry, 2);
+        ReflectionTestUtils.setField(jobWorker, "enabled", true);
+    }
+
+    @Test
+    @DisplayName("poll - 점유한 작업을 핸들러로 처리하고 완료 기록")
+    void poll_handlesAndCompletes() throws Exception {
+        // given
+        BackgroundJob job = job(1L, "DIARY");
+        given(jobQueueService.claim(jobWorker.getWorkerId(), 2)).willReturn(List.of(job));
+
+        // when
+        jobWorker.poll();
+
+        // then
+        then(diaryHandler).should().handle("{\"userId\":1}");
+        then(jobQueueService).should().complete(1L, jobWorker.getWorkerId());
+        assertThat(meterRegistry.counter("jobs.processed", "type", "DIARY", "result", "success").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("poll - 핸들러 예외 시 실패 기록 (재시도 판단은 JobQueueService)")
+    void poll_recordsFailure() throws Exception {
+        // given
+        BackgroundJob job = job(1L, "DIARY");
+        given(jobQueueService.claim(jobWorker.getWorkerId(), 2)).willReturn(List.of(job));
+        willThrow(new IllegalStateException("LLM 오류")).given(diaryHandler).handle(anyString());
+        given(jobQueueService.fail(eq(1L), eq(jobWorker.getWorkerId()), anyString())).willReturn(true);
+
+        // when
+        jobWorker.poll();
+
+        // then
+        then(jobQueueService).should(never()).complete(1L, jobWorker.getWorkerId());
+        assertThat(meterRegistry.counter("jobs.processed", "type", "DIARY", "result", "retry").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("poll - 처리할 핸들러가 없는 작업은 재시도 없이 DEAD 처리")
+    void poll_unknownTypeIsDeadLettered() {
+        // given
+        BackgroundJob job = job(2L, "UNKNOWN");
+        given(jobQueueService.claim(jobWorker.getWorkerId(), 2)).willReturn(List.of(job));
+
+        // when
+        jobWorker.poll();
+
+        // then
+        then(jobQueueService).should().deadLetter(eq(2L), eq(jobWorker.getWorkerId()), anyString());
+    }
+
+    @Test
+    @DisplayName("poll - 비활성화 시 큐를 조회하지 않음")
+    void poll_disabled() {
+        // given
+        ReflectionTestUtils.setField(jobWorker, "enabled", false);
+
+        // when
+        jobWorker.poll();
+
+        // then
+        then(jobQueueService).should(never()).claim(anyString(), anyInt());
+    }
+
+    private BackgroundJob job(Long id, String jobType) {
+        BackgroundJob job = BackgroundJob.builder()
+                .jobType(jobType)
+                .payload("{\"userId\":1}")
+                .maxAttempts(5)
+                .nextRunAt(LocalDateTime.now())
+                .build();
+        ReflectionTestUtils.setField(job, "id", id);
+        return job;
+    }
+}
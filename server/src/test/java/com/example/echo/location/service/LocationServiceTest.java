@@ -4,25 +4,26 @@ import com.example.echo.common.client.WeatherClient;
 import com.example.echo.common.dto.VisitWeather;
 import com.example.echo.location.dto.GeocodingResult;
 import com.example.echo.location.dto.LocationData;
-import org.junit.jupiter.api.Disabled;
 import com.example.echo.location.dto.RawLocationData;
 import com.example.echo.location.dto.RawVisitedPlace;
+import com.example.echo.location.dto.VisitedPlace;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalTime;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
-@Disabled("GeocodingClient 인터페이스 변경으로 인해 비활성화 - getCityName → reverseGeocode 리팩토링 필요")
 @ExtendWith(MockitoExtension.class)
 class LocationServiceTest {
 
@@ -32,9 +33,14 @@ class LocationServiceTest {
     @Mock
     private WeatherClient weatherClient;
 
-    @InjectMocks
     private LocationService locationService;
 
+    @BeforeEach
+    void setUp() {
+        // API 호출을 호출 스레드에서 바로 실행 (비동기 대기 없이 검증)
+        locationService = new LocationService(geocodingService, weatherClient, Runnable::run, 4, 4, 2500);
+    }
+
     @Nested
     @DisplayName("enrichLocationData 테스트")
     class EnrichLocationDataTest {
@@ -194,4 +200,111 @@ class LocationServiceTest {
             assertThat(result.getVisitedPlaces().get(0).getWeather().getDescription()).isEqualTo("흐림");
         }
     }
+
+    @Nested
+    @DisplayName("방문 장소 동시 보강 테스트")
+    class ConcurrentEnrichmentTest {
+
+        @Test
+        @DisplayName("같은 좌표/시각의 방문 장소는 역지오코딩·날씨 API를 1회만 호출")
+        void enrichLocationData_deduplicatesCalls() {
+            RawVisitedPlace first = RawVisitedPlace.builder()
+                    .latitude(37.51721)
+                    .longitude(127.04731)
+                    .visitStartTime(LocalTime.of(14, 10))
+                    .stayDurationMinutes(40)
+                    .build();
+            RawVisitedPlace revisit = RawVisitedPlace.builder()
+                    .latitude(37.51722)   // 소수점 4자리 기준 같은 좌표
+                    .longitude(127.04732)
+                    .visitStartTime(LocalTime.of(14, 50))  // 같은 시각(14시)
+                    .stayDurationMinutes(35)
+                    .build();
+
+            RawLocationData raw = RawLocationData.builder()
+                    .visitedPlaces(List.of(first, revisit))
+                    .build();
+
+            when(geocodingService.reverseGeocode(anyDouble(), anyDouble())).thenReturn(
+                    GeocodingResult.builder().placeName("카페").address("서울 강남구").build());
+            when(weatherClient.getWeatherForVisit(anyDouble(), anyDouble(), any(LocalTime.class)))
+                    .thenReturn(VisitWeather.builder().description("맑음").temperature(20).build());
+
+            LocationData result = locationService.enrichLocationData(raw);
+
+            verify(geocodingService, times(1)).reverseGeocode(anyDouble(), anyDouble());
+            verify(weatherClient, times(1)).getWeatherForVisit(anyDouble(), anyDouble(), any());
+            assertThat(result.getVisitedPlaces()).hasSize(2)
+                    .allSatisfy(place -> assertThat(place.getPlaceName()).isEqualTo("카페"));
+            // 원시 좌표/시각은 장소별로 유지
+            assertThat(result.getVisitedPlaces().get(1).getVisitStartTime()).isEqualTo(LocalTime.of(14, 50));
+        }
+
+        @Test
+        @DisplayName("응답 순서와 관계없이 결과는 입력 순서를 유지")
+        void enrichLocationData_preservesInputOrder() {
+            ExecutorService executor = Executors.newFixedThreadPool(3);
+            try {
+                LocationService concurrentService =
+                        new LocationService(geocodingService, weatherClient, executor, 3, 3, 2500);
+                List<RawVisitedPlace> places = List.of(
+                        RawVisitedPlace.builder().latitude(37.1).longitude(127.1).stayDurationMinutes(10).build(),
+                        RawVisitedPlace.builder().latitude(37.2).longitude(127.2).stayDurationMinutes(10).build(),
+                        RawVisitedPlace.builder().latitude(37.3).longitude(127.3).stayDurationMinutes(10).build());
+                RawLocationData raw = RawLocationData.builder().visitedPlaces(places).build();
+
+                // 첫 번째 장소가 가장 늦게 응답
+                when(geocodingService.reverseGeocode(anyDouble(), anyDouble())).thenAnswer(invocation -> {
+                    double lat = invocation.getArgument(0);
+                    if (lat == 37.1) {
+                        Thread.sleep(200);
+                    }
+                    return GeocodingResult.builder().placeName("장소-" + lat).build();
+                });
+
+                LocationData result = concurrentService.enrichLocationData(raw);
+
+                assertThat(result.getVisitedPlaces())
+                        .extracting(VisitedPlace::getPlaceName)
+                        .containsExactly("장소-37.1", "장소-37.2", "장소-37.3");
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("시간 예산 안에 응답하지 않는 API는 기다리지 않고 fallback 값으로 진행")
+        void enrichLocationData_slowProvider_fallsBackWithinBudget() {
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                LocationService budgetedService =
+                        new LocationService(geocodingService, weatherClient, executor, 2, 2, 100);
+                RawLocationData raw = RawLocationData.builder()
+                        .currentLatitude(37.5)
+                        .currentLongitude(127.0)
+                        .visitedPlaces(List.of(
+                                RawVisitedPlace.builder().latitude(37.1).longitude(127.1).stayDurationMinutes(10).build()))
+                        .build();
+                when(geocodingService.getCityName(anyDouble(), anyDouble())).thenAnswer(invocation -> {
+                    Thread.sleep(5_000);
+                    return "서울";
+                });
+                when(geocodingService.reverseGeocode(anyDouble(), anyDouble())).thenAnswer(invocation -> {
+                    Thread.sleep(5_000);
+                    return GeocodingResult.builder().placeName("공원").build();
+                });
+
+                long start = System.nanoTime();
+                LocationData result = budgetedService.enrichLocationData(raw);
+                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+                assertThat(elapsedMs).isLessThan(2_000);
+                assertThat(result.getCurrentCity()).isNull();
+                assertThat(result.getVisitedPlaces()).hasSize(1);
+                assertThat(result.getVisitedPlaces().get(0).getPlaceName()).isNull();
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
 }
@@ -0,0 +1,163 @@
+package com.example.echo.voice.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PhraseBank 테스트")
+class PhraseBankTest {
+
+    private static final long MB = 1024 * 1024;
+
+    @TempDir
+    Path dir;
+
+    private Path file;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger synthesized;
+
+    @BeforeEach
+    void setUp() {
+        file = dir.resolve("phrase-bank.pack");
+        meterRegistry = new SimpleMeterRegistry();
+        synthesized = new AtomicInteger();
+    }
+
+    private PhraseBank bank(long maxBytes) {
+        return new PhraseBank(meterRegistry, true, file, maxBytes);
+    }
+
+    private TtsCacheKey key(FixedPhrase phrase, String style) {
+        return TtsCacheKey.of("supertone", "voice-1", style, "1.0", "sona_speech_2", phrase.getText());
+    }
+
+    private byte[] synthesize(String audio) {
+        synthesized.incrementAndGet();
+        return audio.getBytes();
+    }
+
+    @Test
+    @DisplayName("처음 요청만 합성하고 이후에는 저장된 음성을 반환한다")
+    void rendersOnce() {
+        // given
+        PhraseBank bank = bank(MB);
+        bank.get(key(FixedPhrase.ERROR_FALLBACK, "serene"), () -> synthesize("fallback-serene"));
+
+        // when
+        byte[] audio = bank.get(key(FixedPhrase.ERROR_FALLBACK, "serene"), () -> synthesize("다시 합성"));
+
+        // then
+        assertThat(audio).isEqualTo("fallback-serene".getBytes());
+        assertThat(synthesized.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("tts.phrase.requests", "result", "hit").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("목소리 조건이 다르면 따로 합성해 같은 파일에 저장한다")
+    void storesEachVoiceCondition() throws IOException {
+        // given
+        PhraseBank bank = bank(MB);
+
+        // when
+        byte[] serene = bank.get(key(FixedPhrase.ERROR_FALLBACK, "serene"), () -> synthesize("fallback-serene"));
+        byte[] happy = bank.get(key(FixedPhrase.ERROR_FALLBACK, "happy"), () -> synthesize("fallback-happy"));
+
+        // then
+        assertThat(serene).isEqualTo("fallback-serene".getBytes());
+        assertThat(happy).isEqualTo("fallback-happy".getBytes());
+        assertThat(synthesized.get()).isEqualTo(2);
+        try (var files = Files.list(dir)) {
+            assertThat(files.count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("재시작 후 파일에서 색인을 복원해 다시 합성하지 않는다")
+    void restoresAfterRestart() {
+        // given
+        PhraseBank before = bank(MB);
+        before.get(key(FixedPhrase.ERROR_FALLBACK, "serene"), () -> synthesize("serene"));
+        before.get(key(FixedPhrase.ERROR_FALLBACK, "happy"), () -> synthesize("happy"));
+        before.close();
+
+        // when
+        PhraseBank restarted = bank(MB);
+        byte[] serene = restarted.get(key(FixedPhrase.ERROR_FALLBACK, "serene"), () -> synthesize("다시 합성"));
+        byte[] happy = restarted.get(key(FixedPhrase.ERROR_FALLBACK, "happy"), () -> synthesize("다시 합성"));
+
+        // then
+        assertThat(serene).isEqualTo("serene".getBytes());
+        assertThat(happy).isEqualTo("happy".getBytes());
+        assertThat(synthesized.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("저장 중 종료되어 잘린 마지막 레코드는 버리고 앞의 음성은 유지한다")
+    void dropsTruncatedRecord() throws IOException {
+        // given
+        PhraseBank before = bank(MB);
+        before.get(key(FixedPhrase.ERROR_FALLBACK, "serene"), () -> synthesize("fallback"));
+        before.close();
+        long validSize = Files.size(file);
+        Files.write(file, new byte[]{0x50, 0x48, 0x52}, StandardOpenOption.APPEND);
+
+        // when
+        PhraseBank restarted = bank(MB);
+        byte[] audio = restarted.get(key(FixedPhrase.ERROR_FALLBACK, "serene"), () -> synthesize("다시 합성"));
+
+        // then
+        assertThat(audio).isEqualTo("fallback".getBytes());
+        assertThat(Files.size(file)).isEqualTo(validSize);
+    }
+
+    @Test
+    @DisplayName("합성 실패는 저장하지 않아 다음 요청에서 다시 합성한다")
+    void failureIsNotStored() {
+        // given
+        PhraseBank bank = bank(MB);
+        assertThatThrownBy(() -> bank.get(key(FixedPhrase.ERROR_FALLBACK, "serene"), () -> {
+            throw new IllegalStateException("TTS 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // when
+        byte[] audio = bank.get(key(FixedPhrase.ERROR_FALLBACK, "serene"), () -> synthesize("fallback"));
+
+        // then
+        assertThat(audio).isEqualTo("fallback".getBytes());
+    }
+
+    @Test
+    @DisplayName("용량 상한을 넘는 음성은 저장하지 않고 합성 결과만 반환한다")
+    void skipsWhenFull() throws IOException {
+        // given
+        PhraseBank bank = bank(64);
+
+        // when
+        byte[] first = bank.get(key(FixedPhrase.ERROR_FALLBACK, "serene"), () -> synthesize("x".repeat(100)));
+        bank.get(key(FixedPhrase.ERROR_FALLBACK, "serene"), () -> synthesize("x".repeat(100)));
+
+        // then
+        assertThat(first).hasSize(100);
+        assertThat(synthesized.get()).isEqualTo(2);
+        assertThat(Files.size(file)).isZero();
+    }
+
+    @Test
+    @DisplayName("고정 발화 목록과 같은 문장인지 공백 차이를 무시하고 판단한다")
+    void matchesCatalogText() {
+        assertThat(FixedPhrase.match("  죄송해요,  잠깐 문제가 생겼어요.   조금 뒤에 다시 이야기해 주세요. "))
+                .contains(FixedPhrase.ERROR_FALLBACK);
+        assertThat(FixedPhrase.match("죄송해요, 잠깐 문제가 생겼어요.")).isEmpty();
+        assertThat(FixedPhrase.match(null)).isEmpty();
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.echo.voice.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TtsAudioCache 테스트")
+class TtsAudioCacheTest {
+
+    private static final long MB = 1024 * 1024;
+
+    @TempDir
+    Path cacheDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger synthesized;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        synthesized = new AtomicInteger();
+    }
+
+    private TtsAudioCache cache(long memoryMaxBytes, long diskMaxBytes) {
+        return new TtsAudioCache(meterRegistry, true, memoryMaxBytes, cacheDir, diskMaxBytes);
+    }
+
+    private TtsCacheKey key(String text) {
+        return TtsCacheKey.of("supertone", "voice-1", "serene", "1.0", "sona_speech_2", text);
+    }
+
+    private byte[] synthesize(String text) {
+        synthesized.incrementAndGet();
+        return ("audio:" + text).getBytes();
+    }
+
+    private double requests(String result) {
+        return meterRegistry.counter("tts.cache.requests", "result", result).count();
+    }
+
+    private long diskFileCount() throws IOException {
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    @Nested
+    @DisplayName("캐시 키")
+    class Key {
+
+        @Test
+        @DisplayName("공백과 유니코드 조합 형태만 다른 문장은 같은 키")
+        void normalizesText() {
+            String decomposed = Normalizer.normalize("안녕하세요", Normalizer.Form.NFD);
+
+            assertThat(key(" 안녕하세요,\n어르신 ").hash()).isEqualTo(key("안녕하세요, 어르신").hash());
+            assertThat(key(decomposed).hash()).isEqualTo(key("안녕하세요").hash());
+        }
+
+        @Test
+        @DisplayName("음성 조건이 하나라도 다르면 다른 키")
+        void differsByVoiceCondition() {
+            TtsCacheKey base = key("안녕하세요");
+
+            assertThat(TtsCacheKey.of("supertone", "voice-1", "happy", "1.0", "sona_speech_2", "안녕하세요").hash())
+                    .isNotEqualTo(base.hash());
+            assertThat(TtsCacheKey.of("supertone", "voice-1", "serene", "1.2", "sona_speech_2", "안녕하세요").hash())
+                    .isNotEqualTo(base.hash());
+            assertThat(TtsCacheKey.of("azure", "voice-1", "serene", "1.0", "sona_speech_2", "안녕하세요").hash())
+                    .isNotEqualTo(base.hash());
+        }
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class Lookup {
+
+        @Test
+        @DisplayName("두 번째 요청은 메모리에서 반환하고 절약한 바이트를 기록한다")
+        void memoryHit() {
+            // given
+            TtsAudioCache cache = cache(MB, MB);
+            byte[] first = cache.get(key("안녕하세요"), () -> synthesize("안녕하세요"));
+
+            // when
+            byte[] second = cache.get(key("안녕하세요"), () -> synthesize("안녕하세요"));
+
+            // then
+            assertThat(second).isEqualTo(first);
+            assertThat(synthesized.get()).isEqualTo(1);
+            assertThat(requests("memory")).isEqualTo(1.0);
+            assertThat(meterRegistry.counter("tts.cache.bytes.saved").count()).isEqualTo(first.length);
+        }
+
+        @Test
+        @DisplayName("재시작 후에는 디스크에서 읽어 합성하지 않는다")
+        void diskHitAfterRestart() {
+            // given
+            cache(MB, MB).get(key("좋은 아침이에요"), () -> synthesize("좋은 아침이에요"));
+
+            // when
+            TtsAudioCache restarted = cache(MB, MB);
+            byte[] audio = restarted.get(key("좋은 아침이에요"), () -> synthesize("좋은 아침이에요"));
+
+            // then
+            assertThat(audio).isEqualTo("audio:좋은 아침이에요".getBytes());
+            assertThat(synthesized.get()).isEqualTo(1);
+            assertThat(requests("disk")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("같은 문장을 동시에 요청하면 합성은 한 번만 한다")
+        void singleFlight() throws Exception {
+            // given
+            TtsAudioCache cache = cache(MB, MB);
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            try {
+                Future<byte[]> first = executor.submit(() -> cache.get(key("안녕히 주무세요"), () -> {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return synthesize("안녕히 주무세요");
+                }));
+                started.await(5, TimeUnit.SECONDS);
+
+                // when
+                Future<byte[]> second = executor.submit(() ->
+                        cache.get(key("안녕히 주무세요"), () -> synthesize("안녕히 주무세요")));
+                Thread.sleep(100);
+                release.countDown();
+
+                // then
+                assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(first.get(5, TimeUnit.SECONDS));
+                assertThat(synthesized.get()).isEqualTo(1);
+                assertThat(requests("shared")).isEqualTo(1.0);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("합성 실패는 저장하지 않아 다음 요청에서 다시 합성한다")
+        void failureIsNotCached() {
+            // given
+            TtsAudioCache cache = cache(MB, MB);
+            assertThatThrownBy(() -> cache.get(key("안녕하세요"), () -> {
+                throw new IllegalStateException("TTS 실패");
+            })).isInstanceOf(IllegalStateException.class);
+
+            // when
+            byte[] audio = cache.get(key("안녕하세요"), () -> synthesize("안녕하세요"));
+
+            // then
+            assertThat(audio).isNotEmpty();
+            assertThat(synthesized.get()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("디스크 상한을 넘으면 오래 조회하지 않은 파일부터 삭제한다")
+    void evictsOldestDiskEntries() throws IOException {
+        // given: 파일 1개 약 100바이트, 디스크 상한 1KB
+        TtsAudioCache cache = cache(MB, 1024);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            String text = "문장 " + i + " " + "x".repeat(80);
+            cache.get(key(text), () -> synthesize(text));
+        }
+
+        // then
+        assertThat(meterRegistry.get("tts.cache.disk.bytes").gauge().value()).isLessThanOrEqualTo(1024.0);
+        assertThat(diskFileCount()).isLessThan(20).isPositive();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 매번 합성하고 파일을 만들지 않는다")
+    void disabledCachePassesThrough() throws IOException {
+        // given
+        TtsAudioCache cache = new TtsAudioCache(meterRegistry, false, MB, cacheDir, MB);
+
+        // when
+        cache.get(key("안녕하세요"), () -> synthesize("안녕하세요"));
+        cache.get(key("안녕하세요"), () -> synthesize("안녕하세요"));
+
+        // then
+        assertThat(synthesized.get()).isEqualTo(2);
+        assertThat(diskFileCount()).isZero();
+    }
+}
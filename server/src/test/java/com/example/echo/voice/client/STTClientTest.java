@@ -0,0 +1,270 @@
+package com.example.echo.voice.client;
+
+import com.example.echo.common.resilience.DependencyGuards;
+import com.example.echo.voice.dto.WhisperTranscriptionResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class STTClientTest {
+
+    private HttpServer server;
+    private STTClient client;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        meterRegistry = new SimpleMeterRegistry();
+        client = new STTClient(new ObjectMapper(), meterRegistry, new DependencyGuards(new MockEnvironment(), meterRegistry),
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/v1", "test-key",
+                Duration.ofSeconds(5), Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Test
+    @DisplayName("multipart 본문(필드 + 파일)과 인증 헤더를 Content-Length와 함께 전송")
+    void sendsMultipartRequest() throws IOException {
+        // Given
+        AtomicReference<String> received = new AtomicReference<>();
+        AtomicReference<String> authorization = new AtomicReference<>();
+        AtomicReference<String> contentLength = new AtomicReference<>();
+        server.createContext("/v1/audio/transcriptions", exchange -> {
+            authorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            contentLength.set(exchange.getRequestHeaders().getFirst("Content-Length"));
+            received.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            respond(exchange, 200, "{\"text\":\"안녕하세요\"}");
+        });
+        MockMultipartFile file = new MockMultipartFile("audio", "voice.m4a", "audio/m4a", "AUDIO-BYTES".getBytes());
+
+        // When
+        WhisperTranscriptionResponse response = client.transcribe(file, "whisper-1", "ko", "json");
+
+        // Then
+        assertThat(response.getText()).isEqualTo("안녕하세요");
+        assertThat(authorization.get()).isEqualTo("Bearer test-key");
+        assertThat(Long.parseLong(contentLength.get())).isEqualTo(received.get().getBytes(StandardCharsets.UTF_8).length);
+        assertThat(received.get())
+                .contains("name=\"model\"\r\n\r\nwhisper-1\r\n")
+                .contains("name=\"language\"\r\n\r\nko\r\n")
+                .contains("name=\"response_format\"\r\n\r\njson\r\n")
+                .contains("name=\"file\"; filename=\"voice.m4a\"\r\nContent-Type: audio/m4a\r\n\r\nAUDIO-BYTES\r\n")
+                .endsWith("--\r\n");
+        assertThat(meterRegistry.summary("stt.upload.bytes").totalAmount()).isEqualTo(file.getSize());
+    }
+
+    @Test
+    @DisplayName("2xx가 아닌 응답은 상태 코드를 담아 예외")
+    void errorStatus_throws() {
+        // Given
+        server.createContext("/v1/audio/transcriptions", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            respond(exchange, 400, "{\"error\":{\"message\":\"Invalid file format.\"}}");
+        });
+        MockMultipartFile file = new MockMultipartFile("audio", "voice.wav", "audio/wav", "x".getBytes());
+
+        // When & Then
+        assertThatThrownBy(() -> client.transcribe(file, "whisper-1", "ko", "json"))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("status: 400")
+                .hasMessageContaining("Invalid file format.");
+    }
+
+    @Test
+    @DisplayName("디스크에 저장된 업로드는 파일 전체를 읽지 않고 고정 길이 스트리밍으로 전송")
+    void diskUpload_streamedWithFixedLength(@TempDir Path tempDir) throws IOException {
+        // Given: getBytes()를 호출하면 실패하는 디스크 업로드 (1MB)
+        int fileBytes = 1024 * 1024;
+        Path recording = tempDir.resolve("recording.wav");
+        Files.write(recording, new byte[fileBytes]);
+        AtomicReference<String> contentLength = new AtomicReference<>();
+        AtomicReference<String> transferEncoding = new AtomicReference<>();
+        server.createContext("/v1/audio/transcriptions", exchange -> {
+            contentLength.set(exchange.getRequestHeaders().getFirst("Content-Length"));
+            transferEncoding.set(exchange.getRequestHeaders().getFirst("Transfer-Encoding"));
+            long total = 0;
+            byte[] buffer = new byte[8192];
+            try (InputStream in = exchange.getRequestBody()) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    total += read;
+                }
+            }
+            respond(exchange, 200, "{\"text\":\"" + total + "\"}");
+        });
+
+        // When
+        WhisperTranscriptionResponse response =
+                client.transcribe(new PathMultipartFile(recording), "whisper-1", "ko", "json");
+
+        // Then: 청크 전송이나 전체 버퍼링 없이 미리 계산한 Content-Length만큼 전송
+        long sent = Long.parseLong(response.getText());
+        assertThat(sent).isGreaterThan(fileBytes);
+        assertThat(contentLength.get()).isEqualTo(String.valueOf(sent));
+        assertThat(transferEncoding.get()).isNull();
+    }
+
+    /**
+     * 힙 사용량 측정은 GC 시점에 따라 흔들리고 오래 걸리므로 기본 테스트에서 제외 (./gradlew benchmark)
+     */
+    @Test
+    @Tag("benchmark")
+    @DisplayName("동시 대용량 업로드 중 업로드 1건당 힙 증가량은 파일 크기와 무관하게 작음")
+    void concurrentLargeUploads_boundedHeap(@TempDir Path tempDir) throws Exception {
+        // Given: 디스크 임시 파일로 받은 16MB 녹음 8건을 동시에 전송
+        int uploads = 8;
+        int fileBytes = 16 * 1024 * 1024;
+        Path recording = tempDir.resolve("recording.wav");
+        byte[] block = new byte[1024 * 1024];
+        try (OutputStream out = Files.newOutputStream(recording)) {
+            for (int i = 0; i < fileBytes / block.length; i++) {
+                out.write(block);
+            }
+        }
+
+        // 스텁은 고정 버퍼로 읽다가 절반에서 모든 업로드가 진행 중일 때까지 대기
+        CountDownLatch halfway = new CountDownLatch(uploads);
+        CountDownLatch measured = new CountDownLatch(1);
+        server.createContext("/v1/audio/transcriptions", exchange -> {
+            long total = 0;
+            boolean waited = false;
+            byte[] buffer = new byte[8192];
+            try (InputStream in = exchange.getRequestBody()) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    total += read;
+                    if (!waited && total > fileBytes / 2) {
+                        waited = true;
+                        halfway.countDown();
+                        measured.await(30, TimeUnit.SECONDS);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "{\"text\":\"" + total + "\"}");
+        });
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baseline = memory.getHeapMemoryUsage().getUsed();
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(uploads);
+        List<Future<WhisperTranscriptionResponse>> results = new ArrayList<>();
+        for (int i = 0; i < uploads; i++) {
+            results.add(executor.submit(() -> client.transcribe(new PathMultipartFile(recording), "whisper-1", "ko", "json")));
+        }
+        assertThat(halfway.await(60, TimeUnit.SECONDS)).isTrue();
+        System.gc();
+        long perUpload = Math.max(0, memory.getHeapMemoryUsage().getUsed() - baseline) / uploads;
+        measured.countDown();
+
+        // Then
+        for (Future<WhisperTranscriptionResponse> result : results) {
+            assertThat(Long.parseLong(result.get(60, TimeUnit.SECONDS).getText())).isGreaterThan(fileBytes);
+        }
+        executor.shutdown();
+
+        assertThat(perUpload).isLessThan(fileBytes / 8);
+    }
+
+    /**
+     * 디스크에 저장된 업로드 (Tomcat이 file-size-threshold를 넘는 파트를 임시 파일로 받은 경우와 같음)
+     */
+    private record PathMultipartFile(Path path) implements MultipartFile {
+
+        @Override
+        public String getName() {
+            return "audio";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return path.getFileName().toString();
+        }
+
+        @Override
+        public String getContentType() {
+            return "audio/wav";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getSize() == 0;
+        }
+
+        @Override
+        public long getSize() {
+            try {
+                return Files.size(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new UnsupportedOperationException("스트리밍 경로에서는 파일 전체를 읽지 않아야 함");
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.copy(path, dest.toPath());
+        }
+    }
+}
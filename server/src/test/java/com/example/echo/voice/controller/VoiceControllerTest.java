@@ -1,7 +1,9 @@
 package com.example.echo.voice.controller;
 
 import com.example.echo.user.dto.VoiceSettings;
+import com.example.echo.voice.dto.AudioOutputFormat;
 import com.example.echo.voice.dto.TtsRequest;
+import com.example.echo.voice.exception.NoSpeechDetectedException;
 import com.example.echo.voice.exception.VoiceProcessingException;
 import com.example.echo.voice.service.VoiceService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -18,6 +20,8 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -76,6 +80,21 @@ class VoiceControllerTest {
                     .andExpect(jsonPath("$.error").value("VOICE_PROCESSING_ERROR"))
                     .andExpect(jsonPath("$.message").value("오디오 파일이 비어있습니다."));
         }
+
+        @Test
+        @DisplayName("NoSpeechDetectedException 발생 시 422 + NO_SPEECH_DETECTED 반환")
+        void noSpeech_returns422() throws Exception {
+            MockMultipartFile audioFile = new MockMultipartFile(
+                    "file", "test.wav", "audio/wav", "silence".getBytes()
+            );
+
+            when(voiceService.speechToText(any()))
+                    .thenThrow(new NoSpeechDetectedException("음성이 감지되지 않았습니다. 다시 말씀해 주세요."));
+
+            mockMvc.perform(multipart("/api/voice/stt").file(audioFile))
+                    .andExpect(status().isUnprocessableEntity())
+                    .andExpect(jsonPath("$.error").value("NO_SPEECH_DETECTED"));
+        }
     }
 
     @Nested
@@ -115,6 +134,55 @@ class VoiceControllerTest {
                     .andExpect(header().string("Content-Type", "audio/wav"));
         }
 
+        @Test
+        @DisplayName("다른 제공자로 전환되어 MP3가 오면 audio/mpeg로 응답")
+        void failedOverMp3_returnsMpeg() throws Exception {
+            TtsRequest request = new TtsRequest("안녕하세요", null);
+            byte[] audioData = "ID3-mp3-data".getBytes();
+
+            when(voiceService.textToSpeech(any(), any())).thenReturn(audioData);
+
+            mockMvc.perform(post("/api/voice/tts")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Type", "audio/mpeg"))
+                    .andExpect(header().string("Content-Disposition", "inline; filename=\"speech.mp3\""));
+        }
+
+        @Test
+        @DisplayName("rate/codec 지정 시 요청 형식으로 변환한 음성 반환")
+        void withOutputFormat_converted() throws Exception {
+            TtsRequest request = new TtsRequest("안녕하세요", null);
+            byte[] audioData = "audio".getBytes();
+            byte[] converted = "small".getBytes();
+
+            when(voiceService.textToSpeech(any(), any())).thenReturn(audioData);
+            when(voiceService.convertAudio(audioData, AudioOutputFormat.of(16000, "mulaw"))).thenReturn(converted);
+
+            mockMvc.perform(post("/api/voice/tts")
+                            .param("rate", "16000")
+                            .param("codec", "mulaw")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(content().bytes(converted));
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 코덱은 400 반환 (TTS 호출 없음)")
+        void unsupportedCodec_returns400() throws Exception {
+            TtsRequest request = new TtsRequest("안녕하세요", null);
+
+            mockMvc.perform(post("/api/voice/tts")
+                            .param("codec", "opus")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest());
+
+            verify(voiceService, never()).textToSpeech(any(), any());
+        }
+
         @Test
         @DisplayName("VoiceProcessingException 발생 시 500 + VOICE_PROCESSING_ERROR 반환")
         void voiceProcessingException_returns500() throws Exception {
@@ -0,0 +1,270 @@
+package com.example.echo.voice.provider;
+
+import com.example.echo.user.dto.VoiceSettings;
+import com.example.echo.voice.cache.TtsCacheKey;
+import com.example.echo.voice.exception.SupertoneInsufficientCreditException;
+import com.example.echo.voice.exception.VoiceProcessingException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.OptionalDouble;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TtsProviderRouterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FakeProvider supertone;
+    private FakeProvider azure;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        supertone = new FakeProvider("supertone");
+        azure = new FakeProvider("azure");
+    }
+
+    /** 설정 제공자 supertone, 최근 60초 / 표본 3건 이상 / 오류율 50% 초과 시 후순위 */
+    private TtsProviderRouter router(int windowSeconds) {
+        return new TtsProviderRouter(List.of(azure, supertone), meterRegistry, "supertone",
+                windowSeconds, 200, 3, 0.5, 0);
+    }
+
+    private static List<String> names(List<TtsProvider> providers) {
+        return providers.stream().map(TtsProvider::name).toList();
+    }
+
+    private static void failTimes(TtsProviderRouter router, FakeProvider provider, int times) {
+        provider.failure = new VoiceProcessingException("서버 오류");
+        for (int i = 0; i < times; i++) {
+            assertThatThrownBy(() -> router.synthesize(provider, "텍스트", null))
+                    .isInstanceOf(VoiceProcessingException.class);
+        }
+        provider.failure = null;
+    }
+
+    @Test
+    @DisplayName("모두 정상이면 설정 제공자를 1순위로")
+    void healthy_preferredFirst() {
+        // When
+        List<TtsProvider> order = router(60).route(null);
+
+        // Then
+        assertThat(names(order)).containsExactly("supertone", "azure");
+        assertThat(meterRegistry.counter("tts.router.decisions", "provider", "supertone", "preferred", "true").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최근 오류율이 기준을 넘으면 다른 제공자를 1순위로")
+    void highErrorRate_failsOverToHealthyProvider() {
+        // Given
+        TtsProviderRouter router = router(60);
+        failTimes(router, supertone, 3);
+
+        // When
+        List<TtsProvider> order = router.route(null);
+
+        // Then
+        assertThat(names(order)).containsExactly("azure", "supertone");
+        assertThat(meterRegistry.get("tts.router.error.rate").tag("provider", "supertone").gauge().value())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("tts.router.healthy").tag("provider", "supertone").gauge().value()).isZero();
+        assertThat(meterRegistry.counter("tts.router.decisions", "provider", "azure", "preferred", "false").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("표본이 min-samples보다 적으면 오류가 있어도 순서를 바꾸지 않음")
+    void fewSamples_keepPreferred() {
+        // Given
+        TtsProviderRouter router = router(60);
+        failTimes(router, supertone, 2);
+
+        // When & Then
+        assertThat(names(router.route(null))).containsExactly("supertone", "azure");
+    }
+
+    @Test
+    @DisplayName("시간 창이 지나 오류 기록이 빠지면 설정 제공자로 복귀")
+    void errorsExpire_preferredRecovers() throws InterruptedException {
+        // Given
+        TtsProviderRouter router = router(1);
+        failTimes(router, supertone, 3);
+        assertThat(names(router.route(null))).startsWith("azure");
+
+        // When
+        Thread.sleep(1_100);
+
+        // Then
+        assertThat(names(router.route(null))).startsWith("supertone");
+    }
+
+    @Test
+    @DisplayName("크레딧 소진 오류 후에는 맨 뒤, 다음 크레딧 조회에서 잔액이 있으면 복귀")
+    void creditExhausted_untilRefreshShowsBalance() {
+        // Given
+        TtsProviderRouter router = router(60);
+        supertone.failure = new SupertoneInsufficientCreditException("크레딧 부족");
+        assertThatThrownBy(() -> router.synthesize(supertone, "텍스트", null))
+                .isInstanceOf(SupertoneInsufficientCreditException.class);
+        supertone.failure = null;
+
+        // Then: 오류 1건이라 오류율 기준(표본 3건)과 무관하게 후순위
+        assertThat(names(router.route(null))).containsExactly("azure", "supertone");
+
+        // When
+        supertone.credits = OptionalDouble.of(1200);
+        router.refreshCredits();
+
+        // Then
+        assertThat(names(router.route(null))).containsExactly("supertone", "azure");
+        assertThat(meterRegistry.get("tts.router.credits").tag("provider", "supertone").gauge().value())
+                .isEqualTo(1200);
+    }
+
+    @Test
+    @DisplayName("주기 조회에서 잔액이 min-credits 이하면 후순위, 조회 실패는 이전 상태 유지")
+    void refreshCredits_zeroBalanceDemotes() {
+        // Given
+        TtsProviderRouter router = router(60);
+        supertone.credits = OptionalDouble.of(0);
+        router.refreshCredits();
+        assertThat(names(router.route(null))).containsExactly("azure", "supertone");
+
+        // When
+        supertone.creditFailure = new RuntimeException("잔액 조회 실패");
+        router.refreshCredits();
+
+        // Then
+        assertThat(names(router.route(null))).containsExactly("azure", "supertone");
+    }
+
+    @Test
+    @DisplayName("목소리 설정을 표현할 수 없는 제공자는 제외")
+    void unsupportedVoiceSettings_excluded() {
+        // Given
+        supertone.supported = false;
+
+        // When
+        List<TtsProvider> order = router(60).route(VoiceSettings.builder().voiceTone("warm").build());
+
+        // Then
+        assertThat(names(order)).containsExactly("azure");
+    }
+
+    @Test
+    @DisplayName("성공 응답 시간 p90을 제공자별로 기록")
+    void latencyRecorded() {
+        // Given
+        TtsProviderRouter router = router(60);
+        azure.delayMillis = 50;
+
+        // When
+        router.synthesize(azure, "텍스트", null);
+
+        // Then
+        assertThat(meterRegistry.get("tts.router.latency.p90").tag("provider", "azure").gauge().value())
+                .isGreaterThanOrEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("호출자가 취소한 호출의 실패는 오류율에 기록하지 않음 (헤징에서 진 요청)")
+    void cancelledCalls_notRecorded() {
+        // Given
+        TtsProviderRouter router = router(60);
+        supertone.failure = new VoiceProcessingException("호출 취소",
+                new InterruptedIOException("interrupted"));
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> router.synthesize(supertone, "텍스트", null))
+                    .isInstanceOf(VoiceProcessingException.class);
+        }
+        supertone.failure = new VoiceProcessingException("서버 오류");
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> router.synthesize(supertone, "텍스트", null))
+                    .isInstanceOf(VoiceProcessingException.class);
+        } finally {
+            Thread.interrupted();
+        }
+        supertone.failure = null;
+
+        // When & Then: 표본 3건이 모두 실패였다면 후순위가 되었어야 함
+        assertThat(names(router.route(null))).containsExactly("supertone", "azure");
+        assertThat(meterRegistry.get("tts.router.error.rate").tag("provider", "supertone").gauge().value())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("전환 기록은 from/to 태그로 집계")
+    void failoverCounted() {
+        // When
+        router(60).failover(supertone, azure, new VoiceProcessingException("서버 오류"));
+
+        // Then
+        assertThat(meterRegistry.counter("tts.router.failovers", "from", "supertone", "to", "azure").count())
+                .isEqualTo(1);
+    }
+
+    private static class FakeProvider implements TtsProvider {
+
+        private final String name;
+        private boolean supported = true;
+        private RuntimeException failure;
+        private long delayMillis;
+        private OptionalDouble credits = OptionalDouble.empty();
+        private RuntimeException creditFailure;
+
+        FakeProvider(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public boolean supports(VoiceSettings voiceSettings) {
+            return supported;
+        }
+
+        @Override
+        public TtsCacheKey cacheKey(String text, VoiceSettings voiceSettings) {
+            return TtsCacheKey.of(name, "voice", null, "1.0", null, text);
+        }
+
+        @Override
+        public byte[] synthesize(String text, VoiceSettings voiceSettings) {
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return name.getBytes();
+        }
+
+        @Override
+        public OptionalDouble remainingCredits() {
+            if (creditFailure != null) {
+                throw creditFailure;
+            }
+            return credits;
+        }
+
+        @Override
+        public boolean isCreditExhausted(RuntimeException e) {
+            return e instanceof SupertoneInsufficientCreditException;
+        }
+    }
+}
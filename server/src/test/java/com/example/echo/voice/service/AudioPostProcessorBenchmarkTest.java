@@ -0,0 +1,84 @@
+package com.example.echo.voice.service;
+
+import com.example.echo.voice.dto.AudioOutputFormat;
+import com.example.echo.voice.util.PcmAudio;
+import com.example.echo.voice.util.WavEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TTS 음성 후처리 비용/용량 비교 (기본 test 태스크에서는 제외, ./gradlew benchmark로 실행)
+ *
+ * 입력: 44.1kHz 모노 PCM 10초 (앞뒤 무음 0.5초 + 음절 단위로 끊기는 합성 음성 신호)
+ * 출력: 음성 1초당 변환 CPU 시간, 원본 대비 크기 비율
+ */
+@Tag("benchmark")
+@DisplayName("음성 후처리 벤치마크")
+class AudioPostProcessorBenchmarkTest {
+
+    private static final int SOURCE_RATE = 44_100;
+    private static final int SECONDS = 10;
+    private static final int WARMUP_ROUNDS = 30;
+    private static final int MEASURED_ROUNDS = 30;
+
+    @Test
+    @DisplayName("형식별 음성 1초당 변환 시간과 크기 비율")
+    void perSecondCost() {
+        byte[] source = WavEncoder.pcm16(new PcmAudio(SOURCE_RATE, 1, speechLike()));
+        AudioPostProcessor processor = new AudioPostProcessor(new SimpleMeterRegistry(), 300, 80);
+        List<AudioOutputFormat> formats = List.of(
+                AudioOutputFormat.of(24000, "pcm"),
+                AudioOutputFormat.of(16000, "pcm"),
+                AudioOutputFormat.of(16000, "mulaw"),
+                AudioOutputFormat.of(8000, "mulaw"),
+                AudioOutputFormat.of(16000, "ima-adpcm"));
+
+        // 워밍업 (JIT)
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            formats.forEach(format -> processor.process(source, format));
+        }
+
+        System.out.printf("[음성 후처리 벤치마크] 44.1kHz PCM %d초 (%,dB), %d회 평균%n",
+                SECONDS, source.length, MEASURED_ROUNDS);
+        for (AudioOutputFormat format : formats) {
+            byte[] converted = null;
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                converted = processor.process(source, format);
+            }
+            double millisPerSecond = (System.nanoTime() - start) / 1_000_000.0 / MEASURED_ROUNDS / SECONDS;
+
+            System.out.printf("  %5dHz %-9s : %6.2f ms/초, %,9dB (%.1f%%)%n",
+                    format.sampleRate(), format.codec().getValue(), millisPerSecond,
+                    converted.length, 100.0 * converted.length / source.length);
+            assertThat(converted.length).isLessThan(source.length);
+        }
+    }
+
+    /**
+     * 음성 비슷한 신호 (기본 주파수 + 배음, 200ms 음절마다 40ms 쉼, 약한 잡음)
+     */
+    private static short[] speechLike() {
+        Random random = new Random(42);
+        int padding = SOURCE_RATE / 2;
+        short[] samples = new short[SOURCE_RATE * SECONDS + padding * 2];
+        for (int i = 0; i < SOURCE_RATE * SECONDS; i++) {
+            double t = (double) i / SOURCE_RATE;
+            boolean pause = (i % (SOURCE_RATE / 5)) < SOURCE_RATE / 25;
+            double pitch = 180 + 40 * Math.sin(2 * Math.PI * 0.5 * t);
+            double voice = Math.sin(2 * Math.PI * pitch * t)
+                    + 0.5 * Math.sin(2 * Math.PI * pitch * 2 * t)
+                    + 0.25 * Math.sin(2 * Math.PI * pitch * 3 * t);
+            double value = pause ? 0 : 6000 * voice;
+            samples[padding + i] = (short) (value + random.nextGaussian() * 50);
+        }
+        return samples;
+    }
+}
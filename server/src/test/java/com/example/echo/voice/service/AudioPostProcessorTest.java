@@ -0,0 +1,94 @@
+package com.example.echo.voice.service;
+
+import com.example.echo.voice.dto.AudioOutputFormat;
+import com.example.echo.voice.exception.UnsupportedAudioFormatException;
+import com.example.echo.voice.util.PcmAudio;
+import com.example.echo.voice.util.WavEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AudioPostProcessorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AudioPostProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        processor = new AudioPostProcessor(meterRegistry, 300, 80);
+    }
+
+    /** 무음 0.5초 + 440Hz 1초 + 무음 0.5초 (44.1kHz 스테레오) */
+    private static byte[] speechLikeWav() {
+        int rate = 44100;
+        short[] samples = new short[rate * 2 * 2];
+        for (int f = rate / 2; f < rate * 3 / 2; f++) {
+            short value = (short) (8000 * Math.sin(2 * Math.PI * 440 * f / rate));
+            samples[f * 2] = value;
+            samples[f * 2 + 1] = value;
+        }
+        return WavEncoder.pcm16(new PcmAudio(rate, 2, samples));
+    }
+
+    @Test
+    @DisplayName("요청 형식이 없으면 원본 그대로")
+    void original_passthrough() {
+        // Given
+        byte[] wav = speechLikeWav();
+
+        // When & Then
+        assertThat(processor.process(wav, AudioOutputFormat.of(null, null))).isSameAs(wav);
+    }
+
+    @Test
+    @DisplayName("PCM WAV가 아닌 음성(Azure MP3)은 원본 그대로")
+    void mp3_passthrough() {
+        // Given
+        byte[] mp3 = "ID3mp3-audio".getBytes();
+
+        // When & Then
+        assertThat(processor.process(mp3, AudioOutputFormat.of(16000, "mulaw"))).isSameAs(mp3);
+    }
+
+    @Test
+    @DisplayName("16kHz μ-law 변환: 무음 제거 + 모노 + 샘플레이트 변환으로 원본의 1/10 이하")
+    void mulaw16k_shrinks() {
+        // Given
+        byte[] wav = speechLikeWav();
+
+        // When
+        byte[] converted = processor.process(wav, AudioOutputFormat.of(16000, "mulaw"));
+
+        // Then
+        assertThat(converted.length).isLessThan(wav.length / 10);
+        assertThat(meterRegistry.counter("tts.postprocess.bytes.saved").count())
+                .isEqualTo(wav.length - converted.length);
+        assertThat(meterRegistry.timer("tts.postprocess", "codec", "mulaw").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("코덱 없이 rate만 지정하면 PCM으로 샘플레이트만 변환")
+    void rateOnly_pcm() {
+        // When
+        PcmAudio converted = PcmAudio.fromWav(processor.process(speechLikeWav(), AudioOutputFormat.of(16000, null)));
+
+        // Then
+        assertThat(converted.getSampleRate()).isEqualTo(16000);
+        assertThat(converted.getChannels()).isEqualTo(1);
+        assertThat(converted.durationSeconds()).isBetween(1.0, 1.2);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 코덱/샘플레이트는 400 예외")
+    void unsupportedFormat_rejected() {
+        assertThatThrownBy(() -> AudioOutputFormat.of(16000, "opus"))
+                .isInstanceOf(UnsupportedAudioFormatException.class);
+        assertThatThrownBy(() -> AudioOutputFormat.of(4000, "pcm"))
+                .isInstanceOf(UnsupportedAudioFormatException.class);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.echo.voice.service;
+
+import com.example.echo.voice.exception.NoSpeechDetectedException;
+import com.example.echo.voice.util.PcmAudio;
+import com.example.echo.voice.util.SpeechActivity;
+import com.example.echo.voice.util.WavEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AudioPreflightTest {
+
+    private static final int RATE = 16000;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AudioPreflight preflight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        preflight = new AudioPreflight(meterRegistry, true, 20, 500, 200, 300, 150);
+    }
+
+    /** 무음 leadMs + 440Hz toneMs + 무음 tailMs */
+    private static MockMultipartFile wav(int leadMs, int toneMs, int tailMs) {
+        int lead = RATE * leadMs / 1000;
+        int tone = RATE * toneMs / 1000;
+        short[] samples = new short[lead + tone + RATE * tailMs / 1000];
+        for (int i = 0; i < tone; i++) {
+            samples[lead + i] = (short) (6000 * Math.sin(2 * Math.PI * 440 * i / RATE));
+        }
+        return new MockMultipartFile("audio", "voice.wav", "audio/wav",
+                WavEncoder.pcm16(new PcmAudio(RATE, 1, samples)));
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("stt.preflight", "result", result).count();
+    }
+
+    @Test
+    @DisplayName("앞뒤 무음은 음성 구간 + 여유만 남긴 WAV로 잘라 전송")
+    void trimsLeadingAndTrailingSilence() throws IOException {
+        // Given: 무음 2초 + 음성 1초 + 무음 2초
+        MockMultipartFile file = wav(2000, 1000, 2000);
+
+        // When
+        MultipartFile upload = preflight.prepare(file).upload();
+
+        // Then: 음성 1초 + 앞뒤 여유 150ms
+        PcmAudio trimmed = PcmAudio.fromWav(upload.getBytes());
+        assertThat(upload.getSize()).isEqualTo(upload.getBytes().length);
+        assertThat(trimmed.durationSeconds()).isBetween(1.0, 1.35);
+        assertThat(upload.getOriginalFilename()).isEqualTo("voice.wav");
+        assertThat(count("trimmed")).isEqualTo(1);
+        assertThat(meterRegistry.counter("stt.preflight.seconds.saved").count()).isBetween(3.6, 4.0);
+        assertThat(meterRegistry.counter("stt.preflight.bytes.saved").count())
+                .isEqualTo(file.getSize() - upload.getSize());
+    }
+
+    @Test
+    @DisplayName("잘라낸 WAV의 검사 결과를 함께 반환 (구간 분할에서 다시 읽지 않도록)")
+    void trimmed_returnsActivityOfUpload() throws IOException {
+        // Given
+        MockMultipartFile file = wav(2000, 1000, 2000);
+
+        // When
+        AudioPreflight.Prepared prepared = preflight.prepare(file);
+
+        // Then: 잘라낸 파일을 다시 검사한 결과와 위치/길이가 같음
+        SpeechActivity rescanned;
+        try (InputStream in = prepared.upload().getInputStream()) {
+            rescanned = SpeechActivity.scan(in, prepared.upload().getSize(), 20, 500).orElseThrow();
+        }
+        assertThat(prepared.activity().getDataOffset()).isEqualTo(rescanned.getDataOffset());
+        assertThat(prepared.activity().getDataLength()).isEqualTo(rescanned.getDataLength());
+        assertThat(prepared.activity().durationSeconds()).isEqualTo(rescanned.durationSeconds());
+    }
+
+    @Test
+    @DisplayName("무음뿐인 녹음은 NoSpeechDetectedException")
+    void silentClip_rejected() {
+        // Given
+        MockMultipartFile file = wav(3000, 0, 0);
+
+        // When & Then
+        assertThatThrownBy(() -> preflight.prepare(file))
+                .isInstanceOf(NoSpeechDetectedException.class);
+        assertThat(count("rejected")).isEqualTo(1);
+        assertThat(meterRegistry.counter("stt.preflight.seconds.saved").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("음성이 최소 길이보다 짧으면 거절 (탁 치는 소리 등)")
+    void tooShortSpeech_rejected() {
+        assertThatThrownBy(() -> preflight.prepare(wav(500, 100, 500)))
+                .isInstanceOf(NoSpeechDetectedException.class);
+    }
+
+    @Test
+    @DisplayName("잘라낼 무음이 거의 없으면 원본 그대로")
+    void noSilence_passthrough() {
+        // Given
+        MockMultipartFile file = wav(0, 1000, 0);
+
+        // When & Then
+        assertThat(preflight.prepare(file).upload()).isSameAs(file);
+        assertThat(count("passed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("WAV가 아닌 형식(m4a 등)은 검사하지 않고 원본 그대로")
+    void nonWav_skipped() {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("audio", "voice.m4a", "audio/m4a", "m4a-data".getBytes());
+
+        // When & Then
+        assertThat(preflight.prepare(file).upload()).isSameAs(file);
+        assertThat(count("skipped")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 무음이어도 원본 그대로")
+    void disabled_passthrough() {
+        // Given
+        AudioPreflight disabled = new AudioPreflight(meterRegistry, false, 20, 500, 200, 300, 150);
+        MockMultipartFile file = wav(3000, 0, 0);
+
+        // When & Then
+        assertThat(disabled.prepare(file).upload()).isSameAs(file);
+    }
+}
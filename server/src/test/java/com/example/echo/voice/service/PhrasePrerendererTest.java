@@ -0,0 +1,70 @@
+package com.example.echo.voice.service;
+
+import com.example.echo.user.dto.VoiceSettings;
+import com.example.echo.voice.cache.FixedPhrase;
+import com.example.echo.voice.provider.TtsProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PhrasePrerenderer 테스트")
+class PhrasePrerendererTest {
+
+    @Mock
+    private VoiceService voiceService;
+
+    @Mock
+    private TtsProvider supertone;
+
+    @Mock
+    private TtsProvider azure;
+
+    @Test
+    @DisplayName("등록된 제공자들의 톤 매핑 합집합으로 고정 발화를 합성")
+    void prerender_providerTones() {
+        // given
+        given(supertone.voiceTones()).willReturn(Set.of("warm", "calm"));
+        given(azure.voiceTones()).willReturn(Set.of("calm", "bright"));
+        PhrasePrerenderer prerenderer = new PhrasePrerenderer(voiceService, List.of(supertone, azure), Runnable::run, true);
+
+        // when
+        prerenderer.prerender();
+
+        // then
+        ArgumentCaptor<VoiceSettings> settings = ArgumentCaptor.forClass(VoiceSettings.class);
+        verify(voiceService, times(3 * FixedPhrase.values().length)).phraseToSpeech(any(), settings.capture());
+        assertThat(settings.getAllValues()).extracting(VoiceSettings::getVoiceTone)
+                .containsOnly("warm", "calm", "bright");
+    }
+
+    @Test
+    @DisplayName("합성이 실패하면 남은 조합은 건너뜀")
+    void prerender_stopsOnFailure() {
+        // given
+        given(supertone.voiceTones()).willReturn(Set.of("bright", "calm"));
+        given(azure.voiceTones()).willReturn(Set.of());
+        willThrow(new IllegalStateException("TTS 실패")).given(voiceService).phraseToSpeech(eq(FixedPhrase.ERROR_FALLBACK), any());
+        PhrasePrerenderer prerenderer = new PhrasePrerenderer(voiceService, List.of(supertone, azure), Runnable::run, true);
+
+        // when
+        prerenderer.prerender();
+
+        // then
+        verify(voiceService, times(1)).phraseToSpeech(any(), any());
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.echo.voice.service;
+
+import com.example.echo.voice.exception.VoiceProcessingException;
+import com.example.echo.voice.util.PcmAudio;
+import com.example.echo.voice.util.WavEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class SttChunkTranscriberTest {
+
+    private static final int RATE = 8000;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(6);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /** 구간 2초, 경계 탐색 1초, 겹침 200ms */
+    private SttChunkTranscriber transcriber(int concurrency) {
+        return new SttChunkTranscriber(executor, meterRegistry, 2, 1, 200, concurrency);
+    }
+
+    /** 200Hz 음성, [gaps[0], gaps[1]), [gaps[2], gaps[3]) ... 구간(ms)만 무음 */
+    private static MockMultipartFile wav(int totalMs, int... gaps) {
+        short[] samples = new short[RATE * totalMs / 1000];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = (short) (5000 * Math.sin(2 * Math.PI * 200 * i / RATE));
+        }
+        for (int g = 0; g + 1 < gaps.length; g += 2) {
+            Arrays.fill(samples, RATE * gaps[g] / 1000, RATE * gaps[g + 1] / 1000, (short) 0);
+        }
+        return new MockMultipartFile("audio", "voice.wav", "audio/wav",
+                WavEncoder.pcm16(new PcmAudio(RATE, 1, samples)));
+    }
+
+    private static MockMultipartFile named(String name) {
+        return new MockMultipartFile("audio", name, "audio/wav", new byte[0]);
+    }
+
+    @Test
+    @DisplayName("조용한 지점에서 나누고 경계 앞뒤를 양쪽 구간에 겹쳐 포함")
+    void splitsAtQuietPointWithOverlap() throws IOException {
+        // Given: 3.4초, 1.6~1.8초 무음 → 2초 지점 앞 1초 안에서 가장 조용한 1.6초가 경계
+        MockMultipartFile file = wav(3400, 1600, 1800);
+
+        // When
+        List<MultipartFile> segments = transcriber(4).split(file, null);
+
+        // Then: [0, 1.6+0.2], [1.6-0.2, 3.4]
+        assertThat(segments).hasSize(2);
+        PcmAudio first = PcmAudio.fromWav(segments.get(0).getBytes());
+        PcmAudio second = PcmAudio.fromWav(segments.get(1).getBytes());
+        assertThat(first.durationSeconds()).isEqualTo(1.8);
+        assertThat(second.durationSeconds()).isEqualTo(2.0);
+        assertThat(segments.get(0).getSize()).isEqualTo(segments.get(0).getBytes().length);
+        assertThat(segments.get(1).getOriginalFilename()).isEqualTo("voice.wav");
+    }
+
+    @Test
+    @DisplayName("구간 길이 이하 녹음은 나누지 않음")
+    void shortWav_notSplit() {
+        // Given
+        MockMultipartFile file = wav(1900, 0, 0);
+
+        // When & Then
+        assertThat(transcriber(4).split(file, null)).containsExactly(file);
+    }
+
+    @Test
+    @DisplayName("PCM WAV가 아닌 형식은 나누지 않음")
+    void compressedFormat_notSplit() {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("audio", "voice.m4a", "audio/mp4", new byte[64 * 1024]);
+
+        // When & Then
+        assertThat(transcriber(4).split(file, null)).containsExactly(file);
+    }
+
+    @Test
+    @DisplayName("사전 검사 결과를 받으면 파일을 다시 읽지 않고 같은 지점에서 나눔")
+    void preflightActivity_noRescan() throws IOException {
+        // Given: 앞 무음 1초를 잘라낸 WAV와 그 검사 결과 (2.4~2.6초 무음이 경계)
+        MockMultipartFile file = wav(4400, 0, 1000, 2400, 2600);
+        AudioPreflight.Prepared prepared = new AudioPreflight(meterRegistry, true, 20, 500, 200, 300, 150)
+                .prepare(file);
+        AtomicInteger reads = new AtomicInteger();
+        MultipartFile upload = new WavRangeFile(prepared.upload(), new byte[0], 0, prepared.upload().getSize()) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                reads.incrementAndGet();
+                return super.getInputStream();
+            }
+        };
+
+        // When
+        List<MultipartFile> segments = transcriber(4).split(upload, prepared.activity());
+        int readsDuringSplit = reads.get();
+        List<MultipartFile> rescanned = transcriber(4).split(prepared.upload(), null);
+
+        // Then: 프레임 경계 차이(20ms) 안에서 직접 검사한 결과와 같은 구간
+        assertThat(readsDuringSplit).isZero();
+        assertThat(segments).hasSameSizeAs(rescanned).hasSizeGreaterThan(1);
+        for (int i = 0; i < segments.size(); i++) {
+            assertThat(PcmAudio.fromWav(segments.get(i).getBytes()).durationSeconds())
+                    .isCloseTo(PcmAudio.fromWav(rescanned.get(i).getBytes()).durationSeconds(), within(0.02));
+        }
+    }
+
+    @Test
+    @DisplayName("병렬 전사 결과를 구간 순서대로 합치고 겹친 단어는 한 번만 남김")
+    void transcribe_mergesInOrder() {
+        // Given: 앞 구간일수록 늦게 끝남
+        List<MultipartFile> segments = List.of(named("0"), named("1"), named("2"));
+        List<String> texts = List.of("오늘은 날씨가", "날씨가 좋아서 산책을", "산책을 다녀왔어요.");
+
+        // When
+        String result = transcriber(4).transcribe(segments, segment -> {
+            int index = Integer.parseInt(segment.getOriginalFilename());
+            sleep(30L * (segments.size() - index));
+            return texts.get(index);
+        });
+
+        // Then
+        assertThat(result).isEqualTo("오늘은 날씨가 좋아서 산책을 다녀왔어요.");
+        assertThat(meterRegistry.summary("stt.chunks").totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("구간 하나라도 실패하면 원인 예외를 그대로 전달")
+    void transcribe_failurePropagates() {
+        // Given
+        VoiceProcessingException failure = new VoiceProcessingException("Whisper API 응답이 비어있습니다.");
+        List<MultipartFile> segments = List.of(named("0"), named("1"), named("2"));
+
+        // When & Then
+        assertThatThrownBy(() -> transcriber(4).transcribe(segments, segment -> {
+            if (segment.getOriginalFilename().equals("1")) {
+                throw failure;
+            }
+            return "텍스트";
+        })).isSameAs(failure);
+    }
+
+    @Test
+    @DisplayName("구간 하나가 실패하면 허가를 기다리던 구간은 Whisper를 호출하지 않음")
+    void transcribe_failureSkipsPendingSegments() {
+        // Given: 동시 호출 1개 → 첫 구간이 실패하는 동안 나머지는 허가 대기
+        VoiceProcessingException failure = new VoiceProcessingException("Whisper API 응답이 비어있습니다.");
+        AtomicInteger calls = new AtomicInteger();
+        List<MultipartFile> segments = List.of(named("0"), named("1"), named("2"), named("3"));
+
+        // When & Then
+        assertThatThrownBy(() -> transcriber(1).transcribe(segments, segment -> {
+            calls.incrementAndGet();
+            sleep(30);
+            throw failure;
+        })).isSameAs(failure);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Whisper 동시 호출 수는 concurrency 이하로 제한")
+    void transcribe_boundedConcurrency() {
+        // Given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<MultipartFile> segments = List.of(named("0"), named("1"), named("2"), named("3"), named("4"), named("5"));
+
+        // When
+        transcriber(2).transcribe(segments, segment -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(30);
+            running.decrementAndGet();
+            return segment.getOriginalFilename();
+        });
+
+        // Then
+        assertThat(peak.get()).isLessThanOrEqualTo(2);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.echo.voice.service;
+
+import com.example.echo.voice.exception.VoiceProcessingException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TtsHedgerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /** 대기 기준 100~1000ms, 표본 5건부터 p90 사용 */
+    private TtsHedger hedger() {
+        return new TtsHedger(executor, meterRegistry, true, 0.9, 100, 1000, 10, 5);
+    }
+
+    private static Supplier<String> after(long millis, String result) {
+        return () -> {
+            sleep(millis);
+            return result;
+        };
+    }
+
+    private double count(String name, String... tags) {
+        return meterRegistry.counter(name, tags).count();
+    }
+
+    @Test
+    @DisplayName("주 제공자가 대기 기준 안에 답하면 예비 요청을 보내지 않음")
+    void fastPrimary_notHedged() {
+        // Given
+        AtomicBoolean backupCalled = new AtomicBoolean();
+
+        // When
+        String result = hedger().hedge("supertone", after(10, "primary"), () -> {
+            backupCalled.set(true);
+            return "backup";
+        });
+
+        // Then
+        assertThat(result).isEqualTo("primary");
+        assertThat(backupCalled).isFalse();
+        assertThat(count("tts.hedge.requests", "primary", "supertone")).isEqualTo(1);
+        assertThat(count("tts.hedge.sent", "primary", "supertone")).isZero();
+        assertThat(meterRegistry.timer("tts.hedge.latency", "hedged", "false").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("주 제공자가 늦으면 예비 제공자 결과를 쓰고 주 제공자 호출은 인터럽트로 취소")
+    void slowPrimary_backupWinsAndPrimaryCancelled() throws InterruptedException {
+        // Given: 표본이 없어 max-delay-ms(1000ms) 대기
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Supplier<String> primary = () -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IllegalStateException(e);
+            }
+            return "primary";
+        };
+
+        // When
+        long startedAt = System.nanoTime();
+        String result = hedger().hedge("supertone", primary, after(10, "backup"));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // Then
+        assertThat(result).isEqualTo("backup");
+        assertThat(elapsedMs).isBetween(1000L, 5000L);
+        assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(count("tts.hedge.sent", "primary", "supertone")).isEqualTo(1);
+        assertThat(count("tts.hedge.wins", "winner", "backup")).isEqualTo(1);
+        assertThat(meterRegistry.timer("tts.hedge.latency", "hedged", "true").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("헤징 후에도 주 제공자가 먼저 답하면 주 제공자 결과 사용")
+    void hedgedPrimaryStillWins() {
+        // When: 대기 기준 1000ms 뒤 예비 요청, 주 제공자 1200ms / 예비 제공자 3000ms
+        String result = hedger().hedge("supertone", after(1200, "primary"), after(3000, "backup"));
+
+        // Then
+        assertThat(result).isEqualTo("primary");
+        assertThat(count("tts.hedge.wins", "winner", "primary")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 기준 전에 주 제공자가 실패하면 헤징하지 않고 그대로 실패")
+    void primaryFailsFast_propagatedWithoutHedge() {
+        // Given
+        VoiceProcessingException failure = new VoiceProcessingException("Supertone TTS API 응답이 비어있습니다.");
+        AtomicBoolean backupCalled = new AtomicBoolean();
+
+        // When & Then
+        assertThatThrownBy(() -> hedger().hedge("supertone", () -> {
+            throw failure;
+        }, () -> {
+            backupCalled.set(true);
+            return "backup";
+        })).isSameAs(failure);
+        assertThat(backupCalled).isFalse();
+    }
+
+    @Test
+    @DisplayName("헤징 후 예비 제공자가 실패하면 주 제공자 결과를 기다림")
+    void backupFails_primaryAwaited() {
+        // When
+        String result = hedger().hedge("supertone", after(1300, "primary"), () -> {
+            throw new VoiceProcessingException("Azure TTS API 응답이 비어있습니다.");
+        });
+
+        // Then
+        assertThat(result).isEqualTo("primary");
+        assertThat(count("tts.hedge.wins", "winner", "primary")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("둘 다 실패하면 주 제공자 예외 전달")
+    void bothFail_primaryFailurePropagated() {
+        // Given
+        VoiceProcessingException primaryFailure = new VoiceProcessingException("Supertone 실패");
+
+        // When & Then
+        assertThatThrownBy(() -> hedger().hedge("supertone", () -> {
+            sleep(1200);
+            throw primaryFailure;
+        }, () -> {
+            throw new VoiceProcessingException("Azure 실패");
+        })).isSameAs(primaryFailure);
+    }
+
+    @Test
+    @DisplayName("대기 기준은 최근 주 제공자 응답 시간 p90 (min/max 범위 안)")
+    void thresholdFollowsRecentLatency() {
+        // Given
+        TtsHedger hedger = hedger();
+        assertThat(hedger.thresholdMillis("supertone")).isEqualTo(1000);
+
+        // When: 200ms 응답 5건
+        for (int i = 0; i < 5; i++) {
+            hedger.hedge("supertone", after(200, "primary"), () -> "backup");
+        }
+
+        // Then
+        assertThat(hedger.thresholdMillis("supertone")).isBetween(200L, 400L);
+        assertThat(meterRegistry.get("tts.hedge.threshold.ms").tag("primary", "supertone").gauge().value())
+                .isBetween(200.0, 400.0);
+    }
+
+    @Test
+    @DisplayName("대기 기준은 주 제공자별로 따로 계산 (다른 제공자가 주 제공자일 때 섞이지 않음)")
+    void thresholdPerPrimary() {
+        // Given
+        TtsHedger hedger = hedger();
+
+        // When: supertone이 주 제공자일 때만 200ms 응답 5건
+        for (int i = 0; i < 5; i++) {
+            hedger.hedge("supertone", after(200, "primary"), () -> "backup");
+        }
+
+        // Then: azure가 주 제공자인 요청은 아직 표본이 없어 max-delay-ms
+        assertThat(hedger.thresholdMillis("supertone")).isBetween(200L, 400L);
+        assertThat(hedger.thresholdMillis("azure")).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("비활성화면 주 제공자만 호출")
+    void disabled_primaryOnly() {
+        // Given
+        TtsHedger disabled = new TtsHedger(executor, meterRegistry, false, 0.9, 100, 1000, 10, 5);
+
+        // When
+        String result = disabled.hedge("supertone", () -> "primary", () -> "backup");
+
+        // Then
+        assertThat(result).isEqualTo("primary");
+        assertThat(count("tts.hedge.requests", "primary", "supertone")).isZero();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,18 +1,30 @@
 package com.example.echo.voice.service;
 
+import com.example.echo.common.exception.DependencyUnavailableException;
 import com.example.echo.user.dto.VoiceSettings;
+import com.example.echo.voice.cache.FixedPhrase;
+import com.example.echo.voice.cache.PhraseBank;
+import com.example.echo.voice.cache.TtsAudioCache;
 import com.example.echo.voice.client.STTClient;
 import com.example.echo.voice.client.SupertoneTtsClient;
 import com.example.echo.voice.client.TTSClient;
 import com.example.echo.voice.dto.WhisperTranscriptionResponse;
+import com.example.echo.voice.exception.NoSpeechDetectedException;
 import com.example.echo.voice.exception.RetryableVoiceException;
 import com.example.echo.voice.exception.SupertoneInsufficientCreditException;
 import com.example.echo.voice.exception.VoiceProcessingException;
+import com.example.echo.voice.provider.AzureTtsProvider;
+import com.example.echo.voice.provider.SupertoneTtsProvider;
+import com.example.echo.voice.provider.TtsProviderRouter;
+import com.example.echo.voice.util.PcmAudio;
+import com.example.echo.voice.util.WavEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
@@ -20,7 +32,13 @@ import org.springframework.retry.policy.SimpleRetryPolicy;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -40,8 +58,20 @@ class VoiceServiceImplTest {
     @Mock
     private SupertoneTtsClient supertoneClient;
 
+    private SupertoneTtsProvider supertoneProvider;
+    private AzureTtsProvider azureProvider;
     private VoiceServiceImpl voiceService;
 
+    private TtsProviderRouter router(String preferred) {
+        return new TtsProviderRouter(List.of(supertoneProvider, azureProvider), new SimpleMeterRegistry(),
+                preferred, 60, 200, 5, 0.5, 0);
+    }
+
+    /** 설정 제공자(tts.provider) 변경 */
+    private void useProvider(String preferred) {
+        ReflectionTestUtils.setField(voiceService, "ttsRouter", router(preferred));
+    }
+
     @BeforeEach
     void setUp() {
         // 테스트용 RetryTemplate: noBackoff으로 빠르게 실행, 동일한 재시도 정책 적용
@@ -53,13 +83,23 @@ class VoiceServiceImplTest {
         );
         testRetryTemplate.setRetryPolicy(new SimpleRetryPolicy(3, retryableExceptions, true));
 
-        voiceService = new VoiceServiceImpl(sttClient, ttsClient, supertoneClient, testRetryTemplate);
+        supertoneProvider = new SupertoneTtsProvider(supertoneClient, testRetryTemplate,
+                "195e1922033a6168f0c90f", "sona_speech_2");
+        azureProvider = new AzureTtsProvider(ttsClient, "ko-KR-SunHiNeural");
+
+        voiceService = new VoiceServiceImpl(sttClient,
+                new TtsAudioCache(new SimpleMeterRegistry(), false, Path.of("unused"), 0, 0),
+                new PhraseBank(new SimpleMeterRegistry(), false, Path.of("unused"), 0),
+                new TtsChunkSynthesizer(Runnable::run, new SimpleMeterRegistry(), List.of(supertoneProvider, azureProvider), 100, 4),
+                new AudioPostProcessor(new SimpleMeterRegistry(), 300, 80),
+                new AudioPreflight(new SimpleMeterRegistry(), true, 20, 500, 200, 300, 150),
+                new SttChunkTranscriber(Runnable::run, new SimpleMeterRegistry(), 60, 10, 1000, 4),
+                new TtsHedger(Runnable::run, new SimpleMeterRegistry(), false, 0.9, 300, 3000, 200, 20),
+                router("azure"));
         ReflectionTestUtils.setField(voiceService, "whisperModel", "whisper-1");
         ReflectionTestUtils.setField(voiceService, "defaultLanguage", "ko");
-        ReflectionTestUtils.setField(voiceService, "defaultVoice", "ko-KR-SunHiNeural");
-        ReflectionTestUtils.setField(voiceService, "ttsProvider", "azure");
-        ReflectionTestUtils.setField(voiceService, "supertoneVoiceId", "195e1922033a6168f0c90f");
-        ReflectionTestUtils.setField(voiceService, "supertoneModel", "sona_speech_2");
+        ReflectionTestUtils.setField(voiceService, "maxTextLength", 5000);
+        ReflectionTestUtils.setField(voiceService, "maxUploadBytes", 100L * 1024 * 1024);
     }
 
     // ========== STT 테스트 ==========
@@ -194,6 +234,21 @@ class VoiceServiceImplTest {
                     .hasCauseInstanceOf(RuntimeException.class);
         }
 
+        @Test
+        @DisplayName("Whisper 서킷이 열려 있으면 래핑하지 않고 503 예외 그대로 전달")
+        void dependencyUnavailable_propagated() {
+            MockMultipartFile audioFile = new MockMultipartFile(
+                    "file", "test.mp3", "audio/mpeg", "data".getBytes()
+            );
+
+            when(sttClient.transcribe(any(), any(), any(), any()))
+                    .thenThrow(new DependencyUnavailableException("openai-whisper", "서킷 열림"));
+
+            assertThatThrownBy(() -> voiceService.speechToText(audioFile))
+                    .isInstanceOf(DependencyUnavailableException.class)
+                    .hasMessageContaining("openai-whisper");
+        }
+
         @Test
         @DisplayName("wav 형식 파일도 정상 처리")
         void wavFormat_success() {
@@ -211,6 +266,39 @@ class VoiceServiceImplTest {
             assertThat(result).isEqualTo("테스트");
         }
 
+        @Test
+        @DisplayName("무음 WAV는 Whisper 호출 없이 NoSpeechDetectedException 발생")
+        void silentWav_rejectedBeforeWhisper() {
+            byte[] silence = WavEncoder.pcm16(new PcmAudio(16000, 1, new short[16000]));
+            MockMultipartFile wavFile = new MockMultipartFile("file", "test.wav", "audio/wav", silence);
+
+            assertThatThrownBy(() -> voiceService.speechToText(wavFile))
+                    .isInstanceOf(NoSpeechDetectedException.class);
+            verify(sttClient, never()).transcribe(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("긴 WAV는 구간으로 나눠 전사한 뒤 순서대로 합침")
+        void longWav_transcribedInSegments() {
+            // given: 150초 음성 → 60초 단위 3개 구간
+            short[] samples = new short[8000 * 150];
+            for (int i = 0; i < samples.length; i++) {
+                samples[i] = (short) (3000 * Math.sin(2 * Math.PI * 200 * i / 8000.0));
+            }
+            byte[] wav = WavEncoder.pcm16(new PcmAudio(8000, 1, samples));
+            MockMultipartFile wavFile = new MockMultipartFile("file", "long.wav", "audio/wav", wav);
+
+            when(sttClient.transcribe(any(), any(), any(), any()))
+                    .thenReturn(whisperResponse("오늘은 날씨가"), whisperResponse("날씨가 좋아서 산책을"), whisperResponse("다녀왔어요"));
+
+            // when
+            String result = voiceService.speechToText(wavFile);
+
+            // then
+            assertThat(result).isEqualTo("오늘은 날씨가 좋아서 산책을 다녀왔어요");
+            verify(sttClient, times(3)).transcribe(any(), eq("whisper-1"), eq("ko"), eq("json"));
+        }
+
         @Test
         @DisplayName("webm 형식 파일도 정상 처리")
         void webmFormat_success() {
@@ -280,26 +368,27 @@ class VoiceServiceImplTest {
         }
 
         @Test
-        @DisplayName("텍스트가 800자 초과이면 VoiceProcessingException 발생")
+        @DisplayName("텍스트가 최대 길이(5000자) 초과이면 VoiceProcessingException 발생")
         void textExceedsMaxLength_throwsException() {
-            String longText = "가".repeat(801);
+            String longText = "가".repeat(5001);
 
             assertThatThrownBy(() -> voiceService.textToSpeech(longText, null))
                     .isInstanceOf(VoiceProcessingException.class)
-                    .hasMessage("텍스트가 800자를 초과합니다.");
+                    .hasMessage("텍스트가 5000자를 초과합니다.");
         }
 
         @Test
-        @DisplayName("텍스트가 정확히 800자이면 정상 처리")
-        void textExactly800chars_success() {
-            String maxText = "가".repeat(800);
-            byte[] expectedAudio = "audio".getBytes();
+        @DisplayName("800자를 넘는 텍스트도 조각으로 나눠 합성 (Azure 1회 호출은 800자 이하)")
+        void textOver800chars_synthesizedInChunks() {
+            String longText = "가".repeat(801);
+            byte[] chunkAudio = "audio".getBytes();
 
-            when(ttsClient.synthesize(any())).thenReturn(expectedAudio);
+            when(ttsClient.synthesize(any())).thenReturn(chunkAudio);
 
-            byte[] result = voiceService.textToSpeech(maxText, null);
+            byte[] result = voiceService.textToSpeech(longText, null);
 
-            assertThat(result).isEqualTo(expectedAudio);
+            verify(ttsClient, times(7)).synthesize(argThat(ssml -> ssml.length() < 800));
+            assertThat(result).isEqualTo("audio".repeat(7).getBytes());
         }
 
         @Test
@@ -531,7 +620,7 @@ class VoiceServiceImplTest {
 
         @BeforeEach
         void setSupertoneProvider() {
-            ReflectionTestUtils.setField(voiceService, "ttsProvider", "supertone");
+            useProvider("supertone");
         }
 
         @Test
@@ -599,4 +688,239 @@ class VoiceServiceImplTest {
                     .isInstanceOf(SupertoneInsufficientCreditException.class);
         }
     }
+
+    @Nested
+    @DisplayName("TTS 캐시")
+    class TtsCacheTest {
+
+        @TempDir
+        Path cacheDir;
+
+        @BeforeEach
+        void enableCache() {
+            useProvider("supertone");
+            ReflectionTestUtils.setField(voiceService, "ttsAudioCache",
+                    new TtsAudioCache(new SimpleMeterRegistry(), true, 1024 * 1024, cacheDir, 1024 * 1024));
+        }
+
+        @Test
+        @DisplayName("같은 문장·음성 조건이면 Supertone을 다시 호출하지 않음 (공백 차이 무시)")
+        void sameTextAndVoice_synthesizedOnce() {
+            byte[] audio = "wav-data".getBytes();
+            when(supertoneClient.synthesize(any(), any())).thenReturn(audio);
+            VoiceSettings settings = VoiceSettings.builder().voiceTone("warm").voiceSpeed(1.0).build();
+
+            byte[] first = voiceService.textToSpeech("안녕하세요, 어르신!", settings);
+            byte[] second = voiceService.textToSpeech("  안녕하세요,   어르신! ", settings);
+
+            assertThat(second).isEqualTo(first).isEqualTo(audio);
+            verify(supertoneClient, times(1)).synthesize(any(), any());
+        }
+
+        @Test
+        @DisplayName("속도가 다르면 다른 음성으로 보고 새로 합성")
+        void differentSpeed_synthesizedAgain() {
+            when(supertoneClient.synthesize(any(), any())).thenReturn("wav-data".getBytes());
+
+            voiceService.textToSpeech("안녕하세요", VoiceSettings.builder().voiceSpeed(1.0).build());
+            voiceService.textToSpeech("안녕하세요", VoiceSettings.builder().voiceSpeed(1.2).build());
+
+            verify(supertoneClient, times(2)).synthesize(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("고정 발화")
+    class FixedPhraseTest {
+
+        @TempDir
+        Path bankDir;
+
+        @BeforeEach
+        void enablePhraseBank() {
+            useProvider("supertone");
+            ReflectionTestUtils.setField(voiceService, "phraseBank",
+                    new PhraseBank(new SimpleMeterRegistry(), true, bankDir.resolve("phrase-bank.pack"), 1024 * 1024));
+        }
+
+        @Test
+        @DisplayName("고정 발화 문장은 목소리 설정별로 한 번만 합성하고 보관된 음성을 반환")
+        void phraseToSpeech_synthesizedOnce() {
+            byte[] audio = "wav-data".getBytes();
+            when(supertoneClient.synthesize(any(), any())).thenReturn(audio);
+            VoiceSettings settings = VoiceSettings.builder().voiceTone("calm").build();
+
+            voiceService.phraseToSpeech(FixedPhrase.ERROR_FALLBACK, settings);
+            byte[] second = voiceService.phraseToSpeech(FixedPhrase.ERROR_FALLBACK, settings);
+
+            assertThat(second).isEqualTo(audio);
+            verify(supertoneClient, times(1)).synthesize(any(), any());
+        }
+
+        @Test
+        @DisplayName("textToSpeech에 고정 발화 문장이 오면 PhraseBank 음성을 사용")
+        void textToSpeech_matchingPhrase_usesPhraseBank() {
+            when(supertoneClient.synthesize(any(), any())).thenReturn("wav-data".getBytes());
+            VoiceSettings settings = VoiceSettings.builder().build();
+            voiceService.phraseToSpeech(FixedPhrase.ERROR_FALLBACK, settings);
+
+            byte[] audio = voiceService.textToSpeech(" 죄송해요,  잠깐 문제가 생겼어요. 조금 뒤에 다시 이야기해 주세요.", settings);
+
+            assertThat(audio).isEqualTo("wav-data".getBytes());
+            verify(supertoneClient, times(1)).synthesize(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("문장 조각 분할 합성")
+    class ChunkedTtsTest {
+
+        private byte[] wav(String samples) {
+            byte[] data = samples.getBytes();
+            ByteBuffer buffer = ByteBuffer.allocate(44 + data.length).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.put("RIFF".getBytes()).putInt(36 + data.length).put("WAVE".getBytes())
+                    .put("fmt ".getBytes()).putInt(16)
+                    .putShort((short) 1).putShort((short) 1).putInt(24000).putInt(48000)
+                    .putShort((short) 2).putShort((short) 16)
+                    .put("data".getBytes()).putInt(data.length).put(data);
+            return buffer.array();
+        }
+
+        @Test
+        @DisplayName("여러 문장은 조각별로 합성해 헤더를 다시 쓴 WAV 하나로 순서대로 합침")
+        void multipleSentences_concatenatedInOrder() {
+            useProvider("supertone");
+            ReflectionTestUtils.setField(voiceService, "ttsChunkSynthesizer",
+                    new TtsChunkSynthesizer(Runnable::run, new SimpleMeterRegistry(), List.of(supertoneProvider, azureProvider), 50, 4));
+            String first = "오늘은 아침부터 공원에 다녀오셨다고 하셨죠. 날씨가 맑아서 걷기 좋으셨겠어요.";
+            String second = "점심으로는 따뜻한 된장찌개를 드셨다니 든든하셨겠네요. 저녁에도 잘 챙겨 드세요.";
+            when(supertoneClient.synthesize(any(), argThat(request -> request != null && request.getText().equals(first))))
+                    .thenReturn(wav("AAAA"));
+            when(supertoneClient.synthesize(any(), argThat(request -> request != null && request.getText().equals(second))))
+                    .thenReturn(wav("BB"));
+
+            byte[] result = voiceService.textToSpeech(first + " " + second, null);
+
+            ByteBuffer buffer = ByteBuffer.wrap(result).order(ByteOrder.LITTLE_ENDIAN);
+            assertThat(new String(result, 0, 4)).isEqualTo("RIFF");
+            assertThat(buffer.getInt(4)).isEqualTo(result.length - 8);
+            assertThat(buffer.getInt(40)).isEqualTo(6);
+            assertThat(new String(result, 44, 6)).isEqualTo("AAAABB");
+            verify(supertoneClient, times(2)).synthesize(any(), any());
+        }
+
+        @Test
+        @DisplayName("조각 하나가 실패하면 전체 변환 실패")
+        void chunkFailure_failsWholeText() {
+            when(ttsClient.synthesize(any()))
+                    .thenReturn("audio".getBytes())
+                    .thenReturn(null);
+            String text = "가".repeat(90) + ". " + "나".repeat(90) + ".";
+
+            assertThatThrownBy(() -> voiceService.textToSpeech(text, null))
+                    .isInstanceOf(VoiceProcessingException.class)
+                    .hasMessage("Azure TTS API 응답이 비어있습니다.");
+        }
+
+        @Test
+        @DisplayName("조각 하나가 실패하면 아직 시작하지 않은 조각은 합성하지 않음")
+        void chunkFailure_skipsPendingChunks() {
+            when(ttsClient.synthesize(any()))
+                    .thenReturn("audio".getBytes())
+                    .thenReturn(null);
+            String text = "가".repeat(90) + ". " + "나".repeat(90) + ". " + "다".repeat(90) + ".";
+
+            assertThatThrownBy(() -> voiceService.textToSpeech(text, null))
+                    .isInstanceOf(VoiceProcessingException.class)
+                    .hasMessage("Azure TTS API 응답이 비어있습니다.");
+            verify(ttsClient, times(2)).synthesize(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("TTS 제공자 전환")
+    class ProviderFailoverTest {
+
+        @BeforeEach
+        void setSupertoneProvider() {
+            useProvider("supertone");
+        }
+
+        @Test
+        @DisplayName("Supertone 크레딧 소진 → Azure 음성 반환, 이후 요청은 Azure부터 시도")
+        void creditExhausted_failsOverToAzure() {
+            // given
+            when(supertoneClient.synthesize(any(), any()))
+                    .thenThrow(new SupertoneInsufficientCreditException("크레딧 부족"));
+            when(ttsClient.synthesize(any())).thenReturn("mp3-audio".getBytes());
+
+            // when
+            byte[] first = voiceService.textToSpeech("안녕하세요", null);
+            byte[] second = voiceService.textToSpeech("반가워요", null);
+
+            // then
+            assertThat(first).isEqualTo("mp3-audio".getBytes());
+            assertThat(second).isEqualTo("mp3-audio".getBytes());
+            verify(supertoneClient, times(1)).synthesize(any(), any());
+            verify(ttsClient, times(2)).synthesize(any());
+        }
+
+        @Test
+        @DisplayName("조각 하나라도 실패하면 모든 조각을 다음 제공자로 다시 합성 (WAV/MP3 혼합 방지)")
+        void chunkFailure_wholeTextResynthesizedWithNextProvider() {
+            // given
+            ReflectionTestUtils.setField(voiceService, "ttsChunkSynthesizer",
+                    new TtsChunkSynthesizer(Runnable::run, new SimpleMeterRegistry(), List.of(supertoneProvider, azureProvider), 50, 4));
+            String first = "오늘은 아침부터 공원에 다녀오셨다고 하셨죠. 날씨가 맑아서 걷기 좋으셨겠어요.";
+            String second = "점심으로는 따뜻한 된장찌개를 드셨다니 든든하셨겠네요. 저녁에도 잘 챙겨 드세요.";
+            when(supertoneClient.synthesize(any(), any()))
+                    .thenReturn("RIFF-partial".getBytes())
+                    .thenThrow(new VoiceProcessingException("Supertone TTS API 응답이 비어있습니다."));
+            when(ttsClient.synthesize(any())).thenReturn("AA".getBytes(), "BB".getBytes());
+
+            // when
+            byte[] result = voiceService.textToSpeech(first + " " + second, null);
+
+            // then
+            assertThat(result).isEqualTo("AABB".getBytes());
+            verify(ttsClient, times(2)).synthesize(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("TTS 헤징")
+    class HedgedTtsTest {
+
+        @Test
+        @DisplayName("Supertone이 대기 기준보다 늦으면 Azure로도 요청해 먼저 온 음성 반환")
+        void slowSupertone_azureWins() {
+            // given: 표본이 없으므로 max-delay-ms(50ms) 대기 후 헤징
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            useProvider("supertone");
+            ReflectionTestUtils.setField(voiceService, "ttsHedger",
+                    new TtsHedger(executor, new SimpleMeterRegistry(), true, 0.9, 50, 50, 200, 20));
+            when(supertoneClient.synthesize(any(), any())).thenAnswer(invocation -> {
+                Thread.sleep(5_000);
+                return "supertone-audio".getBytes();
+            });
+            when(ttsClient.synthesize(any())).thenReturn("azure-audio".getBytes());
+
+            try {
+                // when
+                byte[] result = voiceService.textToSpeech("안녕하세요", null);
+
+                // then
+                assertThat(result).isEqualTo("azure-audio".getBytes());
+                verify(ttsClient).synthesize(contains("ko-KR-SunHiNeural"));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private static WhisperTranscriptionResponse whisperResponse(String text) {
+        WhisperTranscriptionResponse response = new WhisperTranscriptionResponse();
+        ReflectionTestUtils.setField(response, "text", text);
+        return response;
+    }
 }
@@ -0,0 +1,115 @@
+package com.example.echo.voice.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AudioConcatenatorTest {
+
+    private static byte[] wav(int sampleRate, byte[] samples, int declaredDataSize) {
+        ByteBuffer buffer = ByteBuffer.allocate(44 + samples.length).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("RIFF".getBytes()).putInt(36 + samples.length).put("WAVE".getBytes())
+                .put("fmt ".getBytes()).putInt(16)
+                .putShort((short) 1).putShort((short) 1).putInt(sampleRate).putInt(sampleRate * 2)
+                .putShort((short) 2).putShort((short) 16)
+                .put("data".getBytes()).putInt(declaredDataSize).put(samples);
+        return buffer.array();
+    }
+
+    private static byte[] wav(byte[] samples) {
+        return wav(24000, samples, samples.length);
+    }
+
+    @Nested
+    @DisplayName("WAV")
+    class Wav {
+
+        @Test
+        @DisplayName("data 청크를 순서대로 이어 붙이고 RIFF/data 크기를 다시 씀")
+        void concatenatesDataChunks() {
+            // When
+            byte[] result = AudioConcatenator.concat(List.of(wav(new byte[]{1, 2}), wav(new byte[]{3, 4, 5, 6})));
+
+            // Then
+            ByteBuffer buffer = ByteBuffer.wrap(result).order(ByteOrder.LITTLE_ENDIAN);
+            assertThat(result).hasSize(44 + 6);
+            assertThat(buffer.getInt(4)).isEqualTo(result.length - 8);
+            assertThat(new String(result, 36, 4)).isEqualTo("data");
+            assertThat(buffer.getInt(40)).isEqualTo(6);
+            assertThat(result).endsWith(1, 2, 3, 4, 5, 6);
+        }
+
+        @Test
+        @DisplayName("스트리밍 응답처럼 data 크기가 0xFFFFFFFF이면 남은 바이트 전체를 사용")
+        void unknownDataSize_usesRemainingBytes() {
+            // When
+            byte[] result = AudioConcatenator.concat(List.of(wav(24000, new byte[]{1, 2}, -1), wav(new byte[]{3, 4})));
+
+            // Then
+            assertThat(ByteBuffer.wrap(result).order(ByteOrder.LITTLE_ENDIAN).getInt(40)).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("조각마다 포맷이 다르면 예외")
+        void differentFormat_throwsException() {
+            assertThatThrownBy(() -> AudioConcatenator.concat(
+                    List.of(wav(new byte[]{1, 2}), wav(44100, new byte[]{3, 4}, 2))))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("MP3")
+    class Mp3 {
+
+        @Test
+        @DisplayName("두 번째 조각부터 앞의 ID3v2 태그를 제거하고 프레임을 이어 붙임")
+        void stripsLeadingId3v2() {
+            // Given: ID3v2 헤더(본문 2바이트) + 프레임
+            byte[] first = {'I', 'D', '3', 4, 0, 0, 0, 0, 0, 2, 9, 9, (byte) 0xFF, (byte) 0xFB, 1};
+            byte[] second = {'I', 'D', '3', 4, 0, 0, 0, 0, 0, 2, 9, 9, (byte) 0xFF, (byte) 0xFB, 2};
+
+            // When
+            byte[] result = AudioConcatenator.concat(List.of(first, second));
+
+            // Then
+            assertThat(result).hasSize(first.length + 3);
+            assertThat(result).endsWith((byte) 0xFF, (byte) 0xFB, 1, (byte) 0xFF, (byte) 0xFB, 2);
+        }
+
+        @Test
+        @DisplayName("마지막 조각이 아니면 끝의 ID3v1 태그를 제거")
+        void stripsTrailingId3v1() {
+            // Given
+            byte[] withTag = new byte[3 + 128];
+            withTag[0] = (byte) 0xFF;
+            withTag[1] = (byte) 0xFB;
+            withTag[2] = 1;
+            withTag[3] = 'T';
+            withTag[4] = 'A';
+            withTag[5] = 'G';
+            byte[] last = {(byte) 0xFF, (byte) 0xFB, 2};
+
+            // When
+            byte[] result = AudioConcatenator.concat(List.of(withTag, last));
+
+            // Then
+            assertThat(result).containsExactly((byte) 0xFF, (byte) 0xFB, 1, (byte) 0xFF, (byte) 0xFB, 2);
+        }
+    }
+
+    @Test
+    @DisplayName("조각이 하나면 그대로 반환")
+    void singlePart_returnedAsIs() {
+        byte[] audio = wav(new byte[]{1, 2});
+
+        assertThat(AudioConcatenator.concat(List.of(audio))).isSameAs(audio);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.echo.voice.util;
+
+import com.example.echo.voice.exception.VoiceProcessingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FailFastCalls 테스트")
+class FailFastCallsTest {
+
+    @Test
+    @DisplayName("한 호출이 실패하면 이후 호출은 실행하지 않고 건너뜀")
+    void skipsAfterFailure() {
+        // given
+        FailFastCalls calls = new FailFastCalls("건너뜀");
+        AtomicInteger executed = new AtomicInteger();
+        assertThatThrownBy(() -> calls.call(null, () -> {
+            executed.incrementAndGet();
+            throw new VoiceProcessingException("제공자 오류");
+        })).isInstanceOf(VoiceProcessingException.class);
+
+        // when & then
+        assertThatThrownBy(() -> calls.call(null, executed::incrementAndGet))
+                .isInstanceOf(CancellationException.class)
+                .hasMessage("건너뜀");
+        assertThat(executed.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패해도 허가를 반납함")
+    void releasesPermitOnFailure() {
+        // given
+        FailFastCalls calls = new FailFastCalls("건너뜀");
+        Semaphore permits = new Semaphore(1);
+
+        // when
+        assertThatThrownBy(() -> calls.call(permits, () -> {
+            throw new VoiceProcessingException("제공자 오류");
+        })).isInstanceOf(VoiceProcessingException.class);
+
+        // then
+        assertThat(permits.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("건너뛴 작업이 먼저 조회되어도 실제로 실패한 호출의 예외를 전달")
+    void joinAll_rethrowsFirstFailure() {
+        // given: 뒤 작업이 먼저 실패하고 앞 작업은 그 뒤에 건너뜀
+        FailFastCalls calls = new FailFastCalls("건너뜀");
+        VoiceProcessingException failure = new VoiceProcessingException("제공자 오류");
+        CompletableFuture<String> failed = CompletableFuture.supplyAsync(() -> calls.call(null, () -> {
+            throw failure;
+        }), Runnable::run);
+        CompletableFuture<String> skipped = CompletableFuture.supplyAsync(() -> calls.call(null, () -> "a"), Runnable::run);
+
+        // when & then
+        assertThatThrownBy(() -> calls.joinAll(List.of(skipped, failed), "오류"))
+                .isSameAs(failure);
+    }
+
+    @Test
+    @DisplayName("모두 성공하면 순서대로 결과 반환")
+    void joinAll_inOrder() {
+        // given
+        FailFastCalls calls = new FailFastCalls("건너뜀");
+        List<CompletableFuture<String>> futures = List.of("a", "b", "c").stream()
+                .map(value -> CompletableFuture.supplyAsync(() -> calls.call(new Semaphore(1), () -> value), Runnable::run))
+                .toList();
+
+        // when & then
+        assertThat(calls.joinAll(futures, "오류")).containsExactly("a", "b", "c");
+    }
+}
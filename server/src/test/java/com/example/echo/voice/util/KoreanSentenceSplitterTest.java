@@ -0,0 +1,109 @@
+package com.example.echo.voice.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KoreanSentenceSplitterTest {
+
+    @Nested
+    @DisplayName("split - 완성된 텍스트 분리")
+    class Split {
+
+        @Test
+        @DisplayName("종결 부호 + 공백 기준으로 문장 분리")
+        void splitsOnTerminators() {
+            // When
+            List<String> sentences = KoreanSentenceSplitter.split("안녕하세요! 오늘 기분은 어떠세요? 저는 좋아요.");
+
+            // Then
+            assertThat(sentences).containsExactly("안녕하세요!", "오늘 기분은 어떠세요?", "저는 좋아요.");
+        }
+
+        @Test
+        @DisplayName("숫자 소수점처럼 종결 부호 뒤에 글자가 붙으면 분리하지 않음")
+        void doesNotSplitDecimal() {
+            // When
+            List<String> sentences = KoreanSentenceSplitter.split("오늘 3.5km 걸으셨네요. 대단해요!");
+
+            // Then
+            assertThat(sentences).containsExactly("오늘 3.5km 걸으셨네요.", "대단해요!");
+        }
+
+        @Test
+        @DisplayName("줄바꿈은 문장 경계로 처리")
+        void splitsOnNewline() {
+            // When
+            List<String> sentences = KoreanSentenceSplitter.split("첫 줄\n둘째 줄");
+
+            // Then
+            assertThat(sentences).containsExactly("첫 줄", "둘째 줄");
+        }
+
+        @Test
+        @DisplayName("종결 부호 없이 긴 텍스트는 최대 길이 이내로 강제 분리")
+        void forceSplitsLongText() {
+            // Given
+            String longText = "오늘은 날씨가 좋아서, ".repeat(20);
+
+            // When
+            List<String> sentences = KoreanSentenceSplitter.split(longText);
+
+            // Then
+            assertThat(sentences).hasSizeGreaterThan(1);
+            assertThat(sentences).allSatisfy(s -> assertThat(s.length()).isLessThanOrEqualTo(120));
+            assertThat(String.join(" ", sentences).replace(" ", ""))
+                    .isEqualTo(longText.replace(" ", ""));
+        }
+
+        @Test
+        @DisplayName("null/빈 문자열은 빈 리스트 반환")
+        void emptyInput() {
+            assertThat(KoreanSentenceSplitter.split(null)).isEmpty();
+            assertThat(KoreanSentenceSplitter.split("   ")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("append/flush - 스트리밍 분리")
+    class Streaming {
+
+        @Test
+        @DisplayName("조각이 나뉘어 도착해도 문장이 완성되는 시점에 반환")
+        void emitsWhenSentenceCompletes() {
+            // Given
+            KoreanSentenceSplitter splitter = new KoreanSentenceSplitter();
+
+            // When & Then
+            assertThat(splitter.append("안녕")).isEmpty();
+            assertThat(splitter.append("하세요.")).isEmpty();  // 뒤에 공백이 와야 경계 확정
+            assertThat(splitter.append(" 오늘은")).containsExactly("안녕하세요.");
+            assertThat(splitter.append("요? 네")).containsExactly("오늘은요?");
+            assertThat(splitter.flush()).containsExactly("네");
+        }
+
+        @Test
+        @DisplayName("스트리밍 분리 결과는 전체 텍스트 분리 결과와 동일")
+        void streamingMatchesWholeText() {
+            // Given
+            String text = "산책 다녀오셨군요! \"정말 좋았어요.\" 하셨죠? 내일도 3.5km 걸어봐요.";
+            KoreanSentenceSplitter splitter = new KoreanSentenceSplitter();
+            List<String> streamed = new ArrayList<>();
+
+            // When - 2글자씩 잘라서 전달
+            for (int i = 0; i < text.length(); i += 2) {
+                streamed.addAll(splitter.append(text.substring(i, Math.min(i + 2, text.length()))));
+            }
+            streamed.addAll(splitter.flush());
+
+            // Then
+            assertThat(streamed).isEqualTo(KoreanSentenceSplitter.split(text));
+            assertThat(streamed).containsExactly("산책 다녀오셨군요!", "\"정말 좋았어요.\"", "하셨죠?", "내일도 3.5km 걸어봐요.");
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.echo.voice.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PcmAudioTest {
+
+    private static short[] tone(int frames, int amplitude) {
+        short[] samples = new short[frames];
+        for (int i = 0; i < frames; i++) {
+            samples[i] = (short) (amplitude * Math.sin(2 * Math.PI * 440 * i / 16000.0));
+        }
+        return samples;
+    }
+
+    @Nested
+    @DisplayName("WAV 디코딩")
+    class FromWav {
+
+        @Test
+        @DisplayName("16비트 PCM WAV의 샘플레이트/채널/샘플을 읽음")
+        void decodesPcm16() {
+            // Given
+            byte[] wav = WavEncoder.pcm16(new PcmAudio(24000, 2, new short[]{1, -1, 2, -2}));
+
+            // When
+            PcmAudio audio = PcmAudio.fromWav(wav);
+
+            // Then
+            assertThat(PcmAudio.isPcm16Wav(wav)).isTrue();
+            assertThat(audio.getSampleRate()).isEqualTo(24000);
+            assertThat(audio.getChannels()).isEqualTo(2);
+            assertThat(audio.getSamples()).containsExactly(1, -1, 2, -2);
+        }
+
+        @Test
+        @DisplayName("μ-law 등 PCM이 아닌 WAV는 후처리 대상이 아님")
+        void nonPcm_rejected() {
+            // Given
+            byte[] mulaw = WavEncoder.mulaw(new PcmAudio(8000, 1, new short[]{0, 100}));
+
+            // When & Then
+            assertThat(PcmAudio.isPcm16Wav(mulaw)).isFalse();
+            assertThat(PcmAudio.isPcm16Wav("ID3audio".getBytes())).isFalse();
+            assertThatThrownBy(() -> PcmAudio.fromWav(mulaw))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("WAVE_FORMAT_EXTENSIBLE의 PCM 서브포맷도 읽음")
+        void extensiblePcm() {
+            // Given
+            byte[] format = ByteBuffer.allocate(40).order(ByteOrder.LITTLE_ENDIAN)
+                    .putShort((short) 0xFFFE).putShort((short) 1).putInt(16000).putInt(32000)
+                    .putShort((short) 2).putShort((short) 16)
+                    .putShort((short) 22).putShort((short) 16).putInt(0x4)
+                    .putShort((short) 1)
+                    .array();
+            byte[] wav = WavChunks.write(format, null, new byte[]{5, 0, 6, 0});
+
+            // When
+            PcmAudio audio = PcmAudio.fromWav(wav);
+
+            // Then
+            assertThat(audio.getSamples()).containsExactly(5, 6);
+        }
+    }
+
+    @Nested
+    @DisplayName("무음 제거")
+    class TrimSilence {
+
+        @Test
+        @DisplayName("앞뒤 무음은 여유 구간만 남기고 제거")
+        void trimsLeadingAndTrailingSilence() {
+            // Given: 무음 0.5초 + 소리 0.25초 + 무음 0.5초 (16kHz)
+            short[] voice = tone(4000, 8000);
+            short[] samples = new short[8000 + voice.length + 8000];
+            System.arraycopy(voice, 0, samples, 8000, voice.length);
+
+            // When
+            PcmAudio trimmed = new PcmAudio(16000, 1, samples).trimSilence(300, 50);
+
+            // Then: 소리 구간 + 앞뒤 50ms(800샘플) 이내
+            assertThat(trimmed.frames()).isBetween(voice.length, voice.length + 1600);
+        }
+
+        @Test
+        @DisplayName("전체가 무음이면 원본 그대로")
+        void allSilent_unchanged() {
+            // Given
+            PcmAudio audio = new PcmAudio(16000, 1, new short[1600]);
+
+            // When & Then
+            assertThat(audio.trimSilence(300, 50)).isSameAs(audio);
+        }
+    }
+
+    @Nested
+    @DisplayName("채널/샘플레이트 변환")
+    class Convert {
+
+        @Test
+        @DisplayName("스테레오는 채널 평균으로 모노 변환")
+        void stereoToMono() {
+            // When
+            PcmAudio mono = new PcmAudio(16000, 2, new short[]{100, 300, -100, -300}).toMono();
+
+            // Then
+            assertThat(mono.getChannels()).isEqualTo(1);
+            assertThat(mono.getSamples()).containsExactly(200, -200);
+        }
+
+        @Test
+        @DisplayName("44.1kHz → 16kHz 변환 후 재생 시간 유지")
+        void downsample_keepsDuration() {
+            // Given
+            PcmAudio audio = new PcmAudio(44100, 1, tone(44100, 8000));
+
+            // When
+            PcmAudio resampled = audio.resample(16000);
+
+            // Then
+            assertThat(resampled.getSampleRate()).isEqualTo(16000);
+            assertThat(resampled.frames()).isEqualTo(16000);
+            assertThat(resampled.durationSeconds()).isEqualTo(audio.durationSeconds());
+        }
+
+        @Test
+        @DisplayName("높이는 방향은 선형 보간")
+        void upsample_interpolates() {
+            // When
+            PcmAudio resampled = new PcmAudio(8000, 1, new short[]{0, 100}).resample(16000);
+
+            // Then
+            assertThat(resampled.getSamples()).containsExactly(0, 50, 100, 100);
+        }
+
+        @Test
+        @DisplayName("샘플이 없는 음성은 변환하지 않고 원본 그대로")
+        void resample_empty_unchanged() {
+            // Given
+            PcmAudio audio = new PcmAudio(44100, 1, new short[0]);
+
+            // When & Then
+            assertThat(audio.resample(16000)).isSameAs(audio);
+        }
+    }
+}
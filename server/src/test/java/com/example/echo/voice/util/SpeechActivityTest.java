@@ -0,0 +1,71 @@
+package com.example.echo.voice.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpeechActivityTest {
+
+    private static Optional<SpeechActivity> scan(byte[] wav) throws IOException {
+        return SpeechActivity.scan(new ByteArrayInputStream(wav), wav.length, 20, 500);
+    }
+
+    /** 16kHz 모노, 0.5초 무음 + 0.2초 큰 소리 + 0.3초 무음 */
+    private static short[] samples() {
+        short[] samples = new short[16000];
+        for (int i = 8000; i < 11200; i++) {
+            samples[i] = (short) (i % 2 == 0 ? 4000 : -4000);
+        }
+        return samples;
+    }
+
+    @Test
+    @DisplayName("RMS 임계값 이상인 프레임을 음성으로 보고 처음/마지막 구간을 샘플 경계로 계산")
+    void detectsSpeechRange() throws IOException {
+        // When
+        SpeechActivity activity = scan(WavEncoder.pcm16(new PcmAudio(16000, 1, samples()))).orElseThrow();
+
+        // Then: 20ms 프레임 = 640바이트, 음성은 25~34번 프레임
+        assertThat(activity.hasSpeech()).isTrue();
+        assertThat(activity.durationSeconds()).isEqualTo(1.0);
+        assertThat(activity.speechMillis()).isEqualTo(200);
+        assertThat(activity.speechStart(0)).isEqualTo(25 * 640);
+        assertThat(activity.speechEnd(0)).isEqualTo(35 * 640);
+        assertThat(activity.speechStart(100)).isEqualTo(20 * 640);
+        assertThat(activity.speechEnd(1000)).isEqualTo(32000);
+    }
+
+    @Test
+    @DisplayName("fmt와 data 사이에 LIST 청크가 있어도 data 위치를 찾아 검사")
+    void skipsExtraChunks() throws IOException {
+        // Given
+        byte[] plain = WavEncoder.pcm16(new PcmAudio(16000, 1, samples()));
+        byte[] list = ByteBuffer.allocate(8 + 10).order(ByteOrder.LITTLE_ENDIAN)
+                .put("LIST".getBytes()).putInt(10).put(new byte[10]).array();
+        byte[] wav = new byte[plain.length + list.length];
+        System.arraycopy(plain, 0, wav, 0, 36);
+        System.arraycopy(list, 0, wav, 36, list.length);
+        System.arraycopy(plain, 36, wav, 36 + list.length, plain.length - 36);
+
+        // When
+        SpeechActivity activity = scan(wav).orElseThrow();
+
+        // Then
+        assertThat(activity.getDataOffset()).isEqualTo(44 + list.length);
+        assertThat(activity.speechMillis()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("16비트 PCM WAV가 아니면 검사하지 않음")
+    void nonPcm_empty() throws IOException {
+        assertThat(scan(WavEncoder.mulaw(new PcmAudio(16000, 1, samples())))).isEmpty();
+        assertThat(scan("ID3-mp3".getBytes())).isEmpty();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.echo.voice.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TranscriptMergerTest {
+
+    @Test
+    @DisplayName("앞 구간 끝과 다음 구간 앞에 겹친 단어는 한 번만 남김")
+    void removesOverlap() {
+        // When
+        String merged = TranscriptMerger.merge(
+                List.of("어제 친구를 만나서 같이", "만나서 같이 점심을 먹었어요"), 8);
+
+        // Then
+        assertThat(merged).isEqualTo("어제 친구를 만나서 같이 점심을 먹었어요");
+    }
+
+    @Test
+    @DisplayName("문장부호/대소문자가 달라도 같은 단어로 비교")
+    void ignoresPunctuationAndCase() {
+        // When
+        String merged = TranscriptMerger.merge(List.of("오늘 Zoom 회의가 있었어요.", "zoom 회의가 있었어요 그래서 바빴어요"), 8);
+
+        // Then
+        assertThat(merged).isEqualTo("오늘 Zoom 회의가 있었어요. 그래서 바빴어요");
+    }
+
+    @Test
+    @DisplayName("다음 구간 맨 앞 단어가 잘려 다르게 전사돼도 이어지는 겹침을 찾음")
+    void skipsGarbledLeadingWord() {
+        // When: 다음 구간 첫 단어 "같"은 경계에서 잘린 소리
+        String merged = TranscriptMerger.merge(List.of("친구를 만나서 같이", "같 만나서 같이 걸었어요"), 8);
+
+        // Then
+        assertThat(merged).isEqualTo("친구를 만나서 같이 걸었어요");
+    }
+
+    @Test
+    @DisplayName("맨 앞 단어를 건너뛴 한 단어 일치는 중복으로 보지 않음")
+    void singleWordAfterSkip_kept() {
+        // When
+        String merged = TranscriptMerger.merge(List.of("정말 좋아요", "그래서 좋아요 라고 했어요"), 8);
+
+        // Then
+        assertThat(merged).isEqualTo("정말 좋아요 그래서 좋아요 라고 했어요");
+    }
+
+    @Test
+    @DisplayName("maxOverlap 단어 안에서 겹침을 찾지 못하면 그대로 이어 붙임")
+    void overlapBeyondLimit_kept() {
+        // When
+        String merged = TranscriptMerger.merge(List.of("공원에서 산책을 했어요", "공원에서 산책을 했어요 즐거웠어요"), 1);
+
+        // Then
+        assertThat(merged).isEqualTo("공원에서 산책을 했어요 공원에서 산책을 했어요 즐거웠어요");
+    }
+
+    @Test
+    @DisplayName("빈 구간 텍스트는 건너뜀")
+    void skipsBlankParts() {
+        // When
+        String merged = TranscriptMerger.merge(List.of(" 안녕하세요 ", "", "반가워요"), 8);
+
+        // Then
+        assertThat(merged).isEqualTo("안녕하세요 반가워요");
+    }
+}
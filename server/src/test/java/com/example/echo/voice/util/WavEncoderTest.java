@@ -0,0 +1,71 @@
+package com.example.echo.voice.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WavEncoderTest {
+
+    private static PcmAudio tone(int sampleRate, int frames) {
+        short[] samples = new short[frames];
+        for (int i = 0; i < frames; i++) {
+            samples[i] = (short) (8000 * Math.sin(2 * Math.PI * 440 * i / sampleRate));
+        }
+        return new PcmAudio(sampleRate, 1, samples);
+    }
+
+    private static ByteBuffer header(byte[] wav) {
+        return ByteBuffer.wrap(wav).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Test
+    @DisplayName("μ-law는 샘플당 1바이트, fmt 확장과 fact 청크 포함")
+    void mulaw_halvesData() {
+        // Given
+        PcmAudio audio = tone(16000, 16000);
+
+        // When
+        byte[] wav = WavEncoder.mulaw(audio);
+
+        // Then
+        WavChunks chunks = WavChunks.parse(wav);
+        assertThat(header(chunks.format()).getShort(0)).isEqualTo((short) 7);
+        assertThat(chunks.dataLength()).isEqualTo(16000);
+        assertThat(WavChunks.matches(wav, 12 + 8 + 18, "fact")).isTrue();
+        assertThat(wav.length).isLessThan(WavEncoder.pcm16(audio).length / 2 + 64);
+    }
+
+    @Test
+    @DisplayName("μ-law 인코딩 값은 G.711 표와 일치")
+    void mulaw_matchesG711() {
+        assertThat(WavEncoder.linearToMulaw((short) 0)).isEqualTo((byte) 0xFF);
+        assertThat(WavEncoder.linearToMulaw((short) -1)).isEqualTo((byte) 0x7F);
+        assertThat(WavEncoder.linearToMulaw(Short.MAX_VALUE)).isEqualTo((byte) 0x80);
+        assertThat(WavEncoder.linearToMulaw(Short.MIN_VALUE)).isEqualTo((byte) 0x00);
+    }
+
+    @Test
+    @DisplayName("IMA-ADPCM은 블록 단위 4비트 인코딩 (PCM 대비 약 1/4), 실제 샘플 수는 fact 청크에 기록")
+    void imaAdpcm_blocks() {
+        // Given
+        PcmAudio audio = tone(16000, 16000);
+
+        // When
+        byte[] wav = WavEncoder.imaAdpcm(audio);
+
+        // Then
+        WavChunks chunks = WavChunks.parse(wav);
+        ByteBuffer format = header(chunks.format());
+        assertThat(format.getShort(0)).isEqualTo((short) 0x11);
+        assertThat(format.getShort(12)).isEqualTo((short) 256);
+        assertThat(format.getShort(18)).isEqualTo((short) 505);
+        assertThat(chunks.dataLength() % 256).isZero();
+        assertThat(chunks.dataLength()).isEqualTo(32 * 256);
+        assertThat(header(wav).getInt(12 + 8 + 20 + 8)).isEqualTo(16000);
+        assertThat(wav.length).isLessThan(WavEncoder.pcm16(audio).length / 3);
+    }
+}